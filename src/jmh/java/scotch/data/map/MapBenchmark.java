@@ -0,0 +1,86 @@
+package scotch.data.map;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static scotch.runtime.RuntimeSupport.apply;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.unboxBool;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scotch.data.eq.Eq;
+import scotch.data.eq.EqInt;
+import scotch.data.hash.Hash;
+import scotch.data.hash.HashInt;
+import scotch.data.list.ConsList;
+import scotch.data.list.ConsList.ConsCell;
+import scotch.data.maybe.Maybe;
+import scotch.data.tuple.Tuple2;
+import scotch.data.tuple.Tuple2.Tuple2Data;
+import scotch.runtime.Callable;
+import scotch.runtime.RuntimeSupport;
+
+/**
+ * Compares looking up a key in a {@link PersistentMap} against searching an association list of the same pairs, both
+ * driven through the {@code Eq Int} and {@code Hash Int} instances, and measures building a map from a list.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class MapBenchmark {
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private final Callable<Eq<Integer>>   eq   = (Callable) EqInt.instance();
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private final Callable<Hash<Integer>> hash = (Callable) HashInt.instance();
+
+    @Param({ "10", "100", "1000", "10000" })
+    private int size;
+
+    private Callable<ConsList<Tuple2<Integer, String>>> pairs;
+    private Callable<PersistentMap<Integer, String>>    map;
+    private Callable<Integer>                           key;
+
+    @Setup
+    public void setUp() {
+        ConsList<Tuple2<Integer, String>> list = ConsList.<Tuple2<Integer, String>>empty().call();
+        for (int i = size - 1; i >= 0; i--) {
+            list = new ConsCell<>(box(new Tuple2Data<>(box(i), box("value " + i))), box(list));
+        }
+        pairs = box(list);
+        map = RuntimeSupport.<PersistentMap<Integer, String>>apply(box(PersistentMap.fromList()), eq, hash, pairs);
+        key = box(size - 1);
+    }
+
+    @Benchmark
+    public Object assocListLookup() {
+        for (ConsList<Tuple2<Integer, String>> cell = pairs.call(); cell instanceof ConsCell; cell = ((ConsCell<Tuple2<Integer, String>>) cell).getTail().call()) {
+            Tuple2<Integer, String> pair = ((ConsCell<Tuple2<Integer, String>>) cell).getHead().call();
+            if (unboxBool(eq.call().eq(key, pair.get_0()))) {
+                return Maybe.just(pair.get_1().call());
+            }
+        }
+        return Maybe.nothing().call();
+    }
+
+    @Benchmark
+    public Object fromList() {
+        return apply(box(PersistentMap.fromList()), eq, hash, pairs).call();
+    }
+
+    @Benchmark
+    public Object mapLookup() {
+        return apply(box(PersistentMap.lookup()), eq, hash, key, map).call();
+    }
+}
@@ -0,0 +1,56 @@
+package scotch.runtime;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.apply;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares calling a 3-argument function through its saturated entry point against applying its curried form one
+ * argument at a time, and against completing a partial application.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class ApplyBenchmark {
+
+    private final Callable<Integer> x = box(1);
+    private final Callable<Integer> y = box(2);
+    private final Callable<Integer> z = box(3);
+
+    private final Callable<Applicable<Integer, Applicable<Integer, Applicable<Integer, Integer>>>> curried = box(
+        applicable(a -> box(applicable(b -> box(applicable(c -> callable(() -> a.call() + b.call() + c.call()))))))
+    );
+    private final Callable<Applicable3<Integer, Integer, Integer, Integer>> saturated = box(
+        applicable((a, b, c) -> callable(() -> a.call() + b.call() + c.call()))
+    );
+
+    @Benchmark
+    public Object curried() {
+        return apply(apply(apply(curried, x), y), z).call();
+    }
+
+    @Benchmark
+    public Object partial() {
+        return apply(apply(saturated, x), y, z).call();
+    }
+
+    @Benchmark
+    public Object saturated() {
+        return apply(saturated, x, y, z).call();
+    }
+}
@@ -0,0 +1,46 @@
+package scotch.runtime;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static scotch.runtime.RuntimeSupport.box;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares forcing a deep chain of nested, non-tail thunks directly on one large thread stack against forcing it
+ * through the segmented {@link Evaluator}, which moves to a pooled segment thread every few thousand thunks. The
+ * fork runs with a stack large enough for the direct evaluation of the deepest chain.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xss512m")
+@State(Scope.Thread)
+public class EvaluatorBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    private int depth;
+
+    @Benchmark
+    public Integer direct() {
+        return nested(depth).call();
+    }
+
+    @Benchmark
+    public Integer segmented() {
+        return Evaluator.evaluate(nested(depth));
+    }
+
+    private Callable<Integer> nested(int n) {
+        return n == 0 ? box(0) : new SuppliedThunk<>(() -> nested(n - 1).call() + 1);
+    }
+}
@@ -0,0 +1,100 @@
+package scotch.runtime;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static scotch.runtime.RuntimeSupport.box;
+
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the trampolined {@link Thunk} against the recursive evaluation it replaced.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class ThunkBenchmark {
+
+    @Param({ "1", "16", "256" })
+    private int depth;
+
+    @Benchmark
+    public Integer recursiveIndirections() {
+        return recursiveIndirections(depth).call();
+    }
+
+    @Benchmark
+    public Integer recursiveNested() {
+        return recursiveNested(depth).call();
+    }
+
+    @Benchmark
+    public Integer trampolinedIndirections() {
+        return trampolinedIndirections(depth).call();
+    }
+
+    @Benchmark
+    public Integer trampolinedNested() {
+        return trampolinedNested(depth).call();
+    }
+
+    private Callable<Integer> recursiveIndirections(int n) {
+        return n == 0 ? box(0) : new RecursiveThunk<>(() -> recursiveIndirections(n - 1));
+    }
+
+    private Callable<Integer> recursiveNested(int n) {
+        return n == 0 ? box(0) : new RecursiveThunk<>(() -> recursiveNested(n - 1).call() + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Callable<Integer> trampolinedIndirections(int n) {
+        return n == 0 ? box(0) : new SuppliedThunk<>((Supplier) () -> trampolinedIndirections(n - 1));
+    }
+
+    private Callable<Integer> trampolinedNested(int n) {
+        return n == 0 ? box(0) : new SuppliedThunk<>(() -> trampolinedNested(n - 1).call() + 1);
+    }
+
+    /**
+     * The recursive, monitor-guarded evaluation used before trampolining.
+     */
+    private static final class RecursiveThunk<A> implements Callable<A> {
+
+        private final    Supplier<Object> supplier;
+        private volatile A                value;
+
+        RecursiveThunk(Supplier<Object> supplier) {
+            this.supplier = supplier;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public A call() {
+            if (value == null) {
+                synchronized (this) {
+                    if (value == null) {
+                        value = (A) supplier.get();
+                        while (value instanceof Callable) {
+                            if (value instanceof Applicable) {
+                                break;
+                            }
+                            value = ((Callable<A>) value).call();
+                        }
+                    }
+                }
+            }
+            return value;
+        }
+    }
+}
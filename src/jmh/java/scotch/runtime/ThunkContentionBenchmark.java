@@ -0,0 +1,159 @@
+package scotch.runtime;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the lock-free, blackholing {@link Thunk} against monitor-guarded evaluation when 1, 4 and 16 threads
+ * force the same thunks. The thunks are created afresh for each iteration, and every thread forces each of them once
+ * in the same order from its own cursor, so the threads race on the first evaluation of each thunk and an iteration
+ * times forcing the whole batch rather than reading thunks evaluated earlier. The fresh benchmarks measure the
+ * uncontended cost of evaluating a thunk which escapes, as thunks in Scotch code do.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 10, batchSize = ThunkContentionBenchmark.SIZE)
+@Measurement(iterations = 20, batchSize = ThunkContentionBenchmark.SIZE)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ThunkContentionBenchmark {
+
+    static final int SIZE = 1 << 18;
+
+    private Callable<Integer>[] lockFreeThunks;
+    private Callable<Integer>[] monitorThunks;
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(MICROSECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 5)
+    public Integer freshLockFree(Blackhole sink) {
+        Callable<Integer> thunk = new SuppliedThunk<>(() -> 1);
+        sink.consume(thunk);
+        return thunk.call();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(MICROSECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 5)
+    public Integer freshMonitor(Blackhole sink) {
+        Callable<Integer> thunk = new MonitorThunk<>(() -> 1);
+        sink.consume(thunk);
+        return thunk.call();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer sharedLockFree01(Cursor cursor) {
+        return cursor.force(lockFreeThunks);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer sharedLockFree04(Cursor cursor) {
+        return cursor.force(lockFreeThunks);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Integer sharedLockFree16(Cursor cursor) {
+        return cursor.force(lockFreeThunks);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer sharedMonitor01(Cursor cursor) {
+        return cursor.force(monitorThunks);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer sharedMonitor04(Cursor cursor) {
+        return cursor.force(monitorThunks);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Integer sharedMonitor16(Cursor cursor) {
+        return cursor.force(monitorThunks);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Setup(Level.Iteration)
+    public void setUp() {
+        lockFreeThunks = new Callable[SIZE];
+        monitorThunks = new Callable[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            int value = i;
+            lockFreeThunks[i] = new SuppliedThunk<>(() -> value);
+            monitorThunks[i] = new MonitorThunk<>(() -> value);
+        }
+    }
+
+    /**
+     * The position of one thread in the shared thunks, restarted with each batch of fresh thunks.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int next;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            next = 0;
+        }
+
+        Integer force(Callable<Integer>[] thunks) {
+            return thunks[next++ & (SIZE - 1)].call();
+        }
+    }
+
+    /**
+     * The double-checked, monitor-guarded evaluation used before blackholing.
+     */
+    private static final class MonitorThunk<A> implements Callable<A> {
+
+        private          Supplier<A> supplier;
+        private volatile A           value;
+
+        MonitorThunk(Supplier<A> supplier) {
+            this.supplier = supplier;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public A call() {
+            if (value == null) {
+                synchronized (this) {
+                    if (value == null) {
+                        Object result = supplier.get();
+                        while (result instanceof Callable && !(result instanceof Applicable)) {
+                            result = ((Callable<A>) result).call();
+                        }
+                        value = (A) result;
+                        supplier = null;
+                    }
+                }
+            }
+            return value;
+        }
+    }
+}
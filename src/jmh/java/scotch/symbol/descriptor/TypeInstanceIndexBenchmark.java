@@ -0,0 +1,96 @@
+package scotch.symbol.descriptor;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static scotch.symbol.MethodSignature.methodSignature;
+import static scotch.symbol.Symbol.symbol;
+import static scotch.symbol.descriptor.TypeInstanceDescriptor.typeInstance;
+import static scotch.symbol.type.Types.sum;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import com.google.common.collect.ImmutableSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scotch.symbol.Symbol;
+import scotch.symbol.type.Type;
+
+/**
+ * Resolves instances of a type class in a synthetic module declaring one instance per data type, comparing the
+ * remembered and unremembered head-constructor index against matching every parameter list of the type class in turn.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class TypeInstanceIndexBenchmark {
+
+    private final Symbol typeClass = symbol("scotch.data.eq.Eq");
+
+    @Param({ "10", "100", "500" })
+    private int size;
+
+    private TypeInstanceIndex                                                index;
+    private Map<List<TypeParameterDescriptor>, Set<TypeInstanceDescriptor>> scanned;
+    private List<List<Type>>                                                 queries;
+    private int                                                              next;
+
+    @Setup
+    public void setUp() {
+        index = new TypeInstanceIndex();
+        scanned = new HashMap<>();
+        queries = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            List<Type> parameters = asList(sum("scotch.bench.T" + i));
+            TypeInstanceDescriptor instance = typeInstance(
+                "scotch.bench",
+                typeClass,
+                parameters,
+                methodSignature("scotch/bench/EqT" + i + ":instance:()Lscotch/runtime/Callable;")
+            );
+            index.add(instance);
+            scanned.computeIfAbsent(instance.getParameters(), k -> new HashSet<>()).add(instance);
+            queries.add(parameters);
+        }
+    }
+
+    @Benchmark
+    public Object indexed() {
+        return index.lookUp(typeClass, nextQuery());
+    }
+
+    @Benchmark
+    public Object remembered() {
+        return index.find(typeClass, nextQuery());
+    }
+
+    @Benchmark
+    public Object scan() {
+        List<Type> types = nextQuery();
+        return scanned.keySet().stream()
+            .filter(parameters -> parameters.size() == types.size() && parameters.get(0).matches(types.get(0)))
+            .map(scanned::get)
+            .findFirst()
+            .orElse(ImmutableSet.of());
+    }
+
+    private List<Type> nextQuery() {
+        next = (next + 1) % queries.size();
+        return queries.get(next);
+    }
+}
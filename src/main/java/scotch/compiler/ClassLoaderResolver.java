@@ -34,9 +34,9 @@ import scotch.symbol.Symbol.UnqualifiedSymbol;
 import scotch.symbol.SymbolEntry;
 import scotch.symbol.SymbolResolver;
 import scotch.symbol.descriptor.TypeInstanceDescriptor;
+import scotch.symbol.descriptor.TypeInstanceIndex;
 import scotch.symbol.descriptor.TypeParameterDescriptor;
 import scotch.symbol.exception.SymbolResolutionError;
-import scotch.symbol.type.SumType;
 import scotch.symbol.type.Type;
 
 public class ClassLoaderResolver extends URLClassLoader implements SymbolResolver {
@@ -49,7 +49,8 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
     private final Map<Symbol, SymbolEntry>                                                     namedSymbols;
     private final Set<String>                                                                  searchedClasses;
     private final Set<URL>                                                                     searchedUrls;
-    private final Map<Symbol, Map<List<TypeParameterDescriptor>, Set<TypeInstanceDescriptor>>> typeInstances;
+    private final Set<String>                                                                  searchedModules;
+    private final TypeInstanceIndex                                                            typeInstances;
     private final Map<Symbol, Set<TypeInstanceDescriptor>>                                     typeInstancesByClass;
     private final Map<List<TypeParameterDescriptor>, Set<TypeInstanceDescriptor>>              typeInstancesByArguments;
     private final Map<String, Set<TypeInstanceDescriptor>>                                     typeInstancesByModule;
@@ -65,7 +66,8 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
         this.namedSymbols = new HashMap<>();
         this.searchedClasses = new HashSet<>();
         this.searchedUrls = new HashSet<>();
-        this.typeInstances = new HashMap<>();
+        this.searchedModules = new HashSet<>();
+        this.typeInstances = new TypeInstanceIndex();
         this.typeInstancesByClass = new HashMap<>();
         this.typeInstancesByArguments = new HashMap<>();
         this.typeInstancesByModule = new HashMap<>();
@@ -84,6 +86,7 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
     private Class<?> define_(GeneratedClass generatedClass) {
         byte[] bytes = generatedClass.getBytes();
         Class<?> clazz = defineClass(generatedClass.getClassName(), bytes, 0, bytes.length);
+        searchedModules.clear();
         definedClasses
             .computeIfAbsent(clazz.getName().replace(Pattern.quote("." + clazz.getSimpleName()) + "$", ""), k -> new HashSet<>())
             .add(clazz);
@@ -107,12 +110,7 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
     public Set<TypeInstanceDescriptor> getTypeInstances(Symbol symbol, List<Type> types) {
         search(symbol);
         search(types);
-        return Optional.ofNullable(typeInstances.get(symbol))
-            .flatMap(instances -> instances.keySet().stream()
-                .filter(parameters -> parametersMatch(parameters, types))
-                .map(instances::get)
-                .findFirst())
-            .orElse(ImmutableSet.of());
+        return typeInstances.find(symbol, types);
     }
 
     @Override
@@ -131,18 +129,6 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
         return files == null ? new File[0] : files;
     }
 
-    private boolean parametersMatch(List<TypeParameterDescriptor> parameters, List<Type> types) {
-        if (parameters.size() == types.size()) {
-            for (int i = 0; i < parameters.size(); i++) {
-                if (!(types.get(i) instanceof SumType) || !parameters.get(i).matches(types.get(i))) {
-                    return false;
-                }
-            }
-            return true;
-        }
-        return false;
-    }
-
     private Optional<Class<?>> resolveClass(String className) {
         try {
             return Optional.of(loadClass(className));
@@ -204,7 +190,14 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
         });
     }
 
+    /**
+     * Scans the classes of a module for symbols and type instances the first time it is searched, and again once new
+     * classes have been defined.
+     */
     private void search(String moduleName) {
+        if (!searchedModules.add(moduleName)) {
+            return;
+        }
         List<Class<?>> classes = new ArrayList<>();
         try {
             Enumeration<URL> resources = getResources(getPackagePath(moduleName));
@@ -231,10 +224,7 @@ public class ClassLoaderResolver extends URLClassLoader implements SymbolResolve
         new ModuleScanner(moduleName, classes).scan().into((entries, instances) -> {
             entries.forEach(entry -> namedSymbols.put(entry.getSymbol(), entry));
             instances.forEach(typeInstance -> {
-                typeInstances
-                    .computeIfAbsent(typeInstance.getTypeClass(), k -> new HashMap<>())
-                    .computeIfAbsent(typeInstance.getParameters(), k -> new HashSet<>())
-                    .add(typeInstance);
+                typeInstances.add(typeInstance);
                 typeInstancesByClass.computeIfAbsent(typeInstance.getTypeClass(), k -> new HashSet<>()).add(typeInstance);
                 typeInstancesByArguments.computeIfAbsent(typeInstance.getParameters(), k -> new HashSet<>()).add(typeInstance);
                 typeInstancesByModule.computeIfAbsent(typeInstance.getModuleName(), k -> new HashSet<>()).add(typeInstance);
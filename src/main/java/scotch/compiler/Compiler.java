@@ -1,17 +1,25 @@
 package scotch.compiler;
 
+import static scotch.compiler.intermediate.Inliner.DEFAULT_THRESHOLD;
+
 import java.net.URI;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import scotch.compiler.error.CompileException;
+import scotch.compiler.intermediate.Inliner;
 import scotch.compiler.intermediate.IntermediateGenerator;
 import scotch.compiler.intermediate.IntermediateGraph;
 import scotch.compiler.output.GeneratedClass;
 import scotch.compiler.steps.BytecodeGenerator;
 import scotch.compiler.steps.DependencyAccumulator;
+import scotch.compiler.steps.Instrumentation;
 import scotch.compiler.steps.NameAccumulator;
 import scotch.compiler.steps.OperatorAccumulator;
 import scotch.compiler.steps.PrecedenceParser;
 import scotch.compiler.steps.ScopedNameQualifier;
+import scotch.compiler.steps.StrictnessAnalyzer;
 import scotch.compiler.steps.TypeChecker;
 import scotch.compiler.parser.InputParser;
 import scotch.compiler.scanner.Scanner;
@@ -26,12 +34,14 @@ public class Compiler {
         return new Compiler(symbolResolver, Scanner.forString(source, lines));
     }
 
-    private final SymbolResolver symbolResolver;
-    private final Scanner        scanner;
+    private final SymbolResolver    symbolResolver;
+    private final Scanner           scanner;
+    private       Optional<Inliner> inliner;
 
     private Compiler(SymbolResolver symbolResolver, Scanner scanner) {
         this.symbolResolver = symbolResolver;
         this.scanner = scanner;
+        this.inliner = Optional.empty();
     }
 
     public DefinitionGraph accumulateDependencies() {
@@ -46,18 +56,48 @@ public class Compiler {
         return new OperatorAccumulator(parseInput()).accumulateOperators();
     }
 
+    public DefinitionGraph analyzeStrictness() {
+        return new StrictnessAnalyzer(checkTypes()).analyzeStrictness();
+    }
+
     public DefinitionGraph checkTypes() {
         return new TypeChecker(accumulateDependencies()).checkTypes();
     }
 
     public List<GeneratedClass> generateBytecode() {
-        return new BytecodeGenerator(checkTypes()).generateBytecode();
+        return generateBytecode(EnumSet.noneOf(Instrumentation.class));
+    }
+
+    /**
+     * Generates bytecode woven with the given instrumentation, inlining the intermediate code of the module first. The
+     * values the inliner simplified are generated from their inlined intermediate code.
+     */
+    public List<GeneratedClass> generateBytecode(Set<Instrumentation> instrumentation) {
+        DefinitionGraph graph = analyzeStrictness();
+        Inliner inliner = new Inliner(new IntermediateGenerator(graph).generateIntermediateCode(), DEFAULT_THRESHOLD);
+        inliner.inline();
+        this.inliner = Optional.of(inliner);
+        return new BytecodeGenerator(graph, instrumentation, inliner.getSimplifiedGraph()).generateBytecode();
+    }
+
+    /**
+     * The inliner run by the last generation of bytecode, which counts what it simplified.
+     */
+    public Optional<Inliner> getInliner() {
+        return inliner;
     }
 
     public IntermediateGraph generateIntermediateCode() {
         return new IntermediateGenerator(checkTypes()).generateIntermediateCode();
     }
 
+    /**
+     * Unfolds definitions no larger than the threshold into their call sites.
+     */
+    public IntermediateGraph inlineIntermediateCode(int threshold) {
+        return new Inliner(generateIntermediateCode(), threshold).inline();
+    }
+
     public DefinitionGraph parseInput() {
         return new InputParser(symbolResolver, scanner).parse();
     }
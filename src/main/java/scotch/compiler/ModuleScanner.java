@@ -5,6 +5,7 @@ import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static me.qmx.jitescript.util.CodegenUtils.p;
+import static scotch.symbol.DemandSignature.demandSignature;
 import static scotch.symbol.descriptor.DataFieldDescriptor.field;
 import static scotch.symbol.Operator.operator;
 import static scotch.symbol.Symbol.qualified;
@@ -30,6 +31,8 @@ import scotch.symbol.DataConstructor;
 import scotch.symbol.DataField;
 import scotch.symbol.DataFieldType;
 import scotch.symbol.DataType;
+import scotch.symbol.Demand;
+import scotch.symbol.DemandSignature;
 import scotch.symbol.InstanceGetter;
 import scotch.symbol.Member;
 import scotch.symbol.MethodSignature;
@@ -94,6 +97,32 @@ public class ModuleScanner {
             .collect(toList());
     }
 
+    private Map<String, DemandSignature> computeMemberDemands(Class<?> clazz) {
+        Map<String, DemandSignature> demands = new HashMap<>();
+        stream(clazz.getDeclaredMethods())
+            .filter(method -> method.isAnnotationPresent(Demand.class))
+            .forEach(method -> {
+                Member member = stream(clazz.getInterfaces())
+                    .map(typeClass -> findMember(typeClass, method))
+                    .filter(Optional::isPresent)
+                    .map(Optional::get)
+                    .findFirst()
+                    .orElseThrow(() -> new InvalidMethodSignatureError("Method " + pp(method)
+                        + " annotated by " + pp(Demand.class)
+                        + " does not implement a type class member annotated by " + pp(Member.class)));
+                demands.put(member.value(), demandSignature(method.getAnnotation(Demand.class).value()));
+            });
+        return demands;
+    }
+
+    private Optional<Member> findMember(Class<?> typeClass, Method method) {
+        try {
+            return Optional.ofNullable(typeClass.getMethod(method.getName(), method.getParameterTypes()).getAnnotation(Member.class));
+        } catch (NoSuchMethodException exception) {
+            return Optional.empty();
+        }
+    }
+
     private Optional<Method> findMethod(Class<?> clazz, Class<? extends Annotation> annotation) {
         return stream(clazz.getDeclaredMethods())
             .filter(method -> method.isAnnotationPresent(annotation))
@@ -190,6 +219,10 @@ public class ModuleScanner {
             List<Symbol> members = computeMembers(clazz);
             builder.withTypeClass(typeClass(symbol, computeParameters(typeClass), members));
             members.forEach(member -> getBuilder(member).withMemberOf(symbol));
+            stream(clazz.getDeclaredMethods())
+                .filter(method -> method.isAnnotationPresent(Member.class))
+                .forEach(method -> getBuilder(qualified(moduleName, method.getAnnotation(Member.class).value()))
+                    .withMemberMethod(MethodSignature.fromMethod(method)));
         });
     }
 
@@ -202,7 +235,8 @@ public class ModuleScanner {
                 moduleName,
                 symbol(typeInstance.typeClass()),
                 invoke(parametersGetter),
-                MethodSignature.fromMethod(instanceGetter)
+                MethodSignature.fromMethod(instanceGetter),
+                computeMemberDemands(clazz)
             ));
         });
     }
@@ -215,6 +249,8 @@ public class ModuleScanner {
                 if (value.fixity() != NONE && value.precedence() != -1) {
                     builder.withOperator(operator(value.fixity(), value.precedence()));
                 }
+                Optional.ofNullable(method.getAnnotation(Demand.class)).ifPresent(demand ->
+                    builder.withDemandSignature(demandSignature(demand.value())));
             });
             Optional.ofNullable(method.getAnnotation(ValueType.class)).ifPresent(valueType -> {
                 ImmutableEntryBuilder builder = getBuilder(valueType.forMember());
@@ -1,5 +1,434 @@
 package scotch.compiler.intermediate;
 
+import static java.util.stream.Collectors.toList;
+import static me.qmx.jitescript.util.CodegenUtils.p;
+import static me.qmx.jitescript.util.CodegenUtils.sig;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import me.qmx.jitescript.CodeBlock;
+import org.objectweb.asm.tree.LabelNode;
+import scotch.compiler.steps.BytecodeGenerator;
+import scotch.compiler.syntax.pattern.EqualMatch;
+import scotch.compiler.syntax.pattern.PatternCase;
+import scotch.compiler.syntax.pattern.PatternMatch;
+import scotch.compiler.syntax.pattern.TupleField;
+import scotch.compiler.syntax.pattern.TupleMatch;
+import scotch.symbol.Symbol;
+
+/**
+ * Chooses the case of a pattern matcher by testing each argument and tuple field at most once along any path. The
+ * tree is built by splitting the cases on one tested column at a time, choosing among the columns tested by the first
+ * remaining case the one tested by the longest run of cases from the top, so that neighbouring cases sharing a test
+ * are decided together. Leaves jump to the body of the case they choose, so each body is generated once however many
+ * paths lead to it.
+ */
 public abstract class DecisionTree {
 
+    public static DecisionTree decisionTree(Symbol symbol, List<PatternCase> patternCases) {
+        return compile(symbol, patternCases.stream()
+            .map(Row::new)
+            .collect(toList()));
+    }
+
+    private static DecisionTree compile(Symbol symbol, List<Row> rows) {
+        if (rows.isEmpty()) {
+            return new Failure(symbol);
+        }
+        Row first = rows.get(0);
+        if (first.isMatched()) {
+            return new Leaf(first.patternCase);
+        }
+        String column = chooseColumn(first, rows);
+        PatternMatch test = first.getTest(column).get();
+        if (test instanceof TupleMatch) {
+            return new Destructure(first.patternCase, (TupleMatch) test, compile(symbol, rows.stream()
+                .map(row -> row.destructure(column))
+                .collect(toList())));
+        } else if (test instanceof EqualMatch) {
+            List<Branch> branches = new ArrayList<>();
+            Set<Object> literals = new HashSet<>();
+            for (Row row : rows) {
+                row.getTest(column)
+                    .map(EqualMatch.class::cast)
+                    .filter(match -> literals.add(match.getLiteral()))
+                    .ifPresent(match -> branches.add(new Branch(row.patternCase, match, compile(symbol, rows.stream()
+                        .filter(other -> other.admits(column, match.getLiteral()))
+                        .map(other -> other.without(column))
+                        .collect(toList())))));
+            }
+            return new Switch(column, branches, compile(symbol, rows.stream()
+                .filter(row -> !row.getTest(column).isPresent())
+                .collect(toList())));
+        } else {
+            throw new UnsupportedOperationException("Can't test " + test);
+        }
+    }
+
+    private static String chooseColumn(Row first, List<Row> rows) {
+        String column = null;
+        int longestRun = 0;
+        for (String candidate : first.getColumns()) {
+            int run = 0;
+            while (run < rows.size() && rows.get(run).getTest(candidate).isPresent()) {
+                run++;
+            }
+            if (run > longestRun) {
+                column = candidate;
+                longestRun = run;
+            }
+        }
+        return column;
+    }
+
+    private static String getColumn(PatternMatch match) {
+        if (match instanceof TupleMatch) {
+            return ((TupleMatch) match).getArgument();
+        } else if (match instanceof EqualMatch) {
+            return ((EqualMatch) match).getArgument();
+        } else {
+            throw new UnsupportedOperationException("Can't test " + match);
+        }
+    }
+
+    private static List<PatternMatch> getTests(List<PatternMatch> matches) {
+        return matches.stream()
+            .filter(match -> !match.isIrrefutable())
+            .collect(toList());
+    }
+
+    private DecisionTree() {
+        // intentionally empty
+    }
+
+    /**
+     * Generates the tests of this tree, jumping to the label of the body of the case chosen.
+     */
+    public abstract CodeBlock generateBytecode(BytecodeGenerator state, Map<PatternCase, LabelNode> bodies);
+
+    /**
+     * Generates the tests of this tree within an unboxed worker, or nothing if any test needs boxed arguments.
+     */
+    public abstract Optional<CodeBlock> generateUnboxedBytecode(BytecodeGenerator state, Map<PatternCase, LabelNode> bodies);
+
+    /**
+     * Gets the cases which can be chosen by this tree.
+     */
+    public abstract Set<PatternCase> getCases();
+
+    /**
+     * Gets the names of the tuple fields stored by this tree before they are tested.
+     */
+    public abstract Set<String> getFields();
+
+    private static final class Row {
+
+        private final PatternCase        patternCase;
+        private final List<PatternMatch> tests;
+
+        Row(PatternCase patternCase) {
+            this(patternCase, getTests(patternCase.getPatternMatches()));
+        }
+
+        Row(PatternCase patternCase, List<PatternMatch> tests) {
+            this.patternCase = patternCase;
+            this.tests = ImmutableList.copyOf(tests);
+        }
+
+        boolean admits(String column, Object literal) {
+            return getTest(column)
+                .map(test -> ((EqualMatch) test).getLiteral().equals(literal))
+                .orElse(true);
+        }
+
+        Row destructure(String column) {
+            Optional<PatternMatch> test = getTest(column);
+            if (test.isPresent()) {
+                List<PatternMatch> tests = new ArrayList<>(without(column).tests);
+                tests.addAll(getTests(((TupleMatch) test.get()).getFields().stream()
+                    .map(TupleField::getPatternMatch)
+                    .collect(toList())));
+                return new Row(patternCase, tests);
+            } else {
+                return this;
+            }
+        }
+
+        List<String> getColumns() {
+            return tests.stream()
+                .map(DecisionTree::getColumn)
+                .collect(toList());
+        }
+
+        Optional<PatternMatch> getTest(String column) {
+            return tests.stream()
+                .filter(test -> getColumn(test).equals(column))
+                .findFirst();
+        }
+
+        boolean isMatched() {
+            return tests.isEmpty();
+        }
+
+        Row without(String column) {
+            return new Row(patternCase, tests.stream()
+                .filter(test -> !getColumn(test).equals(column))
+                .collect(toList()));
+        }
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode(callSuper = false)
+    @ToString
+    private static final class Branch {
+
+        private final PatternCase  patternCase;
+        private final EqualMatch   match;
+        private final DecisionTree tree;
+    }
+
+    /**
+     * Stores the fields of a tuple, continuing with the tests of its fields.
+     */
+    @AllArgsConstructor
+    @EqualsAndHashCode(callSuper = false)
+    @ToString
+    private static final class Destructure extends DecisionTree {
+
+        private final PatternCase  patternCase;
+        private final TupleMatch   match;
+        private final DecisionTree tree;
+
+        @Override
+        public CodeBlock generateBytecode(BytecodeGenerator state, Map<PatternCase, LabelNode> bodies) {
+            return state.scoped(patternCase, () -> match.generateDestructureBytecode(state))
+                .append(tree.generateBytecode(state, bodies));
+        }
+
+        @Override
+        public Optional<CodeBlock> generateUnboxedBytecode(BytecodeGenerator state, Map<PatternCase, LabelNode> bodies) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Set<PatternCase> getCases() {
+            return tree.getCases();
+        }
+
+        @Override
+        public Set<String> getFields() {
+            Set<String> fields = new LinkedHashSet<>();
+            match.getFields().forEach(field -> fields.add(field.getName()));
+            fields.addAll(tree.getFields());
+            return fields;
+        }
+    }
+
+    /**
+     * Fails when no case matches.
+     */
+    @AllArgsConstructor
+    @EqualsAndHashCode(callSuper = false)
+    @ToString
+    private static final class Failure extends DecisionTree {
+
+        private final Symbol symbol;
+
+        @Override
+        public CodeBlock generateBytecode(BytecodeGenerator state, Map<PatternCase, LabelNode> bodies) {
+            return new CodeBlock()
+                .newobj(p(IllegalStateException.class))
+                .dup()
+                .ldc("Non-exhaustive patterns in " + symbol)
+                .invokespecial(p(IllegalStateException.class), "<init>", sig(void.class, String.class))
+                .athrow();
+        }
+
+        @Override
+        public Optional<CodeBlock> generateUnboxedBytecode(BytecodeGenerator state, Map<PatternCase, LabelNode> bodies) {
+            return Optional.of(generateBytecode(state, bodies));
+        }
+
+        @Override
+        public Set<PatternCase> getCases() {
+            return ImmutableSet.of();
+        }
+
+        @Override
+        public Set<String> getFields() {
+            return ImmutableSet.of();
+        }
+    }
+
+    /**
+     * Chooses a case whose tests have all succeeded.
+     */
+    @AllArgsConstructor
+    @EqualsAndHashCode(callSuper = false)
+    @ToString
+    private static final class Leaf extends DecisionTree {
+
+        private final PatternCase patternCase;
+
+        @Override
+        public CodeBlock generateBytecode(BytecodeGenerator state, Map<PatternCase, LabelNode> bodies) {
+            return new CodeBlock().go_to(bodies.get(patternCase));
+        }
+
+        @Override
+        public Optional<CodeBlock> generateUnboxedBytecode(BytecodeGenerator state, Map<PatternCase, LabelNode> bodies) {
+            return Optional.of(generateBytecode(state, bodies));
+        }
+
+        @Override
+        public Set<PatternCase> getCases() {
+            return ImmutableSet.of(patternCase);
+        }
+
+        @Override
+        public Set<String> getFields() {
+            return ImmutableSet.of();
+        }
+    }
+
+    /**
+     * Compares an argument to each literal it is matched against, continuing with the cases admitting the first equal
+     * literal, or with the cases not testing the argument if none are equal. Int and Char literals are chosen among by
+     * a single switch on the unboxed argument, and String literals by a switch on the hash of the argument followed by
+     * a comparison to each literal sharing that hash.
+     */
+    @AllArgsConstructor
+    @EqualsAndHashCode(callSuper = false)
+    @ToString
+    private static final class Switch extends DecisionTree {
+
+        private final String       argument;
+        private final List<Branch> branches;
+        private final DecisionTree defaultTree;
+
+        @Override
+        public CodeBlock generateBytecode(BytecodeGenerator state, Map<PatternCase, LabelNode> bodies) {
+            if (hasLiterals(Integer.class, Character.class) || hasLiterals(String.class)) {
+                return generateSwitch(state, tree -> Optional.of(tree.generateBytecode(state, bodies))).get();
+            }
+            CodeBlock block = new CodeBlock();
+            for (Branch branch : branches) {
+                LabelNode otherwise = new LabelNode();
+                block.append(state.scoped(branch.patternCase, () -> branch.match.generateTestBytecode(state, otherwise)).get())
+                    .append(branch.tree.generateBytecode(state, bodies))
+                    .label(otherwise);
+            }
+            return block.append(defaultTree.generateBytecode(state, bodies));
+        }
+
+        @Override
+        public Optional<CodeBlock> generateUnboxedBytecode(BytecodeGenerator state, Map<PatternCase, LabelNode> bodies) {
+            if (hasLiterals(Integer.class)) {
+                return generateSwitch(state, tree -> tree.generateUnboxedBytecode(state, bodies));
+            }
+            CodeBlock block = new CodeBlock();
+            for (Branch branch : branches) {
+                LabelNode otherwise = new LabelNode();
+                Optional<CodeBlock> test = state.scoped(branch.patternCase, () -> branch.match.generateTestBytecode(state, otherwise));
+                Optional<CodeBlock> tree = branch.tree.generateUnboxedBytecode(state, bodies);
+                if (test.isPresent() && tree.isPresent()) {
+                    block.append(test.get()).append(tree.get()).label(otherwise);
+                } else {
+                    return Optional.empty();
+                }
+            }
+            return defaultTree.generateUnboxedBytecode(state, bodies).map(block::append);
+        }
+
+        @Override
+        public Set<PatternCase> getCases() {
+            Set<PatternCase> cases = new LinkedHashSet<>();
+            branches.forEach(branch -> cases.addAll(branch.tree.getCases()));
+            cases.addAll(defaultTree.getCases());
+            return cases;
+        }
+
+        @Override
+        public Set<String> getFields() {
+            Set<String> fields = new LinkedHashSet<>();
+            branches.forEach(branch -> fields.addAll(branch.tree.getFields()));
+            fields.addAll(defaultTree.getFields());
+            return fields;
+        }
+
+        private Optional<CodeBlock> generateSwitch(BytecodeGenerator state, Function<DecisionTree, Optional<CodeBlock>> generator) {
+            Branch first = branches.get(0);
+            Optional<CodeBlock> operand = state.scoped(first.patternCase, () -> first.match.generateSwitchOperand(state));
+            if (!operand.isPresent()) {
+                return Optional.empty();
+            }
+            CodeBlock block = operand.get();
+            LabelNode otherwise = new LabelNode();
+            if (first.match.getLiteral() instanceof String) {
+                Map<Integer, List<Branch>> buckets = new TreeMap<>();
+                branches.forEach(branch -> buckets.computeIfAbsent(branch.match.getLiteral().hashCode(), k -> new ArrayList<>()).add(branch));
+                Map<Integer, LabelNode> labels = new TreeMap<>();
+                buckets.keySet().forEach(hash -> labels.put(hash, new LabelNode()));
+                LabelNode unmatched = new LabelNode();
+                block.dup()
+                    .invokevirtual(p(String.class), "hashCode", sig(int.class))
+                    .append(state.switchOnInt(labels, unmatched));
+                for (Map.Entry<Integer, List<Branch>> bucket : buckets.entrySet()) {
+                    block.label(labels.get(bucket.getKey()));
+                    for (Branch branch : bucket.getValue()) {
+                        LabelNode next = new LabelNode();
+                        Optional<CodeBlock> tree = generator.apply(branch.tree);
+                        if (!tree.isPresent()) {
+                            return Optional.empty();
+                        }
+                        block.dup()
+                            .ldc(branch.match.getLiteral())
+                            .invokevirtual(p(String.class), "equals", sig(boolean.class, Object.class))
+                            .ifeq(next)
+                            .pop()
+                            .append(tree.get())
+                            .label(next);
+                    }
+                    block.go_to(unmatched);
+                }
+                block.label(unmatched).pop();
+            } else {
+                Map<Integer, LabelNode> labels = new TreeMap<>();
+                List<CodeBlock> trees = new ArrayList<>();
+                for (Branch branch : branches) {
+                    LabelNode label = new LabelNode();
+                    Optional<CodeBlock> tree = generator.apply(branch.tree);
+                    if (!tree.isPresent()) {
+                        return Optional.empty();
+                    }
+                    labels.put(getKey(branch.match.getLiteral()), label);
+                    trees.add(new CodeBlock().label(label).append(tree.get()));
+                }
+                block.append(state.switchOnInt(labels, otherwise));
+                trees.forEach(block::append);
+            }
+            return generator.apply(defaultTree).map(tree -> block.label(otherwise).append(tree));
+        }
+
+        private int getKey(Object literal) {
+            return literal instanceof Character ? (int) (Character) literal : (Integer) literal;
+        }
+
+        private boolean hasLiterals(Class<?>... types) {
+            return branches.stream().allMatch(branch -> Arrays.stream(types).anyMatch(type -> type.isInstance(branch.match.getLiteral())));
+        }
+    }
 }
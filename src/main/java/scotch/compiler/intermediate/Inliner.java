@@ -0,0 +1,333 @@
+package scotch.compiler.intermediate;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+import static scotch.compiler.intermediate.Intermediates.apply;
+import static scotch.compiler.intermediate.Intermediates.constructor;
+import static scotch.compiler.intermediate.Intermediates.function;
+import static scotch.compiler.intermediate.Intermediates.variable;
+import static scotch.compiler.syntax.reference.DefinitionReference.valueRef;
+import static scotch.compiler.text.TextUtil.repeat;
+import static scotch.symbol.Symbol.qualified;
+import static scotch.symbol.Symbol.symbol;
+
+import java.io.PrintWriter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import scotch.compiler.syntax.reference.DefinitionReference;
+import scotch.symbol.Symbol;
+
+/**
+ * Unfolds small definitions into their call sites and beta-reduces the applications this exposes. A definition is
+ * unfolded only when its body is no larger than the threshold, refers to no enclosing arguments, and is either trivial
+ * or a function applied to at least as many arguments as it accepts, so that unfolding never duplicates work. One
+ * definition of each recursive group is chosen as a loop breaker and is never unfolded, which keeps unfolding finite.
+ *
+ * <p>Cases are simplified along the way: a case whose scrutinee was built by a known constructor, either directly or
+ * because an enclosing alternative already matched the same variable, is replaced by the selected alternative, and a
+ * case whose scrutinee is itself a case is pushed into the branches of the inner case with its alternatives bound as
+ * join points.</p>
+ */
+public class Inliner {
+
+    public static final int DEFAULT_THRESHOLD = 24;
+
+    private static final Map<DefinitionReference, IntermediateValue> builtinUnfoldings = builtinUnfoldings();
+
+    /**
+     * Unfoldings of definitions written in Java: the function combinators and the tuple constructors.
+     */
+    private static Map<DefinitionReference, IntermediateValue> builtinUnfoldings() {
+        ImmutableMap.Builder<DefinitionReference, IntermediateValue> builder = ImmutableMap.builder();
+        builder.put(valueRef(symbol("scotch.data.function.($)")), function(ImmutableList.of(), "f", function(ImmutableList.of("f"), "x",
+            apply(ImmutableList.of("f", "x"), variable("f"), variable("x")))));
+        builder.put(valueRef(symbol("scotch.data.function.(.)")), function(ImmutableList.of(), "f", function(ImmutableList.of("f"), "g",
+            function(ImmutableList.of("f", "g"), "x", apply(ImmutableList.of("f", "g", "x"), variable("f"),
+                apply(ImmutableList.of("f", "g", "x"), variable("g"), variable("x")))))));
+        for (int size = 2; size <= 24; size++) {
+            Symbol constructor = qualified("scotch.data.tuple", "(" + repeat(",", size - 1) + ")");
+            List<String> fields = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                fields.add("_" + i);
+            }
+            IntermediateValue unfolding = constructor(constructor, fields.stream().map(Intermediates::variable).collect(toList()));
+            for (int i = size - 1; i >= 0; i--) {
+                unfolding = function(fields.subList(0, i), fields.get(i), unfolding);
+            }
+            builder.put(valueRef(constructor), unfolding);
+        }
+        return builder.build();
+    }
+
+    private final IntermediateGraph                           graph;
+    private final int                                         threshold;
+    private final Map<DefinitionReference, IntermediateValue> unfoldings;
+    private final Set<DefinitionReference>                    loopBreakers;
+    private final List<String>                                variables;
+    private final Map<String, IntermediateConstructor>        knownConstructors;
+    private final List<IntermediateDefinition>                simplifiedDefinitions;
+    private       int                                         inlinedCallSites;
+    private       int                                         betaReductions;
+    private       int                                         knownCases;
+    private       int                                         casesOfCases;
+    private       int                                         renames;
+
+    public Inliner(IntermediateGraph graph, int threshold) {
+        this.graph = graph;
+        this.threshold = threshold;
+        this.unfoldings = new HashMap<>(builtinUnfoldings);
+        this.loopBreakers = new HashSet<>();
+        this.variables = new ArrayList<>();
+        this.knownConstructors = new HashMap<>();
+        this.simplifiedDefinitions = new ArrayList<>();
+    }
+
+    public void countBetaReduction() {
+        betaReductions++;
+    }
+
+    public void countCaseOfCase() {
+        casesOfCases++;
+    }
+
+    public void countKnownCase() {
+        knownCases++;
+    }
+
+    public <T> T enclose(String variable, Supplier<T> supplier) {
+        return enclose(ImmutableList.of(variable), supplier);
+    }
+
+    /**
+     * Brings variables into scope, forgetting what was known about any variables they shadow.
+     */
+    public <T> T enclose(List<String> variables, Supplier<T> supplier) {
+        Map<String, IntermediateConstructor> known = new HashMap<>(knownConstructors);
+        knownConstructors.entrySet().removeIf(entry -> variables.contains(entry.getKey())
+            || entry.getValue().getFreeVariables().stream().anyMatch(variables::contains));
+        this.variables.addAll(variables);
+        try {
+            return supplier.get();
+        } finally {
+            this.variables.subList(this.variables.size() - variables.size(), this.variables.size()).clear();
+            knownConstructors.clear();
+            knownConstructors.putAll(known);
+        }
+    }
+
+    public int getBetaReductions() {
+        return betaReductions;
+    }
+
+    public List<String> getCaptures() {
+        return ImmutableList.copyOf(variables);
+    }
+
+    public int getCasesOfCases() {
+        return casesOfCases;
+    }
+
+    public int getInlinedCallSites() {
+        return inlinedCallSites;
+    }
+
+    public Optional<IntermediateConstructor> getKnownConstructor(String variable) {
+        return Optional.ofNullable(knownConstructors.get(variable));
+    }
+
+    public int getKnownCases() {
+        return knownCases;
+    }
+
+    public Set<DefinitionReference> getLoopBreakers() {
+        return new HashSet<>(loopBreakers);
+    }
+
+    /**
+     * The inlined definitions within which a case was resolved or pushed into another case, which are worth generating
+     * from their intermediate code.
+     */
+    public IntermediateGraph getSimplifiedGraph() {
+        return new IntermediateGraph(simplifiedDefinitions);
+    }
+
+    public IntermediateGraph inline() {
+        Map<DefinitionReference, IntermediateDefinition> inlined = new HashMap<>();
+        for (DefinitionReference reference : order(graph.getDefinitions().stream()
+            .map(IntermediateDefinition::getReference)
+            .collect(toList()))) {
+            IntermediateDefinition definition = graph.getValue(reference).get();
+            int simplifiedCases = knownCases + casesOfCases;
+            IntermediateValue value = inline(definition.getValue());
+            unfoldings.put(reference, value);
+            inlined.put(reference, definition.withValue(value));
+            if (knownCases + casesOfCases > simplifiedCases) {
+                simplifiedDefinitions.add(definition.withValue(value));
+            }
+        }
+        return new IntermediateGraph(graph.getDefinitions().stream()
+            .map(definition -> inlined.get(definition.getReference()))
+            .collect(toList()));
+    }
+
+    public <T> T knowing(String variable, IntermediateConstructor constructor, Supplier<T> supplier) {
+        Optional<IntermediateConstructor> previous = getKnownConstructor(variable);
+        knownConstructors.put(variable, constructor);
+        try {
+            return supplier.get();
+        } finally {
+            if (previous.isPresent()) {
+                knownConstructors.put(variable, previous.get());
+            } else {
+                knownConstructors.remove(variable);
+            }
+        }
+    }
+
+    public String reserveName(String name) {
+        return name + "#" + renames++;
+    }
+
+    /**
+     * Writes the counts of what was simplified, as a summary alongside the runtime statistics.
+     */
+    public void writeSummary(PrintWriter writer) {
+        writer.printf("%,18d call sites inlined%n", inlinedCallSites);
+        writer.printf("%,18d beta reductions%n", betaReductions);
+        writer.printf("%,18d cases of known constructors%n", knownCases);
+        writer.printf("%,18d cases of cases%n", casesOfCases);
+        writer.flush();
+    }
+
+    public Optional<IntermediateValue> unfold(DefinitionReference reference, int arguments) {
+        if (loopBreakers.contains(reference) || !unfoldings.containsKey(reference)) {
+            return Optional.empty();
+        }
+        IntermediateValue value = unfoldings.get(reference);
+        if (value.getSize() <= threshold
+            && value.getFreeVariables().isEmpty()
+            && (value.isTrivial() || value.getArity() > 0 && value.getArity() <= arguments)) {
+            inlinedCallSites++;
+            return Optional.of(value.inline(this));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private Set<DefinitionReference> getDependencies(DefinitionReference reference, Set<DefinitionReference> group) {
+        Set<DefinitionReference> dependencies = new LinkedHashSet<>(graph.getValue(reference).get().getValue().getDependencies());
+        dependencies.retainAll(group);
+        return dependencies;
+    }
+
+    private IntermediateValue inline(IntermediateValue value) {
+        // definitions lifted out of a let may still refer to the arguments enclosing them
+        List<String> enclosing = value.getFreeVariables().stream().sorted().collect(toList());
+        variables.addAll(enclosing);
+        try {
+            return value.inline(this);
+        } finally {
+            variables.clear();
+            knownConstructors.clear();
+        }
+    }
+
+    /**
+     * Orders definitions so each follows the definitions it unfolds, choosing loop breakers for recursive groups: a
+     * definition referring to itself breaks its own loop, and otherwise the member referred to most within the group is
+     * chosen and the rest of the group is ordered again without it.
+     */
+    private List<DefinitionReference> order(List<DefinitionReference> references) {
+        Set<DefinitionReference> group = new LinkedHashSet<>(references);
+        List<DefinitionReference> ordered = new ArrayList<>();
+        for (List<DefinitionReference> component : new StronglyConnectedComponents(group).find()) {
+            DefinitionReference first = component.get(0);
+            if (component.size() == 1 && !getDependencies(first, group).contains(first)) {
+                ordered.add(first);
+            } else {
+                Set<DefinitionReference> members = new HashSet<>(component);
+                Map<DefinitionReference, Integer> referrals = new HashMap<>();
+                component.forEach(member -> getDependencies(member, members)
+                    .forEach(dependency -> referrals.merge(dependency, 1, Integer::sum)));
+                DefinitionReference loopBreaker = component.stream()
+                    .filter(member -> getDependencies(member, members).contains(member))
+                    .findFirst()
+                    .orElseGet(() -> component.stream()
+                        .max(comparing(member -> referrals.getOrDefault(member, 0)))
+                        .get());
+                loopBreakers.add(loopBreaker);
+                ordered.addAll(order(component.stream()
+                    .filter(member -> !member.equals(loopBreaker))
+                    .collect(toList())));
+                ordered.add(loopBreaker);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Tarjan's algorithm, yielding components with each after the components it depends on.
+     */
+    private final class StronglyConnectedComponents {
+
+        private final Set<DefinitionReference>          group;
+        private final Map<DefinitionReference, Integer> indices;
+        private final Map<DefinitionReference, Integer> lowLinks;
+        private final Deque<DefinitionReference>        stack;
+        private final Set<DefinitionReference>          onStack;
+        private final List<List<DefinitionReference>>   components;
+
+        StronglyConnectedComponents(Set<DefinitionReference> group) {
+            this.group = group;
+            this.indices = new HashMap<>();
+            this.lowLinks = new HashMap<>();
+            this.stack = new ArrayDeque<>();
+            this.onStack = new HashSet<>();
+            this.components = new ArrayList<>();
+        }
+
+        List<List<DefinitionReference>> find() {
+            group.stream()
+                .filter(reference -> !indices.containsKey(reference))
+                .forEach(this::visit);
+            return components;
+        }
+
+        private void visit(DefinitionReference reference) {
+            int index = indices.size();
+            indices.put(reference, index);
+            lowLinks.put(reference, index);
+            stack.push(reference);
+            onStack.add(reference);
+            for (DefinitionReference dependency : getDependencies(reference, group)) {
+                if (!indices.containsKey(dependency)) {
+                    visit(dependency);
+                    lowLinks.put(reference, Math.min(lowLinks.get(reference), lowLinks.get(dependency)));
+                } else if (onStack.contains(dependency)) {
+                    lowLinks.put(reference, Math.min(lowLinks.get(reference), indices.get(dependency)));
+                }
+            }
+            if (lowLinks.get(reference) == index) {
+                List<DefinitionReference> component = new ArrayList<>();
+                DefinitionReference member;
+                do {
+                    member = stack.pop();
+                    onStack.remove(member);
+                    component.add(member);
+                } while (!member.equals(reference));
+                components.add(component);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package scotch.compiler.intermediate;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import com.google.common.collect.ImmutableList;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import scotch.symbol.Symbol;
+
+/**
+ * An alternative of a case, chosen when the scrutinee was built by its constructor and binding the fields of the
+ * constructor to variables within its body.
+ */
+@EqualsAndHashCode(callSuper = false)
+@ToString
+public class IntermediateAlternative {
+
+    private final Symbol            constructor;
+    private final List<String>      fields;
+    private final IntermediateValue body;
+
+    public IntermediateAlternative(Symbol constructor, List<String> fields, IntermediateValue body) {
+        this.constructor = constructor;
+        this.fields = ImmutableList.copyOf(fields);
+        this.body = body;
+    }
+
+    public IntermediateValue getBody() {
+        return body;
+    }
+
+    public Symbol getConstructor() {
+        return constructor;
+    }
+
+    public List<String> getFields() {
+        return fields;
+    }
+
+    public Set<String> getFreeVariables() {
+        Set<String> variables = new HashSet<>(body.getFreeVariables());
+        variables.removeAll(fields);
+        return variables;
+    }
+
+    public int getOccurrences(String variable) {
+        return fields.contains(variable) ? 0 : body.getOccurrences(variable);
+    }
+
+    public int getSize() {
+        return 1 + body.getSize();
+    }
+
+    public IntermediateAlternative inline(Inliner state, IntermediateValue scrutinee) {
+        IntermediateConstructor known = new IntermediateConstructor(constructor, fields.stream()
+            .map(IntermediateVariable::new)
+            .collect(toList()));
+        return withBody(state.enclose(fields, () -> scrutinee.knowing(state, known, () -> body.inline(state))));
+    }
+
+    /**
+     * Selects this alternative for a scrutinee built by its constructor, binding each field to its argument.
+     */
+    public IntermediateValue select(IntermediateConstructor scrutinee) {
+        IntermediateValue result = body;
+        List<IntermediateValue> arguments = scrutinee.getArguments();
+        for (int i = fields.size() - 1; i >= 0; i--) {
+            result = new IntermediateLet(fields.get(i), arguments.get(i), result);
+        }
+        return result;
+    }
+
+    public IntermediateAlternative substitute(Inliner state, String variable, IntermediateValue value) {
+        if (fields.contains(variable)) {
+            return this;
+        }
+        List<String> renamedFields = new ArrayList<>();
+        IntermediateValue renamedBody = body;
+        for (String field : fields) {
+            if (value.getFreeVariables().contains(field)) {
+                String renamed = state.reserveName(field);
+                renamedFields.add(renamed);
+                renamedBody = renamedBody.substitute(state, field, new IntermediateVariable(renamed));
+            } else {
+                renamedFields.add(field);
+            }
+        }
+        return new IntermediateAlternative(constructor, renamedFields, renamedBody.substitute(state, variable, value));
+    }
+
+    public IntermediateAlternative withBody(IntermediateValue body) {
+        return new IntermediateAlternative(constructor, fields, body);
+    }
+}
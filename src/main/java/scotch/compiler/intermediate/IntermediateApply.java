@@ -1,9 +1,18 @@
 package scotch.compiler.intermediate;
 
+import static com.google.common.collect.Sets.union;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Set;
 import com.google.common.collect.ImmutableList;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import me.qmx.jitescript.CodeBlock;
+import scotch.compiler.steps.BytecodeGenerator;
+import scotch.compiler.syntax.reference.DefinitionReference;
 
 @EqualsAndHashCode(callSuper = false)
 @ToString
@@ -18,4 +27,69 @@ public class IntermediateApply extends IntermediateValue {
         this.function = function;
         this.argument = argument;
     }
+
+    @Override
+    public boolean canGenerateBytecode(BytecodeGenerator state) {
+        return function.canGenerateBytecode(state) && argument.canGenerateBytecode(state);
+    }
+
+    @Override
+    public CodeBlock generateBytecode(BytecodeGenerator state) {
+        return state.suspend(() -> generateStrictBytecode(state));
+    }
+
+    /**
+     * Applies the function at the head of this application to all of its arguments in one step.
+     */
+    @Override
+    public CodeBlock generateStrictBytecode(BytecodeGenerator state) {
+        Deque<IntermediateValue> arguments = new ArrayDeque<>();
+        IntermediateValue head = this;
+        while (head instanceof IntermediateApply) {
+            arguments.push(((IntermediateApply) head).argument);
+            head = ((IntermediateApply) head).function;
+        }
+        return head.generateApplyBytecode(state, new ArrayList<>(arguments));
+    }
+
+    @Override
+    public Set<DefinitionReference> getDependencies() {
+        return union(function.getDependencies(), argument.getDependencies());
+    }
+
+    @Override
+    public Set<String> getFreeVariables() {
+        return union(function.getFreeVariables(), argument.getFreeVariables());
+    }
+
+    @Override
+    public int getOccurrences(String variable) {
+        return function.getOccurrences(variable) + argument.getOccurrences(variable);
+    }
+
+    @Override
+    public int getSize() {
+        return 1 + function.getSize() + argument.getSize();
+    }
+
+    @Override
+    public IntermediateValue inline(Inliner state) {
+        Deque<IntermediateValue> arguments = new ArrayDeque<>();
+        IntermediateValue head = this;
+        while (head instanceof IntermediateApply) {
+            arguments.push(((IntermediateApply) head).argument);
+            head = ((IntermediateApply) head).function;
+        }
+        IntermediateValue spineHead = head;
+        IntermediateValue result = head.unfold(state, arguments.size()).orElseGet(() -> spineHead.inline(state));
+        while (!arguments.isEmpty()) {
+            result = result.reduce(state, arguments.pop().inline(state), arguments.size());
+        }
+        return result;
+    }
+
+    @Override
+    public IntermediateValue substitute(Inliner state, String variable, IntermediateValue value) {
+        return new IntermediateApply(captures, function.substitute(state, variable, value), argument.substitute(state, variable, value));
+    }
 }
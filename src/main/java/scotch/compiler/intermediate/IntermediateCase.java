@@ -0,0 +1,229 @@
+package scotch.compiler.intermediate;
+
+import static java.util.stream.Collectors.toList;
+import static me.qmx.jitescript.util.CodegenUtils.p;
+import static me.qmx.jitescript.util.CodegenUtils.sig;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import com.google.common.collect.ImmutableList;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import me.qmx.jitescript.CodeBlock;
+import org.objectweb.asm.tree.LabelNode;
+import scotch.compiler.steps.BytecodeGenerator;
+import scotch.compiler.syntax.reference.DefinitionReference;
+import scotch.runtime.Callable;
+
+/**
+ * Evaluates a scrutinee and chooses the alternative for the constructor it was built by, or the default when no
+ * alternative matches.
+ */
+@EqualsAndHashCode(callSuper = false)
+@ToString
+public class IntermediateCase extends IntermediateValue {
+
+    private final IntermediateValue             scrutinee;
+    private final List<IntermediateAlternative> alternatives;
+    private final Optional<IntermediateValue>   defaultCase;
+
+    public IntermediateCase(IntermediateValue scrutinee, List<IntermediateAlternative> alternatives, Optional<IntermediateValue> defaultCase) {
+        this.scrutinee = scrutinee;
+        this.alternatives = ImmutableList.copyOf(alternatives);
+        this.defaultCase = defaultCase;
+    }
+
+    /**
+     * Only cases of tuples are generated, as they are the only cases lowered so far.
+     */
+    @Override
+    public boolean canGenerateBytecode(BytecodeGenerator state) {
+        return scrutinee.canGenerateBytecode(state)
+            && alternatives.stream().allMatch(alternative -> alternative.getConstructor().isTuple() && alternative.getBody().canGenerateBytecode(state))
+            && defaultCase.map(value -> value.canGenerateBytecode(state)).orElse(true);
+    }
+
+    @Override
+    public CodeBlock generateBytecode(BytecodeGenerator state) {
+        return state.suspend(() -> generateStrictBytecode(state));
+    }
+
+    @Override
+    public CodeBlock generateStrictBytecode(BytecodeGenerator state) {
+        return generateBranches(state, branch -> branch.generateStrictBytecode(state));
+    }
+
+    @Override
+    public CodeBlock generateTailBytecode(BytecodeGenerator state) {
+        return generateBranches(state, branch -> branch.generateTailBytecode(state));
+    }
+
+    @Override
+    public Set<DefinitionReference> getDependencies() {
+        Set<DefinitionReference> dependencies = new HashSet<>(scrutinee.getDependencies());
+        alternatives.forEach(alternative -> dependencies.addAll(alternative.getBody().getDependencies()));
+        defaultCase.ifPresent(value -> dependencies.addAll(value.getDependencies()));
+        return dependencies;
+    }
+
+    @Override
+    public Set<String> getFreeVariables() {
+        Set<String> variables = new HashSet<>(scrutinee.getFreeVariables());
+        alternatives.forEach(alternative -> variables.addAll(alternative.getFreeVariables()));
+        defaultCase.ifPresent(value -> variables.addAll(value.getFreeVariables()));
+        return variables;
+    }
+
+    @Override
+    public int getOccurrences(String variable) {
+        return scrutinee.getOccurrences(variable)
+            + alternatives.stream().mapToInt(alternative -> alternative.getOccurrences(variable)).sum()
+            + defaultCase.map(value -> value.getOccurrences(variable)).orElse(0);
+    }
+
+    @Override
+    public int getSize() {
+        return 1 + scrutinee.getSize()
+            + alternatives.stream().mapToInt(IntermediateAlternative::getSize).sum()
+            + defaultCase.map(IntermediateValue::getSize).orElse(0);
+    }
+
+    /**
+     * Resolves the case when the constructor of the scrutinee is known or the scrutinee fails, and otherwise pushes
+     * this case into the branches of a scrutinee which is itself a case, binding each alternative as a join point so it
+     * is emitted once.
+     */
+    @Override
+    public IntermediateValue inline(Inliner state) {
+        IntermediateValue inlinedScrutinee = scrutinee.inline(state);
+        Optional<IntermediateConstructor> known = inlinedScrutinee.getKnownConstructor(state);
+        if (known.isPresent()) {
+            Optional<IntermediateValue> selected = select(known.get());
+            if (selected.isPresent()) {
+                state.countKnownCase();
+                return selected.get().inline(state);
+            }
+        }
+        if (inlinedScrutinee instanceof IntermediateFailure) {
+            return inlinedScrutinee;
+        } else if (inlinedScrutinee instanceof IntermediateCase) {
+            state.countCaseOfCase();
+            return ((IntermediateCase) inlinedScrutinee).caseOfCase(state, this).inline(state);
+        } else {
+            return new IntermediateCase(
+                inlinedScrutinee,
+                alternatives.stream()
+                    .map(alternative -> alternative.inline(state, inlinedScrutinee))
+                    .collect(toList()),
+                defaultCase.map(value -> value.inline(state))
+            );
+        }
+    }
+
+    @Override
+    public IntermediateValue substitute(Inliner state, String variable, IntermediateValue value) {
+        return new IntermediateCase(
+            scrutinee.substitute(state, variable, value),
+            alternatives.stream()
+                .map(alternative -> alternative.substitute(state, variable, value))
+                .collect(toList()),
+            defaultCase.map(defaultValue -> defaultValue.substitute(state, variable, value))
+        );
+    }
+
+    private IntermediateValue caseOfCase(Inliner state, IntermediateCase outer) {
+        List<String> joinPoints = new ArrayList<>();
+        List<IntermediateValue> joinValues = new ArrayList<>();
+        List<IntermediateAlternative> jumps = new ArrayList<>();
+        for (IntermediateAlternative alternative : outer.alternatives) {
+            String joinPoint = state.reserveName("join");
+            IntermediateValue joinValue = alternative.getBody();
+            IntermediateValue jump = new IntermediateVariable(joinPoint);
+            for (int i = alternative.getFields().size() - 1; i >= 0; i--) {
+                joinValue = new IntermediateFunction(ImmutableList.of(), alternative.getFields().get(i), joinValue);
+            }
+            for (String field : alternative.getFields()) {
+                jump = new IntermediateApply(ImmutableList.of(), jump, new IntermediateVariable(field));
+            }
+            joinPoints.add(joinPoint);
+            joinValues.add(joinValue);
+            jumps.add(alternative.withBody(jump));
+        }
+        Optional<IntermediateValue> defaultJump = outer.defaultCase.map(value -> {
+            String joinPoint = state.reserveName("join");
+            joinPoints.add(joinPoint);
+            joinValues.add(value);
+            return new IntermediateVariable(joinPoint);
+        });
+        IntermediateValue result = new IntermediateCase(
+            scrutinee,
+            alternatives.stream()
+                .map(alternative -> alternative.withBody(jumpFrom(alternative.getBody(), jumps, defaultJump)))
+                .collect(toList()),
+            defaultCase.map(value -> jumpFrom(value, jumps, defaultJump))
+        );
+        for (int i = joinPoints.size() - 1; i >= 0; i--) {
+            result = new IntermediateLet(joinPoints.get(i), joinValues.get(i), result);
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates the scrutinee and tests its class against each alternative in turn, storing the fields of the matching
+     * tuple in local variables bound within the body of the alternative.
+     */
+    private CodeBlock generateBranches(BytecodeGenerator state, Function<IntermediateValue, CodeBlock> generator) {
+        return new CodeBlock() {{
+            LabelNode end = new LabelNode();
+            append(scrutinee.generateStrictBytecode(state));
+            invokeinterface(p(Callable.class), "call", sig(Object.class));
+            for (IntermediateAlternative alternative : alternatives) {
+                LabelNode next = new LabelNode();
+                List<String> fields = alternative.getFields();
+                String className = "scotch/data/tuple/Tuple" + fields.size();
+                dup();
+                instance_of(className);
+                iffalse(next);
+                checkcast(className);
+                append(state.matching(fields, () -> new CodeBlock() {{
+                    for (int i = 0; i < fields.size(); i++) {
+                        dup();
+                        invokevirtual(className, "get_" + i, sig(Callable.class));
+                        astore(state.getVariable(fields.get(i)));
+                    }
+                    pop();
+                    append(generator.apply(alternative.getBody()));
+                }}));
+                go_to(end);
+                label(next);
+            }
+            pop();
+            append(defaultCase.map(generator).orElseGet(() -> new IntermediateFailure("No alternative matched").generateStrictBytecode(state)));
+            label(end);
+        }};
+    }
+
+    private IntermediateValue jumpFrom(IntermediateValue branch, List<IntermediateAlternative> jumps, Optional<IntermediateValue> defaultJump) {
+        if (branch instanceof IntermediateFailure) {
+            return branch;
+        } else {
+            return new IntermediateCase(branch, jumps, defaultJump);
+        }
+    }
+
+    private Optional<IntermediateValue> select(IntermediateConstructor constructor) {
+        Optional<IntermediateValue> selected = alternatives.stream()
+            .filter(alternative -> alternative.getConstructor().equals(constructor.getConstructor()))
+            .findFirst()
+            .map(alternative -> alternative.select(constructor));
+        if (selected.isPresent()) {
+            return selected;
+        } else {
+            return defaultCase;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package scotch.compiler.intermediate;
+
+import static com.google.common.collect.Sets.union;
+import static me.qmx.jitescript.util.CodegenUtils.p;
+import static me.qmx.jitescript.util.CodegenUtils.sig;
+
+import java.util.Set;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import me.qmx.jitescript.CodeBlock;
+import org.objectweb.asm.tree.LabelNode;
+import scotch.compiler.steps.BytecodeGenerator;
+import scotch.compiler.syntax.reference.DefinitionReference;
+import scotch.runtime.Callable;
+import scotch.runtime.RuntimeSupport;
+
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@ToString
+public class IntermediateConditional extends IntermediateValue {
+
+    private final IntermediateValue condition;
+    private final IntermediateValue whenTrue;
+    private final IntermediateValue whenFalse;
+
+    @Override
+    public boolean canGenerateBytecode(BytecodeGenerator state) {
+        return condition.canGenerateBytecode(state) && whenTrue.canGenerateBytecode(state) && whenFalse.canGenerateBytecode(state);
+    }
+
+    @Override
+    public CodeBlock generateBytecode(BytecodeGenerator state) {
+        return state.suspend(() -> generateStrictBytecode(state));
+    }
+
+    @Override
+    public CodeBlock generateStrictBytecode(BytecodeGenerator state) {
+        return generateBranches(state, branch -> branch.generateStrictBytecode(state));
+    }
+
+    @Override
+    public CodeBlock generateTailBytecode(BytecodeGenerator state) {
+        return generateBranches(state, branch -> branch.generateTailBytecode(state));
+    }
+
+    @Override
+    public Set<DefinitionReference> getDependencies() {
+        return union(condition.getDependencies(), union(whenTrue.getDependencies(), whenFalse.getDependencies()));
+    }
+
+    @Override
+    public Set<String> getFreeVariables() {
+        return union(condition.getFreeVariables(), union(whenTrue.getFreeVariables(), whenFalse.getFreeVariables()));
+    }
+
+    @Override
+    public int getOccurrences(String variable) {
+        return condition.getOccurrences(variable) + whenTrue.getOccurrences(variable) + whenFalse.getOccurrences(variable);
+    }
+
+    @Override
+    public int getSize() {
+        return 1 + condition.getSize() + whenTrue.getSize() + whenFalse.getSize();
+    }
+
+    @Override
+    public IntermediateValue inline(Inliner state) {
+        IntermediateValue inlinedCondition = condition.inline(state);
+        if (inlinedCondition.equals(new IntermediateLiteral(true))) {
+            state.countKnownCase();
+            return whenTrue.inline(state);
+        } else if (inlinedCondition.equals(new IntermediateLiteral(false))) {
+            state.countKnownCase();
+            return whenFalse.inline(state);
+        } else {
+            return new IntermediateConditional(inlinedCondition, whenTrue.inline(state), whenFalse.inline(state));
+        }
+    }
+
+    @Override
+    public IntermediateValue substitute(Inliner state, String variable, IntermediateValue value) {
+        return new IntermediateConditional(
+            condition.substitute(state, variable, value),
+            whenTrue.substitute(state, variable, value),
+            whenFalse.substitute(state, variable, value)
+        );
+    }
+
+    private CodeBlock generateBranches(BytecodeGenerator state, Function<IntermediateValue, CodeBlock> generator) {
+        return new CodeBlock() {{
+            LabelNode falseBranch = new LabelNode();
+            LabelNode end = new LabelNode();
+            append(condition.generateStrictBytecode(state));
+            invokestatic(p(RuntimeSupport.class), "unboxBool", sig(boolean.class, Callable.class));
+            iffalse(falseBranch);
+            append(generator.apply(whenTrue));
+            go_to(end);
+            label(falseBranch);
+            append(generator.apply(whenFalse));
+            label(end);
+        }};
+    }
+}
@@ -0,0 +1,119 @@
+package scotch.compiler.intermediate;
+
+import static java.util.stream.Collectors.toList;
+import static me.qmx.jitescript.util.CodegenUtils.sig;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import com.google.common.collect.ImmutableList;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import me.qmx.jitescript.CodeBlock;
+import scotch.compiler.steps.BytecodeGenerator;
+import scotch.compiler.syntax.reference.DefinitionReference;
+import scotch.runtime.Callable;
+import scotch.symbol.Symbol;
+
+@EqualsAndHashCode(callSuper = false)
+@ToString
+public class IntermediateConstructor extends IntermediateValue {
+
+    private final Symbol                  constructor;
+    private final List<IntermediateValue> arguments;
+
+    public IntermediateConstructor(Symbol constructor, List<IntermediateValue> arguments) {
+        this.constructor = constructor;
+        this.arguments = ImmutableList.copyOf(arguments);
+    }
+
+    /**
+     * Constructors taking no arguments are referred to by their value methods, and otherwise only tuples and the
+     * constructors of data types defined in this compilation are known to take all of their fields as callables.
+     */
+    @Override
+    public boolean canGenerateBytecode(BytecodeGenerator state) {
+        if (arguments.isEmpty()) {
+            return state.scope().getValueSignature(constructor).isPresent();
+        } else {
+            return (constructor.isTuple() || state.getKnownFunction(constructor).isPresent())
+                && arguments.stream().allMatch(argument -> argument.canGenerateBytecode(state));
+        }
+    }
+
+    @Override
+    public CodeBlock generateBytecode(BytecodeGenerator state) {
+        if (arguments.isEmpty()) {
+            return state.getValueSignature(constructor).reference();
+        }
+        String className = constructor.isTuple()
+            ? "scotch/data/tuple/Tuple" + arguments.size() + "$Tuple" + arguments.size() + "Data"
+            : state.getDataConstructorClass(constructor);
+        Class<?>[] parameters = new Class<?>[arguments.size()];
+        Arrays.fill(parameters, Callable.class);
+        return new CodeBlock() {{
+            newobj(className);
+            dup();
+            arguments.forEach(argument -> append(argument.generateBytecode(state)));
+            invokespecial(className, "<init>", sig(void.class, parameters));
+        }};
+    }
+
+    public List<IntermediateValue> getArguments() {
+        return arguments;
+    }
+
+    public Symbol getConstructor() {
+        return constructor;
+    }
+
+    @Override
+    public Set<DefinitionReference> getDependencies() {
+        Set<DefinitionReference> dependencies = new HashSet<>();
+        arguments.forEach(argument -> dependencies.addAll(argument.getDependencies()));
+        return dependencies;
+    }
+
+    @Override
+    public Set<String> getFreeVariables() {
+        Set<String> variables = new HashSet<>();
+        arguments.forEach(argument -> variables.addAll(argument.getFreeVariables()));
+        return variables;
+    }
+
+    @Override
+    public Optional<IntermediateConstructor> getKnownConstructor(Inliner state) {
+        return Optional.of(this);
+    }
+
+    @Override
+    public int getOccurrences(String variable) {
+        return arguments.stream().mapToInt(argument -> argument.getOccurrences(variable)).sum();
+    }
+
+    @Override
+    public int getSize() {
+        return 1 + arguments.stream().mapToInt(IntermediateValue::getSize).sum();
+    }
+
+    @Override
+    public IntermediateValue inline(Inliner state) {
+        return new IntermediateConstructor(constructor, arguments.stream()
+            .map(argument -> argument.inline(state))
+            .collect(toList()));
+    }
+
+    @Override
+    public boolean isTrivial() {
+        return arguments.isEmpty();
+    }
+
+    @Override
+    public IntermediateValue substitute(Inliner state, String variable, IntermediateValue value) {
+        return new IntermediateConstructor(constructor, arguments.stream()
+            .map(argument -> argument.substitute(state, variable, value))
+            .collect(toList()));
+    }
+}
@@ -16,4 +16,12 @@ public class IntermediateDefinition {
     public DefinitionReference getReference() {
         return reference;
     }
+
+    public IntermediateValue getValue() {
+        return value;
+    }
+
+    public IntermediateDefinition withValue(IntermediateValue value) {
+        return new IntermediateDefinition(reference, value);
+    }
 }
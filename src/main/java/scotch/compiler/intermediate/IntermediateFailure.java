@@ -0,0 +1,84 @@
+package scotch.compiler.intermediate;
+
+import static me.qmx.jitescript.util.CodegenUtils.p;
+import static me.qmx.jitescript.util.CodegenUtils.sig;
+
+import java.util.Set;
+import com.google.common.collect.ImmutableSet;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import me.qmx.jitescript.CodeBlock;
+import scotch.compiler.steps.BytecodeGenerator;
+import scotch.compiler.syntax.reference.DefinitionReference;
+
+/**
+ * Fails with a message when evaluated, such as when no pattern matches.
+ */
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@ToString
+public class IntermediateFailure extends IntermediateValue {
+
+    private final String message;
+
+    @Override
+    public boolean canGenerateBytecode(BytecodeGenerator state) {
+        return true;
+    }
+
+    @Override
+    public CodeBlock generateBytecode(BytecodeGenerator state) {
+        return state.suspend(() -> generateStrictBytecode(state));
+    }
+
+    @Override
+    public CodeBlock generateStrictBytecode(BytecodeGenerator state) {
+        return new CodeBlock()
+            .newobj(p(IllegalStateException.class))
+            .dup()
+            .ldc(message)
+            .invokespecial(p(IllegalStateException.class), "<init>", sig(void.class, String.class))
+            .athrow();
+    }
+
+    @Override
+    public CodeBlock generateTailBytecode(BytecodeGenerator state) {
+        return generateStrictBytecode(state);
+    }
+
+    @Override
+    public Set<DefinitionReference> getDependencies() {
+        return ImmutableSet.of();
+    }
+
+    @Override
+    public Set<String> getFreeVariables() {
+        return ImmutableSet.of();
+    }
+
+    @Override
+    public int getOccurrences(String variable) {
+        return 0;
+    }
+
+    @Override
+    public int getSize() {
+        return 1;
+    }
+
+    @Override
+    public IntermediateValue inline(Inliner state) {
+        return this;
+    }
+
+    @Override
+    public boolean isTrivial() {
+        return true;
+    }
+
+    @Override
+    public IntermediateValue substitute(Inliner state, String variable, IntermediateValue value) {
+        return this;
+    }
+}
@@ -1,9 +1,25 @@
 package scotch.compiler.intermediate;
 
+import static com.google.common.collect.Sets.difference;
+import static me.qmx.jitescript.util.CodegenUtils.p;
+import static me.qmx.jitescript.util.CodegenUtils.sig;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+import static scotch.compiler.steps.BytecodeGenerator.MAX_ARITY;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import me.qmx.jitescript.CodeBlock;
+import me.qmx.jitescript.LambdaBlock;
+import scotch.compiler.steps.BytecodeGenerator;
+import scotch.compiler.steps.BytecodeGenerator.Closure;
+import scotch.compiler.syntax.reference.DefinitionReference;
+import scotch.runtime.Callable;
 
 @EqualsAndHashCode(callSuper = false)
 @ToString
@@ -18,4 +34,115 @@ public class IntermediateFunction extends IntermediateValue {
         this.argument = argument;
         this.body = body;
     }
+
+    @Override
+    public boolean canGenerateBytecode(BytecodeGenerator state) {
+        return body.canGenerateBytecode(state);
+    }
+
+    /**
+     * Generates a lambda taking the arguments of this function and of the functions nested within it at once, up to
+     * {@link BytecodeGenerator#MAX_ARITY} of them.
+     */
+    @Override
+    public CodeBlock generateBytecode(BytecodeGenerator state) {
+        List<String> arguments = new ArrayList<>();
+        IntermediateValue lambdaBody = this;
+        while (arguments.size() < MAX_ARITY && lambdaBody instanceof IntermediateFunction) {
+            arguments.add(((IntermediateFunction) lambdaBody).argument);
+            lambdaBody = ((IntermediateFunction) lambdaBody).body;
+        }
+        IntermediateValue result = lambdaBody;
+        Class<?>[] parameters = new Class<?>[arguments.size()];
+        Arrays.fill(parameters, Callable.class);
+        String lambdaName = state.reserveLambda();
+        Closure closure = state.closure(arguments, () -> result.generateTailBytecode(state).areturn());
+        return new CodeBlock() {{
+            append(closure.getCaptures());
+            lambda(state.currentClass(), new LambdaBlock(lambdaName) {{
+                function(p(state.applicableOf(arguments.size())), "apply", sig(Callable.class, parameters));
+                capture(closure.getCaptureTypes());
+                delegateTo(ACC_STATIC, sig(Callable.class, closure.getParameterTypes()), closure.getBody());
+            }});
+        }};
+    }
+
+    @Override
+    public CodeBlock generateWorkerBytecode(BytecodeGenerator state, List<String> arguments, int arity) {
+        if (arity == 0) {
+            return super.generateWorkerBytecode(state, arguments, arity);
+        } else {
+            return body.generateWorkerBytecode(state, ImmutableList.<String>builder().addAll(arguments).add(argument).build(), arity - 1);
+        }
+    }
+
+    @Override
+    public int getArity() {
+        return 1 + body.getArity();
+    }
+
+    @Override
+    public Set<DefinitionReference> getDependencies() {
+        return body.getDependencies();
+    }
+
+    @Override
+    public Set<String> getFreeVariables() {
+        return difference(body.getFreeVariables(), ImmutableSet.of(argument));
+    }
+
+    @Override
+    public int getOccurrences(String variable) {
+        if (argument.equals(variable)) {
+            return 0;
+        } else {
+            return 2 * body.getOccurrences(variable);
+        }
+    }
+
+    @Override
+    public int getOccurrences(String variable, int arguments) {
+        if (arguments == 0) {
+            return getOccurrences(variable);
+        } else if (argument.equals(variable)) {
+            return 0;
+        } else {
+            return body.getOccurrences(variable, arguments - 1);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return 1 + body.getSize();
+    }
+
+    @Override
+    public IntermediateValue inline(Inliner state) {
+        List<String> captures = state.getCaptures();
+        return new IntermediateFunction(captures, argument, state.enclose(argument, () -> body.inline(state)));
+    }
+
+    @Override
+    public IntermediateValue reduce(Inliner state, IntermediateValue value, int remaining) {
+        if (value.isTrivial() || body.getOccurrences(argument, remaining) <= 1) {
+            state.countBetaReduction();
+            return body.substitute(state, argument, value).inline(state);
+        } else {
+            return super.reduce(state, value, remaining);
+        }
+    }
+
+    @Override
+    public IntermediateValue substitute(Inliner state, String variable, IntermediateValue value) {
+        if (argument.equals(variable)) {
+            return this;
+        } else if (value.getFreeVariables().contains(argument)) {
+            String renamed = state.reserveName(argument);
+            return new IntermediateFunction(captures, renamed, body
+                .substitute(state, argument, new IntermediateVariable(renamed))
+                .substitute(state, variable, value));
+        } else {
+            return new IntermediateFunction(captures, argument, body.substitute(state, variable, value));
+        }
+    }
 }
@@ -5,9 +5,10 @@ import static scotch.compiler.syntax.reference.DefinitionReference.rootRef;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
+import java.util.function.Supplier;
+import com.google.common.collect.ImmutableList;
 import scotch.compiler.error.CompileException;
 import scotch.compiler.syntax.Scoped;
 import scotch.compiler.syntax.definition.DefinitionGraph;
@@ -19,17 +20,42 @@ public class IntermediateGenerator {
     private final DefinitionGraph              graph;
     private final List<IntermediateDefinition> definitions;
     private final Deque<Scope>                 scopes;
+    private final List<String>                 variables;
 
     public IntermediateGenerator(DefinitionGraph graph) {
         this.graph = graph;
         this.definitions = new ArrayList<>();
         this.scopes = new ArrayDeque<>();
+        this.variables = new ArrayList<>();
     }
 
     public void defineValue(DefinitionReference reference, IntermediateValue body) {
         definitions.add(value(reference, body));
     }
 
+    public <T> T enclose(List<String> variables, Supplier<T> supplier) {
+        this.variables.addAll(variables);
+        try {
+            return supplier.get();
+        } finally {
+            this.variables.subList(this.variables.size() - variables.size(), this.variables.size()).clear();
+        }
+    }
+
+    /**
+     * Curries a function over its arguments, each nested function capturing the arguments enclosing it.
+     */
+    public IntermediateValue function(List<String> arguments, Supplier<IntermediateValue> body) {
+        if (arguments.isEmpty()) {
+            return body.get();
+        } else {
+            List<String> captures = getCaptures();
+            String argument = arguments.get(0);
+            return Intermediates.function(captures, argument, enclose(ImmutableList.of(argument),
+                () -> function(arguments.subList(1, arguments.size()), body)));
+        }
+    }
+
     public IntermediateGraph generateIntermediateCode() {
         if (graph.hasErrors()) {
             throw new CompileException(graph.getErrors());
@@ -43,8 +69,12 @@ public class IntermediateGenerator {
         graph.getDefinition(reference).get().generateIntermediateCode(this);
     }
 
+    public void generateIntermediateCode(List<DefinitionReference> references) {
+        references.forEach(this::generateIntermediateCode);
+    }
+
     public List<String> getCaptures() {
-        return Collections.emptyList();
+        return ImmutableList.copyOf(variables);
     }
 
     public <T extends Scoped> void scoped(T scoped, Runnable runnable) {
@@ -1,6 +1,7 @@
 package scotch.compiler.intermediate;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -11,10 +12,14 @@ public class IntermediateGraph {
     private final Map<DefinitionReference, IntermediateDefinition> definitions;
 
     public IntermediateGraph(List<IntermediateDefinition> definitions) {
-        this.definitions = new HashMap<>();
+        this.definitions = new LinkedHashMap<>();
         definitions.forEach(definition -> this.definitions.put(definition.getReference(), definition));
     }
 
+    public List<IntermediateDefinition> getDefinitions() {
+        return new ArrayList<>(definitions.values());
+    }
+
     public Optional<IntermediateDefinition> getValue(DefinitionReference reference) {
         return Optional.ofNullable(definitions.get(reference));
     }
@@ -0,0 +1,111 @@
+package scotch.compiler.intermediate;
+
+import static com.google.common.collect.Sets.difference;
+import static com.google.common.collect.Sets.union;
+
+import java.util.Set;
+import java.util.function.Function;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import me.qmx.jitescript.CodeBlock;
+import scotch.compiler.steps.BytecodeGenerator;
+import scotch.compiler.syntax.reference.DefinitionReference;
+
+/**
+ * Binds a lazily evaluated value to a variable within a body. Join points are bound this way, as functions of the
+ * variables the code they stand for needs, so that code reached from several branches is only emitted once.
+ */
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@ToString
+public class IntermediateLet extends IntermediateValue {
+
+    private final String            variable;
+    private final IntermediateValue value;
+    private final IntermediateValue body;
+
+    @Override
+    public boolean canGenerateBytecode(BytecodeGenerator state) {
+        return value.canGenerateBytecode(state) && body.canGenerateBytecode(state);
+    }
+
+    @Override
+    public CodeBlock generateBytecode(BytecodeGenerator state) {
+        return generateBody(state, body -> body.generateBytecode(state));
+    }
+
+    @Override
+    public CodeBlock generateStrictBytecode(BytecodeGenerator state) {
+        return generateBody(state, body -> body.generateStrictBytecode(state));
+    }
+
+    @Override
+    public CodeBlock generateTailBytecode(BytecodeGenerator state) {
+        return generateBody(state, body -> body.generateTailBytecode(state));
+    }
+
+    @Override
+    public Set<DefinitionReference> getDependencies() {
+        return union(value.getDependencies(), body.getDependencies());
+    }
+
+    @Override
+    public Set<String> getFreeVariables() {
+        return union(value.getFreeVariables(), difference(body.getFreeVariables(), ImmutableSet.of(variable)));
+    }
+
+    @Override
+    public int getOccurrences(String variable) {
+        if (this.variable.equals(variable)) {
+            return value.getOccurrences(variable);
+        } else {
+            return value.getOccurrences(variable) + body.getOccurrences(variable);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return 1 + value.getSize() + body.getSize();
+    }
+
+    @Override
+    public IntermediateValue inline(Inliner state) {
+        IntermediateValue inlinedValue = value.inline(state);
+        if (inlinedValue.isTrivial() || body.getOccurrences(variable) <= 1) {
+            state.countBetaReduction();
+            return body.substitute(state, variable, inlinedValue).inline(state);
+        } else {
+            return new IntermediateLet(variable, inlinedValue, state.enclose(variable, () -> body.inline(state)));
+        }
+    }
+
+    @Override
+    public IntermediateValue substitute(Inliner state, String variable, IntermediateValue value) {
+        IntermediateValue substitutedValue = this.value.substitute(state, variable, value);
+        if (this.variable.equals(variable)) {
+            return new IntermediateLet(this.variable, substitutedValue, body);
+        } else if (value.getFreeVariables().contains(this.variable)) {
+            String renamed = state.reserveName(this.variable);
+            return new IntermediateLet(renamed, substitutedValue, body
+                .substitute(state, this.variable, new IntermediateVariable(renamed))
+                .substitute(state, variable, value));
+        } else {
+            return new IntermediateLet(this.variable, substitutedValue, body.substitute(state, variable, value));
+        }
+    }
+
+    /**
+     * Stores the suspended value in a local variable bound within the body.
+     */
+    private CodeBlock generateBody(BytecodeGenerator state, Function<IntermediateValue, CodeBlock> generator) {
+        CodeBlock valueBlock = value.generateBytecode(state);
+        return state.matching(ImmutableList.of(variable), () -> new CodeBlock() {{
+            append(valueBlock);
+            astore(state.getVariable(variable));
+            append(generator.apply(body));
+        }});
+    }
+}
@@ -1,8 +1,22 @@
 package scotch.compiler.intermediate;
 
+import static me.qmx.jitescript.util.CodegenUtils.p;
+import static me.qmx.jitescript.util.CodegenUtils.sig;
+
+import java.util.Set;
+import com.google.common.collect.ImmutableSet;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import me.qmx.jitescript.CodeBlock;
+import scotch.compiler.steps.BytecodeGenerator;
+import scotch.compiler.syntax.reference.DefinitionReference;
+import scotch.runtime.BoolCallable;
+import scotch.runtime.Callable;
+import scotch.runtime.CharCallable;
+import scotch.runtime.DoubleCallable;
+import scotch.runtime.IntCallable;
+import scotch.runtime.RuntimeSupport;
 
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = false)
@@ -10,4 +24,66 @@ import lombok.ToString;
 public class IntermediateLiteral extends IntermediateValue {
 
     private final Object value;
+
+    @Override
+    public boolean canGenerateBytecode(BytecodeGenerator state) {
+        return value instanceof Integer
+            || value instanceof Double
+            || value instanceof Boolean
+            || value instanceof Character
+            || value instanceof String;
+    }
+
+    /**
+     * Boxes the literal the way its syntax would be, so that primitives are held by their specialized callables.
+     */
+    @Override
+    public CodeBlock generateBytecode(BytecodeGenerator state) {
+        if (value instanceof Integer) {
+            return new CodeBlock().ldc(value).invokestatic(p(RuntimeSupport.class), "box", sig(IntCallable.class, int.class));
+        } else if (value instanceof Double) {
+            return new CodeBlock().ldc(value).invokestatic(p(RuntimeSupport.class), "box", sig(DoubleCallable.class, double.class));
+        } else if (value instanceof Boolean) {
+            return new CodeBlock().pushBoolean((Boolean) value).invokestatic(p(RuntimeSupport.class), "box", sig(BoolCallable.class, boolean.class));
+        } else if (value instanceof Character) {
+            return new CodeBlock().pushInt((Character) value).invokestatic(p(RuntimeSupport.class), "box", sig(CharCallable.class, char.class));
+        } else {
+            return new CodeBlock().ldc(value).invokestatic(p(RuntimeSupport.class), "box", sig(Callable.class, Object.class));
+        }
+    }
+
+    @Override
+    public Set<DefinitionReference> getDependencies() {
+        return ImmutableSet.of();
+    }
+
+    @Override
+    public Set<String> getFreeVariables() {
+        return ImmutableSet.of();
+    }
+
+    @Override
+    public int getOccurrences(String variable) {
+        return 0;
+    }
+
+    @Override
+    public int getSize() {
+        return 1;
+    }
+
+    @Override
+    public IntermediateValue inline(Inliner state) {
+        return this;
+    }
+
+    @Override
+    public boolean isTrivial() {
+        return true;
+    }
+
+    @Override
+    public IntermediateValue substitute(Inliner state, String variable, IntermediateValue value) {
+        return this;
+    }
 }
@@ -1,8 +1,13 @@
 package scotch.compiler.intermediate;
 
+import java.util.Set;
+import com.google.common.collect.ImmutableSet;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import me.qmx.jitescript.CodeBlock;
+import scotch.compiler.steps.BytecodeGenerator;
+import scotch.compiler.syntax.reference.DefinitionReference;
 
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = false)
@@ -10,4 +15,44 @@ import lombok.ToString;
 public class IntermediatePattern extends IntermediateValue {
 
     private final DecisionTree tree;
+
+    @Override
+    public boolean canGenerateBytecode(BytecodeGenerator state) {
+        return false;
+    }
+
+    @Override
+    public CodeBlock generateBytecode(BytecodeGenerator state) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Set<DefinitionReference> getDependencies() {
+        return ImmutableSet.of();
+    }
+
+    @Override
+    public Set<String> getFreeVariables() {
+        return ImmutableSet.of();
+    }
+
+    @Override
+    public int getOccurrences(String variable) {
+        return 0;
+    }
+
+    @Override
+    public int getSize() {
+        return 1;
+    }
+
+    @Override
+    public IntermediateValue inline(Inliner state) {
+        return this;
+    }
+
+    @Override
+    public IntermediateValue substitute(Inliner state, String variable, IntermediateValue value) {
+        return this;
+    }
 }
@@ -1,8 +1,27 @@
 package scotch.compiler.intermediate;
 
+import static java.util.stream.Collectors.toList;
+import static me.qmx.jitescript.util.CodegenUtils.ci;
+import static me.qmx.jitescript.util.CodegenUtils.p;
+import static me.qmx.jitescript.util.CodegenUtils.sig;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import com.google.common.collect.ImmutableSet;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import me.qmx.jitescript.CodeBlock;
+import scotch.compiler.steps.BytecodeGenerator;
+import scotch.compiler.syntax.definition.ValueDefinition;
 import scotch.compiler.syntax.reference.DefinitionReference;
+import scotch.compiler.syntax.reference.InstanceReference;
+import scotch.compiler.syntax.reference.ValueReference;
+import scotch.runtime.Callable;
+import scotch.symbol.MethodSignature;
+import scotch.symbol.Symbol;
+import scotch.symbol.descriptor.TypeClassDescriptor;
+import scotch.symbol.descriptor.TypeInstanceDescriptor;
 
 @EqualsAndHashCode(callSuper = false)
 @ToString
@@ -13,4 +32,135 @@ public class IntermediateReference extends IntermediateValue {
     public IntermediateReference(DefinitionReference reference) {
         this.reference = reference;
     }
+
+    @Override
+    public boolean canGenerateBytecode(BytecodeGenerator state) {
+        return getReference(state).isPresent();
+    }
+
+    /**
+     * Calls the worker of a known function applied to at least as many arguments as it takes, and invokes a member of a
+     * type class given a known instance of it directly, as their syntax would.
+     */
+    @Override
+    public CodeBlock generateApplyBytecode(BytecodeGenerator state, List<IntermediateValue> arguments) {
+        if (!(reference instanceof ValueReference)) {
+            return super.generateApplyBytecode(state, arguments);
+        }
+        ValueReference valueReference = (ValueReference) reference;
+        Optional<ValueDefinition> knownFunction = state.getKnownFunction(valueReference.getSymbol())
+            .filter(definition -> definition.getBody().getArity() <= arguments.size());
+        if (knownFunction.isPresent()) {
+            int arity = knownFunction.get().getBody().getArity();
+            return new CodeBlock() {{
+                arguments.subList(0, arity).forEach(argument -> append(argument.generateBytecode(state)));
+                append(knownFunction.get().getWorkerSignature().reference());
+                append(applyArguments(state, arguments.subList(arity, arguments.size())));
+            }};
+        }
+        Optional<MethodSignature> memberMethod = state.getMemberMethod(valueReference.getSymbol())
+            .filter(method -> method.getSignature().matches("\\((" + ci(Callable.class) + ")*\\)" + ci(Callable.class)))
+            .filter(method -> method.getParameterCount() < arguments.size());
+        Optional<Integer> receiver = memberMethod.flatMap(method -> getReceiver(state, valueReference, arguments)
+            .filter(index -> index <= method.getParameterCount()));
+        if (receiver.isPresent()) {
+            int saturated = memberMethod.get().getParameterCount() + 1;
+            return new CodeBlock() {{
+                append(arguments.get(receiver.get()).generateBytecode(state));
+                invokeinterface(p(Callable.class), "call", sig(Object.class));
+                checkcast(memberMethod.get().getClassName());
+                for (int i = 0; i < saturated; i++) {
+                    if (i != receiver.get()) {
+                        append(arguments.get(i).generateBytecode(state));
+                    }
+                }
+                append(memberMethod.get().reference());
+                append(applyArguments(state, arguments.subList(saturated, arguments.size())));
+            }};
+        }
+        return super.generateApplyBytecode(state, arguments);
+    }
+
+    @Override
+    public CodeBlock generateBytecode(BytecodeGenerator state) {
+        return getReference(state).orElseThrow(() -> new IllegalStateException("Could not reference " + reference));
+    }
+
+    @Override
+    public Set<DefinitionReference> getDependencies() {
+        return ImmutableSet.of(reference);
+    }
+
+    @Override
+    public Set<String> getFreeVariables() {
+        return ImmutableSet.of();
+    }
+
+    @Override
+    public int getOccurrences(String variable) {
+        return 0;
+    }
+
+    @Override
+    public int getSize() {
+        return 1;
+    }
+
+    @Override
+    public IntermediateValue inline(Inliner state) {
+        return unfold(state, 0).orElse(this);
+    }
+
+    @Override
+    public boolean isTrivial() {
+        return true;
+    }
+
+    @Override
+    public IntermediateValue substitute(Inliner state, String variable, IntermediateValue value) {
+        return this;
+    }
+
+    @Override
+    public Optional<IntermediateValue> unfold(Inliner state, int arguments) {
+        return state.unfold(reference, arguments);
+    }
+
+    /**
+     * Finds the first argument of a type class member which refers to an instance of its type class.
+     */
+    private Optional<Integer> getReceiver(BytecodeGenerator state, ValueReference member, List<IntermediateValue> arguments) {
+        Optional<Symbol> typeClass = state.scope().getMemberOf(member).map(TypeClassDescriptor::getSymbol);
+        if (typeClass.isPresent()) {
+            for (int i = 0; i < arguments.size(); i++) {
+                if (arguments.get(i) instanceof IntermediateReference
+                    && ((IntermediateReference) arguments.get(i)).isInstanceOf(typeClass.get())) {
+                    return Optional.of(i);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<CodeBlock> getReference(BytecodeGenerator state) {
+        if (reference instanceof ValueReference) {
+            return state.scope().getValueSignature(((ValueReference) reference).getSymbol()).map(MethodSignature::reference);
+        } else if (reference instanceof InstanceReference) {
+            InstanceReference instanceReference = (InstanceReference) reference;
+            return state.scope().getTypeInstance(
+                instanceReference.getClassReference(),
+                instanceReference.getModuleReference(),
+                instanceReference.getParameters().stream()
+                    .map(parameter -> parameter.copy(state.scope()::reserveType))
+                    .collect(toList())
+            ).map(TypeInstanceDescriptor::reference);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private boolean isInstanceOf(Symbol typeClass) {
+        return reference instanceof InstanceReference
+            && ((InstanceReference) reference).getClassReference().getSymbol().equals(typeClass);
+    }
 }
@@ -1,5 +1,146 @@
 package scotch.compiler.intermediate;
 
+import static me.qmx.jitescript.util.CodegenUtils.p;
+import static me.qmx.jitescript.util.CodegenUtils.sig;
+import static scotch.compiler.steps.BytecodeGenerator.MAX_ARITY;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import me.qmx.jitescript.CodeBlock;
+import scotch.compiler.steps.BytecodeGenerator;
+import scotch.compiler.syntax.reference.DefinitionReference;
+import scotch.runtime.Callable;
+import scotch.runtime.RuntimeSupport;
+
 public abstract class IntermediateValue {
 
+    /**
+     * Applies the function on top of the stack to the given arguments, suspending each argument and passing at most
+     * {@link BytecodeGenerator#MAX_ARITY} of them per call.
+     */
+    protected static CodeBlock applyArguments(BytecodeGenerator state, List<IntermediateValue> arguments) {
+        return new CodeBlock() {{
+            for (int offset = 0; offset < arguments.size(); offset += MAX_ARITY) {
+                int end = Math.min(offset + MAX_ARITY, arguments.size());
+                Class<?>[] parameters = new Class<?>[end - offset + 1];
+                Arrays.fill(parameters, Callable.class);
+                arguments.subList(offset, end).forEach(argument -> append(argument.generateBytecode(state)));
+                invokestatic(p(RuntimeSupport.class), "apply", sig(Callable.class, parameters));
+            }
+        }};
+    }
+
+    /**
+     * Whether bytecode can be generated for this value in the current scope. Checked before generating anything, so
+     * that values which can't be generated leave no lambdas behind.
+     */
+    public abstract boolean canGenerateBytecode(BytecodeGenerator state);
+
+    /**
+     * Applies this value in place to the given arguments, leaving the result on the stack.
+     */
+    public CodeBlock generateApplyBytecode(BytecodeGenerator state, List<IntermediateValue> arguments) {
+        return generateStrictBytecode(state).append(applyArguments(state, arguments));
+    }
+
+    /**
+     * Leaves a {@link Callable} for this value on the stack, suspending any work it would do in a thunk.
+     */
+    public abstract CodeBlock generateBytecode(BytecodeGenerator state);
+
+    /**
+     * Computes this value in place, as where it is about to be evaluated.
+     */
+    public CodeBlock generateStrictBytecode(BytecodeGenerator state) {
+        return generateBytecode(state);
+    }
+
+    /**
+     * Generates this value as the result of a method, branching in place but suspending applications.
+     */
+    public CodeBlock generateTailBytecode(BytecodeGenerator state) {
+        return generateBytecode(state);
+    }
+
+    /**
+     * Generates the body of a worker taking the given arguments followed by those of the functions nested within this
+     * value, up to its arity.
+     */
+    public CodeBlock generateWorkerBytecode(BytecodeGenerator state, List<String> arguments, int arity) {
+        return state.enclose(arguments, () -> generateTailBytecode(state));
+    }
+
+    /**
+     * The number of arguments this value accepts before its body is evaluated.
+     */
+    public int getArity() {
+        return 0;
+    }
+
+    public abstract Set<DefinitionReference> getDependencies();
+
+    public abstract Set<String> getFreeVariables();
+
+    /**
+     * Finds the constructor this value is known to have been built by.
+     */
+    public Optional<IntermediateConstructor> getKnownConstructor(Inliner state) {
+        return Optional.empty();
+    }
+
+    /**
+     * Counts the places the variable is used, where a use under a function counts as many because the function may be
+     * entered more than once.
+     */
+    public abstract int getOccurrences(String variable);
+
+    /**
+     * Counts the places the variable is used once this value is applied to the given number of arguments, where uses
+     * under the functions entered by those arguments count once.
+     */
+    public int getOccurrences(String variable, int arguments) {
+        return getOccurrences(variable);
+    }
+
+    public abstract int getSize();
+
+    public abstract IntermediateValue inline(Inliner state);
+
+    /**
+     * Whether this value costs nothing to duplicate.
+     */
+    public boolean isTrivial() {
+        return false;
+    }
+
+    /**
+     * Records that this value was built by the constructor while inlining the supplied value, where this value is a
+     * variable.
+     */
+    public <T> T knowing(Inliner state, IntermediateConstructor constructor, Supplier<T> supplier) {
+        return supplier.get();
+    }
+
+    /**
+     * Applies this value to an argument followed by the given number of further arguments, reducing the application
+     * where doing so does not duplicate work.
+     */
+    public IntermediateValue reduce(Inliner state, IntermediateValue argument, int remaining) {
+        return new IntermediateApply(state.getCaptures(), this, argument);
+    }
+
+    /**
+     * Replaces free occurrences of the variable with the value, renaming bound variables the value would be captured by.
+     */
+    public abstract IntermediateValue substitute(Inliner state, String variable, IntermediateValue value);
+
+    /**
+     * Unfolds this value at a call site with the given number of arguments.
+     */
+    public Optional<IntermediateValue> unfold(Inliner state, int arguments) {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,75 @@
+package scotch.compiler.intermediate;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import com.google.common.collect.ImmutableSet;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import me.qmx.jitescript.CodeBlock;
+import scotch.compiler.steps.BytecodeGenerator;
+import scotch.compiler.syntax.reference.DefinitionReference;
+
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@ToString
+public class IntermediateVariable extends IntermediateValue {
+
+    private final String name;
+
+    @Override
+    public boolean canGenerateBytecode(BytecodeGenerator state) {
+        return true;
+    }
+
+    @Override
+    public CodeBlock generateBytecode(BytecodeGenerator state) {
+        return new CodeBlock().aload(state.getVariable(name));
+    }
+
+    @Override
+    public Set<DefinitionReference> getDependencies() {
+        return ImmutableSet.of();
+    }
+
+    @Override
+    public Set<String> getFreeVariables() {
+        return ImmutableSet.of(name);
+    }
+
+    @Override
+    public Optional<IntermediateConstructor> getKnownConstructor(Inliner state) {
+        return state.getKnownConstructor(name);
+    }
+
+    @Override
+    public int getOccurrences(String variable) {
+        return name.equals(variable) ? 1 : 0;
+    }
+
+    @Override
+    public int getSize() {
+        return 1;
+    }
+
+    @Override
+    public IntermediateValue inline(Inliner state) {
+        return this;
+    }
+
+    @Override
+    public boolean isTrivial() {
+        return true;
+    }
+
+    @Override
+    public <T> T knowing(Inliner state, IntermediateConstructor constructor, Supplier<T> supplier) {
+        return state.knowing(name, constructor, supplier);
+    }
+
+    @Override
+    public IntermediateValue substitute(Inliner state, String variable, IntermediateValue value) {
+        return name.equals(variable) ? value : this;
+    }
+}
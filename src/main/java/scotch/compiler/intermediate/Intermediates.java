@@ -7,9 +7,11 @@ import static scotch.compiler.syntax.reference.DefinitionReference.moduleRef;
 import static scotch.symbol.Symbol.symbol;
 
 import java.util.List;
+import java.util.Optional;
 import scotch.compiler.syntax.reference.DefinitionReference;
 import scotch.compiler.syntax.reference.InstanceReference;
 import scotch.compiler.syntax.reference.ValueReference;
+import scotch.symbol.Symbol;
 import scotch.symbol.descriptor.TypeParameterDescriptor;
 import scotch.symbol.type.Types;
 
@@ -19,6 +21,26 @@ public final class Intermediates {
         return new IntermediateApply(captures, function, argument);
     }
 
+    public static IntermediateAlternative alternative(Symbol constructor, List<String> fields, IntermediateValue body) {
+        return new IntermediateAlternative(constructor, fields, body);
+    }
+
+    public static IntermediateCase caseOf(IntermediateValue scrutinee, List<IntermediateAlternative> alternatives, Optional<IntermediateValue> defaultCase) {
+        return new IntermediateCase(scrutinee, alternatives, defaultCase);
+    }
+
+    public static IntermediateConditional conditional(IntermediateValue condition, IntermediateValue whenTrue, IntermediateValue whenFalse) {
+        return new IntermediateConditional(condition, whenTrue, whenFalse);
+    }
+
+    public static IntermediateConstructor constructor(Symbol constructor, List<IntermediateValue> arguments) {
+        return new IntermediateConstructor(constructor, arguments);
+    }
+
+    public static IntermediateFailure failure(String message) {
+        return new IntermediateFailure(message);
+    }
+
     public static IntermediateFunction function(List<String> captures, String argument, IntermediateValue body) {
         return new IntermediateFunction(captures, argument, body);
     }
@@ -38,6 +60,10 @@ public final class Intermediates {
         return new IntermediateReference(instanceReference);
     }
 
+    public static IntermediateLet let(String variable, IntermediateValue value, IntermediateValue body) {
+        return new IntermediateLet(variable, value, body);
+    }
+
     public static IntermediateLiteral literal(Object value) {
         return new IntermediateLiteral(value);
     }
@@ -62,6 +88,10 @@ public final class Intermediates {
         return new IntermediateReference(valueReference);
     }
 
+    public static IntermediateVariable variable(String name) {
+        return new IntermediateVariable(name);
+    }
+
     private Intermediates() {
         // intentionally empty
     }
@@ -4,37 +4,90 @@ import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
 import static me.qmx.jitescript.JDKVersion.V1_8;
 import static me.qmx.jitescript.util.CodegenUtils.c;
+import static me.qmx.jitescript.util.CodegenUtils.ci;
 import static me.qmx.jitescript.util.CodegenUtils.p;
 import static me.qmx.jitescript.util.CodegenUtils.sig;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+import static org.objectweb.asm.Opcodes.ACC_SYNTHETIC;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.IRETURN;
+import static org.objectweb.asm.Opcodes.RETURN;
 import static scotch.compiler.output.GeneratedClass.ClassType.DATA_CONSTRUCTOR;
+import static scotch.compiler.steps.Instrumentation.COST_CENTRES;
+import static scotch.compiler.steps.Instrumentation.HEAP_ORIGINS;
 import static scotch.compiler.syntax.reference.DefinitionReference.rootRef;
+import static scotch.compiler.syntax.reference.DefinitionReference.valueRef;
 import static scotch.compiler.util.Pair.pair;
+import static scotch.symbol.MethodSignature.staticMethod;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.function.Supplier;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import lombok.AllArgsConstructor;
 import me.qmx.jitescript.CodeBlock;
 import me.qmx.jitescript.JiteClass;
+import me.qmx.jitescript.LambdaBlock;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.InsnList;
 import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.VarInsnNode;
 import scotch.compiler.error.CompileException;
+import scotch.compiler.intermediate.IntermediateDefinition;
+import scotch.compiler.intermediate.IntermediateGraph;
+import scotch.compiler.intermediate.IntermediateValue;
 import scotch.compiler.output.GeneratedClass;
 import scotch.compiler.output.GeneratedClass.ClassType;
 import scotch.compiler.syntax.Scoped;
 import scotch.compiler.syntax.definition.Definition;
 import scotch.compiler.syntax.definition.DefinitionGraph;
+import scotch.compiler.syntax.definition.ValueDefinition;
 import scotch.compiler.syntax.reference.ClassReference;
 import scotch.compiler.syntax.reference.DefinitionReference;
+import scotch.compiler.syntax.reference.InstanceReference;
 import scotch.compiler.syntax.reference.ModuleReference;
 import scotch.compiler.syntax.scope.Scope;
+import scotch.compiler.syntax.value.Instance;
+import scotch.compiler.syntax.value.Value;
 import scotch.compiler.text.SourceLocation;
 import scotch.compiler.util.Pair;
+import scotch.runtime.Applicable;
+import scotch.runtime.Applicable2;
+import scotch.runtime.Applicable3;
+import scotch.runtime.Applicable4;
+import scotch.runtime.BoolCallable;
 import scotch.runtime.Callable;
+import scotch.runtime.CharCallable;
 import scotch.runtime.Copyable;
+import scotch.runtime.DoubleCallable;
+import scotch.runtime.HeapProfiler;
+import scotch.runtime.HeapProfiler.Origin;
+import scotch.runtime.IntCallable;
+import scotch.runtime.Profiler;
+import scotch.runtime.Profiler.CostCentre;
+import scotch.runtime.RuntimeSupport;
+import scotch.runtime.RuntimeSupport.BoolThunk;
+import scotch.runtime.RuntimeSupport.CharThunk;
+import scotch.runtime.RuntimeSupport.DoubleThunk;
+import scotch.runtime.RuntimeSupport.IntThunk;
+import scotch.runtime.SuppliedThunk;
+import scotch.symbol.DemandSignature;
 import scotch.symbol.MethodSignature;
 import scotch.symbol.Symbol;
 import scotch.symbol.descriptor.TypeInstanceDescriptor;
@@ -42,36 +95,108 @@ import scotch.symbol.type.Type;
 
 public class BytecodeGenerator {
 
+    /**
+     * The most arguments a curried function is compiled to take at once, and which a call site applies in a single call.
+     */
+    public static final int MAX_ARITY = 4;
+
+    @SuppressWarnings("rawtypes")
+    private static final Map<Class<? extends Callable>, Class<? extends SuppliedThunk>> thunkTypes = ImmutableMap.of(
+        IntCallable.class, IntThunk.class,
+        DoubleCallable.class, DoubleThunk.class,
+        BoolCallable.class, BoolThunk.class,
+        CharCallable.class, CharThunk.class
+    );
+    private static final List<Class<? extends Applicable>> applicableTypes = ImmutableList.of(
+        Applicable.class,
+        Applicable2.class,
+        Applicable3.class,
+        Applicable4.class
+    );
+    @SuppressWarnings("rawtypes")
+    private static final Map<Class<? extends Callable>, String> coercions = ImmutableMap.of(
+        IntCallable.class, "asInt",
+        DoubleCallable.class, "asDouble",
+        BoolCallable.class, "asBool",
+        CharCallable.class, "asChar"
+    );
+    @SuppressWarnings("rawtypes")
+    private static final Map<Class<? extends Callable>, Class<?>> unboxedTypes = ImmutableMap.of(
+        IntCallable.class, int.class,
+        DoubleCallable.class, double.class,
+        BoolCallable.class, boolean.class
+    );
+    private static final Map<Class<?>, String> unboxings = ImmutableMap.of(
+        int.class, "unboxInt",
+        double.class, "unboxDouble",
+        boolean.class, "unboxBool"
+    );
+
     private final DefinitionGraph                   graph;
+    private final IntermediateGraph                 simplifiedGraph;
     private final Deque<Pair<JiteClass, ClassType>> classStack;
+    private final Deque<CodeBlock>                  initializers;
     private final List<GeneratedClass>              generatedClasses;
     private final Deque<Scope>                      scopes;
-    private final Deque<List<String>>               arguments;
-    private final Deque<List<String>>               matches;
-    private final Deque<CaseEntry>                  cases;
+    private final Deque<Frame>                      frames;
+    private final Deque<LabelNode>                  cases;
+    private final Deque<Map<String, UnboxedSlot>>   unboxedVariables;
+    private final Map<List<String>, String>         costCentres;
+    private final Map<List<String>, String>         origins;
+    private final Set<Instrumentation>              instrumentation;
+    private final Deque<Map<String, Instance>>      specializedArguments;
+    private final Deque<Specialization>             specializations;
+    private final Map<Pair<Symbol, Map<String, InstanceReference>>, MethodSignature> specializedWorkers;
+    private       Map<Symbol, MethodSignature>      unboxedWorkers;
+    private       Optional<TailCall>                tailCall;
     private       int                               lambdas;
     private       int                               applies;
 
     public BytecodeGenerator(DefinitionGraph graph) {
+        this(graph, EnumSet.noneOf(Instrumentation.class));
+    }
+
+    /**
+     * @param instrumentation The instrumentation to weave into the generated bytecode.
+     */
+    public BytecodeGenerator(DefinitionGraph graph, Set<Instrumentation> instrumentation) {
+        this(graph, instrumentation, new IntermediateGraph(ImmutableList.of()));
+    }
+
+    /**
+     * @param instrumentation The instrumentation to weave into the generated bytecode.
+     * @param simplifiedGraph The inlined intermediate code of the values the inliner simplified, which are generated
+     *                        from it in place of their syntax.
+     */
+    public BytecodeGenerator(DefinitionGraph graph, Set<Instrumentation> instrumentation, IntermediateGraph simplifiedGraph) {
         this.graph = graph;
+        this.simplifiedGraph = simplifiedGraph;
         this.classStack = new ArrayDeque<>();
+        this.initializers = new ArrayDeque<>();
         this.generatedClasses = new ArrayList<>();
         this.scopes = new ArrayDeque<>();
-        this.arguments = new ArrayDeque<>(asList(ImmutableList.of()));
-        this.matches = new ArrayDeque<>(asList(ImmutableList.of()));
+        this.frames = new ArrayDeque<>(asList(new Frame(false, ImmutableList.of())));
         this.cases = new ArrayDeque<>();
+        this.unboxedVariables = new ArrayDeque<>();
+        this.costCentres = new HashMap<>();
+        this.origins = new HashMap<>();
+        this.instrumentation = EnumSet.copyOf(instrumentation);
+        this.specializedArguments = new ArrayDeque<>();
+        this.specializations = new ArrayDeque<>();
+        this.specializedWorkers = new HashMap<>();
+        this.tailCall = Optional.empty();
     }
 
     public void addMatch(String name) {
-        matches.peek().add(name);
+        frames.peek().variables.add(name);
     }
 
-    public LabelNode beginCase() {
-        return cases.peek().beginCase();
+    public void aliasUnboxed(String alias, String name) {
+        unboxedVariables.peek().put(alias, unboxedVariables.peek().get(name));
     }
 
-    public void beginCases(int size) {
-        cases.push(new CaseEntry(size));
+    public void beginCases() {
+        cases.push(new LabelNode());
     }
 
     public void beginClass(ClassType classType, String className, SourceLocation sourceLocation) {
@@ -80,11 +205,17 @@ public class BytecodeGenerator {
         jiteClass.setSourceFile(sourceLocation.getPath());
     }
 
-    public void beginConstant(String className, SourceLocation sourceLocation) {
-        JiteClass jiteClass = new JiteClass(className, currentClass().getClassName(), new String[0]);
+    public void beginConstant(String className, int tag, SourceLocation sourceLocation) {
+        String parentClassName = currentClass().getClassName();
+        JiteClass jiteClass = new JiteClass(className, parentClassName, new String[0]);
         pushClass(jiteClass, DATA_CONSTRUCTOR);
         jiteClass.setSourceFile(sourceLocation.getPath());
-        jiteClass.defineDefaultConstructor();
+        jiteClass.defineMethod("<init>", ACC_PUBLIC, sig(void.class), new CodeBlock() {{
+            aload(0);
+            pushInt(tag);
+            invokespecial(parentClassName, "<init>", sig(void.class, int.class));
+            voidreturn();
+        }});
         jiteClass.defineMethod("call", ACC_PUBLIC, sig(Object.class), new CodeBlock() {{
             aload(0);
             areturn();
@@ -97,30 +228,28 @@ public class BytecodeGenerator {
         jiteClass.setSourceFile(sourceLocation.getPath());
     }
 
-    public void beginMatches() {
-        matches.push(new ArrayList<>());
+    public Class<? extends Applicable> applicableOf(int arity) {
+        return applicableTypes.get(arity - 1);
     }
 
-    public CodeBlock captureApply() {
-        List<String> variables = getAllVariables();
-        return variables.stream()
-            .map(variables::indexOf)
-            .map(new CodeBlock()::aload)
-            .reduce(new CodeBlock(), CodeBlock::append);
-    }
-
-    public CodeBlock captureLambda(String lambdaArgument) {
-        List<String> variables = ImmutableList.<String>builder()
-            .addAll(getCaptures())
-            .addAll(getArguments())
-            .addAll(getMatches())
-            .build();
-        CodeBlock block = variables.stream()
-            .map(this::getVariable)
-            .map(new CodeBlock()::aload)
-            .reduce(new CodeBlock(), CodeBlock::append);
-        getArguments().add(lambdaArgument);
-        return block;
+    /**
+     * Generates the body of a lambda or thunk taking the given arguments. The body is generated in a frame of its own,
+     * which captures each variable of the enclosing frames as the body first refers to it, so that the closure holds
+     * only its free variables rather than everything in scope. Captures are passed ahead of the arguments.
+     */
+    public Closure closure(List<String> arguments, Supplier<CodeBlock> supplier) {
+        Frame frame = new Frame(true, arguments);
+        CodeBlock body;
+        frames.push(frame);
+        try {
+            body = supplier.get();
+        } finally {
+            frames.pop();
+        }
+        frame.relocate(body);
+        CodeBlock captures = new CodeBlock();
+        frame.captures.forEach(name -> captures.aload(getVariable(name)));
+        return new Closure(captures, frame.captures.size(), arguments.size(), body);
     }
 
     public JiteClass currentClass() {
@@ -131,32 +260,95 @@ public class BytecodeGenerator {
         currentClass().defineDefaultConstructor(access);
     }
 
-    public CodeBlock enclose(Scoped scoped, Supplier<CodeBlock> supplier) {
+    /**
+     * Defines the tag of the data type being generated: a field which each constructor class sets to its ordinal, read
+     * by a final method so that values can be told apart by an int rather than by testing their classes in turn.
+     */
+    public void defineTag() {
+        String className = currentClass().getClassName();
+        currentClass().defineField("tag", ACC_PRIVATE | ACC_FINAL, ci(int.class), null);
+        method("<init>", ACC_PROTECTED, sig(void.class, int.class), new CodeBlock() {{
+            aload(0);
+            invokespecial(p(Object.class), "<init>", sig(void.class));
+            aload(0);
+            iload(1);
+            putfield(className, "tag", ci(int.class));
+            voidreturn();
+        }});
+        method("tag", ACC_PUBLIC | ACC_FINAL, sig(int.class), new CodeBlock() {{
+            aload(0);
+            getfield(className, "tag", ci(int.class));
+            ireturn();
+        }});
+    }
+
+    /**
+     * Generates the body of a worker, whose arguments are held in the local variables of its method.
+     */
+    public CodeBlock enclose(Scoped scoped, List<String> names, Supplier<CodeBlock> supplier) {
         return scoped(scoped, () -> {
-            arguments.push(new ArrayList<>());
+            Frame frame = new Frame(false, names);
+            frames.push(frame);
+            tailCall.ifPresent(call -> call.claim(frame, names));
             try {
                 return supplier.get();
             } finally {
-                arguments.pop();
+                frames.pop();
             }
         });
     }
 
+    /**
+     * Generates the body of a worker from intermediate code, whose arguments are held in the local variables of its
+     * method.
+     */
+    public CodeBlock enclose(List<String> names, Supplier<CodeBlock> supplier) {
+        frames.push(new Frame(false, names));
+        try {
+            return supplier.get();
+        } finally {
+            frames.pop();
+        }
+    }
+
+    /**
+     * Generates the body of an unboxed worker, whose arguments are held in primitive local variables rather than
+     * {@link Callable}s. Any code which can't be generated without boxing makes the whole body empty.
+     */
+    public Optional<CodeBlock> encloseUnboxed(Scoped scoped, List<String> names, List<Class<?>> types, Supplier<Optional<CodeBlock>> supplier) {
+        Map<String, UnboxedSlot> variables = new HashMap<>();
+        int offset = 0;
+        for (int i = 0; i < names.size(); i++) {
+            variables.put(names.get(i), new UnboxedSlot(offset, types.get(i)));
+            offset += types.get(i) == double.class ? 2 : 1;
+        }
+        enterScope(scoped);
+        unboxedVariables.push(variables);
+        tailCall.ifPresent(call -> call.claim(variables, names));
+        try {
+            return supplier.get();
+        } finally {
+            unboxedVariables.pop();
+            leaveScope();
+        }
+    }
+
     public LabelNode endCase() {
-        return cases.peek().endCase();
+        return cases.peek();
     }
 
     public LabelNode endCases() {
-        return cases.pop().endCase();
+        return cases.pop();
     }
 
     public void endClass() {
-        classStack.pop().into((jiteClass, type) ->
-            generatedClasses.add(new GeneratedClass(type, c(jiteClass.getClassName()), jiteClass.toBytes(V1_8))));
-    }
-
-    public void endMatches() {
-        matches.pop();
+        CodeBlock initializer = initializers.pop();
+        classStack.pop().into((jiteClass, type) -> {
+            if (initializer.getInstructionList().size() > 0) {
+                jiteClass.defineMethod("<clinit>", ACC_STATIC | ACC_SYNTHETIC | ACC_PRIVATE, sig(void.class), initializer.voidreturn());
+            }
+            return generatedClasses.add(new GeneratedClass(type, c(jiteClass.getClassName()), jiteClass.toBytes(V1_8)));
+        });
     }
 
     public void field(String fieldName, int access, String type) {
@@ -181,7 +373,7 @@ public class BytecodeGenerator {
         if (graph.hasErrors()) {
             throw new CompileException(graph.getErrors());
         } else {
-            BytecodeGenerator state = new BytecodeGenerator(graph);
+            BytecodeGenerator state = new BytecodeGenerator(graph, instrumentation, simplifiedGraph);
             state.fromRoot();
             return state.getClasses();
         }
@@ -195,14 +387,25 @@ public class BytecodeGenerator {
             .forEach(definition -> definition.generateBytecode(this));
     }
 
-    public Class<?>[] getCaptureAllTypes() {
-        List<Class<?>> types = ImmutableList.<Class<?>>builder()
-            .addAll(getCaptureTypes(getCaptures()))
-            .addAll(getCaptureTypes(getLocals()))
-            .addAll(getCaptureTypes(getArguments()))
-            .addAll(getCaptureTypes(getMatches()))
-            .build();
-        return types.toArray(new Class<?>[types.size()]);
+    /**
+     * Generates the specialized workers queued while generating the current class, including those queued by other
+     * specialized workers, with their dictionary arguments bound to the instances they were specialized to.
+     */
+    public void generateSpecializations() {
+        while (!specializations.isEmpty()) {
+            Specialization specialization = specializations.poll();
+            specializedArguments.push(specialization.instances);
+            try {
+                specialization.definition.generateSpecializedWorker(this, specialization.signature);
+            } finally {
+                specializedArguments.pop();
+            }
+        }
+    }
+
+    public CodeBlock box(Type type) {
+        Class<?> unboxedType = unboxedTypeOf(type).orElseThrow(() -> new IllegalArgumentException("Can't box " + type));
+        return new CodeBlock().invokestatic(p(RuntimeSupport.class), "box", sig(typeOf(type), unboxedType));
     }
 
     public List<GeneratedClass> getClasses() {
@@ -215,20 +418,79 @@ public class BytecodeGenerator {
         return scope().getDataConstructorClass(symbol);
     }
 
-    public Class<?>[] getLambdaCaptureTypes() {
-        List<Class<?>> types = ImmutableList.<Class<?>>builder()
-            .addAll(getCaptureTypes(getCaptures()))
-            .addAll(getCaptureTypes(getArguments().subList(0, getArguments().size() - 1)))
-            .build();
-        return types.toArray(new Class<?>[types.size()]);
+    public Optional<DemandSignature> getDemandSignature(Symbol symbol) {
+        return scope().getDemandSignature(symbol);
+    }
+
+    /**
+     * Finds the definition of a function generated in this compilation whose worker method may be invoked directly
+     * when it is applied to at least as many arguments as it declares.
+     */
+    public Optional<ValueDefinition> getKnownFunction(Symbol symbol) {
+        return graph.getDefinition(valueRef(symbol)).filter(ValueDefinition::hasWorker);
+    }
+
+    /**
+     * Finds the unboxed worker of a function generated in this compilation. A function has an unboxed worker when it
+     * is strict in all of its arguments, its arguments and result are all primitives, and its body can be computed
+     * entirely in primitives.
+     */
+    public Optional<MethodSignature> getUnboxedWorker(Symbol symbol) {
+        if (unboxedWorkers == null) {
+            unboxedWorkers = findUnboxedWorkers();
+        }
+        return Optional.ofNullable(unboxedWorkers.get(symbol));
+    }
+
+    public Optional<MethodSignature> getMemberMethod(Symbol symbol) {
+        return scope().getMemberMethod(symbol);
     }
 
-    public Class<?>[] getLambdaType() {
-        List<Class<?>> types = ImmutableList.<Class<?>>builder()
-            .addAll(getCaptureTypes(getCaptures()))
-            .addAll(getCaptureTypes(getArguments()))
-            .build();
-        return types.toArray(new Class<?>[types.size()]);
+    /**
+     * Finds the inlined intermediate code of a value the inliner simplified, if the value can be generated from it.
+     * Values are only generated from intermediate code without instrumentation, and values calling themselves are
+     * left to their syntax so that their workers loop their tail calls.
+     */
+    public Optional<IntermediateValue> getSimplifiedValue(ValueDefinition definition) {
+        if (!instrumentation.isEmpty()) {
+            return Optional.empty();
+        }
+        return simplifiedGraph.getValue(definition.getReference())
+            .map(IntermediateDefinition::getValue)
+            .filter(value -> value.getFreeVariables().isEmpty())
+            .filter(value -> !value.getDependencies().contains(definition.getReference()))
+            .filter(value -> value.getArity() >= definition.getBody().getArity())
+            .filter(value -> value.canGenerateBytecode(this));
+    }
+
+    /**
+     * Finds the instance bound to a dictionary argument of the specialized worker being generated.
+     */
+    public Optional<Instance> getSpecializedArgument(String name) {
+        return Optional.ofNullable(specializedArguments.peek()).map(arguments -> arguments.get(name));
+    }
+
+    /**
+     * Finds the clone of a function's worker whose dictionary arguments are bound to the given instances, queueing it
+     * to be generated if it hasn't been already. Only functions defined in the class being generated are cloned, as
+     * their clones are generated alongside them.
+     */
+    public Optional<MethodSignature> getSpecializedWorker(ValueDefinition definition, Map<String, Instance> instances) {
+        String className = definition.getSymbol().getModuleClass();
+        if (instances.isEmpty() || !className.equals(currentClass().getClassName())) {
+            return Optional.empty();
+        }
+        Map<String, InstanceReference> references = new HashMap<>();
+        instances.forEach((name, instance) -> references.put(name, instance.getReference()));
+        return Optional.of(specializedWorkers.computeIfAbsent(pair(definition.getSymbol(), references), key -> {
+            MethodSignature signature = staticMethod(
+                className,
+                definition.getMethodName() + "$specialized" + specializedWorkers.size(),
+                definition.getWorkerSignature().getSignature()
+            );
+            specializations.add(new Specialization(definition, instances, signature));
+            return signature;
+        }));
     }
 
     public TypeInstanceDescriptor getTypeInstance(ClassReference classRef, ModuleReference moduleRef, List<Type> parameters) {
@@ -241,33 +503,183 @@ public class BytecodeGenerator {
             .orElseThrow(() -> new IllegalStateException("Could not get value method for " + symbol));
     }
 
+    public Optional<CodeBlock> getUnboxedVariable(String name) {
+        return Optional.ofNullable(unboxedVariables.peek())
+            .map(variables -> variables.get(name))
+            .map(UnboxedSlot::load);
+    }
+
+    /**
+     * Gets the local variable holding the given name, capturing it if it is bound by a frame enclosing the closure
+     * being generated.
+     */
     public int getVariable(String name) {
-        int offset = getAllVariables().indexOf(name);
-        if (offset < 0 ) {
-            Scope scope = scopes.pop();
-            try {
-                offset = getAllVariables().indexOf(name);
-            } finally {
-                scopes.push(scope);
-            }
-        }
-        if (offset >= 0) {
-            return offset;
+        Frame frame = frames.peek();
+        Optional<Integer> slot = frame.getSlot(name);
+        if (slot.isPresent()) {
+            return slot.get();
+        } else if (frame.closure && isBound(name)) {
+            return frame.capture(name);
         } else {
             throw new IllegalArgumentException("Could not find offset of variable '" + name + "'");
         }
     }
 
+    /**
+     * Whether a call to the given function from here is a saturated call back to the worker being generated, which may
+     * reassign its arguments and loop instead of growing the stack. A specialized worker only loops when the call
+     * passes the same instances it was specialized to.
+     */
+    public boolean isSelfTailCall(Symbol symbol, List<Value> values) {
+        Object frame = isUnboxing() ? unboxedVariables.peek() : frames.peek();
+        return tailCall
+            .filter(call -> call.symbol.equals(symbol) && call.frame == frame && call.arguments.size() == values.size())
+            .filter(call -> isSpecializedTo(call.arguments, values))
+            .isPresent();
+    }
+
+    /**
+     * Generates a worker for the given function, within which self tail calls jump back to the entry label. Only the
+     * outermost function enclosed by the worker is looped, nested functions call it as usual.
+     */
+    public <T> T loopTailCalls(Symbol symbol, LabelNode entry, Supplier<T> supplier) {
+        Optional<TailCall> previous = tailCall;
+        tailCall = Optional.of(new TailCall(symbol, entry));
+        try {
+            return supplier.get();
+        } finally {
+            tailCall = previous;
+        }
+    }
+
+    /**
+     * Whether an unboxed worker is being generated, in which case values can't fall back to being computed boxed.
+     */
+    public boolean isUnboxing() {
+        return !unboxedVariables.isEmpty();
+    }
+
+    /**
+     * Generates code in which the given names are bound as matches, holding the variables which follow the arguments.
+     */
+    public <T> T matching(List<String> names, Supplier<T> supplier) {
+        List<String> variables = frames.peek().variables;
+        int size = variables.size();
+        variables.addAll(names);
+        try {
+            return supplier.get();
+        } finally {
+            variables.subList(size, variables.size()).clear();
+        }
+    }
+
     public void method(String methodName, int access, String signature, CodeBlock body) {
         currentClass().defineMethod(methodName, access, signature, body);
     }
 
-    public LabelNode nextCase() {
-        return cases.peek().nextCase();
+    /**
+     * Jumps from the int on top of the stack to the label of the equal key, or to the given label if there is none.
+     * Keys dense enough for a table to be no costlier than a search are chosen by a {@code tableswitch}, others by a
+     * {@code lookupswitch}.
+     */
+    public CodeBlock switchOnInt(Map<Integer, LabelNode> labels, LabelNode otherwise) {
+        SortedMap<Integer, LabelNode> sortedLabels = new TreeMap<>(labels);
+        int low = sortedLabels.firstKey();
+        int high = sortedLabels.lastKey();
+        long tableCost = 4 + ((long) high - low + 1) + 3 * 3;
+        long lookupCost = 3 + 2 * sortedLabels.size() + 3 * sortedLabels.size();
+        if (tableCost <= lookupCost) {
+            LabelNode[] table = new LabelNode[high - low + 1];
+            for (int i = 0; i < table.length; i++) {
+                table[i] = sortedLabels.getOrDefault(low + i, otherwise);
+            }
+            return new CodeBlock().tableswitch(low, high, otherwise, table);
+        } else {
+            return new CodeBlock().lookupswitch(
+                otherwise,
+                sortedLabels.keySet().stream().mapToInt(Integer::intValue).toArray(),
+                sortedLabels.values().toArray(new LabelNode[sortedLabels.size()])
+            );
+        }
     }
 
-    public void releaseLambda(String lambdaArgument) {
-        getArguments().remove(lambdaArgument);
+    /**
+     * Reassigns the arguments of the worker being generated from the given values and jumps back to its entry.
+     */
+    public CodeBlock tailCall(List<CodeBlock> values) {
+        TailCall call = tailCall.orElseThrow(() -> new IllegalStateException("No worker to call"));
+        CodeBlock block = new CodeBlock();
+        values.forEach(block::append);
+        for (int i = call.arguments.size() - 1; i >= 0; i--) {
+            String name = call.arguments.get(i);
+            if (isUnboxing()) {
+                block.append(unboxedVariables.peek().get(name).store());
+            } else {
+                block.astore(i);
+            }
+        }
+        return block.go_to(call.entry);
+    }
+
+    /**
+     * Wraps a method body in the cost centre of a definition when profiling, exiting the cost centre before each
+     * return and when an exception escapes. The body must end by returning or throwing.
+     */
+    public CodeBlock profile(Symbol symbol, SourceLocation sourceLocation, CodeBlock body) {
+        if (!instrumentation.contains(COST_CENTRES)) {
+            return body;
+        }
+        InsnList instructions = body.getInstructionList();
+        for (AbstractInsnNode instruction : instructions.toArray()) {
+            if (instruction.getOpcode() >= IRETURN && instruction.getOpcode() <= RETURN) {
+                instructions.insertBefore(instruction, new MethodInsnNode(INVOKESTATIC, p(Profiler.class), "exit", sig(void.class), false));
+            }
+        }
+        CodeBlock costCentre = getCostCentre(symbol, sourceLocation);
+        return new CodeBlock() {{
+            LabelNode start = new LabelNode();
+            LabelNode end = new LabelNode();
+            LabelNode handler = new LabelNode();
+            append(costCentre);
+            invokestatic(p(Profiler.class), "enter", sig(void.class, CostCentre.class));
+            label(start);
+            append(body);
+            label(end);
+            label(handler);
+            invokestatic(p(Profiler.class), "exit", sig(void.class));
+            athrow();
+            trycatch(start, end, handler, null);
+        }};
+    }
+
+    /**
+     * Switches to the cost centre of a pattern case when profiling.
+     */
+    public CodeBlock profileCase(Symbol symbol, SourceLocation sourceLocation) {
+        if (instrumentation.contains(COST_CENTRES)) {
+            return getCostCentre(symbol, sourceLocation).invokestatic(p(Profiler.class), "enterCase", sig(void.class, CostCentre.class));
+        } else {
+            return new CodeBlock();
+        }
+    }
+
+    /**
+     * Tags the newly allocated object on top of the stack with its {@link HeapProfiler} origin when tracking heap
+     * origins, leaving the object on the stack.
+     *
+     * @param kind The kind of object allocated.
+     * @param name The name of the data constructor or applied function.
+     * @param sourceLocation The source location of the allocation.
+     */
+    public CodeBlock trackOrigin(String kind, String name, SourceLocation sourceLocation) {
+        if (instrumentation.contains(HEAP_ORIGINS)) {
+            return new CodeBlock()
+                .dup()
+                .append(getOrigin(kind, name, sourceLocation))
+                .invokestatic(p(HeapProfiler.class), "track", sig(void.class, Object.class, Origin.class));
+        } else {
+            return new CodeBlock();
+        }
     }
 
     public String reserveApply() {
@@ -282,7 +694,11 @@ public class BytecodeGenerator {
         return scopes.peek();
     }
 
-    public <T extends Scoped> CodeBlock scoped(T scoped, Supplier<CodeBlock> supplier) {
+    public void staticInitializer(CodeBlock block) {
+        initializers.peek().append(block);
+    }
+
+    public <T extends Scoped, U> U scoped(T scoped, Supplier<U> supplier) {
         enterScope(scoped);
         try {
             return supplier.get();
@@ -291,51 +707,165 @@ public class BytecodeGenerator {
         }
     }
 
+    /**
+     * Suspends the code computing a value in place within a thunk, capturing the variables it refers to.
+     */
+    public CodeBlock suspend(Supplier<CodeBlock> supplier) {
+        String applyName = reserveApply();
+        Closure closure = closure(ImmutableList.of(), () -> supplier.get().areturn());
+        return new CodeBlock() {{
+            newobj(p(SuppliedThunk.class));
+            dup();
+            append(closure.getCaptures());
+            lambda(currentClass(), new LambdaBlock(applyName) {{
+                function(p(Supplier.class), "get", sig(Object.class));
+                specialize(sig(Callable.class));
+                capture(closure.getCaptureTypes());
+                delegateTo(ACC_STATIC, sig(Callable.class, closure.getParameterTypes()), closure.getBody());
+            }});
+            invokespecial(p(SuppliedThunk.class), "<init>", sig(void.class, Supplier.class));
+        }};
+    }
+
+    @SuppressWarnings("rawtypes")
+    public Class<? extends SuppliedThunk> thunkOf(Type type) {
+        return thunkTypes.getOrDefault(typeOf(type), SuppliedThunk.class);
+    }
+
+    @SuppressWarnings("rawtypes")
+    public CodeBlock toType(Type type) {
+        Class<? extends Callable> callableType = typeOf(type);
+        if (callableType == Callable.class) {
+            return new CodeBlock();
+        } else {
+            return new CodeBlock().invokestatic(p(RuntimeSupport.class), coercions.get(callableType), sig(callableType, Callable.class));
+        }
+    }
+
     public Class<? extends Callable> typeOf(Type type) {
-        return Callable.class;
+        return type.getCallableType();
     }
 
-    private <T extends Scoped> void enterScope(T scoped) {
-        scopes.push(graph.getScope(scoped.getReference()));
+    public CodeBlock unbox(Type type) {
+        Class<?> unboxedType = unboxedTypeOf(type).orElseThrow(() -> new IllegalArgumentException("Can't unbox " + type));
+        return new CodeBlock().invokestatic(p(RuntimeSupport.class), unboxings.get(unboxedType), sig(unboxedType, Callable.class));
     }
 
-    private ImmutableList<String> getAllVariables() {
-        return ImmutableList.<String>builder()
-            .addAll(getCaptures())
-            .addAll(getLocals())
-            .addAll(getArguments())
-            .addAll(getMatches())
-            .build();
+    public CodeBlock unboxedReturn(Type type) {
+        if (unboxedTypeOf(type).filter(double.class::equals).isPresent()) {
+            return new CodeBlock().dreturn();
+        } else {
+            return new CodeBlock().ireturn();
+        }
     }
 
-    private List<String> getArguments() {
-        return arguments.peek();
+    public Optional<Class<?>> unboxedTypeOf(Type type) {
+        return Optional.ofNullable(unboxedTypes.get(typeOf(type)));
     }
 
-    private List<Class<? extends Callable>> getCaptureTypes(List<String> captures) {
-        return captures.stream()
-            .map(Symbol::unqualified)
-            .map(scope()::getValue)
-            .map(value -> value.map(this::typeOf))
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .collect(toList());
+    private CodeBlock getCostCentre(Symbol symbol, SourceLocation sourceLocation) {
+        String className = currentClass().getClassName();
+        String name = symbol.getCanonicalName();
+        String location = sourceLocation.prettyPrint();
+        String fieldName = costCentres.computeIfAbsent(asList(className, name, location), key -> {
+            String costCentreField = "costCentre$" + costCentres.size();
+            field(costCentreField, ACC_PRIVATE | ACC_STATIC | ACC_FINAL | ACC_SYNTHETIC, ci(CostCentre.class));
+            staticInitializer(new CodeBlock()
+                .ldc(name)
+                .ldc(location)
+                .invokestatic(p(Profiler.class), "costCentre", sig(CostCentre.class, String.class, String.class))
+                .putstatic(className, costCentreField, ci(CostCentre.class)));
+            return costCentreField;
+        });
+        return new CodeBlock().getstatic(className, fieldName, ci(CostCentre.class));
+    }
+
+    private CodeBlock getOrigin(String kind, String name, SourceLocation sourceLocation) {
+        String className = currentClass().getClassName();
+        String location = sourceLocation.prettyPrint();
+        String fieldName = origins.computeIfAbsent(asList(className, kind, name, location), key -> {
+            String originField = "origin$" + origins.size();
+            field(originField, ACC_PRIVATE | ACC_STATIC | ACC_FINAL | ACC_SYNTHETIC, ci(Origin.class));
+            staticInitializer(new CodeBlock()
+                .ldc(kind)
+                .ldc(name)
+                .ldc(location)
+                .invokestatic(p(HeapProfiler.class), "origin", sig(Origin.class, String.class, String.class, String.class))
+                .putstatic(className, originField, ci(Origin.class)));
+            return originField;
+        });
+        return new CodeBlock().getstatic(className, fieldName, ci(Origin.class));
     }
 
-    private List<String> getCaptures() {
-        return scope().getCaptures();
+    private <T extends Scoped> void enterScope(T scoped) {
+        scopes.push(graph.getScope(scoped.getReference()));
+    }
+
+    private Map<Symbol, MethodSignature> findUnboxedWorkers() {
+        Optional<TailCall> previousTailCall = tailCall;
+        tailCall = Optional.empty();
+        specializedArguments.push(ImmutableMap.of());
+        try {
+            return findUnboxedWorkers_();
+        } finally {
+            specializedArguments.pop();
+            tailCall = previousTailCall;
+        }
+    }
+
+    private Map<Symbol, MethodSignature> findUnboxedWorkers_() {
+        Map<Symbol, ValueDefinition> candidates = new HashMap<>();
+        Map<Symbol, MethodSignature> workers = new HashMap<>();
+        graph.getValues().stream()
+            .map(graph::getDefinition)
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .forEach(definition -> scoped(definition, () -> definition.getUnboxedWorkerSignature(this)).ifPresent(signature -> {
+                candidates.put(definition.getSymbol(), definition);
+                workers.put(definition.getSymbol(), signature);
+            }));
+        unboxedWorkers = workers;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (ValueDefinition definition : candidates.values()) {
+                if (workers.containsKey(definition.getSymbol())
+                    && !scoped(definition, () -> definition.getBody().generateUnboxedWorkerBytecode(this)).isPresent()) {
+                    workers.remove(definition.getSymbol());
+                    changed = true;
+                }
+            }
+        }
+        return workers;
     }
 
     private Optional<Definition> getDefinition(DefinitionReference reference) {
         return graph.getDefinition(reference);
     }
 
-    private List<String> getLocals() {
-        return scope().getLocals();
+    /**
+     * Whether the given name is bound by a frame enclosing the closure being generated, up to the method the closure
+     * is generated within.
+     */
+    private boolean isBound(String name) {
+        for (Frame frame : frames) {
+            if (frame.variables.contains(name) || frame.captures.contains(name)) {
+                return true;
+            } else if (frame != frames.peek() && !frame.closure) {
+                break;
+            }
+        }
+        return false;
     }
 
-    private List<String> getMatches() {
-        return matches.peek();
+    private boolean isSpecializedTo(List<String> names, List<Value> values) {
+        for (int i = 0; i < names.size(); i++) {
+            Optional<InstanceReference> bound = getSpecializedArgument(names.get(i)).map(Instance::getReference);
+            if (bound.isPresent() && !bound.equals(values.get(i).asInstance(this).map(Instance::getReference))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private void leaveScope() {
@@ -344,30 +874,137 @@ public class BytecodeGenerator {
 
     private void pushClass(JiteClass jiteClass, ClassType classType) {
         classStack.push(pair(jiteClass, classType));
+        initializers.push(new CodeBlock());
+    }
+
+    /**
+     * The body of a lambda or thunk along with the code loading the variables it captures, which are all passed as
+     * they were received.
+     */
+    @AllArgsConstructor
+    public static final class Closure {
+
+        private final CodeBlock captures;
+        private final int       captureCount;
+        private final int       arity;
+        private final CodeBlock body;
+
+        public CodeBlock getBody() {
+            return body;
+        }
+
+        public Class<?>[] getCaptureTypes() {
+            return callables(captureCount);
+        }
+
+        public CodeBlock getCaptures() {
+            return captures;
+        }
+
+        public Class<?>[] getParameterTypes() {
+            return callables(captureCount + arity);
+        }
+
+        private Class<?>[] callables(int count) {
+            Class<?>[] types = new Class<?>[count];
+            Arrays.fill(types, Callable.class);
+            return types;
+        }
     }
 
-    private static class CaseEntry {
+    /**
+     * The local variables of a method being generated. The variables of a closure follow its captures, which aren't
+     * all known until its body has been generated, so they are numbered provisionally until the body is relocated.
+     */
+    private static final class Frame {
+
+        private static final int PROVISIONAL = 1 << 16;
 
-        private final List<LabelNode> labels;
-        private       int             position;
+        private final boolean      closure;
+        private final List<String> captures;
+        private final List<String> variables;
 
-        public CaseEntry(int size) {
-            labels = new ArrayList<>();
-            for (int i = 0; i <= size; i++) {
-                labels.add(new LabelNode());
+        public Frame(boolean closure, List<String> arguments) {
+            this.closure = closure;
+            this.captures = new ArrayList<>();
+            this.variables = new ArrayList<>(arguments);
+        }
+
+        public int capture(String name) {
+            captures.add(name);
+            return captures.size() - 1;
+        }
+
+        public Optional<Integer> getSlot(String name) {
+            int index = variables.lastIndexOf(name);
+            if (index >= 0) {
+                return Optional.of(closure ? PROVISIONAL + index : index);
+            }
+            index = captures.indexOf(name);
+            if (index >= 0) {
+                return Optional.of(index);
+            } else {
+                return Optional.empty();
             }
         }
 
-        public LabelNode beginCase() {
-            return labels.get(position++);
+        public void relocate(CodeBlock body) {
+            for (AbstractInsnNode instruction : body.getInstructionList().toArray()) {
+                if (instruction instanceof VarInsnNode && ((VarInsnNode) instruction).var >= PROVISIONAL) {
+                    ((VarInsnNode) instruction).var += captures.size() - PROVISIONAL;
+                }
+            }
         }
+    }
+
+    @AllArgsConstructor
+    private static class UnboxedSlot {
 
-        public LabelNode endCase() {
-            return labels.get(labels.size() - 1);
+        private final int      offset;
+        private final Class<?> type;
+
+        public CodeBlock load() {
+            if (type == double.class) {
+                return new CodeBlock().dload(offset);
+            } else {
+                return new CodeBlock().iload(offset);
+            }
         }
 
-        public LabelNode nextCase() {
-            return labels.get(position);
+        public CodeBlock store() {
+            if (type == double.class) {
+                return new CodeBlock().dstore(offset);
+            } else {
+                return new CodeBlock().istore(offset);
+            }
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Specialization {
+
+        private final ValueDefinition       definition;
+        private final Map<String, Instance> instances;
+        private final MethodSignature       signature;
+    }
+
+    private static class TailCall {
+
+        private final Symbol       symbol;
+        private final LabelNode    entry;
+        private       Object       frame;
+        private       List<String> arguments;
+
+        public TailCall(Symbol symbol, LabelNode entry) {
+            this.symbol = symbol;
+            this.entry = entry;
+        }
+
+        public void claim(Object frame, List<String> arguments) {
+            if (this.frame == null) {
+                this.frame = frame;
+                this.arguments = arguments;
+            }
         }
     }
 }
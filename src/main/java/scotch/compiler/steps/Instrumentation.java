@@ -0,0 +1,17 @@
+package scotch.compiler.steps;
+
+/**
+ * Instrumentation which may be woven into generated bytecode.
+ */
+public enum Instrumentation {
+
+    /**
+     * Enters and exits {@link scotch.runtime.Profiler} cost centres around definitions and pattern cases.
+     */
+    COST_CENTRES,
+
+    /**
+     * Tags data constructors and application thunks with their {@link scotch.runtime.HeapProfiler} origin.
+     */
+    HEAP_ORIGINS,
+}
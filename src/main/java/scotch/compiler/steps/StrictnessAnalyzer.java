@@ -0,0 +1,76 @@
+package scotch.compiler.steps;
+
+import static java.util.stream.Collectors.toList;
+import static scotch.symbol.DemandSignature.strict;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import scotch.compiler.syntax.definition.DefinitionGraph;
+import scotch.compiler.syntax.definition.ValueDefinition;
+import scotch.compiler.syntax.scope.Scope;
+import scotch.symbol.DemandSignature;
+import scotch.symbol.Symbol;
+
+/**
+ * Computes a demand signature for each function defined in the graph and records it alongside the function's value,
+ * so that callers may evaluate strict arguments in place rather than suspending them in thunks.
+ *
+ * <p>Every function starts out assumed strict in all of its arguments, and signatures are weakened until none
+ * change, so that recursive functions are found strict in the arguments evaluated by each of their branches.</p>
+ */
+public class StrictnessAnalyzer {
+
+    private final DefinitionGraph graph;
+    private final Deque<Scope>    scopes;
+
+    public StrictnessAnalyzer(DefinitionGraph graph) {
+        this.graph = graph;
+        this.scopes = new ArrayDeque<>();
+    }
+
+    public DefinitionGraph analyzeStrictness() {
+        if (!graph.hasErrors()) {
+            List<ValueDefinition> functions = graph.getValues().stream()
+                .map(graph::getDefinition)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .filter(ValueDefinition::hasWorker)
+                .collect(toList());
+            functions.forEach(function -> graph.getScope(function.getReference())
+                .defineDemandSignature(function.getSymbol(), strict(function.getBody().getArity())));
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+                for (ValueDefinition function : functions) {
+                    changed |= analyzeDemand(function);
+                }
+            }
+        }
+        return graph;
+    }
+
+    public Optional<DemandSignature> getDemandSignature(Symbol symbol) {
+        return scope().getDemandSignature(symbol);
+    }
+
+    private boolean analyzeDemand(ValueDefinition function) {
+        scopes.push(graph.getScope(function.getReference()));
+        try {
+            DemandSignature demand = function.getBody().analyzeDemand(this);
+            if (getDemandSignature(function.getSymbol()).equals(Optional.of(demand))) {
+                return false;
+            } else {
+                scope().redefineDemandSignature(function.getSymbol(), demand);
+                return true;
+            }
+        } finally {
+            scopes.pop();
+        }
+    }
+
+    public Scope scope() {
+        return scopes.peek();
+    }
+}
@@ -135,13 +135,12 @@ public class TypeChecker implements TypeScope {
         scope().extendContext(type, additionalContext);
     }
 
+    /**
+     * Finds the dictionary argument of the innermost enclosing definition constrained by the given instance type.
+     * Each entry on the stack of arguments already includes those of the definitions enclosing it.
+     */
     public Optional<Value> findArgument(InstanceType type) {
-        for (Map<Type, Argument> map : arguments) {
-            if (map.containsKey(type)) {
-                return Optional.of(map.get(type));
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable(arguments.peek().get(type));
     }
 
     public Value findInstance(Method method, InstanceType instanceType) {
@@ -282,7 +281,7 @@ public class TypeChecker implements TypeScope {
                 List<Argument> instanceArguments = getAdditionalArguments(definition, instances);
                 arguments.push(instanceArguments.stream()
                     .map(argument -> pair(argument.getType(), argument))
-                    .reduce(new HashMap<>(), (map, pair) -> pair.into((type, argument) -> {
+                    .reduce(new HashMap<>(arguments.peek()), (map, pair) -> pair.into((type, argument) -> {
                         map.put(type, argument);
                         return map;
                     }), (left, right) -> {
@@ -33,6 +33,7 @@ import scotch.compiler.steps.NameAccumulator;
 import scotch.compiler.steps.ScopedNameQualifier;
 import scotch.compiler.syntax.builder.SyntaxBuilder;
 import scotch.compiler.text.SourceLocation;
+import scotch.data.string.Rope;
 import scotch.runtime.Callable;
 import scotch.runtime.Copyable;
 import scotch.runtime.RuntimeSupport;
@@ -87,7 +88,7 @@ public class DataConstructorDefinition implements Comparable<DataConstructorDefi
     public void generateBytecode(BytecodeGenerator state) {
         JiteClass parentClass = state.currentClass();
         if (isNiladic()) {
-            state.beginConstant(state.getDataConstructorClass(symbol), sourceLocation);
+            state.beginConstant(state.getDataConstructorClass(symbol), ordinal, sourceLocation);
             parentClass.addChildClass(state.currentClass());
             generateInstanceField(state);
             generateToString(state);
@@ -152,7 +153,8 @@ public class DataConstructorDefinition implements Comparable<DataConstructorDefi
         Class<?>[] parameters = getParameters();
         state.method("<init>", ACC_PUBLIC, sig(void.class, parameters), new CodeBlock() {{
             aload(0);
-            invokespecial(parentClass.getClassName(), "<init>", sig(void.class));
+            pushInt(ordinal);
+            invokespecial(parentClass.getClassName(), "<init>", sig(void.class, int.class));
             AtomicInteger counter = new AtomicInteger(1);
             fields.values().forEach(field -> {
                 int offset = counter.get();
@@ -161,6 +163,12 @@ public class DataConstructorDefinition implements Comparable<DataConstructorDefi
                 putfield(state.currentClass().getClassName(), field.getJavaName(), ci(field.getJavaType()));
                 counter.getAndIncrement();
             });
+            CodeBlock trackOrigin = state.trackOrigin("constructor", symbol.getCanonicalName(), sourceLocation);
+            if (trackOrigin.getInstructionList().size() > 0) {
+                aload(0);
+                append(trackOrigin);
+                pop();
+            }
             voidreturn();
         }});
     }
@@ -221,7 +229,7 @@ public class DataConstructorDefinition implements Comparable<DataConstructorDefi
                     checkcast(className);
                     getfield(className, field.getJavaName(), ci(field.getJavaType()));
                     invokeinterface(p(Callable.class), "call", sig(Object.class));
-                    invokestatic(p(Objects.class), "equals", sig(boolean.class, Object.class, Object.class));
+                    invokestatic(p(Rope.class), "valueEquals", sig(boolean.class, Object.class, Object.class));
                     ifeq(notEqual);
                 });
             }
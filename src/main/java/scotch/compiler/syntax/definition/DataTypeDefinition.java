@@ -78,14 +78,14 @@ public class DataTypeDefinition extends Definition {
     @Override
     public void generateBytecode(BytecodeGenerator state) {
         state.beginClass(DATA_TYPE, symbol.getClassName(), sourceLocation);
-        state.currentClass().defineDefaultConstructor();
+        state.defineTag();
         constructors.values().forEach(constructor -> constructor.generateBytecode(state));
         state.endClass();
     }
 
     @Override
     public void generateIntermediateCode(IntermediateGenerator state) {
-        throw new UnsupportedOperationException(); // TODO
+        // intentionally empty
     }
 
     @Override
@@ -69,6 +69,7 @@ public class ModuleDefinition extends Definition {
             state.beginClass(MODULE, Symbol.moduleClass(symbol), sourceLocation);
             state.defineDefaultConstructor(ACC_PRIVATE);
             state.generateBytecode(definitions);
+            state.generateSpecializations();
             state.endClass();
             return null;
         });
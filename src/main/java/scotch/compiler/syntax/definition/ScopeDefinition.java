@@ -73,7 +73,7 @@ public class ScopeDefinition extends Definition {
 
     @Override
     public void generateIntermediateCode(IntermediateGenerator state) {
-        throw new UnsupportedOperationException(); // TODO
+        // intentionally empty
     }
 
     @Override
@@ -1,20 +1,34 @@
 package scotch.compiler.syntax.definition;
 
 import static lombok.AccessLevel.PACKAGE;
+import static me.qmx.jitescript.util.CodegenUtils.ci;
+import static me.qmx.jitescript.util.CodegenUtils.p;
 import static me.qmx.jitescript.util.CodegenUtils.sig;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static scotch.compiler.syntax.TypeError.typeError;
 import static scotch.compiler.syntax.builder.BuilderUtil.require;
 import static scotch.compiler.syntax.reference.DefinitionReference.valueRef;
 import static scotch.compiler.util.Either.right;
+import static scotch.symbol.DemandSignature.strict;
+import static scotch.symbol.MethodSignature.staticMethod;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+import com.google.common.collect.ImmutableList;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import me.qmx.jitescript.CodeBlock;
+import me.qmx.jitescript.LambdaBlock;
+import org.objectweb.asm.tree.LabelNode;
 import scotch.compiler.intermediate.IntermediateGenerator;
+import scotch.compiler.intermediate.IntermediateValue;
 import scotch.compiler.steps.BytecodeGenerator;
 import scotch.compiler.steps.DependencyAccumulator;
 import scotch.compiler.steps.NameAccumulator;
@@ -22,7 +36,12 @@ import scotch.compiler.steps.OperatorAccumulator;
 import scotch.compiler.steps.PrecedenceParser;
 import scotch.compiler.steps.ScopedNameQualifier;
 import scotch.compiler.steps.TypeChecker;
+import scotch.runtime.Caf;
+import scotch.runtime.Callable;
+import scotch.symbol.Demand;
+import scotch.symbol.MethodSignature;
 import scotch.symbol.Symbol;
+import scotch.symbol.type.FunctionType;
 import scotch.symbol.type.Type;
 import scotch.compiler.syntax.builder.SyntaxBuilder;
 import scotch.compiler.syntax.reference.ValueReference;
@@ -94,19 +113,52 @@ public class ValueDefinition extends Definition {
         return state.scoped(this, () -> withBody(body.defineOperators(state)));
     }
 
+    /**
+     * Generates the value method and worker of this value, from its inlined intermediate code if the inliner simplified
+     * it and from its syntax otherwise.
+     */
     @Override
     public void generateBytecode(BytecodeGenerator state) {
-        state.generate(this, () -> state.method(getMethodName(), ACC_STATIC | ACC_PUBLIC, sig(state.typeOf(getType())), new CodeBlock() {{
-            annotate(scotch.symbol.Value.class).value("memberName", symbol.getSimpleName());
-            markLine(this);
-            append(body.generateBytecode(state));
-            areturn();
-        }}));
+        state.generate(this, () -> {
+            Optional<IntermediateValue> simplifiedValue = state.getSimplifiedValue(this);
+            if (isCaf()) {
+                generateCaf(state, simplifiedValue);
+            } else {
+                state.method(getMethodName(), ACC_STATIC | ACC_PUBLIC, sig(state.typeOf(getType())), new CodeBlock() {{
+                    annotate(scotch.symbol.Value.class).value("memberName", symbol.getSimpleName());
+                    state.getDemandSignature(symbol).ifPresent(demand -> annotate(Demand.class).value("value", demand.toString()));
+                    markLine(this);
+                    append(simplifiedValue
+                        .map(value -> value.generateBytecode(state))
+                        .orElseGet(() -> body.generateBytecode(state)));
+                    append(state.toType(getType()));
+                    areturn();
+                }});
+            }
+            Optional<MethodSignature> unboxedWorker = state.getUnboxedWorker(symbol);
+            if (unboxedWorker.isPresent()) {
+                generateUnboxedWorker(state, unboxedWorker.get());
+            } else if (simplifiedValue.isPresent() && hasWorker()) {
+                generateSimplifiedWorker(state, simplifiedValue.get());
+            } else if (hasWorker()) {
+                generateWorker(state, getWorkerName());
+            }
+        });
+    }
+
+    /**
+     * Generates a clone of the worker whose dictionary arguments are bound to the instances the generator was given, so
+     * that the type class members it calls on them are dispatched directly.
+     */
+    public void generateSpecializedWorker(BytecodeGenerator state, MethodSignature signature) {
+        state.generate(this, () -> generateWorker(state, signature.getMethodName()));
     }
 
     @Override
     public void generateIntermediateCode(IntermediateGenerator state) {
-        state.scoped(this, () -> state.defineValue(getReference(), body.generateIntermediateCode(state)));
+        if (body.canGenerateIntermediateCode()) {
+            state.scoped(this, () -> state.defineValue(getReference(), body.generateIntermediateCode(state)));
+        }
     }
 
     public Value getBody() {
@@ -138,6 +190,45 @@ public class ValueDefinition extends Definition {
         return body.getType();
     }
 
+    /**
+     * The static method taking every argument of this function at once, which saturated calls invoke directly instead
+     * of applying the curried form returned by the value method.
+     */
+    public MethodSignature getWorkerSignature() {
+        Class<?>[] parameters = new Class<?>[body.getArity()];
+        Arrays.fill(parameters, Callable.class);
+        return staticMethod(symbol.getModuleClass(), getWorkerName(), sig(Callable.class, parameters));
+    }
+
+    /**
+     * The static method taking and returning unboxed primitives, if this function is strict in every argument and its
+     * arguments and result are all of primitive types.
+     */
+    public Optional<MethodSignature> getUnboxedWorkerSignature(BytecodeGenerator state) {
+        if (!hasWorker()
+            || getArgumentTypes().size() != body.getArity()
+            || !state.getDemandSignature(symbol).equals(Optional.of(strict(body.getArity())))) {
+            return Optional.empty();
+        }
+        List<Class<?>> parameters = new ArrayList<>();
+        for (Type argumentType : getArgumentTypes()) {
+            Optional<Class<?>> parameter = state.unboxedTypeOf(argumentType);
+            if (!parameter.isPresent()) {
+                return Optional.empty();
+            }
+            parameters.add(parameter.get());
+        }
+        return state.unboxedTypeOf(getResultType()).map(result -> staticMethod(
+            symbol.getModuleClass(),
+            getMethodName() + "$unboxed",
+            sig(result, parameters.toArray(new Class<?>[parameters.size()]))
+        ));
+    }
+
+    public boolean hasWorker() {
+        return body.isFunction();
+    }
+
     @Override
     public Optional<Definition> parsePrecedence(PrecedenceParser state) {
         return Optional.of(state.named(symbol, () -> state.scoped(this, () -> withBody(body.parsePrecedence(state).unwrap()))));
@@ -156,6 +247,14 @@ public class ValueDefinition extends Definition {
         }));
     }
 
+    /**
+     * Whether this value is a constant applicative form, which is evaluated once and shared by every reference
+     * rather than rebuilt on each call of its value method.
+     */
+    public boolean isCaf() {
+        return !body.isFunction();
+    }
+
     public ValueDefinition withBody(Value body) {
         return new ValueDefinition(sourceLocation, symbol, body);
     }
@@ -164,6 +263,111 @@ public class ValueDefinition extends Definition {
         return new ValueDefinition(sourceLocation, symbol, body);
     }
 
+    private void generateSimplifiedWorker(BytecodeGenerator state, IntermediateValue simplifiedValue) {
+        state.method(getWorkerName(), ACC_STATIC | ACC_PUBLIC, getWorkerSignature().getSignature(), new CodeBlock() {{
+            markLine(this);
+            append(simplifiedValue.generateWorkerBytecode(state, ImmutableList.of(), body.getArity()));
+            areturn();
+        }});
+    }
+
+    private void generateWorker(BytecodeGenerator state, String workerName) {
+        state.method(workerName, ACC_STATIC | ACC_PUBLIC, getWorkerSignature().getSignature(), state.profile(symbol, sourceLocation, new CodeBlock() {{
+            LabelNode entry = new LabelNode();
+            markLine(this);
+            label(entry);
+            append(state.loopTailCalls(symbol, entry, () -> body.generateWorkerBytecode(state)));
+            areturn();
+        }}));
+    }
+
+    /**
+     * Generates the unboxed worker alongside a boxed worker which unboxes its arguments, calls it, and boxes its result.
+     */
+    private void generateUnboxedWorker(BytecodeGenerator state, MethodSignature unboxedWorker) {
+        String unboxedName = getMethodName() + "$unboxed";
+        state.method(unboxedName, ACC_STATIC | ACC_PUBLIC, unboxedWorker.getSignature(), state.profile(symbol, sourceLocation, new CodeBlock() {{
+            LabelNode entry = new LabelNode();
+            markLine(this);
+            label(entry);
+            append(state.loopTailCalls(symbol, entry, () -> body.generateUnboxedWorkerBytecode(state))
+                .orElseThrow(() -> new IllegalStateException("Could not generate unboxed worker for " + symbol)));
+        }}));
+        state.method(getWorkerName(), ACC_STATIC | ACC_PUBLIC, getWorkerSignature().getSignature(), new CodeBlock() {{
+            markLine(this);
+            List<Type> argumentTypes = getArgumentTypes();
+            for (int i = 0; i < argumentTypes.size(); i++) {
+                aload(i);
+                append(state.unbox(argumentTypes.get(i)));
+            }
+            append(unboxedWorker.reference());
+            append(state.box(getResultType()));
+            areturn();
+        }});
+    }
+
+    private List<Type> getArgumentTypes() {
+        List<Type> argumentTypes = new ArrayList<>();
+        Type type = getType();
+        while (argumentTypes.size() < body.getArity() && type instanceof FunctionType) {
+            argumentTypes.add(((FunctionType) type).getArgument());
+            type = ((FunctionType) type).getResult();
+        }
+        return argumentTypes;
+    }
+
+    private Type getResultType() {
+        Type type = getType();
+        for (int i = 0; i < body.getArity() && type instanceof FunctionType; i++) {
+            type = ((FunctionType) type).getResult();
+        }
+        return type;
+    }
+
+    private String getWorkerName() {
+        return getMethodName() + "$worker";
+    }
+
+    private void generateCaf(BytecodeGenerator state, Optional<IntermediateValue> simplifiedValue) {
+        String className = state.currentClass().getClassName();
+        String cafName = getMethodName() + "$caf";
+        Class<?> returnType = state.typeOf(getType());
+        Class<?> thunkType = state.thunkOf(getType());
+        state.field(cafName, ACC_PRIVATE | ACC_STATIC | ACC_FINAL, ci(Caf.class));
+        state.staticInitializer(new CodeBlock() {{
+            lambda(state.currentClass(), new LambdaBlock(state.reserveLambda()) {{
+                function(p(Supplier.class), "get", sig(Object.class));
+                delegateTo(ACC_STATIC, sig(Callable.class), new CodeBlock() {{
+                    newobj(p(thunkType));
+                    dup();
+                    lambda(state.currentClass(), new LambdaBlock(state.reserveApply()) {{
+                        function(p(Supplier.class), "get", sig(Object.class));
+                        specialize(sig(Callable.class));
+                        delegateTo(ACC_STATIC, sig(Callable.class), state.profile(symbol, sourceLocation, new CodeBlock() {{
+                            markLine(this);
+                            append(simplifiedValue
+                                .map(value -> value.generateTailBytecode(state))
+                                .orElseGet(() -> body.generateBytecode(state)));
+                            areturn();
+                        }}));
+                    }});
+                    invokespecial(p(thunkType), "<init>", sig(void.class, Supplier.class));
+                    areturn();
+                }});
+            }});
+            invokestatic(p(Caf.class), "caf", sig(Caf.class, Supplier.class));
+            putstatic(className, cafName, ci(Caf.class));
+        }});
+        state.method(getMethodName(), ACC_STATIC | ACC_PUBLIC, sig(returnType), new CodeBlock() {{
+            annotate(scotch.symbol.Value.class).value("memberName", symbol.getSimpleName());
+            markLine(this);
+            getstatic(className, cafName, ci(Caf.class));
+            invokevirtual(p(Caf.class), "get", sig(Callable.class));
+            checkcast(p(returnType));
+            areturn();
+        }});
+    }
+
     public static class Builder implements SyntaxBuilder<ValueDefinition> {
 
         private Optional<Symbol>         symbol;
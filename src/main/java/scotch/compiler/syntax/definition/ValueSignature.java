@@ -90,7 +90,7 @@ public class ValueSignature extends Definition {
 
     @Override
     public void generateIntermediateCode(IntermediateGenerator state) {
-        throw new UnsupportedOperationException(); // TODO
+        // intentionally empty
     }
 
     @Override
@@ -2,6 +2,8 @@ package scotch.compiler.syntax.pattern;
 
 import static lombok.AccessLevel.PACKAGE;
 import static scotch.compiler.error.SymbolNotFoundError.symbolNotFound;
+import static scotch.compiler.intermediate.Intermediates.let;
+import static scotch.compiler.intermediate.Intermediates.variable;
 import static scotch.symbol.Symbol.unqualified;
 import static scotch.compiler.syntax.TypeError.typeError;
 import static scotch.compiler.syntax.builder.BuilderUtil.require;
@@ -9,10 +11,14 @@ import static scotch.compiler.util.Either.right;
 import static scotch.compiler.util.Pair.pair;
 
 import java.util.Optional;
+import java.util.function.Supplier;
+import com.google.common.collect.ImmutableList;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import me.qmx.jitescript.CodeBlock;
+import scotch.compiler.intermediate.IntermediateGenerator;
+import scotch.compiler.intermediate.IntermediateValue;
 import scotch.compiler.steps.BytecodeGenerator;
 import scotch.compiler.steps.DependencyAccumulator;
 import scotch.compiler.steps.NameAccumulator;
@@ -111,6 +117,22 @@ public class CaptureMatch extends PatternMatch {
         }};
     }
 
+    @Override
+    public boolean canGenerateIntermediateCode() {
+        return true;
+    }
+
+    @Override
+    public IntermediateValue generateIntermediateCode(IntermediateGenerator state, IntermediateValue fallthrough, Supplier<IntermediateValue> next) {
+        return let(getName(), variable(getArgument()), state.enclose(ImmutableList.of(getName()), next));
+    }
+
+    @Override
+    public Optional<CodeBlock> generateUnboxedBytecode(BytecodeGenerator state) {
+        state.aliasUnboxed(getName(), getArgument());
+        return Optional.of(new CodeBlock());
+    }
+
     public String getArgument() {
         return argument.orElseThrow(IllegalStateException::new);
     }
@@ -133,6 +155,11 @@ public class CaptureMatch extends PatternMatch {
         return type;
     }
 
+    @Override
+    public boolean isIrrefutable() {
+        return true;
+    }
+
     @Override
     public boolean isOperator(Scope scope) {
         return scope.isOperator(symbol);
@@ -3,6 +3,7 @@ package scotch.compiler.syntax.pattern;
 import static lombok.AccessLevel.PACKAGE;
 import static me.qmx.jitescript.util.CodegenUtils.p;
 import static me.qmx.jitescript.util.CodegenUtils.sig;
+import static scotch.compiler.intermediate.Intermediates.conditional;
 import static scotch.compiler.syntax.builder.BuilderUtil.require;
 import static scotch.compiler.syntax.value.Values.apply;
 import static scotch.compiler.syntax.value.Values.id;
@@ -10,16 +11,24 @@ import static scotch.symbol.Symbol.symbol;
 import static scotch.util.StringUtil.stringify;
 
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import me.qmx.jitescript.CodeBlock;
+import org.objectweb.asm.tree.LabelNode;
+import scotch.compiler.intermediate.IntermediateGenerator;
+import scotch.compiler.intermediate.IntermediateValue;
 import scotch.compiler.steps.BytecodeGenerator;
 import scotch.compiler.steps.DependencyAccumulator;
 import scotch.compiler.steps.NameAccumulator;
 import scotch.compiler.steps.ScopedNameQualifier;
+import scotch.compiler.steps.StrictnessAnalyzer;
 import scotch.compiler.steps.TypeChecker;
 import scotch.compiler.syntax.builder.SyntaxBuilder;
 import scotch.compiler.syntax.scope.Scope;
+import scotch.compiler.syntax.value.Apply;
+import scotch.compiler.syntax.value.LiteralValue;
 import scotch.compiler.syntax.value.Value;
 import scotch.compiler.text.SourceLocation;
 import scotch.runtime.Callable;
@@ -27,7 +36,7 @@ import scotch.runtime.RuntimeSupport;
 import scotch.symbol.type.Type;
 
 @AllArgsConstructor(access = PACKAGE)
-@EqualsAndHashCode(callSuper = false)
+@EqualsAndHashCode(callSuper = false, doNotUseGetters = true)
 public class EqualMatch extends PatternMatch {
 
     public static Builder builder() {
@@ -48,6 +57,11 @@ public class EqualMatch extends PatternMatch {
         return this;
     }
 
+    @Override
+    public Set<String> analyzeStrictness(StrictnessAnalyzer state) {
+        return value.analyzeStrictness(state);
+    }
+
     @Override
     public PatternMatch bind(String argument, Scope scope) {
         if (this.argument.isPresent()) {
@@ -82,11 +96,65 @@ public class EqualMatch extends PatternMatch {
 
     @Override
     public CodeBlock generateBytecode(BytecodeGenerator state) {
-        return new CodeBlock() {{
-            append(value.generateBytecode(state));
-            invokestatic(p(RuntimeSupport.class), "unboxBool", sig(boolean.class, Callable.class));
-            iffalse(state.nextCase());
-        }};
+        return new CodeBlock();
+    }
+
+    @Override
+    public boolean canGenerateIntermediateCode() {
+        return value.canGenerateIntermediateCode();
+    }
+
+    @Override
+    public IntermediateValue generateIntermediateCode(IntermediateGenerator state, IntermediateValue fallthrough, Supplier<IntermediateValue> next) {
+        return conditional(value.generateIntermediateCode(state), next.get(), fallthrough);
+    }
+
+    /**
+     * Loads the argument as the operand of a switch over the literals it is matched against: an int for Int and Char
+     * literals, or a String for String literals. Nothing is loaded for other literals, nor within an unboxed worker
+     * for anything but Int literals.
+     */
+    public Optional<CodeBlock> generateSwitchOperand(BytecodeGenerator state) {
+        Object literal = getLiteral();
+        if (state.isUnboxing()) {
+            return literal instanceof Integer ? state.getUnboxedVariable(getArgument()) : Optional.empty();
+        }
+        CodeBlock block = new CodeBlock().aload(state.getVariable(getArgument()));
+        if (literal instanceof Integer) {
+            return Optional.of(block.invokestatic(p(RuntimeSupport.class), "unboxInt", sig(int.class, Callable.class)));
+        } else if (literal instanceof Character) {
+            return Optional.of(block.invokestatic(p(RuntimeSupport.class), "unboxChar", sig(char.class, Callable.class)));
+        } else if (literal instanceof String) {
+            return Optional.of(block
+                .invokeinterface(p(Callable.class), "call", sig(Object.class))
+                .invokevirtual(p(Object.class), "toString", sig(String.class)));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Compares the argument to the literal of this match, jumping to the given label if they differ.
+     */
+    public Optional<CodeBlock> generateTestBytecode(BytecodeGenerator state, LabelNode otherwise) {
+        return value.generateUnboxedOperand(state).map(block -> block.iffalse(otherwise));
+    }
+
+    @Override
+    public Optional<CodeBlock> generateUnboxedBytecode(BytecodeGenerator state) {
+        return Optional.of(new CodeBlock());
+    }
+
+    public String getArgument() {
+        return argument.orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * Gets the literal the argument is compared to, which is the operand of the bound comparison.
+     */
+    public Object getLiteral() {
+        Value literal = value instanceof Apply ? ((Apply) value).getArgument() : value;
+        return ((LiteralValue<?>) literal).getValue();
     }
 
     @Override
@@ -4,10 +4,13 @@ import static lombok.AccessLevel.PACKAGE;
 import static scotch.compiler.syntax.builder.BuilderUtil.require;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import me.qmx.jitescript.CodeBlock;
+import scotch.compiler.intermediate.IntermediateGenerator;
+import scotch.compiler.intermediate.IntermediateValue;
 import scotch.compiler.steps.BytecodeGenerator;
 import scotch.compiler.steps.DependencyAccumulator;
 import scotch.compiler.steps.NameAccumulator;
@@ -65,6 +68,21 @@ public class IgnorePattern extends PatternMatch {
         return new CodeBlock();
     }
 
+    @Override
+    public boolean canGenerateIntermediateCode() {
+        return true;
+    }
+
+    @Override
+    public IntermediateValue generateIntermediateCode(IntermediateGenerator state, IntermediateValue fallthrough, Supplier<IntermediateValue> next) {
+        return next.get();
+    }
+
+    @Override
+    public Optional<CodeBlock> generateUnboxedBytecode(BytecodeGenerator state) {
+        return Optional.of(new CodeBlock());
+    }
+
     @Override
     public SourceLocation getSourceLocation() {
         return sourceLocation;
@@ -75,6 +93,11 @@ public class IgnorePattern extends PatternMatch {
         return type;
     }
 
+    @Override
+    public boolean isIrrefutable() {
+        return true;
+    }
+
     @Override
     public PatternMatch qualifyNames(ScopedNameQualifier state) {
         return this;
@@ -5,19 +5,24 @@ import static scotch.compiler.syntax.builder.BuilderUtil.require;
 import static scotch.compiler.syntax.definition.Definitions.scopeDef;
 import static scotch.compiler.syntax.reference.DefinitionReference.scopeRef;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import com.google.common.collect.ImmutableList;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import me.qmx.jitescript.CodeBlock;
+import scotch.compiler.intermediate.IntermediateGenerator;
+import scotch.compiler.intermediate.IntermediateValue;
 import scotch.compiler.steps.BytecodeGenerator;
 import scotch.compiler.steps.DependencyAccumulator;
 import scotch.compiler.steps.NameAccumulator;
 import scotch.compiler.steps.OperatorAccumulator;
 import scotch.compiler.steps.PrecedenceParser;
 import scotch.compiler.steps.ScopedNameQualifier;
+import scotch.compiler.steps.StrictnessAnalyzer;
 import scotch.compiler.steps.TypeChecker;
 import scotch.symbol.Symbol;
 import scotch.symbol.type.Type;
@@ -27,6 +32,7 @@ import scotch.compiler.syntax.definition.Definition;
 import scotch.compiler.syntax.reference.DefinitionReference;
 import scotch.compiler.syntax.value.Value;
 import scotch.compiler.text.SourceLocation;
+import scotch.compiler.util.Either;
 
 @EqualsAndHashCode(callSuper = false)
 @ToString(exclude = "sourceLocation")
@@ -61,6 +67,29 @@ public class PatternCase implements Scoped {
             .withBody(body.accumulateNames(state)));
     }
 
+    /**
+     * Finds the names of the arguments which are certainly evaluated when this case is chosen.
+     */
+    public Set<String> analyzeStrictness(StrictnessAnalyzer state) {
+        Set<String> strictness = new HashSet<>(body.analyzeStrictness(state));
+        patternMatches.forEach(match -> strictness.addAll(match.analyzeStrictness(state)));
+        patternMatches.stream()
+            .map(PatternMatch::asCapture)
+            .filter(Either::isRight)
+            .map(Either::getRight)
+            .filter(capture -> strictness.contains(capture.getName()))
+            .forEach(capture -> strictness.add(capture.getArgument()));
+        return strictness;
+    }
+
+    /**
+     * Finds the names of the arguments which are certainly evaluated when this case is tried, which is only those
+     * tested by its first match.
+     */
+    public Set<String> analyzeTestedStrictness(StrictnessAnalyzer state) {
+        return patternMatches.get(0).analyzeStrictness(state);
+    }
+
     public PatternCase bindMethods(TypeChecker state) {
         return state.scoped(this, () ->
             withMatches(patternMatches.stream()
@@ -99,19 +128,52 @@ public class PatternCase implements Scoped {
         return state.scoped(this, () -> withBody(body.defineOperators(state)));
     }
 
+    /**
+     * Generates the body of this case once the decision tree has chosen it, binding the names its matches capture.
+     */
     public CodeBlock generateBytecode(BytecodeGenerator state) {
         return new CodeBlock() {{
             state.generate(PatternCase.this, () -> {
-                label(state.beginCase());
-                state.beginMatches();
                 patternMatches.forEach(match -> append(match.generateBytecode(state)));
-                append(body.generateBytecode(state));
+                append(state.profileCase(symbol, sourceLocation));
+                append(body.generateTailBytecode(state));
                 go_to(state.endCase());
-                state.endMatches();
             });
         }};
     }
 
+    /**
+     * Generates the body of this case within an unboxed worker once the decision tree has chosen it, returning the
+     * unboxed result of its body.
+     */
+    public Optional<CodeBlock> generateUnboxedBytecode(BytecodeGenerator state) {
+        return state.scoped(this, () -> {
+            CodeBlock block = new CodeBlock();
+            for (PatternMatch match : patternMatches) {
+                Optional<CodeBlock> matchBlock = match.generateUnboxedBytecode(state);
+                if (matchBlock.isPresent()) {
+                    block.append(matchBlock.get());
+                } else {
+                    return Optional.empty();
+                }
+            }
+            return body.generateUnboxedTailBytecode(state).map(bodyBlock -> block
+                .append(state.profileCase(symbol, sourceLocation))
+                .append(bodyBlock));
+        });
+    }
+
+    public boolean canGenerateIntermediateCode() {
+        return patternMatches.stream().allMatch(PatternMatch::canGenerateIntermediateCode) && body.canGenerateIntermediateCode();
+    }
+
+    /**
+     * Generates the matches of this case in turn around its body, evaluating the fallthrough if any match fails.
+     */
+    public IntermediateValue generateIntermediateCode(IntermediateGenerator state, IntermediateValue fallthrough) {
+        return generateMatches(state, fallthrough, 0);
+    }
+
     public int getArity() {
         return patternMatches.size();
     }
@@ -125,6 +187,10 @@ public class PatternCase implements Scoped {
         return scopeDef(sourceLocation, symbol);
     }
 
+    public List<PatternMatch> getPatternMatches() {
+        return patternMatches;
+    }
+
     public DefinitionReference getReference() {
         return scopeRef(symbol);
     }
@@ -137,6 +203,10 @@ public class PatternCase implements Scoped {
         return symbol;
     }
 
+    public boolean isIrrefutable() {
+        return patternMatches.stream().allMatch(PatternMatch::isIrrefutable);
+    }
+
     public Type getType() {
         return body.getType();
     }
@@ -160,6 +230,14 @@ public class PatternCase implements Scoped {
             .withBody(body.qualifyNames(state)));
     }
 
+    private IntermediateValue generateMatches(IntermediateGenerator state, IntermediateValue fallthrough, int offset) {
+        if (offset == patternMatches.size()) {
+            return body.generateIntermediateCode(state);
+        } else {
+            return patternMatches.get(offset).generateIntermediateCode(state, fallthrough, () -> generateMatches(state, fallthrough, offset + 1));
+        }
+    }
+
     public PatternCase withBody(Value body) {
         return new PatternCase(sourceLocation, symbol, patternMatches, body);
     }
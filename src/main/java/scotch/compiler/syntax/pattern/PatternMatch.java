@@ -3,11 +3,17 @@ package scotch.compiler.syntax.pattern;
 import static scotch.compiler.util.Either.left;
 
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import com.google.common.collect.ImmutableSet;
 import me.qmx.jitescript.CodeBlock;
+import scotch.compiler.intermediate.IntermediateGenerator;
+import scotch.compiler.intermediate.IntermediateValue;
 import scotch.compiler.steps.BytecodeGenerator;
 import scotch.compiler.steps.DependencyAccumulator;
 import scotch.compiler.steps.NameAccumulator;
 import scotch.compiler.steps.ScopedNameQualifier;
+import scotch.compiler.steps.StrictnessAnalyzer;
 import scotch.compiler.steps.TypeChecker;
 import scotch.symbol.Operator;
 import scotch.symbol.type.Type;
@@ -26,6 +32,13 @@ public abstract class PatternMatch {
 
     public abstract PatternMatch accumulateNames(NameAccumulator state);
 
+    /**
+     * Finds the names of the arguments which are certainly evaluated by testing this match.
+     */
+    public Set<String> analyzeStrictness(StrictnessAnalyzer state) {
+        return ImmutableSet.of();
+    }
+
     public Either<PatternMatch, CaptureMatch> asCapture() {
         return left(this);
     }
@@ -45,8 +58,29 @@ public abstract class PatternMatch {
     @Override
     public abstract boolean equals(Object o);
 
+    /**
+     * Binds the names captured by this match once the decision tree testing it has chosen its case.
+     */
     public abstract CodeBlock generateBytecode(BytecodeGenerator state);
 
+    /**
+     * Whether this match can be lowered to intermediate code.
+     */
+    public abstract boolean canGenerateIntermediateCode();
+
+    /**
+     * Generates this match around the code following it, evaluating the fallthrough instead if the match fails.
+     */
+    public abstract IntermediateValue generateIntermediateCode(IntermediateGenerator state, IntermediateValue fallthrough, Supplier<IntermediateValue> next);
+
+    /**
+     * Binds the names captured by this match within an unboxed worker once its case is chosen. Matches which can't be
+     * tested on unboxed arguments generate nothing.
+     */
+    public Optional<CodeBlock> generateUnboxedBytecode(BytecodeGenerator state) {
+        return Optional.empty();
+    }
+
     public abstract SourceLocation getSourceLocation();
 
     public abstract Type getType();
@@ -54,6 +88,13 @@ public abstract class PatternMatch {
     @Override
     public abstract int hashCode();
 
+    /**
+     * Whether this match succeeds for every value.
+     */
+    public boolean isIrrefutable() {
+        return false;
+    }
+
     public boolean isOperator(Scope scope) {
         return false;
     }
@@ -5,10 +5,13 @@ import static me.qmx.jitescript.util.CodegenUtils.sig;
 import static scotch.symbol.Symbol.symbol;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import me.qmx.jitescript.CodeBlock;
+import scotch.compiler.intermediate.IntermediateGenerator;
+import scotch.compiler.intermediate.IntermediateValue;
 import scotch.compiler.steps.BytecodeGenerator;
 import scotch.compiler.steps.NameAccumulator;
 import scotch.compiler.steps.TypeChecker;
@@ -54,14 +57,36 @@ public class TupleField {
         return new TupleField(sourceLocation, argument, field, checkedMatch.getType(), checkedMatch);
     }
 
-    public CodeBlock generateBytecode(String className, BytecodeGenerator state) {
+    public CodeBlock generateBytecode(BytecodeGenerator state) {
+        return patternMatch.generateBytecode(state);
+    }
+
+    /**
+     * Stores this field of the tuple on top of the stack so that its pattern can be tested.
+     */
+    public CodeBlock generateDestructureBytecode(String className, BytecodeGenerator state) {
         return new CodeBlock() {{
             invokevirtual(className, "get" + field.get(), sig(Callable.class));
-            astore(state.getVariable(getSymbol().getCanonicalName()));
-            append(patternMatch.generateBytecode(state));
+            astore(state.getVariable(getName()));
         }};
     }
 
+    public boolean canGenerateIntermediateCode() {
+        return patternMatch.canGenerateIntermediateCode();
+    }
+
+    public IntermediateValue generateIntermediateCode(IntermediateGenerator state, IntermediateValue fallthrough, Supplier<IntermediateValue> next) {
+        return patternMatch.generateIntermediateCode(state, fallthrough, next);
+    }
+
+    public String getName() {
+        return getSymbol().getCanonicalName();
+    }
+
+    public PatternMatch getPatternMatch() {
+        return patternMatch;
+    }
+
     public Type getType() {
         return type;
     }
@@ -1,8 +1,12 @@
 package scotch.compiler.syntax.pattern;
 
+import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
 import static me.qmx.jitescript.util.CodegenUtils.p;
 import static me.qmx.jitescript.util.CodegenUtils.sig;
+import static scotch.compiler.intermediate.Intermediates.alternative;
+import static scotch.compiler.intermediate.Intermediates.caseOf;
+import static scotch.compiler.intermediate.Intermediates.variable;
 import static scotch.compiler.syntax.builder.BuilderUtil.require;
 import static scotch.compiler.text.TextUtil.repeat;
 import static scotch.symbol.Symbol.symbol;
@@ -11,17 +15,23 @@ import static scotch.symbol.type.Types.sum;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 import me.qmx.jitescript.CodeBlock;
+import scotch.compiler.intermediate.IntermediateGenerator;
+import scotch.compiler.intermediate.IntermediateValue;
 import scotch.compiler.steps.BytecodeGenerator;
 import scotch.compiler.steps.DependencyAccumulator;
 import scotch.compiler.steps.NameAccumulator;
 import scotch.compiler.steps.ScopedNameQualifier;
+import scotch.compiler.steps.StrictnessAnalyzer;
 import scotch.compiler.steps.TypeChecker;
 import scotch.compiler.syntax.builder.SyntaxBuilder;
 import scotch.compiler.syntax.scope.Scope;
@@ -30,8 +40,8 @@ import scotch.runtime.Callable;
 import scotch.symbol.Symbol;
 import scotch.symbol.type.Type;
 
-@EqualsAndHashCode(callSuper = false)
-@ToString(exclude = "sourceLocation")
+@EqualsAndHashCode(callSuper = false, doNotUseGetters = true)
+@ToString(exclude = "sourceLocation", doNotUseGetters = true)
 public class TupleMatch extends PatternMatch {
 
     public static Builder builder() {
@@ -64,6 +74,11 @@ public class TupleMatch extends PatternMatch {
         return map((field, ordinal) -> field.accumulateNames(state));
     }
 
+    @Override
+    public Set<String> analyzeStrictness(StrictnessAnalyzer state) {
+        return argument.map(ImmutableSet::of).orElseGet(ImmutableSet::of);
+    }
+
     @Override
     public PatternMatch bind(String argument, Scope scope) {
         return withArgument(argument).map((field, ordinal) -> field.bind(argument, ordinal, scope));
@@ -87,17 +102,53 @@ public class TupleMatch extends PatternMatch {
     @Override
     public CodeBlock generateBytecode(BytecodeGenerator state) {
         return new CodeBlock() {{
-            aload(state.getVariable(argument.get()));
-            invokeinterface(p(Callable.class), "call", sig(Object.class));
+            fields.forEach(field -> append(field.generateBytecode(state)));
+        }};
+    }
+
+    /**
+     * Evaluates the tuple this match tests and stores each of its fields, so that the patterns of the fields can be
+     * tested in turn.
+     */
+    public CodeBlock generateDestructureBytecode(BytecodeGenerator state) {
+        return new CodeBlock() {{
             String className = "scotch/data/tuple/Tuple" + fields.size();
+            aload(state.getVariable(getArgument()));
+            invokeinterface(p(Callable.class), "call", sig(Object.class));
             checkcast(className);
             for (TupleField field : fields) {
                 dup();
-                append(field.generateBytecode(className, state));
+                append(field.generateDestructureBytecode(className, state));
             }
+            pop();
         }};
     }
 
+    @Override
+    public boolean canGenerateIntermediateCode() {
+        return fields.stream().allMatch(TupleField::canGenerateIntermediateCode);
+    }
+
+    @Override
+    public IntermediateValue generateIntermediateCode(IntermediateGenerator state, IntermediateValue fallthrough, Supplier<IntermediateValue> next) {
+        List<String> fieldNames = fields.stream()
+            .map(TupleField::getName)
+            .collect(toList());
+        return caseOf(variable(argument.get()), asList(alternative(
+            constructor,
+            fieldNames,
+            state.enclose(fieldNames, () -> generateFields(state, fallthrough, next, 0))
+        )), Optional.of(fallthrough));
+    }
+
+    public String getArgument() {
+        return argument.orElseThrow(IllegalStateException::new);
+    }
+
+    public List<TupleField> getFields() {
+        return fields;
+    }
+
     @Override
     public PatternMatch qualifyNames(ScopedNameQualifier state) {
         return this;
@@ -118,6 +169,14 @@ public class TupleMatch extends PatternMatch {
         return withType(type);
     }
 
+    private IntermediateValue generateFields(IntermediateGenerator state, IntermediateValue fallthrough, Supplier<IntermediateValue> next, int offset) {
+        if (offset == fields.size()) {
+            return next.get();
+        } else {
+            return fields.get(offset).generateIntermediateCode(state, fallthrough, () -> generateFields(state, fallthrough, next, offset + 1));
+        }
+    }
+
     private TupleMatch map(BiFunction<TupleField, Integer, TupleField> mapper) {
         AtomicInteger counter = new AtomicInteger();
         return new TupleMatch(
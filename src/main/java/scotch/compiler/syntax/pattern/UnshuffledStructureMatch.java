@@ -5,11 +5,14 @@ import static scotch.compiler.syntax.builder.BuilderUtil.require;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import com.google.common.collect.ImmutableList;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 import me.qmx.jitescript.CodeBlock;
+import scotch.compiler.intermediate.IntermediateGenerator;
+import scotch.compiler.intermediate.IntermediateValue;
 import scotch.compiler.steps.BytecodeGenerator;
 import scotch.compiler.steps.DependencyAccumulator;
 import scotch.compiler.steps.NameAccumulator;
@@ -75,6 +78,16 @@ public class UnshuffledStructureMatch extends PatternMatch {
         throw new UnsupportedOperationException(); // TODO
     }
 
+    @Override
+    public boolean canGenerateIntermediateCode() {
+        return false;
+    }
+
+    @Override
+    public IntermediateValue generateIntermediateCode(IntermediateGenerator state, IntermediateValue fallthrough, Supplier<IntermediateValue> next) {
+        throw new IllegalStateException("Can't generate intermediate code for unshuffled structure match");
+    }
+
     @Override
     public PatternMatch qualifyNames(ScopedNameQualifier state) {
         throw new UnsupportedOperationException(); // TODO
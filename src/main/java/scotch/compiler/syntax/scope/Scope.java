@@ -12,7 +12,7 @@ import scotch.compiler.syntax.pattern.PatternCase;
 import scotch.compiler.syntax.reference.ClassReference;
 import scotch.compiler.syntax.reference.ModuleReference;
 import scotch.compiler.syntax.reference.ValueReference;
-import scotch.runtime.Callable;
+import scotch.symbol.DemandSignature;
 import scotch.symbol.MethodSignature;
 import scotch.symbol.Operator;
 import scotch.symbol.Symbol;
@@ -68,6 +68,15 @@ public abstract class Scope implements TypeScope {
 
     public abstract void defineDataType(Symbol symbol, DataTypeDescriptor descriptor);
 
+    public void defineDemandSignature(Symbol symbol, DemandSignature demandSignature) {
+        Optional<SymbolEntry> optionalEntry = getEntry(symbol);
+        if (optionalEntry.isPresent()) {
+            optionalEntry.get().defineDemandSignature(demandSignature);
+        } else {
+            throw new IllegalStateException("Can't define demand signature for non-existent value " + symbol.quote());
+        }
+    }
+
     public abstract void defineOperator(Symbol symbol, Operator operator);
 
     public abstract void defineSignature(Symbol symbol, Type type);
@@ -93,12 +102,20 @@ public abstract class Scope implements TypeScope {
             .orElseThrow(() -> new IllegalStateException("Can't get data constructor class for " + symbol.quote()));
     }
 
+    public Optional<DemandSignature> getDemandSignature(Symbol symbol) {
+        return getEntry(symbol).flatMap(SymbolEntry::getDemandSignature);
+    }
+
     public abstract Set<Symbol> getDependencies();
 
     public List<String> getLocals() {
         throw new IllegalStateException();
     }
 
+    public Optional<MethodSignature> getMemberMethod(Symbol symbol) {
+        return getEntry(symbol).flatMap(SymbolEntry::getMemberMethod);
+    }
+
     public abstract Optional<TypeClassDescriptor> getMemberOf(ValueReference valueRef);
 
     public abstract Optional<Operator> getOperator(Symbol symbol);
@@ -177,6 +194,15 @@ public abstract class Scope implements TypeScope {
         }
     }
 
+    public void redefineDemandSignature(Symbol symbol, DemandSignature demandSignature) {
+        Optional<SymbolEntry> optionalEntry = getEntry(symbol);
+        if (optionalEntry.isPresent()) {
+            optionalEntry.get().redefineDemandSignature(demandSignature);
+        } else {
+            throw new IllegalStateException("Can't redefine demand signature for non-existent value " + symbol.quote());
+        }
+    }
+
     public void redefineSignature(Symbol symbol, Type type) {
         Optional<SymbolEntry> optionalEntry = getEntry(symbol);
         if (optionalEntry.isPresent()) {
@@ -213,7 +239,7 @@ public abstract class Scope implements TypeScope {
         return MethodSignature.staticMethod(
             symbol.qualifyWith(getModuleName()).getModuleClass(),
             symbol.getMethodName(),
-            sig(Callable.class)
+            sig(type.getCallableType())
         );
     }
 
@@ -1,13 +1,27 @@
 package scotch.compiler.syntax.value;
 
+import static java.util.Collections.reverse;
 import static lombok.AccessLevel.PACKAGE;
+import static me.qmx.jitescript.util.CodegenUtils.ci;
 import static me.qmx.jitescript.util.CodegenUtils.p;
 import static me.qmx.jitescript.util.CodegenUtils.sig;
+import static scotch.compiler.steps.BytecodeGenerator.MAX_ARITY;
 import static scotch.compiler.intermediate.Intermediates.apply;
 import static scotch.compiler.syntax.TypeError.typeError;
+import static scotch.compiler.util.Pair.pair;
 import static scotch.symbol.type.Types.fn;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import com.google.common.collect.ImmutableList;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -16,17 +30,26 @@ import me.qmx.jitescript.LambdaBlock;
 import scotch.compiler.intermediate.IntermediateGenerator;
 import scotch.compiler.intermediate.IntermediateValue;
 import scotch.compiler.steps.BytecodeGenerator;
+import scotch.compiler.steps.BytecodeGenerator.Closure;
 import scotch.compiler.steps.DependencyAccumulator;
 import scotch.compiler.steps.NameAccumulator;
 import scotch.compiler.steps.OperatorAccumulator;
 import scotch.compiler.steps.PrecedenceParser;
 import scotch.compiler.steps.ScopedNameQualifier;
+import scotch.compiler.steps.StrictnessAnalyzer;
 import scotch.compiler.steps.TypeChecker;
+import scotch.compiler.syntax.definition.ValueDefinition;
+import scotch.compiler.syntax.scope.Scope;
 import scotch.compiler.text.SourceLocation;
-import scotch.runtime.Applicable;
+import scotch.compiler.util.Pair;
 import scotch.runtime.Callable;
-import scotch.runtime.SuppliedThunk;
+import scotch.runtime.RuntimeSupport;
+import scotch.symbol.DemandSignature;
+import scotch.symbol.MethodSignature;
+import scotch.symbol.Symbol;
+import scotch.symbol.descriptor.TypeClassDescriptor;
 import scotch.symbol.type.FunctionType;
+import scotch.symbol.type.InstanceType;
 import scotch.symbol.type.Type;
 import scotch.symbol.type.Unification;
 
@@ -35,6 +58,17 @@ import scotch.symbol.type.Unification;
 @ToString(of = { "type", "function", "argument" })
 public class Apply extends Value {
 
+    /**
+     * Resolves an argument to an instance while analyzing strictness, where only instances bound in place are known.
+     */
+    private static Optional<Instance> asKnownInstance(Value argument) {
+        if (argument instanceof Instance) {
+            return Optional.of((Instance) argument);
+        } else {
+            return Optional.empty();
+        }
+    }
+
     private final SourceLocation sourceLocation;
     private final Value          function;
     private final Value          argument;
@@ -51,6 +85,25 @@ public class Apply extends Value {
             .withArgument(argument.accumulateNames(state));
     }
 
+    @Override
+    public Set<String> analyzeStrictness(StrictnessAnalyzer state) {
+        Pair<Value, List<Value>> spine = getSpine();
+        Set<String> strictness = new HashSet<>(spine.getLeft().analyzeStrictness(state));
+        getDemandSignature(state.scope(), spine, Apply::asKnownInstance).ifPresent(demand -> {
+            for (int i = 0; i < demand.getArity(); i++) {
+                if (demand.isStrict(i)) {
+                    strictness.addAll(spine.getRight().get(i).analyzeStrictness(state));
+                }
+            }
+        });
+        return strictness;
+    }
+
+    @Override
+    public boolean canGenerateIntermediateCode() {
+        return function.canGenerateIntermediateCode() && argument.canGenerateIntermediateCode();
+    }
+
     @Override
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
         return apply(state.getCaptures(), function.generateIntermediateCode(state), argument.generateIntermediateCode(state));
@@ -88,31 +141,139 @@ public class Apply extends Value {
 
     @Override
     public CodeBlock generateBytecode(BytecodeGenerator state) {
+        Class<?> thunkType = state.thunkOf(type);
+        String applyName = state.reserveApply();
+        Closure closure = state.closure(ImmutableList.of(), () -> new CodeBlock() {{
+            append(generateStrictBytecode(state));
+            areturn();
+        }});
         return new CodeBlock() {{
-            newobj(p(SuppliedThunk.class));
+            newobj(p(thunkType));
             dup();
-            append(state.captureApply());
-            lambda(state.currentClass(), new LambdaBlock(state.reserveApply()) {{
+            append(closure.getCaptures());
+            lambda(state.currentClass(), new LambdaBlock(applyName) {{
                 function(p(Supplier.class), "get", sig(Object.class));
                 specialize(sig(Callable.class));
-                capture(state.getCaptureAllTypes());
-                Class<?> returnType = state.typeOf(type);
-                delegateTo(ACC_STATIC, sig(returnType, state.getCaptureAllTypes()), new CodeBlock() {{
-                    append(function.generateBytecode(state));
-                    invokeinterface(p(Callable.class), "call", sig(Object.class));
-                    checkcast(p(Applicable.class));
-                    append(argument.generateBytecode(state));
-                    invokeinterface(p(Applicable.class), "apply", sig(Callable.class, Callable.class));
-                    if (returnType != Callable.class) {
-                        checkcast(p(returnType));
-                    }
-                    areturn();
-                }});
+                capture(closure.getCaptureTypes());
+                delegateTo(ACC_STATIC, sig(Callable.class, closure.getParameterTypes()), closure.getBody());
             }});
-            invokespecial(p(SuppliedThunk.class), "<init>", sig(void.class, Supplier.class));
+            invokespecial(p(thunkType), "<init>", sig(void.class, Supplier.class));
+            append(state.trackOrigin("thunk", getOriginName(), sourceLocation));
+        }};
+    }
+
+    /**
+     * Loops back to the start of the worker being generated if this is a saturated call to it, and otherwise suspends
+     * the application as usual.
+     */
+    @Override
+    public CodeBlock generateTailBytecode(BytecodeGenerator state) {
+        Pair<Value, List<Value>> spine = getSpine();
+        List<Value> arguments = spine.getRight();
+        if (isSelfTailCall(state, spine)) {
+            Optional<DemandSignature> demand = getDemandSignature(state.scope(), spine, argument -> argument.asInstance(state));
+            List<CodeBlock> values = new ArrayList<>();
+            for (int i = 0; i < arguments.size(); i++) {
+                values.add(generateArgument(state, demand, arguments, i));
+            }
+            return state.tailCall(values);
+        } else {
+            return generateBytecode(state);
+        }
+    }
+
+    @Override
+    public Optional<CodeBlock> generateUnboxedTailBytecode(BytecodeGenerator state) {
+        Pair<Value, List<Value>> spine = getSpine();
+        if (isSelfTailCall(state, spine)) {
+            return generateUnboxedOperands(state, spine.getRight(), Optional.empty()).map(state::tailCall);
+        } else {
+            return super.generateUnboxedTailBytecode(state);
+        }
+    }
+
+    /**
+     * Applies the function at the head of this application to its arguments in place. Arguments which the function
+     * is known to evaluate are computed in place and evaluated before the call rather than suspended in thunks.
+     * Members of type classes applied to known instances invoke the instance directly, and known functions given
+     * known instances call a worker specialized to them.
+     */
+    @Override
+    public CodeBlock generateStrictBytecode(BytecodeGenerator state) {
+        Pair<Value, List<Value>> spine = getSpine();
+        List<Value> arguments = spine.getRight();
+        Type resultType = getSpecializedType(state, spine).orElse(type);
+        if (state.unboxedTypeOf(resultType).isPresent()) {
+            Optional<CodeBlock> unboxed = generateUnboxedBytecode(state);
+            if (unboxed.isPresent()) {
+                return unboxed.get().append(state.box(resultType));
+            }
+        }
+        Optional<DemandSignature> demand = getDemandSignature(state.scope(), spine, argument -> argument.asInstance(state));
+        Optional<ValueDefinition> knownFunction = getKnownFunction(state, spine.getLeft())
+            .filter(definition -> definition.getBody().getArity() <= arguments.size());
+        Optional<Pair<Integer, MethodSignature>> memberMethod = getMemberMethod(state, spine.getLeft(), arguments);
+        return new CodeBlock() {{
+            int saturated = 0;
+            if (knownFunction.isPresent()) {
+                saturated = knownFunction.get().getBody().getArity();
+                for (int i = 0; i < saturated; i++) {
+                    append(generateArgument(state, demand, arguments, i));
+                }
+                append(getSpecializedWorker(state, knownFunction.get(), arguments)
+                    .orElseGet(knownFunction.get()::getWorkerSignature)
+                    .reference());
+            } else if (memberMethod.isPresent()) {
+                int receiver = memberMethod.get().getLeft();
+                saturated = memberMethod.get().getRight().getParameterCount() + 1;
+                append(arguments.get(receiver).generateBytecode(state));
+                invokeinterface(p(Callable.class), "call", sig(Object.class));
+                checkcast(memberMethod.get().getRight().getClassName());
+                for (int i = 0; i < saturated; i++) {
+                    if (i != receiver) {
+                        append(generateArgument(state, demand, arguments, i));
+                    }
+                }
+                append(memberMethod.get().getRight().reference());
+            } else {
+                append(spine.getLeft().generateBytecode(state));
+            }
+            for (int offset = saturated; offset < arguments.size(); offset += MAX_ARITY) {
+                int end = Math.min(offset + MAX_ARITY, arguments.size());
+                Class<?>[] parameters = new Class<?>[end - offset + 1];
+                Arrays.fill(parameters, Callable.class);
+                for (int i = offset; i < end; i++) {
+                    append(generateArgument(state, demand, arguments, i));
+                }
+                invokestatic(p(RuntimeSupport.class), "apply", sig(Callable.class, parameters));
+            }
         }};
     }
 
+    /**
+     * Computes this application in primitives if it applies a primitive operation, or calls the unboxed worker of a
+     * function applied to exactly as many arguments as it takes.
+     */
+    @Override
+    public Optional<CodeBlock> generateUnboxedBytecode(BytecodeGenerator state) {
+        Pair<Value, List<Value>> spine = getSpine();
+        List<Value> arguments = spine.getRight();
+        Optional<PrimitiveOperation> operation = PrimitiveOperation.find(state, spine.getLeft(), arguments);
+        if (operation.isPresent()) {
+            return generateUnboxedOperands(state, operation.get().getOperands(arguments), getInstanceBinding(state, arguments))
+                .map(operation.get()::generate);
+        }
+        Optional<MethodSignature> unboxedWorker = getKnownFunction(state, spine.getLeft())
+            .filter(definition -> definition.getBody().getArity() == arguments.size())
+            .flatMap(definition -> state.getUnboxedWorker(definition.getSymbol()));
+        if (unboxedWorker.isPresent()) {
+            return generateUnboxedOperands(state, arguments, Optional.empty()).map(operands -> operands.stream()
+                .reduce(new CodeBlock(), CodeBlock::append)
+                .append(unboxedWorker.get().reference()));
+        }
+        return Optional.empty();
+    }
+
     public Value getArgument() {
         return argument;
     }
@@ -158,4 +319,170 @@ public class Apply extends Value {
     public Apply withType(Type type) {
         return new Apply(sourceLocation, function, argument, type);
     }
+
+    /**
+     * Finds the demand signature of the function at the head of a spine, if it is applied to all of its arguments.
+     * Members of type classes demand only their instance until the instance is known, since each instance decides
+     * which operands it evaluates.
+     */
+    private Optional<DemandSignature> getDemandSignature(Scope scope, Pair<Value, List<Value>> spine, Function<Value, Optional<Instance>> resolver) {
+        if (spine.getLeft() instanceof Method) {
+            Symbol symbol = ((Method) spine.getLeft()).getSymbol();
+            Optional<DemandSignature> instanceDemand = getReceiver(scope, (Method) spine.getLeft(), spine.getRight(), resolver)
+                .flatMap(receiver -> receiver.getRight().getMemberDemand(scope, symbol)
+                    .map(demand -> demand.withStrictArgument(receiver.getLeft())));
+            return (instanceDemand.isPresent() ? instanceDemand : scope.getDemandSignature(symbol))
+                .filter(demand -> demand.getArity() <= spine.getRight().size());
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Generates an argument in place if the function it is given to is known to evaluate it, and otherwise suspends it.
+     */
+    private CodeBlock generateArgument(BytecodeGenerator state, Optional<DemandSignature> demand, List<Value> arguments, int i) {
+        if (demand.filter(d -> d.isStrict(i)).isPresent()) {
+            return arguments.get(i).generateStrictBytecode(state)
+                .invokestatic(p(RuntimeSupport.class), "evaluate", sig(Callable.class, Callable.class));
+        } else {
+            return arguments.get(i).generateBytecode(state);
+        }
+    }
+
+    /**
+     * Generates operands as unboxed primitives, of the given type if they are operands of a type class member whose
+     * instance is known, since polymorphic operands in a specialized worker don't know their own type.
+     */
+    private Optional<List<CodeBlock>> generateUnboxedOperands(BytecodeGenerator state, List<Value> operands, Optional<Type> operandType) {
+        List<CodeBlock> blocks = new ArrayList<>();
+        for (Value operand : operands) {
+            Optional<CodeBlock> block = operand.generateUnboxedOperand(state, operandType.orElseGet(operand::getType));
+            if (block.isPresent()) {
+                blocks.add(block.get());
+            } else {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(blocks);
+    }
+
+    /**
+     * Finds the definition of a top-level function at the head of this application, if its worker may be called
+     * directly.
+     */
+    private Optional<ValueDefinition> getKnownFunction(BytecodeGenerator state, Value head) {
+        if (head instanceof Method) {
+            return state.getKnownFunction(((Method) head).getSymbol());
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Finds the type bound by the instance given as the first argument of a type class member, if it is known.
+     */
+    private Optional<Type> getInstanceBinding(BytecodeGenerator state, List<Value> arguments) {
+        return arguments.stream()
+            .findFirst()
+            .flatMap(argument -> argument.asInstance(state))
+            .map(instance -> ((InstanceType) instance.getType()).getBinding());
+    }
+
+    /**
+     * Finds the interface method implementing a type class member at the head of this application, if it is applied
+     * to at least as many arguments as the method takes plus a known instance of its type class. The position of the
+     * instance among the arguments is given alongside the method, which takes every other argument in order.
+     */
+    private Optional<Pair<Integer, MethodSignature>> getMemberMethod(BytecodeGenerator state, Value head, List<Value> arguments) {
+        if (!(head instanceof Method)) {
+            return Optional.empty();
+        }
+        Optional<MethodSignature> memberMethod = state.getMemberMethod(((Method) head).getSymbol())
+            .filter(method -> method.getSignature().matches("\\((" + ci(Callable.class) + ")*\\)" + ci(Callable.class)))
+            .filter(method -> method.getParameterCount() < arguments.size());
+        if (memberMethod.isPresent()) {
+            return getReceiver(state.scope(), (Method) head, arguments, argument -> argument.asInstance(state))
+                .filter(receiver -> receiver.getLeft() <= memberMethod.get().getParameterCount())
+                .map(receiver -> pair(receiver.getLeft(), memberMethod.get()));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Finds the first argument of a type class member which is a known instance of its type class, with its position.
+     */
+    private Optional<Pair<Integer, Instance>> getReceiver(Scope scope, Method head, List<Value> arguments, Function<Value, Optional<Instance>> resolver) {
+        Optional<Symbol> typeClass = scope.getMemberOf(head.getReference()).map(TypeClassDescriptor::getSymbol);
+        if (typeClass.isPresent()) {
+            for (int i = 0; i < arguments.size(); i++) {
+                Optional<Instance> instance = resolver.apply(arguments.get(i));
+                if (instance.isPresent() && instance.get().getReference().getClassReference().getSymbol().equals(typeClass.get())) {
+                    return Optional.of(pair(i, instance.get()));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Names the thunk suspending this application after the function at its head, if known.
+     */
+    private String getOriginName() {
+        Value head = getSpine().getLeft();
+        if (head instanceof Method) {
+            return ((Method) head).getSymbol().getCanonicalName();
+        } else {
+            return "apply";
+        }
+    }
+
+    /**
+     * Finds the type of a primitive operation whose polymorphic result is known to be the type bound by the instance
+     * given to it, as in a specialized worker.
+     */
+    private Optional<Type> getSpecializedType(BytecodeGenerator state, Pair<Value, List<Value>> spine) {
+        if (state.unboxedTypeOf(type).isPresent() || !PrimitiveOperation.find(state, spine.getLeft(), spine.getRight()).isPresent()) {
+            return Optional.empty();
+        } else {
+            return getInstanceBinding(state, spine.getRight());
+        }
+    }
+
+    /**
+     * Finds the worker of a known function specialized to the instances given for its dictionary arguments, if any
+     * are known.
+     */
+    private Optional<MethodSignature> getSpecializedWorker(BytecodeGenerator state, ValueDefinition definition, List<Value> arguments) {
+        Map<String, Instance> instances = new HashMap<>();
+        List<Argument> parameters = definition.getBody().getArguments();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (parameters.get(i).getType() instanceof InstanceType) {
+                String name = parameters.get(i).getName();
+                arguments.get(i).asInstance(state).ifPresent(instance -> instances.put(name, instance));
+            }
+        }
+        return state.getSpecializedWorker(definition, instances);
+    }
+
+    private boolean isSelfTailCall(BytecodeGenerator state, Pair<Value, List<Value>> spine) {
+        return spine.getLeft() instanceof Method
+            && state.isSelfTailCall(((Method) spine.getLeft()).getSymbol(), spine.getRight());
+    }
+
+    /**
+     * Flattens nested applications into the function at their head and the arguments applied to it, so that a
+     * saturated call may be made in one step.
+     */
+    private Pair<Value, List<Value>> getSpine() {
+        List<Value> arguments = new ArrayList<>();
+        Value head = this;
+        while (head instanceof Apply) {
+            arguments.add(((Apply) head).argument);
+            head = ((Apply) head).function;
+        }
+        reverse(arguments);
+        return pair(head, arguments);
+    }
 }
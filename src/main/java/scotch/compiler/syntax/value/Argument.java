@@ -1,11 +1,14 @@
 package scotch.compiler.syntax.value;
 
 import static lombok.AccessLevel.PACKAGE;
+import static scotch.compiler.intermediate.Intermediates.variable;
 import static scotch.compiler.syntax.builder.BuilderUtil.require;
 import static scotch.compiler.syntax.value.Values.arg;
 import static scotch.symbol.Symbol.unqualified;
 
 import java.util.Optional;
+import java.util.Set;
+import com.google.common.collect.ImmutableSet;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -18,6 +21,7 @@ import scotch.compiler.steps.NameAccumulator;
 import scotch.compiler.steps.OperatorAccumulator;
 import scotch.compiler.steps.PrecedenceParser;
 import scotch.compiler.steps.ScopedNameQualifier;
+import scotch.compiler.steps.StrictnessAnalyzer;
 import scotch.compiler.steps.TypeChecker;
 import scotch.compiler.syntax.builder.SyntaxBuilder;
 import scotch.compiler.text.SourceLocation;
@@ -48,9 +52,24 @@ public class Argument extends Value {
         return this;
     }
 
+    @Override
+    public Optional<Instance> asInstance(BytecodeGenerator state) {
+        return state.getSpecializedArgument(name);
+    }
+
+    @Override
+    public Set<String> analyzeStrictness(StrictnessAnalyzer state) {
+        return ImmutableSet.of(name);
+    }
+
+    @Override
+    public boolean canGenerateIntermediateCode() {
+        return true;
+    }
+
     @Override
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
-        throw new UnsupportedOperationException(); // TODO
+        return variable(name);
     }
 
     @Override
@@ -76,9 +95,19 @@ public class Argument extends Value {
 
     @Override
     public CodeBlock generateBytecode(BytecodeGenerator state) {
-        return new CodeBlock() {{
-            aload(state.getVariable(name));
-        }};
+        Optional<Instance> instance = state.getSpecializedArgument(name);
+        if (instance.isPresent()) {
+            return instance.get().generateBytecode(state);
+        } else {
+            return new CodeBlock() {{
+                aload(state.getVariable(name));
+            }};
+        }
+    }
+
+    @Override
+    public Optional<CodeBlock> generateUnboxedBytecode(BytecodeGenerator state) {
+        return state.getUnboxedVariable(name);
     }
 
     public String getName() {
@@ -1,14 +1,12 @@
 package scotch.compiler.syntax.value;
 
-import static me.qmx.jitescript.util.CodegenUtils.ci;
-import static me.qmx.jitescript.util.CodegenUtils.p;
+import static me.qmx.jitescript.util.CodegenUtils.sig;
 import static scotch.symbol.type.Types.sum;
 
 import me.qmx.jitescript.CodeBlock;
-import scotch.compiler.intermediate.IntermediateGenerator;
-import scotch.compiler.intermediate.IntermediateValue;
 import scotch.symbol.type.Types;
 import scotch.compiler.text.SourceLocation;
+import scotch.runtime.BoolCallable;
 
 public class BoolLiteral extends LiteralValue<Boolean> {
 
@@ -17,12 +15,12 @@ public class BoolLiteral extends LiteralValue<Boolean> {
     }
 
     @Override
-    public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
-        throw new UnsupportedOperationException(); // TODO
+    protected String getBoxSignature() {
+        return sig(BoolCallable.class, boolean.class);
     }
 
     @Override
     protected CodeBlock loadValue() {
-        return new CodeBlock().getstatic(p(Boolean.class), getValue() ? "TRUE" : "FALSE", ci(Boolean.class));
+        return getValue() ? new CodeBlock().iconst_1() : new CodeBlock().iconst_0();
     }
 }
@@ -1,14 +1,16 @@
 package scotch.compiler.syntax.value;
 
-import static me.qmx.jitescript.util.CodegenUtils.p;
-import static me.qmx.jitescript.util.CodegenUtils.sig;
+import static com.google.common.collect.Sets.intersection;
+import static com.google.common.collect.Sets.union;
 import static scotch.compiler.syntax.TypeError.typeError;
 import static scotch.compiler.syntax.builder.BuilderUtil.require;
 import static scotch.compiler.syntax.value.Values.conditional;
 import static scotch.symbol.type.Types.sum;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -16,17 +18,17 @@ import me.qmx.jitescript.CodeBlock;
 import org.objectweb.asm.tree.LabelNode;
 import scotch.compiler.intermediate.IntermediateGenerator;
 import scotch.compiler.intermediate.IntermediateValue;
+import scotch.compiler.intermediate.Intermediates;
 import scotch.compiler.steps.BytecodeGenerator;
 import scotch.compiler.steps.DependencyAccumulator;
 import scotch.compiler.steps.NameAccumulator;
 import scotch.compiler.steps.OperatorAccumulator;
 import scotch.compiler.steps.PrecedenceParser;
 import scotch.compiler.steps.ScopedNameQualifier;
+import scotch.compiler.steps.StrictnessAnalyzer;
 import scotch.compiler.steps.TypeChecker;
 import scotch.compiler.syntax.builder.SyntaxBuilder;
 import scotch.compiler.text.SourceLocation;
-import scotch.runtime.Callable;
-import scotch.runtime.RuntimeSupport;
 import scotch.symbol.type.Type;
 
 @EqualsAndHashCode(callSuper = false)
@@ -63,9 +65,25 @@ public class Conditional extends Value {
         return parse(state, Value::accumulateNames);
     }
 
+    @Override
+    public Set<String> analyzeStrictness(StrictnessAnalyzer state) {
+        return union(condition.analyzeStrictness(state), intersection(whenTrue.analyzeStrictness(state), whenFalse.analyzeStrictness(state)));
+    }
+
+    @Override
+    public boolean canGenerateIntermediateCode() {
+        return condition.canGenerateIntermediateCode()
+            && whenTrue.canGenerateIntermediateCode()
+            && whenFalse.canGenerateIntermediateCode();
+    }
+
     @Override
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
-        throw new UnsupportedOperationException(); // TODO
+        return Intermediates.conditional(
+            condition.generateIntermediateCode(state),
+            whenTrue.generateIntermediateCode(state),
+            whenFalse.generateIntermediateCode(state)
+        );
     }
 
     @Override
@@ -99,18 +117,56 @@ public class Conditional extends Value {
 
     @Override
     public CodeBlock generateBytecode(BytecodeGenerator state) {
-        return new CodeBlock() {{
-            LabelNode falseBranch = new LabelNode();
-            LabelNode end = new LabelNode();
-            append(condition.generateBytecode(state));
-            invokestatic(p(RuntimeSupport.class), "unboxBool", sig(boolean.class, Callable.class));
-            iffalse(falseBranch);
-            append(whenTrue.generateBytecode(state));
-            go_to(end);
-            label(falseBranch);
-            append(whenFalse.generateBytecode(state));
-            label(end);
-        }};
+        return generateBranches(state, branch -> branch.generateBytecode(state));
+    }
+
+    @Override
+    public CodeBlock generateTailBytecode(BytecodeGenerator state) {
+        return generateBranches(state, branch -> branch.generateTailBytecode(state));
+    }
+
+    @Override
+    public Optional<CodeBlock> generateUnboxedTailBytecode(BytecodeGenerator state) {
+        Optional<CodeBlock> unboxedCondition = condition.generateUnboxedOperand(state);
+        Optional<CodeBlock> unboxedTrue = whenTrue.generateUnboxedTailBytecode(state);
+        Optional<CodeBlock> unboxedFalse = whenFalse.generateUnboxedTailBytecode(state);
+        if (unboxedCondition.isPresent() && unboxedTrue.isPresent() && unboxedFalse.isPresent()) {
+            return Optional.of(new CodeBlock() {{
+                LabelNode falseBranch = new LabelNode();
+                append(unboxedCondition.get());
+                iffalse(falseBranch);
+                append(unboxedTrue.get());
+                label(falseBranch);
+                append(unboxedFalse.get());
+            }});
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Optional<CodeBlock> generateUnboxedBytecode(BytecodeGenerator state) {
+        if (!state.unboxedTypeOf(type).isPresent()) {
+            return Optional.empty();
+        }
+        Optional<CodeBlock> unboxedCondition = condition.generateUnboxedOperand(state);
+        Optional<CodeBlock> unboxedTrue = whenTrue.generateUnboxedOperand(state);
+        Optional<CodeBlock> unboxedFalse = whenFalse.generateUnboxedOperand(state);
+        if (unboxedCondition.isPresent() && unboxedTrue.isPresent() && unboxedFalse.isPresent()) {
+            return Optional.of(new CodeBlock() {{
+                LabelNode falseBranch = new LabelNode();
+                LabelNode end = new LabelNode();
+                append(unboxedCondition.get());
+                iffalse(falseBranch);
+                append(unboxedTrue.get());
+                go_to(end);
+                label(falseBranch);
+                append(unboxedFalse.get());
+                label(end);
+            }});
+        } else {
+            return Optional.empty();
+        }
     }
 
     @Override
@@ -129,6 +185,20 @@ public class Conditional extends Value {
         return new Conditional(sourceLocation, condition, whenTrue, whenFalse, type);
     }
 
+    private CodeBlock generateBranches(BytecodeGenerator state, Function<Value, CodeBlock> generator) {
+        return new CodeBlock() {{
+            LabelNode falseBranch = new LabelNode();
+            LabelNode end = new LabelNode();
+            append(condition.generateUnboxedOperand(state).get());
+            iffalse(falseBranch);
+            append(generator.apply(whenTrue));
+            go_to(end);
+            label(falseBranch);
+            append(generator.apply(whenFalse));
+            label(end);
+        }};
+    }
+
     private <T> Value parse(T state, BiFunction<Value, T, Value> function) {
         return builder()
             .withSourceLocation(sourceLocation)
@@ -1,9 +1,11 @@
 package scotch.compiler.syntax.value;
 
 import static lombok.AccessLevel.PACKAGE;
+import static scotch.compiler.intermediate.Intermediates.constructor;
 import static scotch.compiler.syntax.builder.BuilderUtil.require;
 
 import java.util.Optional;
+import com.google.common.collect.ImmutableList;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -51,9 +53,14 @@ public class ConstantReference extends Value {
         return this;
     }
 
+    @Override
+    public boolean canGenerateIntermediateCode() {
+        return true;
+    }
+
     @Override
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
-        throw new UnsupportedOperationException(); // TODO
+        return constructor(symbol, ImmutableList.of());
     }
 
     @Override
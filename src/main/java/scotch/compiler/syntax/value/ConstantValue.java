@@ -1,8 +1,10 @@
 package scotch.compiler.syntax.value;
 
+import static scotch.compiler.intermediate.Intermediates.constructor;
 import static scotch.compiler.syntax.builder.BuilderUtil.require;
 
 import java.util.Optional;
+import com.google.common.collect.ImmutableList;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import me.qmx.jitescript.CodeBlock;
@@ -50,9 +52,14 @@ public class ConstantValue extends Value {
         return this;
     }
 
+    @Override
+    public boolean canGenerateIntermediateCode() {
+        return true;
+    }
+
     @Override
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
-        throw new UnsupportedOperationException(); // TODO
+        return constructor(symbol, ImmutableList.of());
     }
 
     @Override
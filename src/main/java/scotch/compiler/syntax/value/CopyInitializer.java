@@ -8,6 +8,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
+import com.google.common.collect.ImmutableList;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import me.qmx.jitescript.CodeBlock;
@@ -15,6 +16,7 @@ import me.qmx.jitescript.LambdaBlock;
 import scotch.compiler.intermediate.IntermediateGenerator;
 import scotch.compiler.intermediate.IntermediateValue;
 import scotch.compiler.steps.BytecodeGenerator;
+import scotch.compiler.steps.BytecodeGenerator.Closure;
 import scotch.compiler.steps.DependencyAccumulator;
 import scotch.compiler.steps.NameAccumulator;
 import scotch.compiler.steps.OperatorAccumulator;
@@ -52,6 +54,11 @@ public class CopyInitializer extends Value {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public boolean canGenerateIntermediateCode() {
+        return false;
+    }
+
     @Override
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
         throw new UnsupportedOperationException(); // TODO
@@ -83,36 +90,38 @@ public class CopyInitializer extends Value {
 
     @Override
     public CodeBlock generateBytecode(BytecodeGenerator state) {
+        String applyName = state.reserveApply();
+        Class<?> returnType = state.typeOf(value.getType());
+        Closure closure = state.closure(ImmutableList.of(), () -> new CodeBlock() {{
+            if (returnType != Callable.class) {
+                checkcast(p(returnType));
+            }
+            append(value.generateBytecode(state));
+            invokeinterface(p(Callable.class), "call", sig(Object.class));
+            checkcast(p(Copyable.class));
+            newobj(p(HashMap.class));
+            dup();
+            invokespecial(p(HashMap.class), "<init>", sig(void.class));
+            fields.forEach(field -> {
+                dup();
+                ldc(field.getName());
+                append(field.getValue().generateBytecode(state));
+                invokeinterface(p(Map.class), "put", sig(Object.class, Object.class, Object.class));
+                pop();
+            });
+            invokeinterface(p(Copyable.class), "copy", sig(Copyable.class, Map.class));
+            invokestatic(p(RuntimeSupport.class), "box", sig(Callable.class, Object.class));
+            areturn();
+        }});
         return new CodeBlock() {{
             newobj(p(SuppliedThunk.class));
             dup();
-            append(state.captureApply());
-            lambda(state.currentClass(), new LambdaBlock(state.reserveApply()) {{
+            append(closure.getCaptures());
+            lambda(state.currentClass(), new LambdaBlock(applyName) {{
                 function(p(Supplier.class), "get", sig(Object.class));
                 specialize(sig(Callable.class));
-                capture(state.getCaptureAllTypes());
-                Class<?> returnType = state.typeOf(value.getType());
-                delegateTo(ACC_STATIC, sig(returnType, state.getCaptureAllTypes()), new CodeBlock() {{
-                    if (returnType != Callable.class) {
-                        checkcast(p(returnType));
-                    }
-                    append(value.generateBytecode(state));
-                    invokeinterface(p(Callable.class), "call", sig(Object.class));
-                    checkcast(p(Copyable.class));
-                    newobj(p(HashMap.class));
-                    dup();
-                    invokespecial(p(HashMap.class), "<init>", sig(void.class));
-                    fields.forEach(field -> {
-                        dup();
-                        ldc(field.getName());
-                        append(field.getValue().generateBytecode(state));
-                        invokeinterface(p(Map.class), "put", sig(Object.class, Object.class, Object.class));
-                        pop();
-                    });
-                    invokeinterface(p(Copyable.class), "copy", sig(Copyable.class, Map.class));
-                    invokestatic(p(RuntimeSupport.class), "box", sig(Callable.class, Object.class));
-                    areturn();
-                }});
+                capture(closure.getCaptureTypes());
+                delegateTo(ACC_STATIC, sig(returnType, closure.getParameterTypes()), closure.getBody());
             }});
             invokespecial(p(SuppliedThunk.class), "<init>", sig(void.class, Supplier.class));
         }};
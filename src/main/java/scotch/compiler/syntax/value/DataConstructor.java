@@ -3,6 +3,7 @@ package scotch.compiler.syntax.value;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static me.qmx.jitescript.util.CodegenUtils.sig;
+import static scotch.compiler.intermediate.Intermediates.constructor;
 import static scotch.compiler.syntax.builder.BuilderUtil.require;
 
 import java.util.ArrayList;
@@ -54,9 +55,16 @@ public class DataConstructor extends Value {
         return this;
     }
 
+    @Override
+    public boolean canGenerateIntermediateCode() {
+        return arguments.stream().allMatch(Value::canGenerateIntermediateCode);
+    }
+
     @Override
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
-        throw new UnsupportedOperationException(); // TODO
+        return constructor(symbol, arguments.stream()
+            .map(argument -> argument.generateIntermediateCode(state))
+            .collect(toList()));
     }
 
     @Override
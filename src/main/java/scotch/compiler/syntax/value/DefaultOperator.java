@@ -59,6 +59,11 @@ public class DefaultOperator extends Value {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public boolean canGenerateIntermediateCode() {
+        return false;
+    }
+
     @Override
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
         throw new UnsupportedOperationException(); // TODO
@@ -1,14 +1,12 @@
 package scotch.compiler.syntax.value;
 
-import static me.qmx.jitescript.util.CodegenUtils.p;
 import static me.qmx.jitescript.util.CodegenUtils.sig;
 import static scotch.symbol.type.Types.sum;
 
 import me.qmx.jitescript.CodeBlock;
-import scotch.compiler.intermediate.IntermediateGenerator;
-import scotch.compiler.intermediate.IntermediateValue;
 import scotch.symbol.type.Types;
 import scotch.compiler.text.SourceLocation;
+import scotch.runtime.DoubleCallable;
 
 public class DoubleLiteral extends LiteralValue<Double> {
 
@@ -17,15 +15,12 @@ public class DoubleLiteral extends LiteralValue<Double> {
     }
 
     @Override
-    public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
-        throw new UnsupportedOperationException(); // TODO
+    protected String getBoxSignature() {
+        return sig(DoubleCallable.class, double.class);
     }
 
     @Override
     protected CodeBlock loadValue() {
-        return new CodeBlock() {{
-            ldc(getValue());
-            invokestatic(p(Double.class), "valueOf", sig(Double.class, double.class));
-        }};
+        return new CodeBlock().ldc(getValue());
     }
 }
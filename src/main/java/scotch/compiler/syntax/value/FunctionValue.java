@@ -5,17 +5,21 @@ import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static me.qmx.jitescript.util.CodegenUtils.p;
 import static me.qmx.jitescript.util.CodegenUtils.sig;
+import static scotch.compiler.steps.BytecodeGenerator.MAX_ARITY;
 import static scotch.symbol.type.Types.fn;
 import static scotch.compiler.syntax.builder.BuilderUtil.require;
 import static scotch.compiler.syntax.definition.Definitions.scopeDef;
 import static scotch.compiler.syntax.reference.DefinitionReference.scopeRef;
 import static scotch.compiler.syntax.value.Values.fn;
+import static scotch.symbol.DemandSignature.demandSignature;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import com.google.common.collect.ImmutableList;
 import lombok.EqualsAndHashCode;
 import me.qmx.jitescript.CodeBlock;
@@ -23,14 +27,16 @@ import me.qmx.jitescript.LambdaBlock;
 import scotch.compiler.intermediate.IntermediateGenerator;
 import scotch.compiler.intermediate.IntermediateValue;
 import scotch.compiler.steps.BytecodeGenerator;
+import scotch.compiler.steps.BytecodeGenerator.Closure;
 import scotch.compiler.steps.DependencyAccumulator;
 import scotch.compiler.steps.NameAccumulator;
 import scotch.compiler.steps.OperatorAccumulator;
 import scotch.compiler.steps.PrecedenceParser;
 import scotch.compiler.steps.ScopedNameQualifier;
+import scotch.compiler.steps.StrictnessAnalyzer;
 import scotch.compiler.steps.TypeChecker;
-import scotch.runtime.Applicable;
 import scotch.runtime.Callable;
+import scotch.symbol.DemandSignature;
 import scotch.symbol.Symbol;
 import scotch.symbol.type.Type;
 import scotch.compiler.syntax.Scoped;
@@ -73,9 +79,24 @@ public class FunctionValue extends Value implements Scoped {
             .withBody(body.accumulateNames(state)));
     }
 
+    @Override
+    public DemandSignature analyzeDemand(StrictnessAnalyzer state) {
+        Set<String> strictness = body.analyzeStrictness(state);
+        return demandSignature(arguments.stream()
+            .map(argument -> strictness.contains(argument.getName()))
+            .collect(toList()));
+    }
+
+    @Override
+    public boolean canGenerateIntermediateCode() {
+        return body.canGenerateIntermediateCode();
+    }
+
     @Override
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
-        throw new UnsupportedOperationException(); // TODO
+        return state.function(arguments.stream()
+            .map(Argument::getName)
+            .collect(toList()), () -> body.generateIntermediateCode(state));
     }
 
     @Override
@@ -120,9 +141,36 @@ public class FunctionValue extends Value implements Scoped {
 
     @Override
     public CodeBlock generateBytecode(BytecodeGenerator state) {
-        return state.enclose(this, () -> curry().generateBytecode(state));
+        return state.scoped(this, () -> curry().generateBytecode(state));
     }
 
+    @Override
+    public Optional<CodeBlock> generateUnboxedWorkerBytecode(BytecodeGenerator state) {
+        List<Class<?>> types = new ArrayList<>();
+        for (Argument argument : arguments) {
+            Optional<Class<?>> unboxedType = state.unboxedTypeOf(argument.getType());
+            if (unboxedType.isPresent()) {
+                types.add(unboxedType.get());
+            } else {
+                return Optional.empty();
+            }
+        }
+        List<String> names = arguments.stream().map(Argument::getName).collect(toList());
+        return state.encloseUnboxed(this, names, types, () -> body.generateUnboxedTailBytecode(state));
+    }
+
+    @Override
+    public CodeBlock generateWorkerBytecode(BytecodeGenerator state) {
+        List<String> names = arguments.stream().map(Argument::getName).collect(toList());
+        return state.enclose(this, names, () -> body.generateTailBytecode(state));
+    }
+
+    @Override
+    public int getArity() {
+        return arguments.size();
+    }
+
+    @Override
     public List<Argument> getArguments() {
         return arguments;
     }
@@ -149,6 +197,11 @@ public class FunctionValue extends Value implements Scoped {
         return symbol;
     }
 
+    @Override
+    public boolean isFunction() {
+        return true;
+    }
+
     @Override
     public Type getType() {
         return type.orElseGet(() -> {
@@ -206,7 +259,11 @@ public class FunctionValue extends Value implements Scoped {
         if (args.isEmpty()) {
             return new CurriedBody(body);
         } else {
-            return new CurriedLambda(args.pop(), curry_(args));
+            List<Argument> lambdaArguments = new ArrayList<>();
+            while (!args.isEmpty() && lambdaArguments.size() < MAX_ARITY) {
+                lambdaArguments.add(args.pop());
+            }
+            return new CurriedLambda(lambdaArguments, curry_(args));
         }
     }
 
@@ -288,33 +345,42 @@ public class FunctionValue extends Value implements Scoped {
 
     private static class CurriedLambda implements CurriedFunction {
 
-        private final Argument        argument;
+        private final List<Argument>  arguments;
         private final CurriedFunction body;
 
-        CurriedLambda(Argument argument, CurriedFunction body) {
-            this.argument = argument;
+        CurriedLambda(List<Argument> arguments, CurriedFunction body) {
+            this.arguments = ImmutableList.copyOf(arguments);
             this.body = body;
         }
 
         @Override
         public CodeBlock generateBytecode(BytecodeGenerator state) {
+            List<String> names = arguments.stream().map(Argument::getName).collect(toList());
+            Class<?>[] parameters = new Class<?>[arguments.size()];
+            Arrays.fill(parameters, Callable.class);
+            String lambdaName = state.reserveLambda();
+            Closure closure = state.closure(names, () -> new CodeBlock() {{
+                append(body.generateBytecode(state));
+                append(state.toType(body.getType()));
+                areturn();
+            }});
             return new CodeBlock() {{
-                append(state.captureLambda(argument.getName()));
-                lambda(state.currentClass(), new LambdaBlock(state.reserveLambda()) {{
-                    function(p(Applicable.class), "apply", sig(Callable.class, Callable.class));
-                    capture(state.getLambdaCaptureTypes());
-                    delegateTo(ACC_STATIC, sig(state.typeOf(body.getType()), state.getLambdaType()), new CodeBlock() {{
-                        append(body.generateBytecode(state));
-                        areturn();
-                    }});
+                append(closure.getCaptures());
+                lambda(state.currentClass(), new LambdaBlock(lambdaName) {{
+                    function(p(state.applicableOf(arguments.size())), "apply", sig(Callable.class, parameters));
+                    capture(closure.getCaptureTypes());
+                    delegateTo(ACC_STATIC, sig(state.typeOf(body.getType()), closure.getParameterTypes()), closure.getBody());
                 }});
-                state.releaseLambda(argument.getName());
             }};
         }
 
         @Override
         public Type getType() {
-            return fn(argument.getType(), body.getType());
+            List<Argument> reversed = new ArrayList<>(arguments);
+            reverse(reversed);
+            return reversed.stream()
+                .map(Argument::getType)
+                .reduce(body.getType(), (result, argument) -> fn(argument, result));
         }
     }
 }
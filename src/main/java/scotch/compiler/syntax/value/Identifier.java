@@ -68,6 +68,11 @@ public class Identifier extends Value {
         return this;
     }
 
+    @Override
+    public boolean canGenerateIntermediateCode() {
+        return false;
+    }
+
     @Override
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
         throw new UnsupportedOperationException(); // TODO
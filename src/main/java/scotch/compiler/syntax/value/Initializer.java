@@ -67,6 +67,11 @@ public class Initializer extends Value {
         );
     }
 
+    @Override
+    public boolean canGenerateIntermediateCode() {
+        return false;
+    }
+
     @Override
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
         throw new UnsupportedOperationException(); // TODO
@@ -2,6 +2,7 @@ package scotch.compiler.syntax.value;
 
 import static java.util.stream.Collectors.toList;
 
+import java.util.Optional;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import me.qmx.jitescript.CodeBlock;
@@ -15,6 +16,9 @@ import scotch.compiler.steps.OperatorAccumulator;
 import scotch.compiler.steps.PrecedenceParser;
 import scotch.compiler.steps.ScopedNameQualifier;
 import scotch.compiler.steps.TypeChecker;
+import scotch.compiler.syntax.scope.Scope;
+import scotch.symbol.DemandSignature;
+import scotch.symbol.Symbol;
 import scotch.symbol.type.Type;
 import scotch.compiler.syntax.reference.InstanceReference;
 import scotch.compiler.text.SourceLocation;
@@ -43,6 +47,16 @@ public class Instance extends Value {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public Optional<Instance> asInstance(BytecodeGenerator state) {
+        return Optional.of(this);
+    }
+
+    @Override
+    public boolean canGenerateIntermediateCode() {
+        return true;
+    }
+
     @Override
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
         return Intermediates.instanceRef(reference);
@@ -84,6 +98,23 @@ public class Instance extends Value {
         ).reference();
     }
 
+    /**
+     * Finds the demand the described instance places on the operands of a member of its type class.
+     */
+    public Optional<DemandSignature> getMemberDemand(Scope scope, Symbol member) {
+        return scope.getTypeInstance(
+            reference.getClassReference(),
+            reference.getModuleReference(),
+            reference.getParameters().stream()
+                .map(parameter -> parameter.copy(scope::reserveType))
+                .collect(toList())
+        ).flatMap(instance -> instance.getMemberDemand(member));
+    }
+
+    public InstanceReference getReference() {
+        return reference;
+    }
+
     @Override
     public SourceLocation getSourceLocation() {
         return sourceLocation;
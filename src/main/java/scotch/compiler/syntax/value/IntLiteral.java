@@ -1,6 +1,5 @@
 package scotch.compiler.syntax.value;
 
-import static me.qmx.jitescript.util.CodegenUtils.p;
 import static me.qmx.jitescript.util.CodegenUtils.sig;
 import static scotch.compiler.intermediate.Intermediates.literal;
 
@@ -8,6 +7,7 @@ import me.qmx.jitescript.CodeBlock;
 import scotch.compiler.intermediate.IntermediateGenerator;
 import scotch.compiler.intermediate.IntermediateValue;
 import scotch.compiler.text.SourceLocation;
+import scotch.runtime.IntCallable;
 import scotch.symbol.type.Types;
 
 public class IntLiteral extends LiteralValue<Integer> {
@@ -21,11 +21,13 @@ public class IntLiteral extends LiteralValue<Integer> {
         return literal(value);
     }
 
+    @Override
+    protected String getBoxSignature() {
+        return sig(IntCallable.class, int.class);
+    }
+
     @Override
     protected CodeBlock loadValue() {
-        return new CodeBlock() {{
-            ldc(getValue());
-            invokestatic(p(Integer.class), "valueOf", sig(Integer.class, int.class));
-        }};
+        return new CodeBlock().ldc(getValue());
     }
 }
@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import com.google.common.collect.ImmutableList;
 import lombok.ToString;
 import me.qmx.jitescript.CodeBlock;
@@ -20,6 +21,7 @@ import scotch.compiler.steps.NameAccumulator;
 import scotch.compiler.steps.OperatorAccumulator;
 import scotch.compiler.steps.PrecedenceParser;
 import scotch.compiler.steps.ScopedNameQualifier;
+import scotch.compiler.steps.StrictnessAnalyzer;
 import scotch.compiler.steps.TypeChecker;
 import scotch.compiler.syntax.Scoped;
 import scotch.compiler.syntax.builder.SyntaxBuilder;
@@ -60,9 +62,20 @@ public class Let extends Value implements Scoped {
             .withBody(body.accumulateNames(state)));
     }
 
+    @Override
+    public Set<String> analyzeStrictness(StrictnessAnalyzer state) {
+        return body.analyzeStrictness(state);
+    }
+
+    @Override
+    public boolean canGenerateIntermediateCode() {
+        return body.canGenerateIntermediateCode();
+    }
+
     @Override
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
-        throw new UnsupportedOperationException(); // TODO
+        state.generateIntermediateCode(definitions);
+        return body.generateIntermediateCode(state);
     }
 
     @Override
@@ -2,8 +2,10 @@ package scotch.compiler.syntax.value;
 
 import static me.qmx.jitescript.util.CodegenUtils.p;
 import static me.qmx.jitescript.util.CodegenUtils.sig;
+import static scotch.compiler.intermediate.Intermediates.literal;
 import static scotch.util.StringUtil.quote;
 
+import java.util.Optional;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import me.qmx.jitescript.CodeBlock;
@@ -44,9 +46,14 @@ public abstract class LiteralValue<A> extends Value {
         return this;
     }
 
+    @Override
+    public boolean canGenerateIntermediateCode() {
+        return true;
+    }
+
     @Override
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
-        throw new UnsupportedOperationException(); // TODO
+        return literal(value);
     }
 
     @Override
@@ -76,7 +83,16 @@ public abstract class LiteralValue<A> extends Value {
 
     @Override
     public CodeBlock generateBytecode(BytecodeGenerator state) {
-        return loadValue().invokestatic(p(RuntimeSupport.class), "box", sig(Callable.class, Object.class));
+        return loadValue().invokestatic(p(RuntimeSupport.class), "box", getBoxSignature());
+    }
+
+    @Override
+    public Optional<CodeBlock> generateUnboxedBytecode(BytecodeGenerator state) {
+        return state.unboxedTypeOf(getType()).map(unboxedType -> loadValue());
+    }
+
+    protected String getBoxSignature() {
+        return sig(Callable.class, Object.class);
     }
 
     protected abstract CodeBlock loadValue();
@@ -52,6 +52,11 @@ public class Method extends Value {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public boolean canGenerateIntermediateCode() {
+        return true;
+    }
+
     @Override
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
         return Intermediates.valueRef(reference);
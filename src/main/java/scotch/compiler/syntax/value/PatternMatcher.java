@@ -1,39 +1,56 @@
 package scotch.compiler.syntax.value;
 
+import static com.google.common.collect.Sets.intersection;
 import static java.util.Collections.reverse;
 import static java.util.stream.Collectors.toList;
 import static me.qmx.jitescript.util.CodegenUtils.p;
 import static me.qmx.jitescript.util.CodegenUtils.sig;
+import static scotch.compiler.intermediate.DecisionTree.decisionTree;
+import static scotch.compiler.intermediate.Intermediates.failure;
+import static scotch.compiler.intermediate.Intermediates.let;
+import static scotch.compiler.intermediate.Intermediates.variable;
+import static scotch.compiler.steps.BytecodeGenerator.MAX_ARITY;
 import static scotch.compiler.syntax.TypeError.typeError;
 import static scotch.compiler.syntax.builder.BuilderUtil.require;
 import static scotch.compiler.syntax.definition.Definitions.scopeDef;
 import static scotch.compiler.syntax.reference.DefinitionReference.scopeRef;
 import static scotch.compiler.syntax.value.Values.matcher;
+import static scotch.symbol.DemandSignature.demandSignature;
 import static scotch.symbol.type.Types.fn;
 import static scotch.symbol.type.Unification.unified;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import me.qmx.jitescript.CodeBlock;
 import me.qmx.jitescript.LambdaBlock;
+import org.objectweb.asm.tree.LabelNode;
+import scotch.compiler.intermediate.DecisionTree;
 import scotch.compiler.intermediate.IntermediateGenerator;
 import scotch.compiler.intermediate.IntermediateValue;
 import scotch.compiler.steps.BytecodeGenerator;
+import scotch.compiler.steps.BytecodeGenerator.Closure;
 import scotch.compiler.steps.DependencyAccumulator;
 import scotch.compiler.steps.NameAccumulator;
 import scotch.compiler.steps.OperatorAccumulator;
 import scotch.compiler.steps.PrecedenceParser;
 import scotch.compiler.steps.ScopedNameQualifier;
+import scotch.compiler.steps.StrictnessAnalyzer;
 import scotch.compiler.steps.TypeChecker;
 import scotch.compiler.syntax.Scoped;
 import scotch.compiler.syntax.builder.SyntaxBuilder;
@@ -41,8 +58,8 @@ import scotch.compiler.syntax.definition.Definition;
 import scotch.compiler.syntax.pattern.PatternCase;
 import scotch.compiler.syntax.reference.DefinitionReference;
 import scotch.compiler.text.SourceLocation;
-import scotch.runtime.Applicable;
 import scotch.runtime.Callable;
+import scotch.symbol.DemandSignature;
 import scotch.symbol.Symbol;
 import scotch.symbol.type.Type;
 
@@ -84,9 +101,28 @@ public class PatternMatcher extends Value implements Scoped {
         ));
     }
 
+    @Override
+    public DemandSignature analyzeDemand(StrictnessAnalyzer state) {
+        Set<String> strictness = new HashSet<>(patternCases.get(0).analyzeTestedStrictness(state));
+        strictness.addAll(patternCases.stream()
+            .map(patternCase -> patternCase.analyzeStrictness(state))
+            .reduce((left, right) -> intersection(left, right).immutableCopy())
+            .orElseGet(ImmutableSet::of));
+        return demandSignature(arguments.stream()
+            .map(argument -> strictness.contains(argument.getName()))
+            .collect(toList()));
+    }
+
+    @Override
+    public boolean canGenerateIntermediateCode() {
+        return patternCases.stream().allMatch(PatternCase::canGenerateIntermediateCode);
+    }
+
     @Override
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
-        throw new UnsupportedOperationException(); // TODO
+        return state.function(arguments.stream()
+            .map(Argument::getName)
+            .collect(toList()), () -> generateCases(state, patternCases));
     }
 
     @Override
@@ -134,9 +170,74 @@ public class PatternMatcher extends Value implements Scoped {
 
     @Override
     public CodeBlock generateBytecode(BytecodeGenerator state) {
-        return state.enclose(this, () -> curry().generateBytecode(state));
+        return state.scoped(this, () -> curry().generateBytecode(state));
+    }
+
+    /**
+     * Generates the body of an unboxed worker, choosing a case by a decision tree over the primitive arguments.
+     */
+    @Override
+    public Optional<CodeBlock> generateUnboxedWorkerBytecode(BytecodeGenerator state) {
+        List<Class<?>> types = new ArrayList<>();
+        for (Argument argument : arguments) {
+            Optional<Class<?>> unboxedType = state.unboxedTypeOf(argument.getType());
+            if (unboxedType.isPresent()) {
+                types.add(unboxedType.get());
+            } else {
+                return Optional.empty();
+            }
+        }
+        List<String> names = arguments.stream().map(Argument::getName).collect(toList());
+        return state.encloseUnboxed(this, names, types, () -> {
+            DecisionTree tree = decisionTree(symbol, patternCases);
+            Map<PatternCase, LabelNode> bodies = labelBodies(tree);
+            Optional<CodeBlock> tests = tree.generateUnboxedBytecode(state, bodies);
+            if (!tests.isPresent()) {
+                return Optional.empty();
+            }
+            CodeBlock block = tests.get();
+            for (PatternCase patternCase : bodies.keySet()) {
+                Optional<CodeBlock> caseBlock = patternCase.generateUnboxedBytecode(state);
+                if (caseBlock.isPresent()) {
+                    block.label(bodies.get(patternCase)).append(caseBlock.get());
+                } else {
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(block);
+        });
+    }
+
+    /**
+     * Tries each case in turn, binding the cases following each refutable case so that every match of the case can
+     * fall through to them.
+     */
+    private IntermediateValue generateCases(IntermediateGenerator state, List<PatternCase> cases) {
+        PatternCase patternCase = cases.get(0);
+        if (cases.size() == 1 || patternCase.isIrrefutable()) {
+            return patternCase.generateIntermediateCode(state, failure("Non-exhaustive patterns in " + symbol));
+        } else {
+            String nextCase = cases.get(1).getSymbol().getCanonicalName();
+            return let(
+                nextCase,
+                generateCases(state, cases.subList(1, cases.size())),
+                state.enclose(ImmutableList.of(nextCase), () -> patternCase.generateIntermediateCode(state, variable(nextCase)))
+            );
+        }
     }
 
+    @Override
+    public CodeBlock generateWorkerBytecode(BytecodeGenerator state) {
+        List<String> names = arguments.stream().map(Argument::getName).collect(toList());
+        return state.enclose(this, names, () -> new CurriedBody(symbol, sourceLocation, patternCases).generateBytecode(state));
+    }
+
+    @Override
+    public int getArity() {
+        return arguments.size();
+    }
+
+    @Override
     public List<Argument> getArguments() {
         return arguments;
     }
@@ -156,6 +257,11 @@ public class PatternMatcher extends Value implements Scoped {
         return sourceLocation;
     }
 
+    @Override
+    public boolean isFunction() {
+        return true;
+    }
+
     @Override
     public Type getType() {
         return type;
@@ -226,9 +332,13 @@ public class PatternMatcher extends Value implements Scoped {
 
     private CurriedPattern curry_(Deque<Argument> arguments) {
         if (arguments.isEmpty()) {
-            return new CurriedBody(patternCases);
+            return new CurriedBody(symbol, sourceLocation, patternCases);
         } else {
-            return new CurriedLambda(arguments.pop(), curry_(arguments));
+            List<Argument> lambdaArguments = new ArrayList<>();
+            while (!arguments.isEmpty() && lambdaArguments.size() < MAX_ARITY) {
+                lambdaArguments.add(arguments.pop());
+            }
+            return new CurriedLambda(lambdaArguments, curry_(arguments));
         }
     }
 
@@ -250,6 +360,12 @@ public class PatternMatcher extends Value implements Scoped {
         });
     }
 
+    private static Map<PatternCase, LabelNode> labelBodies(DecisionTree tree) {
+        Map<PatternCase, LabelNode> bodies = new LinkedHashMap<>();
+        tree.getCases().forEach(patternCase -> bodies.put(patternCase, new LabelNode()));
+        return bodies;
+    }
+
     private PatternMatcher map(Function<Argument, Argument> argumentMapper, Function<PatternCase, PatternCase> patternCaseMapper) {
         return new PatternMatcher(
             sourceLocation, symbol,
@@ -263,6 +379,16 @@ public class PatternMatcher extends Value implements Scoped {
 
         CodeBlock generateBytecode(BytecodeGenerator state);
 
+        /**
+         * Generates the body of the lambda returning this pattern.
+         */
+        default CodeBlock generateReturn(BytecodeGenerator state) {
+            return new CodeBlock()
+                .append(generateBytecode(state))
+                .append(state.toType(getType()))
+                .areturn();
+        }
+
         Type getType();
     }
 
@@ -318,21 +444,45 @@ public class PatternMatcher extends Value implements Scoped {
 
     private static final class CurriedBody implements CurriedPattern {
 
+        private final Symbol            symbol;
+        private final SourceLocation    sourceLocation;
         private final List<PatternCase> patternCases;
 
-        public CurriedBody(List<PatternCase> patternCases) {
+        public CurriedBody(Symbol symbol, SourceLocation sourceLocation, List<PatternCase> patternCases) {
+            this.symbol = symbol;
+            this.sourceLocation = sourceLocation;
             this.patternCases = ImmutableList.copyOf(patternCases);
         }
 
+        /**
+         * Chooses a case by a decision tree, storing each tuple field it tests in a variable following the arguments.
+         * Fields are cleared first so that every path leaves them assigned, whichever of them the bodies go on to read.
+         */
         @Override
         public CodeBlock generateBytecode(BytecodeGenerator state) {
+            DecisionTree tree = decisionTree(symbol, patternCases);
+            Map<PatternCase, LabelNode> bodies = labelBodies(tree);
+            List<String> fields = ImmutableList.copyOf(tree.getFields());
             return new CodeBlock() {{
-                state.beginCases(patternCases.size());
-                patternCases.forEach(matcher -> append(matcher.generateBytecode(state)));
+                state.beginCases();
+                append(state.matching(fields, () -> state.scoped(patternCases.get(0), () -> {
+                    CodeBlock block = new CodeBlock();
+                    fields.forEach(field -> block.aconst_null().astore(state.getVariable(field)));
+                    return block.append(tree.generateBytecode(state, bodies));
+                })));
+                bodies.forEach((patternCase, body) -> {
+                    label(body);
+                    append(state.matching(fields, () -> patternCase.generateBytecode(state)));
+                });
                 label(state.endCases());
             }};
         }
 
+        @Override
+        public CodeBlock generateReturn(BytecodeGenerator state) {
+            return state.profile(symbol, sourceLocation, CurriedPattern.super.generateReturn(state));
+        }
+
         @Override
         public Type getType() {
             return patternCases.get(0).getType();
@@ -342,28 +492,33 @@ public class PatternMatcher extends Value implements Scoped {
     @AllArgsConstructor
     private static final class CurriedLambda implements CurriedPattern {
 
-        private final Argument       argument;
+        private final List<Argument> arguments;
         private final CurriedPattern body;
 
         @Override
         public CodeBlock generateBytecode(BytecodeGenerator state) {
+            List<String> names = arguments.stream().map(Argument::getName).collect(toList());
+            Class<?>[] parameters = new Class<?>[arguments.size()];
+            Arrays.fill(parameters, Callable.class);
+            String lambdaName = state.reserveLambda();
+            Closure closure = state.closure(names, () -> body.generateReturn(state));
             return new CodeBlock() {{
-                append(state.captureLambda(argument.getName()));
-                lambda(state.currentClass(), new LambdaBlock(state.reserveLambda()) {{
-                    function(p(Applicable.class), "apply", sig(Callable.class, Callable.class));
-                    capture(state.getLambdaCaptureTypes());
-                    delegateTo(ACC_STATIC, sig(state.typeOf(body.getType()), state.getLambdaType()), new CodeBlock() {{
-                        append(body.generateBytecode(state));
-                        areturn();
-                    }});
+                append(closure.getCaptures());
+                lambda(state.currentClass(), new LambdaBlock(lambdaName) {{
+                    function(p(state.applicableOf(arguments.size())), "apply", sig(Callable.class, parameters));
+                    capture(closure.getCaptureTypes());
+                    delegateTo(ACC_STATIC, sig(state.typeOf(body.getType()), closure.getParameterTypes()), closure.getBody());
                 }});
-                state.releaseLambda(argument.getName());
             }};
         }
 
         @Override
         public Type getType() {
-            return fn(argument.getType(), body.getType());
+            List<Argument> reversed = new ArrayList<>(arguments);
+            reverse(reversed);
+            return reversed.stream()
+                .map(Argument::getType)
+                .reduce(body.getType(), (result, argument) -> fn(argument, result));
         }
     }
 }
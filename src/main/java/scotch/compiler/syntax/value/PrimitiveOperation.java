@@ -0,0 +1,155 @@
+package scotch.compiler.syntax.value;
+
+import static me.qmx.jitescript.util.CodegenUtils.p;
+import static me.qmx.jitescript.util.CodegenUtils.sig;
+import static scotch.compiler.util.Pair.pair;
+import static scotch.symbol.Symbol.symbol;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import me.qmx.jitescript.CodeBlock;
+import org.objectweb.asm.tree.LabelNode;
+import scotch.compiler.steps.BytecodeGenerator;
+import scotch.compiler.util.Pair;
+import scotch.data.num.NumDouble;
+import scotch.symbol.Symbol;
+import scotch.symbol.type.InstanceType;
+import scotch.symbol.type.SumType;
+
+/**
+ * A method of a built-in type class instance, or a built-in function, which can be computed directly on unboxed
+ * primitive operands.
+ */
+final class PrimitiveOperation {
+
+    private static final Optional<Symbol> INT    = Optional.of(symbol("scotch.data.int.Int"));
+    private static final Optional<Symbol> DOUBLE = Optional.of(symbol("scotch.data.double.Double"));
+    private static final Optional<Symbol> BOOL   = Optional.of(symbol("scotch.data.bool.Bool"));
+
+    private static final Map<Pair<Symbol, Optional<Symbol>>, PrimitiveOperation> operations = new HashMap<>();
+
+    static {
+        define("scotch.data.num.+", INT, binary(CodeBlock::iadd));
+        define("scotch.data.num.-", INT, binary(CodeBlock::isub));
+        define("scotch.data.num.*", INT, binary(CodeBlock::imul));
+        define("scotch.data.num.negate", INT, unary(CodeBlock::ineg));
+        define("scotch.data.num.-prefix", INT, unary(CodeBlock::ineg));
+        define("scotch.data.num.abs", INT, unary(block -> block.invokestatic(p(Math.class), "abs", sig(int.class, int.class))));
+        define("scotch.data.num.signum", INT, unary(block -> block.invokestatic(p(Integer.class), "signum", sig(int.class, int.class))));
+        define("scotch.data.num.fromInteger", INT, unary(block -> {}));
+        define("scotch.data.num.+", DOUBLE, binary(CodeBlock::dadd));
+        define("scotch.data.num.-", DOUBLE, binary(CodeBlock::dsub));
+        define("scotch.data.num.*", DOUBLE, binary(CodeBlock::dmul));
+        define("scotch.data.num.negate", DOUBLE, unary(CodeBlock::dneg));
+        define("scotch.data.num.-prefix", DOUBLE, unary(CodeBlock::dneg));
+        define("scotch.data.num.abs", DOUBLE, unary(block -> block.invokestatic(p(Math.class), "abs", sig(double.class, double.class))));
+        define("scotch.data.num.signum", DOUBLE, unary(block -> block.invokestatic(p(NumDouble.class), "signum", sig(double.class, double.class))));
+        define("scotch.data.num.fromInteger", DOUBLE, unary(CodeBlock::i2d));
+        define("scotch.data.eq.==", INT, comparison(CodeBlock::if_icmpeq));
+        define("scotch.data.eq./=", INT, comparison(CodeBlock::if_icmpne));
+        define("scotch.data.eq.==", BOOL, comparison(CodeBlock::if_icmpeq));
+        define("scotch.data.eq./=", BOOL, comparison(CodeBlock::if_icmpne));
+        define("scotch.data.ord.<", INT, comparison(CodeBlock::if_icmplt));
+        define("scotch.data.ord.<=", INT, comparison(CodeBlock::if_icmple));
+        define("scotch.data.ord.>", INT, comparison(CodeBlock::if_icmpgt));
+        define("scotch.data.ord.>=", INT, comparison(CodeBlock::if_icmpge));
+        define("scotch.data.bool.not", Optional.empty(), unary(block -> block.iconst_1().ixor()));
+        define("scotch.data.bool.&&", Optional.empty(), shortCircuit(CodeBlock::iffalse, CodeBlock::iconst_0));
+        define("scotch.data.bool.||", Optional.empty(), shortCircuit(CodeBlock::iftrue, CodeBlock::iconst_1));
+    }
+
+    /**
+     * Finds the primitive operation applied by a function to exactly as many arguments as it takes. Methods of type
+     * classes are identified by the type of the instance given as, or bound to, their first argument.
+     */
+    public static Optional<PrimitiveOperation> find(BytecodeGenerator state, Value function, List<Value> arguments) {
+        if (function instanceof Method) {
+            Symbol symbol = ((Method) function).getSymbol();
+            Optional<Symbol> instanceType = arguments.stream()
+                .findFirst()
+                .flatMap(argument -> argument.asInstance(state))
+                .map(Value::getType)
+                .filter(type -> type instanceof InstanceType)
+                .map(type -> ((InstanceType) type).getBinding())
+                .filter(type -> type instanceof SumType)
+                .map(type -> ((SumType) type).getSymbol());
+            return Optional.ofNullable(operations.get(pair(symbol, instanceType)))
+                .filter(operation -> operation.arity + (instanceType.isPresent() ? 1 : 0) == arguments.size());
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private static PrimitiveOperation binary(Consumer<CodeBlock> instruction) {
+        return new PrimitiveOperation(2, operands -> {
+            CodeBlock block = new CodeBlock().append(operands.get(0)).append(operands.get(1));
+            instruction.accept(block);
+            return block;
+        });
+    }
+
+    private static PrimitiveOperation comparison(BiConsumer<CodeBlock, LabelNode> jump) {
+        return new PrimitiveOperation(2, operands -> new CodeBlock() {{
+            LabelNode isTrue = new LabelNode();
+            LabelNode end = new LabelNode();
+            append(operands.get(0));
+            append(operands.get(1));
+            jump.accept(this, isTrue);
+            iconst_0();
+            go_to(end);
+            label(isTrue);
+            iconst_1();
+            label(end);
+        }});
+    }
+
+    private static void define(String symbol, Optional<Symbol> instanceType, PrimitiveOperation operation) {
+        operations.put(pair(symbol(symbol), instanceType), operation);
+    }
+
+    private static PrimitiveOperation shortCircuit(BiConsumer<CodeBlock, LabelNode> jump, Consumer<CodeBlock> result) {
+        return new PrimitiveOperation(2, operands -> new CodeBlock() {{
+            LabelNode shortCircuit = new LabelNode();
+            LabelNode end = new LabelNode();
+            append(operands.get(0));
+            jump.accept(this, shortCircuit);
+            append(operands.get(1));
+            go_to(end);
+            label(shortCircuit);
+            result.accept(this);
+            label(end);
+        }});
+    }
+
+    private static PrimitiveOperation unary(Consumer<CodeBlock> instruction) {
+        return new PrimitiveOperation(1, operands -> {
+            CodeBlock block = new CodeBlock().append(operands.get(0));
+            instruction.accept(block);
+            return block;
+        });
+    }
+
+    private final int                                  arity;
+    private final Function<List<CodeBlock>, CodeBlock> generator;
+
+    private PrimitiveOperation(int arity, Function<List<CodeBlock>, CodeBlock> generator) {
+        this.arity = arity;
+        this.generator = generator;
+    }
+
+    public CodeBlock generate(List<CodeBlock> operands) {
+        return generator.apply(operands);
+    }
+
+    /**
+     * Drops the instance argument given to a type class method, leaving the operands of this operation.
+     */
+    public List<Value> getOperands(List<Value> arguments) {
+        return arguments.subList(arguments.size() - arity, arguments.size());
+    }
+}
@@ -51,6 +51,11 @@ public class UnboundMethod extends Value {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public boolean canGenerateIntermediateCode() {
+        return false;
+    }
+
     @Override
     public IntermediateValue generateIntermediateCode(IntermediateGenerator state) {
         throw new UnsupportedOperationException(); // TODO
@@ -6,6 +6,9 @@ import static scotch.compiler.util.Either.left;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import me.qmx.jitescript.CodeBlock;
 import scotch.compiler.intermediate.IntermediateGenerator;
 import scotch.compiler.intermediate.IntermediateValue;
@@ -15,7 +18,9 @@ import scotch.compiler.steps.NameAccumulator;
 import scotch.compiler.steps.OperatorAccumulator;
 import scotch.compiler.steps.PrecedenceParser;
 import scotch.compiler.steps.ScopedNameQualifier;
+import scotch.compiler.steps.StrictnessAnalyzer;
 import scotch.compiler.steps.TypeChecker;
+import scotch.symbol.DemandSignature;
 import scotch.symbol.Operator;
 import scotch.symbol.type.SumType;
 import scotch.symbol.type.Type;
@@ -34,6 +39,25 @@ public abstract class Value {
 
     public abstract Value accumulateNames(NameAccumulator state);
 
+    /**
+     * Computes the demand signature of a function from the arguments its body certainly evaluates.
+     */
+    public DemandSignature analyzeDemand(StrictnessAnalyzer state) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Finds the names of the arguments which are certainly evaluated whenever this value is evaluated.
+     */
+    public Set<String> analyzeStrictness(StrictnessAnalyzer state) {
+        return ImmutableSet.of();
+    }
+
+    /**
+     * Whether this value can be lowered to intermediate code. Values which can't are generated from their syntax alone.
+     */
+    public abstract boolean canGenerateIntermediateCode();
+
     public abstract IntermediateValue generateIntermediateCode(IntermediateGenerator state);
 
     public WithArguments withArguments() {
@@ -54,6 +78,14 @@ public abstract class Value {
         }
     }
 
+    /**
+     * Resolves this value to the type class instance it is known to be while generating bytecode, either because it
+     * is one or because it is a dictionary argument bound to one in a specialized worker.
+     */
+    public Optional<Instance> asInstance(BytecodeGenerator state) {
+        return Optional.empty();
+    }
+
     public Optional<Pair<Identifier, Operator>> asOperator(Scope scope) {
         return Optional.empty();
     }
@@ -79,6 +111,76 @@ public abstract class Value {
 
     public abstract CodeBlock generateBytecode(BytecodeGenerator state);
 
+    /**
+     * Generates this value in tail position of a worker, where a saturated call back to the worker may loop instead.
+     */
+    public CodeBlock generateTailBytecode(BytecodeGenerator state) {
+        return generateBytecode(state);
+    }
+
+    /**
+     * Generates this value where it is certain to be evaluated, so that it need not be suspended in a thunk.
+     */
+    public CodeBlock generateStrictBytecode(BytecodeGenerator state) {
+        return generateBytecode(state);
+    }
+
+    /**
+     * Generates this value as an unboxed primitive, where it is certain to be evaluated. Values which can't be computed
+     * without boxing generate nothing.
+     */
+    public Optional<CodeBlock> generateUnboxedBytecode(BytecodeGenerator state) {
+        return Optional.empty();
+    }
+
+    /**
+     * Generates this value as an unboxed primitive operand, falling back to evaluating and unboxing it unless an unboxed
+     * worker is being generated.
+     */
+    public Optional<CodeBlock> generateUnboxedOperand(BytecodeGenerator state) {
+        return generateUnboxedOperand(state, getType());
+    }
+
+    /**
+     * Generates this value as an unboxed primitive operand of the given type, which a polymorphic value is known to
+     * have when it is given to a member of an instance bound in a specialized worker.
+     */
+    public Optional<CodeBlock> generateUnboxedOperand(BytecodeGenerator state, Type type) {
+        Optional<CodeBlock> unboxed = generateUnboxedBytecode(state);
+        if (unboxed.isPresent() || state.isUnboxing()) {
+            return unboxed;
+        } else {
+            return Optional.of(generateStrictBytecode(state).append(state.unbox(type)));
+        }
+    }
+
+    /**
+     * Generates this value in tail position of an unboxed worker, returning its unboxed result.
+     */
+    public Optional<CodeBlock> generateUnboxedTailBytecode(BytecodeGenerator state) {
+        return generateUnboxedOperand(state).map(block -> block.append(state.unboxedReturn(getType())));
+    }
+
+    public Optional<CodeBlock> generateUnboxedWorkerBytecode(BytecodeGenerator state) {
+        return Optional.empty();
+    }
+
+    /**
+     * Generates the body of a function with all of its arguments received at once, for direct calls by known
+     * saturated applications.
+     */
+    public CodeBlock generateWorkerBytecode(BytecodeGenerator state) {
+        throw new UnsupportedOperationException();
+    }
+
+    public int getArity() {
+        return 0;
+    }
+
+    public List<Argument> getArguments() {
+        return ImmutableList.of();
+    }
+
     public abstract SourceLocation getSourceLocation();
 
     public abstract Type getType();
@@ -86,6 +188,10 @@ public abstract class Value {
     @Override
     public abstract int hashCode();
 
+    public boolean isFunction() {
+        return false;
+    }
+
     public boolean isOperator(Scope scope) {
         return false;
     }
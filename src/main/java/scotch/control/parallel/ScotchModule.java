@@ -0,0 +1,171 @@
+package scotch.control.parallel;
+
+import static scotch.symbol.Value.Fixity.RIGHT_INFIX;
+import static scotch.symbol.type.Types.fn;
+import static scotch.symbol.type.Types.sum;
+import static scotch.symbol.type.Types.var;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.flatCallable;
+
+import java.util.ArrayList;
+import java.util.List;
+import scotch.data.list.ConsList;
+import scotch.data.list.ConsList.ConsCell;
+import scotch.symbol.Demand;
+import scotch.symbol.Value;
+import scotch.symbol.ValueType;
+import scotch.symbol.type.Type;
+import scotch.runtime.Applicable;
+import scotch.runtime.Callable;
+import scotch.runtime.SparkPool;
+
+/**
+ * Parallel evaluation primitives. Values sparked with {@code par} or one of the list strategies are evaluated
+ * speculatively by the {@link SparkPool}, and are otherwise evaluated by whichever thread demands them first.
+ */
+@SuppressWarnings("unused")
+public class ScotchModule {
+
+    /**
+     * Sparks its first argument for parallel evaluation and returns its second.
+     */
+    @Value(memberName = "par", fixity = RIGHT_INFIX, precedence = 0)
+    @Demand("LS")
+    public static <A, B> Applicable<A, Applicable<B, B>> par() {
+        return applicable((spark, result) -> flatCallable(() -> {
+            SparkPool.spark(spark);
+            return result;
+        }));
+    }
+
+    @ValueType(forMember = "par")
+    public static Type par$type() {
+        return fn(var("a"), fn(var("b"), var("b")));
+    }
+
+    /**
+     * Evaluates its first argument and then returns its second, which is left for the caller to evaluate so that the
+     * order of evaluation is preserved.
+     */
+    @Value(memberName = "pseq", fixity = RIGHT_INFIX, precedence = 0)
+    @Demand("SL")
+    public static <A, B> Applicable<A, Applicable<B, B>> pseq() {
+        return applicable((first, second) -> flatCallable(() -> {
+            first.call();
+            return second;
+        }));
+    }
+
+    @ValueType(forMember = "pseq")
+    public static Type pseq$type() {
+        return fn(var("a"), fn(var("b"), var("b")));
+    }
+
+    /**
+     * Evaluates both of its arguments and returns its second.
+     */
+    @Value(memberName = "seq", fixity = RIGHT_INFIX, precedence = 0)
+    @Demand("SS")
+    public static <A, B> Applicable<A, Applicable<B, B>> seq() {
+        return applicable((first, second) -> flatCallable(() -> {
+            first.call();
+            return second;
+        }));
+    }
+
+    @ValueType(forMember = "seq")
+    public static Type seq$type() {
+        return fn(var("a"), fn(var("b"), var("b")));
+    }
+
+    /**
+     * Evaluates the spine of a list and sparks each of its elements.
+     */
+    @Value(memberName = "parList")
+    @Demand("S")
+    public static <A> Applicable<ConsList<A>, ConsList<A>> parList() {
+        return applicable(list -> flatCallable(() -> sparkChunks(1, list)));
+    }
+
+    @ValueType(forMember = "parList")
+    public static Type parList$type() {
+        return fn(list(var("a")), list(var("a")));
+    }
+
+    /**
+     * Evaluates the spine of a list and sparks its elements in chunks of the given size, each chunk being evaluated
+     * in order by a single spark.
+     */
+    @Value(memberName = "parListChunk")
+    @Demand("SS")
+    public static <A> Applicable<Integer, Applicable<ConsList<A>, ConsList<A>>> parListChunk() {
+        return applicable((chunkSize, list) -> flatCallable(() -> sparkChunks(chunkSize.call(), list)));
+    }
+
+    @ValueType(forMember = "parListChunk")
+    public static Type parListChunk$type() {
+        return fn(sum("scotch.data.int.Int"), fn(list(var("a")), list(var("a"))));
+    }
+
+    /**
+     * Maps a function over a list, sparking each application.
+     */
+    @Value(memberName = "parMap")
+    @Demand("LS")
+    public static <A, B> Applicable<Applicable<A, B>, Applicable<ConsList<A>, ConsList<B>>> parMap() {
+        return applicable((function, list) -> flatCallable(() -> sparkChunks(1, map(function, list))));
+    }
+
+    @ValueType(forMember = "parMap")
+    public static Type parMap$type() {
+        return fn(fn(var("a"), var("b")), fn(list(var("a")), list(var("b"))));
+    }
+
+    /**
+     * Maps a function over a list, sparking the applications in chunks of the given size.
+     */
+    @Value(memberName = "parMapChunk")
+    @Demand("SLS")
+    public static <A, B> Applicable<Integer, Applicable<Applicable<A, B>, Applicable<ConsList<A>, ConsList<B>>>> parMapChunk() {
+        return applicable((chunkSize, function, list) -> flatCallable(() -> sparkChunks(chunkSize.call(), map(function, list))));
+    }
+
+    @ValueType(forMember = "parMapChunk")
+    public static Type parMapChunk$type() {
+        return fn(sum("scotch.data.int.Int"), fn(fn(var("a"), var("b")), fn(list(var("a")), list(var("b")))));
+    }
+
+    private static Type list(Type argument) {
+        return sum("scotch.data.list.[]", argument);
+    }
+
+    private static <A, B> Callable<ConsList<B>> map(Callable<Applicable<A, B>> function, Callable<ConsList<A>> list) {
+        List<Callable<B>> results = new ArrayList<>();
+        for (ConsList<A> cell = list.call(); cell instanceof ConsCell; cell = ((ConsCell<A>) cell).getTail().call()) {
+            Callable<A> element = ((ConsCell<A>) cell).getHead();
+            results.add(flatCallable(() -> function.call().apply(element)));
+        }
+        Callable<ConsList<B>> result = ConsList.empty();
+        for (int i = results.size() - 1; i >= 0; i--) {
+            result = box(new ConsCell<>(results.get(i), result));
+        }
+        return result;
+    }
+
+    private static <A> Callable<ConsList<A>> sparkChunks(int chunkSize, Callable<ConsList<A>> list) {
+        int size = Math.max(chunkSize, 1);
+        List<Callable<A>> chunk = new ArrayList<>(size);
+        for (ConsList<A> cell = list.call(); cell instanceof ConsCell; cell = ((ConsCell<A>) cell).getTail().call()) {
+            chunk.add(((ConsCell<A>) cell).getHead());
+            if (chunk.size() == size) {
+                SparkPool.sparkAll(chunk);
+                chunk = new ArrayList<>(size);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            SparkPool.sparkAll(chunk);
+        }
+        return list;
+    }
+}
@@ -9,6 +9,7 @@ import static scotch.symbol.type.Types.var;
 
 import java.util.List;
 import java.util.Objects;
+import scotch.data.string.Rope;
 import scotch.runtime.Applicable;
 import scotch.runtime.Callable;
 import scotch.runtime.RuntimeSupport;
@@ -56,8 +57,10 @@ public abstract class Either<A, B> {
         return fn(var("b"), sum("scotch.data.either.Either", var("a"), var("b")));
     }
 
-    private Either() {
-        // intentionally empty
+    private final int tag;
+
+    private Either(int tag) {
+        this.tag = tag;
     }
 
     @Override
@@ -68,6 +71,13 @@ public abstract class Either<A, B> {
 
     public abstract <C> Either<A, C> map(Applicable<B, C> function);
 
+    /**
+     * Gets the ordinal of the constructor of this value.
+     */
+    public final int tag() {
+        return tag;
+    }
+
     @Override
     public abstract String toString();
 
@@ -77,12 +87,13 @@ public abstract class Either<A, B> {
         private final Callable<A> value;
 
         public Left(Callable<A> value) {
+            super(0);
             this.value = value;
         }
 
         @Override
         public boolean equals(Object o) {
-            return o == this || o instanceof Left && Objects.equals(value.call(), ((Left) o).value.call());
+            return o == this || o instanceof Left && Rope.valueEquals(value.call(), ((Left) o).value.call());
         }
 
         @Override
@@ -108,12 +119,13 @@ public abstract class Either<A, B> {
         private final Callable<B> value;
 
         public Right(Callable<B> value) {
+            super(1);
             this.value = value;
         }
 
         @Override
         public boolean equals(Object o) {
-            return o == this || o instanceof Right && Objects.equals(value.call(), ((Right) o).value.call());
+            return o == this || o instanceof Right && Rope.valueEquals(value.call(), ((Right) o).value.call());
         }
 
         @Override
@@ -11,6 +11,7 @@ import static scotch.symbol.type.Types.var;
 import scotch.data.bool.Bool;
 import scotch.runtime.Applicable;
 import scotch.runtime.Callable;
+import scotch.symbol.Demand;
 import scotch.symbol.Member;
 import scotch.symbol.TypeClass;
 import scotch.symbol.TypeParameter;
@@ -25,8 +26,9 @@ import scotch.symbol.type.Type;
 public interface Eq<A> {
 
     @Value(memberName = "==", fixity = LEFT_INFIX, precedence = 5)
+    @Demand("SLL")
     static <A> Applicable<Eq<A>, Applicable<A, Applicable<A, Boolean>>> eq() {
-        return applicable(instance -> applicable(left -> applicable(right -> instance.call().eq(left, right))));
+        return applicable((instance, left, right) -> flatCallable(() -> instance.call().eq(left, right)));
     }
 
     @ValueType(forMember = "==")
@@ -36,8 +38,9 @@ public interface Eq<A> {
     }
 
     @Value(memberName = "/=", fixity = LEFT_INFIX, precedence = 5)
+    @Demand("SLL")
     static <A> Applicable<Eq<A>, Applicable<A, Applicable<A, Boolean>>> ne() {
-        return applicable(instance -> applicable(left -> applicable(right -> instance.call().ne(left, right))));
+        return applicable((instance, left, right) -> flatCallable(() -> instance.call().ne(left, right)));
     }
 
     @ValueType(forMember = "/=")
@@ -5,6 +5,7 @@ import static scotch.symbol.type.Types.sum;
 import static scotch.runtime.RuntimeSupport.callable;
 
 import java.util.List;
+import scotch.symbol.Demand;
 import scotch.symbol.InstanceGetter;
 import scotch.symbol.type.Type;
 import scotch.symbol.TypeInstance;
@@ -33,6 +34,7 @@ public class EqBool implements Eq<Boolean> {
     }
 
     @Override
+    @Demand("SS")
     public Callable<Boolean> eq(Callable<Boolean> left, Callable<Boolean> right) {
         return callable(() -> left.call().equals(right.call()));
     }
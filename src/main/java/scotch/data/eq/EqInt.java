@@ -1,11 +1,14 @@
 package scotch.data.eq;
 
 import static java.util.Arrays.asList;
+import static scotch.runtime.RuntimeSupport.box;
 import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.unboxInt;
 
 import java.util.List;
 import scotch.data.int_.Int;
 import scotch.runtime.Callable;
+import scotch.symbol.Demand;
 import scotch.symbol.InstanceGetter;
 import scotch.symbol.TypeInstance;
 import scotch.symbol.TypeParameters;
@@ -32,7 +35,8 @@ public class EqInt implements Eq<Integer> {
     }
 
     @Override
+    @Demand("SS")
     public Callable<Boolean> eq(Callable<Integer> left, Callable<Integer> right) {
-        return callable(() -> left.call().equals(right.call()));
+        return box(unboxInt(left) == unboxInt(right));
     }
 }
@@ -5,6 +5,8 @@ import static scotch.symbol.type.Types.sum;
 import static scotch.runtime.RuntimeSupport.callable;
 
 import java.util.List;
+import scotch.data.string.Rope;
+import scotch.symbol.Demand;
 import scotch.symbol.InstanceGetter;
 import scotch.symbol.TypeInstance;
 import scotch.symbol.TypeParameters;
@@ -13,7 +15,7 @@ import scotch.runtime.Callable;
 
 @SuppressWarnings("unused")
 @TypeInstance(typeClass = "scotch.data.eq.Eq")
-public class EqString implements Eq<String> {
+public class EqString implements Eq<CharSequence> {
 
     private static final Callable<EqString> INSTANCE = callable(EqString::new);
 
@@ -32,7 +34,8 @@ public class EqString implements Eq<String> {
     }
 
     @Override
-    public Callable<Boolean> eq(Callable<String> left, Callable<String> right) {
-        return callable(() -> left.call().equals(right.call()));
+    @Demand("SS")
+    public Callable<Boolean> eq(Callable<CharSequence> left, Callable<CharSequence> right) {
+        return callable(() -> Rope.contentEquals(left.call(), right.call()));
     }
 }
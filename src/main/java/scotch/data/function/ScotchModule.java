@@ -7,6 +7,7 @@ import static scotch.runtime.RuntimeSupport.applicable;
 import static scotch.runtime.RuntimeSupport.callable;
 import static scotch.runtime.RuntimeSupport.flatCallable;
 
+import scotch.symbol.Demand;
 import scotch.symbol.Value;
 import scotch.symbol.ValueType;
 import scotch.symbol.type.Type;
@@ -32,8 +33,9 @@ public class ScotchModule {
     }
 
     @Value(memberName = "$", fixity = RIGHT_INFIX, precedence = 0)
+    @Demand("SL")
     public static <A, B> Applicable<Applicable<A, B>, Applicable<A, B>> dollarSign() {
-        return applicable(function -> applicable(argument -> flatCallable(() -> function.call().apply(argument))));
+        return applicable((function, argument) -> flatCallable(() -> function.call().apply(argument)));
     }
 
     @ValueType(forMember = "$")
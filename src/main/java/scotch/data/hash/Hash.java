@@ -0,0 +1,48 @@
+package scotch.data.hash;
+
+import static java.util.Arrays.asList;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.flatCallable;
+import static scotch.symbol.type.Types.fn;
+import static scotch.symbol.type.Types.var;
+
+import scotch.data.eq.Eq;
+import scotch.data.int_.Int;
+import scotch.runtime.Applicable;
+import scotch.runtime.Callable;
+import scotch.symbol.Demand;
+import scotch.symbol.Member;
+import scotch.symbol.TypeClass;
+import scotch.symbol.TypeParameter;
+import scotch.symbol.Value;
+import scotch.symbol.ValueType;
+import scotch.symbol.type.Type;
+
+/**
+ * Types whose values can be hashed consistently with their {@link Eq} instance: values which are equal must have
+ * equal hashes.
+ */
+@SuppressWarnings("unused")
+@TypeClass(memberName = "Hash", parameters = {
+    @TypeParameter(name = "a", constraints = {
+        "scotch.data.eq.Eq",
+    }),
+})
+public interface Hash<A> {
+
+    static final Type a = var("a", asList("scotch.data.hash.Hash", "scotch.data.eq.Eq"));
+
+    @Value(memberName = "hash")
+    @Demand("LSL")
+    public static <A> Applicable<Eq<A>, Applicable<Hash<A>, Applicable<A, Integer>>> hash() {
+        return applicable((eq, hash, value) -> flatCallable(() -> hash.call().hash(eq, value)));
+    }
+
+    @ValueType(forMember = "hash")
+    public static Type hash$type() {
+        return fn(a, Int.TYPE);
+    }
+
+    @Member("hash")
+    Callable<Integer> hash(Callable<Eq<A>> eq, Callable<A> value);
+}
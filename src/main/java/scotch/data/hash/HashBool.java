@@ -0,0 +1,43 @@
+package scotch.data.hash;
+
+import static java.util.Arrays.asList;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.unboxBool;
+
+import java.util.List;
+import scotch.data.bool.Bool;
+import scotch.data.eq.Eq;
+import scotch.runtime.Callable;
+import scotch.symbol.Demand;
+import scotch.symbol.InstanceGetter;
+import scotch.symbol.TypeInstance;
+import scotch.symbol.TypeParameters;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings("unused")
+@TypeInstance(typeClass = "scotch.data.hash.Hash")
+public class HashBool implements Hash<Boolean> {
+
+    private static final Callable<HashBool> INSTANCE = callable(HashBool::new);
+
+    @InstanceGetter
+    public static Callable<HashBool> instance() {
+        return INSTANCE;
+    }
+
+    @TypeParameters
+    public static List<Type> parameters() {
+        return asList(Bool.TYPE);
+    }
+
+    private HashBool() {
+        // intentionally empty
+    }
+
+    @Override
+    @Demand("LS")
+    public Callable<Integer> hash(Callable<Eq<Boolean>> eq, Callable<Boolean> value) {
+        return box(unboxBool(value) ? 1231 : 1237);
+    }
+}
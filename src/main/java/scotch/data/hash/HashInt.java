@@ -0,0 +1,43 @@
+package scotch.data.hash;
+
+import static java.util.Arrays.asList;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.unboxInt;
+
+import java.util.List;
+import scotch.data.eq.Eq;
+import scotch.data.int_.Int;
+import scotch.runtime.Callable;
+import scotch.symbol.Demand;
+import scotch.symbol.InstanceGetter;
+import scotch.symbol.TypeInstance;
+import scotch.symbol.TypeParameters;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings("unused")
+@TypeInstance(typeClass = "scotch.data.hash.Hash")
+public class HashInt implements Hash<Integer> {
+
+    private static final Callable<HashInt> INSTANCE = callable(HashInt::new);
+
+    @InstanceGetter
+    public static Callable<HashInt> instance() {
+        return INSTANCE;
+    }
+
+    @TypeParameters
+    public static List<Type> parameters() {
+        return asList(Int.TYPE);
+    }
+
+    private HashInt() {
+        // intentionally empty
+    }
+
+    @Override
+    @Demand("LS")
+    public Callable<Integer> hash(Callable<Eq<Integer>> eq, Callable<Integer> value) {
+        return box(unboxInt(value));
+    }
+}
@@ -0,0 +1,43 @@
+package scotch.data.hash;
+
+import static java.util.Arrays.asList;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.symbol.type.Types.sum;
+
+import java.util.List;
+import scotch.data.eq.Eq;
+import scotch.data.string.Rope;
+import scotch.runtime.Callable;
+import scotch.symbol.Demand;
+import scotch.symbol.InstanceGetter;
+import scotch.symbol.TypeInstance;
+import scotch.symbol.TypeParameters;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings("unused")
+@TypeInstance(typeClass = "scotch.data.hash.Hash")
+public class HashString implements Hash<CharSequence> {
+
+    private static final Callable<HashString> INSTANCE = callable(HashString::new);
+
+    @InstanceGetter
+    public static Callable<HashString> instance() {
+        return INSTANCE;
+    }
+
+    @TypeParameters
+    public static List<Type> parameters() {
+        return asList(sum("scotch.data.string.String"));
+    }
+
+    private HashString() {
+        // intentionally empty
+    }
+
+    @Override
+    @Demand("LS")
+    public Callable<Integer> hash(Callable<Eq<CharSequence>> eq, Callable<CharSequence> value) {
+        return box(Rope.hash(value.call()));
+    }
+}
@@ -7,12 +7,19 @@ import static scotch.symbol.type.Types.fn;
 import static scotch.symbol.type.Types.sum;
 import static scotch.symbol.type.Types.var;
 import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.box;
 import static scotch.runtime.RuntimeSupport.callable;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
-import lombok.AllArgsConstructor;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import lombok.EqualsAndHashCode;
 import scotch.symbol.DataConstructor;
 import scotch.symbol.DataField;
@@ -25,12 +32,13 @@ import scotch.symbol.ValueType;
 import scotch.symbol.type.Type;
 import scotch.runtime.Applicable;
 import scotch.runtime.Callable;
+import scotch.data.string.Rope;
 
 @SuppressWarnings("unused")
 @DataType(memberName = "[]", parameters = {
     @TypeParameter(name = "a")
 })
-public abstract class ConsList<A> {
+public abstract class ConsList<A> implements Iterable<A> {
 
     private static final Callable<EmptyCell> EMPTY = callable(EmptyCell::new);
 
@@ -55,13 +63,68 @@ public abstract class ConsList<A> {
         return sum("scotch.data.list.[]", var("a"));
     }
 
+    /**
+     * Presents an array as a list without copying it. Each cell reads its element from the array when first demanded,
+     * so the array must not be modified while the list is in use.
+     */
+    @SafeVarargs
+    public static <A> Callable<ConsList<A>> fromArray(A... array) {
+        return fromIndex(index -> array[index], array.length, 0);
+    }
+
+    /**
+     * Presents an {@link Iterable} as a list without copying it. Random-access lists are read by index as each cell is
+     * demanded, other iterables are iterated once as the list is traversed. A source list must not be modified while
+     * the list is in use.
+     */
+    @SuppressWarnings("unchecked")
+    public static <A> Callable<ConsList<A>> fromIterable(Iterable<? extends A> iterable) {
+        if (iterable instanceof ConsList) {
+            return callable(() -> (ConsList<A>) iterable);
+        } else if (iterable instanceof List && iterable instanceof RandomAccess) {
+            List<? extends A> list = (List<? extends A>) iterable;
+            return fromIndex(list::get, list.size(), 0);
+        } else {
+            return fromIterator(iterable.iterator());
+        }
+    }
+
+    /**
+     * Presents a {@link Stream} as a list, consuming the stream only as far as the list is traversed.
+     */
+    public static <A> Callable<ConsList<A>> fromStream(Stream<? extends A> stream) {
+        return fromIterator(stream.iterator());
+    }
+
     @TypeParameters
     public static List<Type> parameters() {
         return asList(var("a"));
     }
 
-    private ConsList() {
-        // intentionally empty
+    private static <A> Callable<ConsList<A>> fromIndex(IntFunction<? extends A> element, int size, int offset) {
+        return callable(() -> {
+            if (offset < size) {
+                return new ConsCell<>(callable(() -> element.apply(offset)), fromIndex(element, size, offset + 1));
+            } else {
+                return ConsList.<A>empty().call();
+            }
+        });
+    }
+
+    private static <A> Callable<ConsList<A>> fromIterator(Iterator<? extends A> iterator) {
+        return callable(() -> {
+            if (iterator.hasNext()) {
+                return new ConsCell<>(box(iterator.next()), fromIterator(iterator));
+            } else {
+                return ConsList.<A>empty().call();
+            }
+        });
+    }
+
+    private final int tag;
+
+    private ConsList(int tag) {
+        this.tag = tag;
     }
 
     @Override
@@ -70,13 +133,54 @@ public abstract class ConsList<A> {
     @Override
     public abstract int hashCode();
 
+    /**
+     * Iterates over the list, evaluating each cell only when the iterator reaches it.
+     */
+    @Override
+    public Iterator<A> iterator() {
+        return new Iterator<A>() {
+            private Callable<ConsList<A>> rest = box(ConsList.this);
+
+            @Override
+            public boolean hasNext() {
+                return rest.call() instanceof ConsCell;
+            }
+
+            @Override
+            public A next() {
+                ConsList<A> current = rest.call();
+                if (current instanceof ConsCell) {
+                    rest = ((ConsCell<A>) current).tail;
+                    return ((ConsCell<A>) current).head.call();
+                } else {
+                    throw new NoSuchElementException();
+                }
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<A> spliterator() {
+        return new ConsListSpliterator<>(box(this));
+    }
+
+    public Stream<A> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Gets the ordinal of the constructor of this value.
+     */
+    public final int tag() {
+        return tag;
+    }
+
     public String toString() {
         return "[" + toString_().stream().map(Object::toString).collect(joining(", ")) + "]";
     }
 
     protected abstract List<A> toString_();
 
-    @AllArgsConstructor
     @DataConstructor(ordinal = 1, memberName = ":", dataType = "[]")
     public static class ConsCell<A> extends ConsList<A> {
 
@@ -93,14 +197,20 @@ public abstract class ConsList<A> {
         private final Callable<A> head;
         private final Callable<ConsList<A>> tail;
 
+        public ConsCell(Callable<A> head, Callable<ConsList<A>> tail) {
+            super(1);
+            this.head = head;
+            this.tail = tail;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (o == this) {
                 return true;
             } else if (o instanceof ConsCell) {
                 ConsCell other = (ConsCell) o;
-                return Objects.equals(head.call(), other.head.call())
-                    && Objects.equals(tail.call(), other.tail.call());
+                return Rope.valueEquals(head.call(), other.head.call())
+                    && Rope.valueEquals(tail.call(), other.tail.call());
             } else {
                 return false;
             }
@@ -134,6 +244,10 @@ public abstract class ConsList<A> {
     @DataConstructor(ordinal = 0, memberName = "[]", dataType = "[]")
     public static class EmptyCell<A> extends ConsList<A> {
 
+        public EmptyCell() {
+            super(0);
+        }
+
         @Override
         protected List<A> toString_() {
             return asList();
@@ -0,0 +1,103 @@
+package scotch.data.list;
+
+import static scotch.runtime.RuntimeSupport.isEvaluated;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import scotch.data.list.ConsList.ConsCell;
+import scotch.runtime.Callable;
+
+/**
+ * Traverses a {@link ConsList}, forcing its spine only as elements are consumed. Splitting never forces a tail: a
+ * split hands off a prefix of cells which are already evaluated, halving the list when its whole spine is known and
+ * otherwise taking a growing batch, so parallel streams divide work only over the part of a list that exists.
+ */
+final class ConsListSpliterator<A> implements Spliterator<A> {
+
+    private static final int BATCH_UNIT = 1 << 10;
+    private static final int MAX_BATCH  = 1 << 25;
+
+    private Callable<ConsList<A>> rest;
+    private long                  remaining;
+    private int                   batch;
+
+    ConsListSpliterator(Callable<ConsList<A>> rest) {
+        this(rest, Long.MAX_VALUE);
+    }
+
+    private ConsListSpliterator(Callable<ConsList<A>> rest, long remaining) {
+        this.rest = rest;
+        this.remaining = remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        if (remaining == Long.MAX_VALUE) {
+            return ORDERED | IMMUTABLE;
+        } else {
+            return ORDERED | IMMUTABLE | SIZED | SUBSIZED;
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super A> action) {
+        while (tryAdvance(action)) {
+            // intentionally empty
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super A> action) {
+        if (remaining > 0 && rest.call() instanceof ConsCell) {
+            ConsCell<A> cell = (ConsCell<A>) rest.call();
+            if (remaining != Long.MAX_VALUE) {
+                remaining--;
+            }
+            rest = cell.getTail();
+            action.accept(cell.getHead().call());
+            return true;
+        } else {
+            remaining = 0;
+            return false;
+        }
+    }
+
+    @Override
+    public Spliterator<A> trySplit() {
+        long count;
+        if (remaining == Long.MAX_VALUE) {
+            int limit = Math.min(batch + BATCH_UNIT, MAX_BATCH);
+            int evaluated = 0;
+            Callable<ConsList<A>> current = rest;
+            while (evaluated < limit && isEvaluated(current) && current.call() instanceof ConsCell) {
+                current = ((ConsCell<A>) current.call()).getTail();
+                evaluated++;
+            }
+            if (isEvaluated(current) && !(current.call() instanceof ConsCell)) {
+                remaining = evaluated;
+                count = evaluated / 2;
+            } else {
+                count = evaluated;
+            }
+        } else {
+            count = remaining / 2;
+        }
+        if (count == 0) {
+            return null;
+        }
+        Callable<ConsList<A>> prefix = rest;
+        for (long i = 0; i < count; i++) {
+            rest = ((ConsCell<A>) rest.call()).getTail();
+        }
+        if (remaining != Long.MAX_VALUE) {
+            remaining -= count;
+        }
+        batch = (int) count;
+        return new ConsListSpliterator<>(prefix, count);
+    }
+}
@@ -6,6 +6,7 @@ import static scotch.symbol.type.Types.var;
 import static scotch.runtime.RuntimeSupport.callable;
 
 import java.util.List;
+import scotch.symbol.Demand;
 import scotch.symbol.InstanceGetter;
 import scotch.symbol.TypeInstance;
 import scotch.symbol.TypeParameters;
@@ -34,6 +35,7 @@ public class EqList implements Eq<ConsList> {
     }
 
     @Override
+    @Demand("SS")
     public Callable<Boolean> eq(Callable<ConsList> left, Callable<ConsList> right) {
         return callable(() -> left.call().equals(right.call()));
     }
@@ -0,0 +1,475 @@
+package scotch.data.map;
+
+import static java.lang.Integer.bitCount;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+/**
+ * A persistent hash array mapped trie, backing {@link PersistentMap} and {@link scotch.data.set.PersistentSet}.
+ *
+ * <p>Each level of the trie consumes 5 bits of a key's hash to index a sparse array of at most 32 slots, so updates
+ * copy only the path from the root to the changed entry and share every other node with the original trie. Keys are
+ * hashed and compared through an {@link Equivalence} given to each operation, which lets the same trie be driven by
+ * Scotch type class instances. Keys whose hashes collide entirely are kept together in a collision node.</p>
+ *
+ * <p>A {@link Transient} may update nodes it has created in place, which makes bulk operations allocate only as many
+ * nodes as the resulting trie holds. Once made {@link Transient#persistent() persistent} again, a transient can no
+ * longer be updated.</p>
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ */
+public final class HashTrie<K, V> {
+
+    private static final HashTrie<?, ?> EMPTY     = new HashTrie<>(null, 0);
+    private static final Object         NOT_FOUND = new Object();
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> HashTrie<K, V> empty() {
+        return (HashTrie<K, V>) EMPTY;
+    }
+
+    private static int bitPosition(int hash, int shift) {
+        return 1 << ((hash >>> shift) & 0x1f);
+    }
+
+    /**
+     * Lets nodes, which hold keys and values as objects, use an equivalence or consumer of the trie's own types.
+     */
+    @SuppressWarnings("unchecked")
+    private static Equivalence<Object> erase(Equivalence<?> equivalence) {
+        return (Equivalence<Object>) equivalence;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> erase(BiConsumer<?, ?> consumer) {
+        return (BiConsumer<Object, Object>) consumer;
+    }
+
+    private static Node createNode(AtomicReference<Thread> edit, int shift, Object key1, Object value1, int hash2, Object key2, Object value2, Equivalence<Object> equivalence) {
+        int hash1 = equivalence.hash(key1);
+        if (hash1 == hash2) {
+            return new CollisionNode(edit, hash1, 2, new Object[] { key1, value1, key2, value2 });
+        } else {
+            Change change = new Change();
+            return BitmapNode.EMPTY
+                .put(edit, shift, hash1, key1, value1, equivalence, true, change)
+                .put(edit, shift, hash2, key2, value2, equivalence, true, change);
+        }
+    }
+
+    private final Node root;
+    private final int  size;
+
+    private HashTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    public Transient<K, V> asTransient() {
+        return new Transient<>(root, size);
+    }
+
+    public boolean containsKey(K key, Equivalence<? super K> equivalence) {
+        return find(key, equivalence) != NOT_FOUND;
+    }
+
+    public void forEach(BiConsumer<? super K, ? super V> consumer) {
+        if (root != null) {
+            root.forEach(erase(consumer));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public Optional<V> get(K key, Equivalence<? super K> equivalence) {
+        Object value = find(key, equivalence);
+        return value == NOT_FOUND ? Optional.empty() : Optional.of((V) value);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public HashTrie<K, V> put(K key, V value, Equivalence<? super K> equivalence) {
+        Change change = new Change();
+        Node node = (root == null ? BitmapNode.EMPTY : root).put(null, 0, equivalence.hash(key), key, value, erase(equivalence), true, change);
+        return node == root ? this : new HashTrie<>(node, change.added ? size + 1 : size);
+    }
+
+    public HashTrie<K, V> remove(K key, Equivalence<? super K> equivalence) {
+        if (root == null) {
+            return this;
+        } else {
+            Change change = new Change();
+            Node node = root.remove(null, 0, equivalence.hash(key), key, erase(equivalence), change);
+            return node == root ? this : new HashTrie<>(node, size - 1);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Combines this trie with another, keeping the values of this trie for keys found in both. The entries of the
+     * smaller trie are added to a transient copy of the larger.
+     */
+    public HashTrie<K, V> union(HashTrie<K, V> other, Equivalence<? super K> equivalence) {
+        if (other.isEmpty()) {
+            return this;
+        } else if (isEmpty()) {
+            return other;
+        } else if (size >= other.size) {
+            Transient<K, V> result = asTransient();
+            other.forEach((key, value) -> result.putIfAbsent(key, value, equivalence));
+            return result.persistent();
+        } else {
+            Transient<K, V> result = other.asTransient();
+            forEach((key, value) -> result.put(key, value, equivalence));
+            return result.persistent();
+        }
+    }
+
+    private Object find(K key, Equivalence<? super K> equivalence) {
+        return root == null ? NOT_FOUND : root.find(0, equivalence.hash(key), key, erase(equivalence));
+    }
+
+    /**
+     * Hashes and compares keys.
+     *
+     * @param <K> The type of the keys.
+     */
+    public interface Equivalence<K> {
+
+        boolean equal(K left, K right);
+
+        int hash(K key);
+    }
+
+    /**
+     * A trie which may be updated in place by the thread which created it, until it is made persistent.
+     *
+     * @param <K> The type of the keys.
+     * @param <V> The type of the values.
+     */
+    public static final class Transient<K, V> {
+
+        private final AtomicReference<Thread> edit;
+        private       Node                    root;
+        private       int                     size;
+
+        private Transient(Node root, int size) {
+            this.edit = new AtomicReference<>(Thread.currentThread());
+            this.root = root;
+            this.size = size;
+        }
+
+        public HashTrie<K, V> persistent() {
+            ensureEditable();
+            edit.set(null);
+            return new HashTrie<>(root, size);
+        }
+
+        public Transient<K, V> put(K key, V value, Equivalence<? super K> equivalence) {
+            return put(key, value, equivalence, true);
+        }
+
+        public Transient<K, V> putIfAbsent(K key, V value, Equivalence<? super K> equivalence) {
+            return put(key, value, equivalence, false);
+        }
+
+        public Transient<K, V> remove(K key, Equivalence<? super K> equivalence) {
+            ensureEditable();
+            if (root != null) {
+                Change change = new Change();
+                root = root.remove(edit, 0, equivalence.hash(key), key, erase(equivalence), change);
+                if (change.removed) {
+                    size--;
+                }
+            }
+            return this;
+        }
+
+        public int size() {
+            ensureEditable();
+            return size;
+        }
+
+        private void ensureEditable() {
+            Thread owner = edit.get();
+            if (owner == null) {
+                throw new IllegalStateException("Transient used after it was made persistent");
+            } else if (owner != Thread.currentThread()) {
+                throw new IllegalStateException("Transient used by a thread other than its owner");
+            }
+        }
+
+        private Transient<K, V> put(K key, V value, Equivalence<? super K> equivalence, boolean replace) {
+            ensureEditable();
+            Change change = new Change();
+            root = (root == null ? BitmapNode.EMPTY : root).put(edit, 0, equivalence.hash(key), key, value, erase(equivalence), replace, change);
+            if (change.added) {
+                size++;
+            }
+            return this;
+        }
+    }
+
+    private static final class Change {
+
+        private boolean added;
+        private boolean removed;
+    }
+
+    private static abstract class Node {
+
+        protected final AtomicReference<Thread> edit;
+
+        Node(AtomicReference<Thread> edit) {
+            this.edit = edit;
+        }
+
+        abstract Object find(int shift, int hash, Object key, Equivalence<Object> equivalence);
+
+        abstract void forEach(BiConsumer<Object, Object> consumer);
+
+        abstract Node put(AtomicReference<Thread> edit, int shift, int hash, Object key, Object value, Equivalence<Object> equivalence, boolean replace, Change change);
+
+        abstract Node remove(AtomicReference<Thread> edit, int shift, int hash, Object key, Equivalence<Object> equivalence, Change change);
+
+        boolean isEditable(AtomicReference<Thread> edit) {
+            return edit != null && this.edit == edit;
+        }
+    }
+
+    /**
+     * A node holding up to 32 slots selected by a bitmap, each either a key and its value or, if the key is null, a
+     * child node holding the entries whose hashes share the slot.
+     */
+    private static final class BitmapNode extends Node {
+
+        static final BitmapNode EMPTY = new BitmapNode(null, 0, new Object[0]);
+
+        private int      bitmap;
+        private Object[] array;
+
+        BitmapNode(AtomicReference<Thread> edit, int bitmap, Object[] array) {
+            super(edit);
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key, Equivalence<Object> equivalence) {
+            int bit = bitPosition(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return NOT_FOUND;
+            }
+            int index = index(bit);
+            Object slotKey = array[2 * index];
+            Object slotValue = array[2 * index + 1];
+            if (slotKey == null) {
+                return ((Node) slotValue).find(shift + 5, hash, key, equivalence);
+            } else if (equivalence.equal(key, slotKey)) {
+                return slotValue;
+            } else {
+                return NOT_FOUND;
+            }
+        }
+
+        @Override
+        void forEach(BiConsumer<Object, Object> consumer) {
+            for (int i = 0; i < 2 * bitCount(bitmap); i += 2) {
+                if (array[i] == null) {
+                    ((Node) array[i + 1]).forEach(consumer);
+                } else {
+                    consumer.accept(array[i], array[i + 1]);
+                }
+            }
+        }
+
+        @Override
+        Node put(AtomicReference<Thread> edit, int shift, int hash, Object key, Object value, Equivalence<Object> equivalence, boolean replace, Change change) {
+            int bit = bitPosition(hash, shift);
+            int index = index(bit);
+            if ((bitmap & bit) != 0) {
+                Object slotKey = array[2 * index];
+                Object slotValue = array[2 * index + 1];
+                if (slotKey == null) {
+                    Node child = ((Node) slotValue).put(edit, shift + 5, hash, key, value, equivalence, replace, change);
+                    return child == slotValue ? this : set(edit, 2 * index + 1, child);
+                } else if (equivalence.equal(key, slotKey)) {
+                    return !replace || value == slotValue ? this : set(edit, 2 * index + 1, value);
+                } else {
+                    change.added = true;
+                    BitmapNode node = set(edit, 2 * index, null);
+                    node.array[2 * index + 1] = createNode(edit, shift + 5, slotKey, slotValue, hash, key, value, equivalence);
+                    return node;
+                }
+            } else {
+                change.added = true;
+                int count = bitCount(bitmap);
+                if (isEditable(edit) && 2 * count < array.length) {
+                    System.arraycopy(array, 2 * index, array, 2 * (index + 1), 2 * (count - index));
+                    array[2 * index] = key;
+                    array[2 * index + 1] = value;
+                    bitmap |= bit;
+                    return this;
+                } else {
+                    Object[] newArray = new Object[2 * (count + (edit == null ? 1 : 4))];
+                    System.arraycopy(array, 0, newArray, 0, 2 * index);
+                    newArray[2 * index] = key;
+                    newArray[2 * index + 1] = value;
+                    System.arraycopy(array, 2 * index, newArray, 2 * (index + 1), 2 * (count - index));
+                    return new BitmapNode(edit, bitmap | bit, newArray);
+                }
+            }
+        }
+
+        @Override
+        Node remove(AtomicReference<Thread> edit, int shift, int hash, Object key, Equivalence<Object> equivalence, Change change) {
+            int bit = bitPosition(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = index(bit);
+            Object slotKey = array[2 * index];
+            Object slotValue = array[2 * index + 1];
+            if (slotKey == null) {
+                Node child = ((Node) slotValue).remove(edit, shift + 5, hash, key, equivalence, change);
+                if (child == slotValue) {
+                    return this;
+                } else if (child != null) {
+                    return set(edit, 2 * index + 1, child);
+                }
+            } else if (!equivalence.equal(key, slotKey)) {
+                return this;
+            }
+            change.removed = true;
+            return bitmap == bit ? null : removeSlot(edit, bit, index);
+        }
+
+        private BitmapNode editable(AtomicReference<Thread> edit) {
+            if (isEditable(edit)) {
+                return this;
+            } else {
+                int count = bitCount(bitmap);
+                Object[] newArray = new Object[2 * (count + (edit == null ? 0 : 1))];
+                System.arraycopy(array, 0, newArray, 0, 2 * count);
+                return new BitmapNode(edit, bitmap, newArray);
+            }
+        }
+
+        private int index(int bit) {
+            return bitCount(bitmap & (bit - 1));
+        }
+
+        private BitmapNode removeSlot(AtomicReference<Thread> edit, int bit, int index) {
+            int count = bitCount(bitmap);
+            if (isEditable(edit)) {
+                System.arraycopy(array, 2 * (index + 1), array, 2 * index, 2 * (count - index - 1));
+                array[2 * count - 2] = null;
+                array[2 * count - 1] = null;
+                bitmap ^= bit;
+                return this;
+            } else {
+                Object[] newArray = new Object[2 * (count - 1)];
+                System.arraycopy(array, 0, newArray, 0, 2 * index);
+                System.arraycopy(array, 2 * (index + 1), newArray, 2 * index, 2 * (count - index - 1));
+                return new BitmapNode(edit, bitmap ^ bit, newArray);
+            }
+        }
+
+        private BitmapNode set(AtomicReference<Thread> edit, int offset, Object element) {
+            BitmapNode node = editable(edit);
+            node.array[offset] = element;
+            return node;
+        }
+    }
+
+    /**
+     * A node holding keys whose hashes are all equal.
+     */
+    private static final class CollisionNode extends Node {
+
+        private final int      hash;
+        private final int      count;
+        private final Object[] array;
+
+        CollisionNode(AtomicReference<Thread> edit, int hash, int count, Object[] array) {
+            super(edit);
+            this.hash = hash;
+            this.count = count;
+            this.array = array;
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key, Equivalence<Object> equivalence) {
+            int index = indexOf(hash, key, equivalence);
+            return index == -1 ? NOT_FOUND : array[index + 1];
+        }
+
+        @Override
+        void forEach(BiConsumer<Object, Object> consumer) {
+            for (int i = 0; i < 2 * count; i += 2) {
+                consumer.accept(array[i], array[i + 1]);
+            }
+        }
+
+        @Override
+        Node put(AtomicReference<Thread> edit, int shift, int hash, Object key, Object value, Equivalence<Object> equivalence, boolean replace, Change change) {
+            if (hash == this.hash) {
+                int index = indexOf(hash, key, equivalence);
+                if (index != -1) {
+                    if (!replace || array[index + 1] == value) {
+                        return this;
+                    } else {
+                        Object[] newArray = array.clone();
+                        newArray[index + 1] = value;
+                        return new CollisionNode(edit, hash, count, newArray);
+                    }
+                } else {
+                    change.added = true;
+                    Object[] newArray = new Object[2 * (count + 1)];
+                    System.arraycopy(array, 0, newArray, 0, 2 * count);
+                    newArray[2 * count] = key;
+                    newArray[2 * count + 1] = value;
+                    return new CollisionNode(edit, hash, count + 1, newArray);
+                }
+            } else {
+                return new BitmapNode(edit, bitPosition(this.hash, shift), new Object[] { null, this })
+                    .put(edit, shift, hash, key, value, equivalence, replace, change);
+            }
+        }
+
+        @Override
+        Node remove(AtomicReference<Thread> edit, int shift, int hash, Object key, Equivalence<Object> equivalence, Change change) {
+            int index = indexOf(hash, key, equivalence);
+            if (index == -1) {
+                return this;
+            }
+            change.removed = true;
+            if (count == 1) {
+                return null;
+            } else {
+                Object[] newArray = new Object[2 * (count - 1)];
+                System.arraycopy(array, 0, newArray, 0, index);
+                System.arraycopy(array, index + 2, newArray, index, 2 * count - index - 2);
+                return new CollisionNode(edit, hash, count - 1, newArray);
+            }
+        }
+
+        private int indexOf(int hash, Object key, Equivalence<Object> equivalence) {
+            if (hash == this.hash) {
+                for (int i = 0; i < 2 * count; i += 2) {
+                    if (equivalence.equal(key, array[i])) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package scotch.data.map;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.joining;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.unboxBool;
+import static scotch.runtime.RuntimeSupport.unboxInt;
+import static scotch.symbol.type.Types.fn;
+import static scotch.symbol.type.Types.sum;
+import static scotch.symbol.type.Types.var;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import scotch.data.bool.Bool;
+import scotch.data.eq.Eq;
+import scotch.data.hash.Hash;
+import scotch.data.int_.Int;
+import scotch.data.list.ConsList;
+import scotch.data.list.ConsList.ConsCell;
+import scotch.data.maybe.Maybe;
+import scotch.data.tuple.Tuple2;
+import scotch.data.tuple.Tuple2.Tuple2Data;
+import scotch.runtime.Applicable;
+import scotch.runtime.Callable;
+import scotch.symbol.DataType;
+import scotch.symbol.Demand;
+import scotch.symbol.TypeParameter;
+import scotch.symbol.TypeParameters;
+import scotch.symbol.Value;
+import scotch.symbol.ValueType;
+import scotch.symbol.type.Type;
+
+/**
+ * An immutable map from keys to values, backed by a {@link HashTrie} which shares structure between versions. Keys
+ * are compared and hashed through their {@link Eq} and {@link Hash} instances.
+ */
+@SuppressWarnings("unused")
+@DataType(memberName = "Map", parameters = {
+    @TypeParameter(name = "k"),
+    @TypeParameter(name = "v"),
+})
+public final class PersistentMap<K, V> {
+
+    private static final Type k = var("k", asList("scotch.data.eq.Eq", "scotch.data.hash.Hash"));
+    private static final Type v = var("v");
+
+    private static final Callable<PersistentMap<?, ?>> EMPTY = callable(() -> new PersistentMap<>(HashTrie.empty()));
+
+    public static final Type TYPE = sum("scotch.data.map.Map", var("k"), var("v"));
+
+    @Value(memberName = "delete")
+    @Demand("SSSS")
+    public static <K, V> Applicable<Eq<K>, Applicable<Hash<K>, Applicable<K, Applicable<PersistentMap<K, V>, PersistentMap<K, V>>>>> delete() {
+        return applicable((eq, hash, key, map) -> callable(() -> map.call().withTrie(map.call().trie.remove(key, equivalence(eq, hash)))));
+    }
+
+    @ValueType(forMember = "delete")
+    public static Type delete$type() {
+        return fn(k, fn(type(), type()));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Value(memberName = "empty")
+    public static <K, V> Callable<PersistentMap<K, V>> empty() {
+        return (Callable<PersistentMap<K, V>>) (Callable<?>) EMPTY;
+    }
+
+    @ValueType(forMember = "empty")
+    public static Type empty$type() {
+        return TYPE;
+    }
+
+    /**
+     * Builds a map from a list of pairs through a transient trie, keeping the last value given for each key.
+     */
+    @Value(memberName = "fromList")
+    @Demand("SSS")
+    public static <K, V> Applicable<Eq<K>, Applicable<Hash<K>, Applicable<ConsList<Tuple2<K, V>>, PersistentMap<K, V>>>> fromList() {
+        return applicable((eq, hash, list) -> callable(() -> {
+            HashTrie.Equivalence<Callable<K>> equivalence = equivalence(eq, hash);
+            HashTrie.Transient<Callable<K>, Callable<V>> result = HashTrie.<Callable<K>, Callable<V>>empty().asTransient();
+            for (ConsList<Tuple2<K, V>> cell = list.call(); cell instanceof ConsCell; cell = ((ConsCell<Tuple2<K, V>>) cell).getTail().call()) {
+                Tuple2<K, V> entry = ((ConsCell<Tuple2<K, V>>) cell).getHead().call();
+                result.put(entry.get_0(), entry.get_1(), equivalence);
+            }
+            return new PersistentMap<>(result.persistent());
+        }));
+    }
+
+    @ValueType(forMember = "fromList")
+    public static Type fromList$type() {
+        return fn(sum("scotch.data.list.[]", sum("scotch.data.tuple.(,)", k, v)), type());
+    }
+
+    @Value(memberName = "insert")
+    @Demand("SSSLS")
+    public static <K, V> Applicable<Eq<K>, Applicable<Hash<K>, Applicable<K, Applicable<V, Applicable<PersistentMap<K, V>, PersistentMap<K, V>>>>>> insert() {
+        return applicable((eq, hash, key, value) -> box(applicable(
+            map -> callable(() -> map.call().withTrie(map.call().trie.put(key, value, equivalence(eq, hash))))
+        )));
+    }
+
+    @ValueType(forMember = "insert")
+    public static Type insert$type() {
+        return fn(k, fn(v, fn(type(), type())));
+    }
+
+    @Value(memberName = "lookup")
+    @Demand("SSSS")
+    public static <K, V> Applicable<Eq<K>, Applicable<Hash<K>, Applicable<K, Applicable<PersistentMap<K, V>, Maybe<V>>>>> lookup() {
+        return applicable((eq, hash, key, map) -> callable(() -> map.call().trie.get(key, equivalence(eq, hash))
+            .map(value -> Maybe.<V>just().apply(value).call())
+            .orElseGet(() -> Maybe.<V>nothing().call())));
+    }
+
+    @ValueType(forMember = "lookup")
+    public static Type lookup$type() {
+        return fn(k, fn(type(), sum("scotch.data.maybe.Maybe", v)));
+    }
+
+    @Value(memberName = "member")
+    @Demand("SSSS")
+    public static <K, V> Applicable<Eq<K>, Applicable<Hash<K>, Applicable<K, Applicable<PersistentMap<K, V>, Boolean>>>> member() {
+        return applicable((eq, hash, key, map) -> callable(() -> map.call().trie.containsKey(key, equivalence(eq, hash))));
+    }
+
+    @ValueType(forMember = "member")
+    public static Type member$type() {
+        return fn(k, fn(type(), Bool.TYPE));
+    }
+
+    @TypeParameters
+    public static List<Type> parameters() {
+        return asList(var("k"), var("v"));
+    }
+
+    @Value(memberName = "singleton")
+    @Demand("SSSL")
+    public static <K, V> Applicable<Eq<K>, Applicable<Hash<K>, Applicable<K, Applicable<V, PersistentMap<K, V>>>>> singleton() {
+        return applicable((eq, hash, key, value) -> callable(() -> new PersistentMap<>(HashTrie.<Callable<K>, Callable<V>>empty().put(key, value, equivalence(eq, hash)))));
+    }
+
+    @ValueType(forMember = "singleton")
+    public static Type singleton$type() {
+        return fn(k, fn(v, type()));
+    }
+
+    @Value(memberName = "size")
+    @Demand("S")
+    public static <K, V> Applicable<PersistentMap<K, V>, Integer> size() {
+        return applicable(map -> box(map.call().trie.size()));
+    }
+
+    @ValueType(forMember = "size")
+    public static Type size$type() {
+        return fn(TYPE, Int.TYPE);
+    }
+
+    @Value(memberName = "toList")
+    @Demand("S")
+    public static <K, V> Applicable<PersistentMap<K, V>, ConsList<Tuple2<K, V>>> toList() {
+        return applicable(map -> callable(() -> {
+            List<Tuple2<K, V>> entries = map.call().entries();
+            ConsList<Tuple2<K, V>> result = ConsList.<Tuple2<K, V>>empty().call();
+            for (int i = entries.size() - 1; i >= 0; i--) {
+                result = new ConsCell<>(box(entries.get(i)), box(result));
+            }
+            return result;
+        }));
+    }
+
+    @ValueType(forMember = "toList")
+    public static Type toList$type() {
+        return fn(TYPE, sum("scotch.data.list.[]", sum("scotch.data.tuple.(,)", var("k"), var("v"))));
+    }
+
+    /**
+     * Combines two maps, preferring the values of the first for keys found in both.
+     */
+    @Value(memberName = "union")
+    @Demand("SSSS")
+    public static <K, V> Applicable<Eq<K>, Applicable<Hash<K>, Applicable<PersistentMap<K, V>, Applicable<PersistentMap<K, V>, PersistentMap<K, V>>>>> union() {
+        return applicable((eq, hash, left, right) -> callable(() -> left.call().withTrie(left.call().trie.union(right.call().trie, equivalence(eq, hash)))));
+    }
+
+    @ValueType(forMember = "union")
+    public static Type union$type() {
+        return fn(type(), fn(type(), type()));
+    }
+
+    private static <K> HashTrie.Equivalence<Callable<K>> equivalence(Callable<Eq<K>> eq, Callable<Hash<K>> hash) {
+        return new HashTrie.Equivalence<Callable<K>>() {
+            @Override
+            public boolean equal(Callable<K> left, Callable<K> right) {
+                return unboxBool(eq.call().eq(left, right));
+            }
+
+            @Override
+            public int hash(Callable<K> key) {
+                return unboxInt(hash.call().hash(eq, key));
+            }
+        };
+    }
+
+    private static Type type() {
+        return sum("scotch.data.map.Map", k, v);
+    }
+
+    private final HashTrie<Callable<K>, Callable<V>> trie;
+
+    private PersistentMap(HashTrie<Callable<K>, Callable<V>> trie) {
+        this.trie = trie;
+    }
+
+    /**
+     * Compares maps by their evaluated keys and values, using the keys' Java equality rather than their {@link Eq}
+     * instances.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o == this || o instanceof PersistentMap && toJavaMap().equals(((PersistentMap) o).toJavaMap());
+    }
+
+    @Override
+    public int hashCode() {
+        return toJavaMap().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "fromList [" + entries().stream().map(Object::toString).collect(joining(", ")) + "]";
+    }
+
+    private List<Tuple2<K, V>> entries() {
+        List<Tuple2<K, V>> entries = new ArrayList<>(trie.size());
+        trie.forEach((key, value) -> entries.add(new Tuple2Data<>(key, value)));
+        return entries;
+    }
+
+    private Map<K, V> toJavaMap() {
+        Map<K, V> map = new HashMap<>();
+        trie.forEach((key, value) -> map.put(key.call(), value.call()));
+        return map;
+    }
+
+    private PersistentMap<K, V> withTrie(HashTrie<Callable<K>, Callable<V>> trie) {
+        return trie == this.trie ? this : new PersistentMap<>(trie);
+    }
+}
@@ -10,6 +10,7 @@ import static scotch.symbol.type.Types.var;
 
 import java.util.List;
 import java.util.Objects;
+import scotch.data.string.Rope;
 import scotch.runtime.Applicable;
 import scotch.runtime.Callable;
 import scotch.runtime.RuntimeSupport;
@@ -63,8 +64,10 @@ public abstract class Maybe<A> {
         return asList(var("a"));
     }
 
-    private Maybe() {
-        // intentionally empty
+    private final int tag;
+
+    private Maybe(int tag) {
+        this.tag = tag;
     }
 
     public abstract boolean equals(Object o);
@@ -73,11 +76,22 @@ public abstract class Maybe<A> {
 
     public abstract <B> Callable<Maybe<B>> map(Applicable<A, Maybe<B>> function);
 
+    /**
+     * Gets the ordinal of the constructor of this value.
+     */
+    public final int tag() {
+        return tag;
+    }
+
     public abstract String toString();
 
     @DataConstructor(ordinal = 0, memberName = "Nothing", dataType = "Maybe")
     public static class Nothing<A> extends Maybe<A> {
 
+        private Nothing() {
+            super(0);
+        }
+
         @Override
         public boolean equals(Object o) {
             return o == this || o instanceof Nothing;
@@ -110,12 +124,13 @@ public abstract class Maybe<A> {
         private final Callable<A> value;
 
         private Just(Callable<A> value) {
+            super(1);
             this.value = value;
         }
 
         @Override
         public boolean equals(Object o) {
-            return o == this || o instanceof Just && Objects.equals(value.call(), ((Just) o).value.call());
+            return o == this || o instanceof Just && Rope.valueEquals(value.call(), ((Just) o).value.call());
         }
 
         @DataField(memberName = "value", ordinal = 0)
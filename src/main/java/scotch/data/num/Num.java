@@ -12,6 +12,7 @@ import scotch.data.int_.Int;
 import scotch.runtime.Applicable;
 import scotch.runtime.Callable;
 import scotch.runtime.RuntimeSupport;
+import scotch.symbol.Demand;
 import scotch.symbol.Member;
 import scotch.symbol.TypeClass;
 import scotch.symbol.TypeParameter;
@@ -26,6 +27,7 @@ import scotch.symbol.type.Type;
 public interface Num<A> {
 
     @Value(memberName = "abs")
+    @Demand("SL")
     static <A> Applicable<Num<A>, Applicable<A, A>> abs() {
         return applicable(instance -> applicable(operand -> flatCallable(() -> instance.call().abs(operand))));
     }
@@ -37,8 +39,9 @@ public interface Num<A> {
     }
 
     @Value(memberName = "+", fixity = LEFT_INFIX, precedence = 7)
+    @Demand("SLL")
     static <A> Applicable<Num<A>, Applicable<A, Applicable<A, A>>> add() {
-        return applicable(instance -> applicable(left -> applicable(right -> flatCallable(() -> instance.call().add(left, right)))));
+        return applicable((instance, left, right) -> flatCallable(() -> instance.call().add(left, right)));
     }
 
     @ValueType(forMember = "+")
@@ -48,6 +51,7 @@ public interface Num<A> {
     }
 
     @Value(memberName = "fromInteger")
+    @Demand("SL")
     static <A> Applicable<Num<A>, Applicable<Integer, A>> fromInteger() {
         return applicable(instance -> applicable(integer -> flatCallable(() -> instance.call().fromInteger(integer))));
     }
@@ -58,8 +62,9 @@ public interface Num<A> {
     }
 
     @Value(memberName = "*", fixity = LEFT_INFIX, precedence = 8)
+    @Demand("SLL")
     static <A> Applicable<Num<A>, Applicable<A, Applicable<A, A>>> multiply() {
-        return applicable(instance -> applicable(left -> applicable(right -> flatCallable(() -> instance.call().multiply(left, right)))));
+        return applicable((instance, left, right) -> flatCallable(() -> instance.call().multiply(left, right)));
     }
 
     @ValueType(forMember = "*")
@@ -69,6 +74,7 @@ public interface Num<A> {
     }
 
     @Value(memberName = "negate")
+    @Demand("SL")
     static <A> Applicable<Num<A>, Applicable<A, A>> negate() {
         return applicable(instance -> applicable(operand -> flatCallable(() -> instance.call().negate(operand))));
     }
@@ -80,6 +86,7 @@ public interface Num<A> {
     }
 
     @Value(memberName = "-prefix", fixity = PREFIX, precedence = 9)
+    @Demand("SL")
     static <A> Applicable<Num<A>, Applicable<A, A>> prefixNegate() {
         return negate();
     }
@@ -90,6 +97,7 @@ public interface Num<A> {
     }
 
     @Value(memberName = "signum")
+    @Demand("SL")
     static <A> Applicable<Num<A>, Applicable<A, A>> signum() {
         return applicable(instance -> applicable(operand -> flatCallable(() -> instance.call().signum(operand))));
     }
@@ -101,8 +109,9 @@ public interface Num<A> {
     }
 
     @Value(memberName = "-", fixity = LEFT_INFIX, precedence = 7)
+    @Demand("SLL")
     static <A> Applicable<Num<A>, Applicable<A, Applicable<A, A>>> sub() {
-        return applicable(instance -> applicable(left -> applicable(right -> flatCallable(() -> instance.call().sub(left, right)))));
+        return applicable((instance, left, right) -> flatCallable(() -> instance.call().sub(left, right)));
     }
 
     @ValueType(forMember = "-")
@@ -1,10 +1,14 @@
 package scotch.data.num;
 
 import static java.util.Arrays.asList;
-import static scotch.symbol.type.Types.sum;
+import static scotch.runtime.RuntimeSupport.box;
 import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.unboxDouble;
+import static scotch.runtime.RuntimeSupport.unboxInt;
+import static scotch.symbol.type.Types.sum;
 
 import java.util.List;
+import scotch.symbol.Demand;
 import scotch.symbol.InstanceGetter;
 import scotch.symbol.type.Type;
 import scotch.symbol.TypeInstance;
@@ -23,47 +27,57 @@ public class NumDouble implements Num<Double> {
         return INSTANCE;
     }
 
+    /**
+     * The sign of a double, which is zero for both zeroes and for NaN.
+     */
+    public static double signum(double value) {
+        if (value > 0) {
+            return 1d;
+        } else if (value < 0) {
+            return -1d;
+        } else {
+            return 0d;
+        }
+    }
+
     @TypeParameters
     public static List<Type> parameters() {
         return asList(Types.sum("scotch.data.double.Double"));
     }
 
     @Override
+    @Demand("S")
     public Callable<Double> abs(Callable<Double> operand) {
-        return callable(() -> Math.abs(operand.call()));
+        return box(Math.abs(unboxDouble(operand)));
     }
 
     @Override
+    @Demand("SS")
     public Callable<Double> add(Callable<Double> left, Callable<Double> right) {
-        return callable(() -> left.call() + right.call());
+        return box(unboxDouble(left) + unboxDouble(right));
     }
 
     @Override
+    @Demand("S")
     public Callable<Double> fromInteger(Callable<Integer> integer) {
-        return callable(() -> integer.call().doubleValue());
+        return box((double) unboxInt(integer));
     }
 
     @Override
+    @Demand("SS")
     public Callable<Double> multiply(Callable<Double> left, Callable<Double> right) {
-        return callable(() -> left.call() * right.call());
+        return box(unboxDouble(left) * unboxDouble(right));
     }
 
     @Override
+    @Demand("S")
     public Callable<Double> signum(Callable<Double> operand) {
-        return callable(() -> {
-            double value = operand.call();
-            if (value > 0) {
-                return 1d;
-            } else if (value < 0) {
-                return -1d;
-            } else {
-                return 0d;
-            }
-        });
+        return box(signum(unboxDouble(operand)));
     }
 
     @Override
+    @Demand("SS")
     public Callable<Double> sub(Callable<Double> left, Callable<Double> right) {
-        return callable(() -> left.call() - right.call());
+        return box(unboxDouble(left) - unboxDouble(right));
     }
 }
@@ -1,11 +1,14 @@
 package scotch.data.num;
 
 import static java.util.Arrays.asList;
+import static scotch.runtime.RuntimeSupport.box;
 import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.unboxInt;
 
 import java.util.List;
 import scotch.data.int_.Int;
 import scotch.runtime.Callable;
+import scotch.symbol.Demand;
 import scotch.symbol.InstanceGetter;
 import scotch.symbol.TypeInstance;
 import scotch.symbol.TypeParameters;
@@ -32,13 +35,15 @@ public class NumInt implements Num<Integer> {
     }
 
     @Override
+    @Demand("S")
     public Callable<Integer> abs(Callable<Integer> operand) {
-        return callable(() -> Math.abs(operand.call()));
+        return box(Math.abs(unboxInt(operand)));
     }
 
     @Override
+    @Demand("SS")
     public Callable<Integer> add(Callable<Integer> left, Callable<Integer> right) {
-        return callable(() -> left.call() + right.call());
+        return box(unboxInt(left) + unboxInt(right));
     }
 
     @Override
@@ -47,26 +52,20 @@ public class NumInt implements Num<Integer> {
     }
 
     @Override
+    @Demand("SS")
     public Callable<Integer> multiply(Callable<Integer> left, Callable<Integer> right) {
-        return callable(() -> left.call() * right.call());
+        return box(unboxInt(left) * unboxInt(right));
     }
 
     @Override
+    @Demand("S")
     public Callable<Integer> signum(Callable<Integer> operand) {
-        return callable(() -> {
-            int value = operand.call();
-            if (value > 0) {
-                return 1;
-            } else if (value < 0) {
-                return -1;
-            } else {
-                return 0;
-            }
-        });
+        return box(Integer.signum(unboxInt(operand)));
     }
 
     @Override
+    @Demand("SS")
     public Callable<Integer> sub(Callable<Integer> left, Callable<Integer> right) {
-        return callable(() -> left.call() - right.call());
+        return box(unboxInt(left) - unboxInt(right));
     }
 }
@@ -6,6 +6,7 @@ import static scotch.runtime.RuntimeSupport.callable;
 import java.util.List;
 import scotch.data.eq.Eq;
 import scotch.runtime.Callable;
+import scotch.symbol.Demand;
 import scotch.symbol.InstanceGetter;
 import scotch.symbol.TypeInstance;
 import scotch.symbol.TypeParameters;
@@ -28,6 +29,7 @@ public class EqOrdering implements Eq<Ordering> {
     }
 
     @Override
+    @Demand("SS")
     public Callable<Boolean> eq(Callable<Ordering> left, Callable<Ordering> right) {
         return callable(() -> left.call() == right.call());
     }
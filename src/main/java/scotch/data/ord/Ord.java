@@ -12,6 +12,8 @@ import scotch.data.bool.Bool;
 import scotch.data.eq.Eq;
 import scotch.runtime.Applicable;
 import scotch.runtime.Callable;
+import scotch.symbol.Demand;
+import scotch.symbol.Member;
 import scotch.symbol.TypeClass;
 import scotch.symbol.TypeParameter;
 import scotch.symbol.Value;
@@ -29,8 +31,9 @@ public interface Ord<A> {
     static final Type a = var("a", asList("scotch.data.ord.Ord", "scotch.data.eq.Eq"));
 
     @Value(memberName = "compare")
+    @Demand("LSLL")
     public static <A> Applicable<Eq<A>, Applicable<Ord<A>, Applicable<A, Applicable<A, Ordering>>>> compare() {
-        return applicable(eq -> applicable(ord -> applicable(left -> applicable(right -> flatCallable(() -> ord.call().compare(eq, left, right))))));
+        return applicable((eq, ord, left, right) -> flatCallable(() -> ord.call().compare(eq, left, right)));
     }
 
     @ValueType(forMember = "compare")
@@ -39,8 +42,9 @@ public interface Ord<A> {
     }
 
     @Value(memberName = ">", fixity = LEFT_INFIX, precedence = 5)
+    @Demand("LSLL")
     public static <A> Applicable<Eq<A>, Applicable<Ord<A>, Applicable<A, Applicable<A, Boolean>>>> greaterThan() {
-        return applicable(eq -> applicable(ord -> applicable(left -> applicable(right -> flatCallable(() -> ord.call().greaterThan(eq, left, right))))));
+        return applicable((eq, ord, left, right) -> flatCallable(() -> ord.call().greaterThan(eq, left, right)));
     }
 
     @ValueType(forMember = ">")
@@ -49,8 +53,9 @@ public interface Ord<A> {
     }
 
     @Value(memberName = ">=", fixity = LEFT_INFIX, precedence = 5)
+    @Demand("LSLL")
     public static <A> Applicable<Eq<A>, Applicable<Ord<A>, Applicable<A, Applicable<A, Boolean>>>> greaterThanEquals() {
-        return applicable(eq -> applicable(ord -> applicable(left -> applicable(right -> flatCallable(() -> ord.call().greaterThanEquals(eq, left, right))))));
+        return applicable((eq, ord, left, right) -> flatCallable(() -> ord.call().greaterThanEquals(eq, left, right)));
     }
 
     @ValueType(forMember = ">=")
@@ -59,8 +64,9 @@ public interface Ord<A> {
     }
 
     @Value(memberName = "<", fixity = LEFT_INFIX, precedence = 5)
+    @Demand("LSLL")
     public static <A> Applicable<Eq<A>, Applicable<Ord<A>, Applicable<A, Applicable<A, Boolean>>>> lessThan() {
-        return applicable(eq -> applicable(ord -> applicable(left -> applicable(right -> flatCallable(() -> ord.call().lessThan(eq, left, right))))));
+        return applicable((eq, ord, left, right) -> flatCallable(() -> ord.call().lessThan(eq, left, right)));
     }
 
     @ValueType(forMember = "<")
@@ -69,8 +75,9 @@ public interface Ord<A> {
     }
 
     @Value(memberName = "<=", fixity = LEFT_INFIX, precedence = 5)
+    @Demand("LSLL")
     public static <A> Applicable<Eq<A>, Applicable<Ord<A>, Applicable<A, Applicable<A, Boolean>>>> lessThanEquals() {
-        return applicable(eq -> applicable(ord -> applicable(left -> applicable(right -> flatCallable(() -> ord.call().lessThanEquals(eq, left, right))))));
+        return applicable((eq, ord, left, right) -> flatCallable(() -> ord.call().lessThanEquals(eq, left, right)));
     }
 
     @ValueType(forMember = "<=")
@@ -79,8 +86,9 @@ public interface Ord<A> {
     }
 
     @Value(memberName = "max")
+    @Demand("LSLL")
     public static <A> Applicable<Eq<A>, Applicable<Ord<A>, Applicable<A, Applicable<A, A>>>> max() {
-        return applicable(eq -> applicable(ord -> applicable(left -> applicable(right -> flatCallable(() -> ord.call().max(eq, left, right))))));
+        return applicable((eq, ord, left, right) -> flatCallable(() -> ord.call().max(eq, left, right)));
     }
 
     @ValueType(forMember = "max")
@@ -89,8 +97,9 @@ public interface Ord<A> {
     }
 
     @Value(memberName = "min")
+    @Demand("LSLL")
     public static <A> Applicable<Eq<A>, Applicable<Ord<A>, Applicable<A, Applicable<A, A>>>> min() {
-        return applicable(eq -> applicable(ord -> applicable(left -> applicable(right -> flatCallable(() -> ord.call().min(eq, left, right))))));
+        return applicable((eq, ord, left, right) -> flatCallable(() -> ord.call().min(eq, left, right)));
     }
 
     @ValueType(forMember = "min")
@@ -98,6 +107,7 @@ public interface Ord<A> {
         return fn(a, fn(a, a));
     }
 
+    @Member("compare")
     default Callable<Ordering> compare(Callable<Eq<A>> eq, Callable<A> left, Callable<A> right) {
         return flatCallable(() -> {
             if (eq.call().eq(left, right).call()) {
@@ -110,26 +120,32 @@ public interface Ord<A> {
         });
     }
 
+    @Member(">")
     default Callable<Boolean> greaterThan(Callable<Eq<A>> eq, Callable<A> left, Callable<A> right) {
         return callable(() -> compare(eq, left, right).call() == Ordering.greaterThan().call());
     }
 
+    @Member(">=")
     default Callable<Boolean> greaterThanEquals(Callable<Eq<A>> eq, Callable<A> left, Callable<A> right) {
         return callable(() -> compare(eq, left, right).call() != Ordering.lessThan().call());
     }
 
+    @Member("<")
     default Callable<Boolean> lessThan(Callable<Eq<A>> eq, Callable<A> left, Callable<A> right) {
         return callable(() -> compare(eq, left, right).call() == Ordering.lessThan().call());
     }
 
+    @Member("<=")
     default Callable<Boolean> lessThanEquals(Callable<Eq<A>> eq, Callable<A> left, Callable<A> right) {
         return callable(() -> compare(eq, left, right).call() != Ordering.greaterThan().call());
     }
 
+    @Member("max")
     default Callable<A> max(Callable<Eq<A>> eq, Callable<A> left, Callable<A> right) {
         return flatCallable(() -> lessThanEquals(eq, left, right).call() ? right : left);
     }
 
+    @Member("min")
     default Callable<A> min(Callable<Eq<A>> eq, Callable<A> left, Callable<A> right) {
         return flatCallable(() -> lessThanEquals(eq, left, right).call() ? left : right);
     }
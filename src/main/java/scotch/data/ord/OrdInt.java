@@ -1,12 +1,15 @@
 package scotch.data.ord;
 
 import static java.util.Arrays.asList;
+import static scotch.runtime.RuntimeSupport.box;
 import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.unboxInt;
 import static scotch.symbol.type.Types.sum;
 
 import java.util.List;
 import scotch.data.eq.Eq;
 import scotch.runtime.Callable;
+import scotch.symbol.Demand;
 import scotch.symbol.InstanceGetter;
 import scotch.symbol.TypeInstance;
 import scotch.symbol.TypeParameters;
@@ -29,7 +32,39 @@ public class OrdInt implements Ord<Integer> {
     }
 
     @Override
+    @Demand("LSS")
+    public Callable<Ordering> compare(Callable<Eq<Integer>> eq, Callable<Integer> left, Callable<Integer> right) {
+        int result = Integer.compare(unboxInt(left), unboxInt(right));
+        if (result == 0) {
+            return Ordering.equalTo();
+        } else if (result < 0) {
+            return Ordering.lessThan();
+        } else {
+            return Ordering.greaterThan();
+        }
+    }
+
+    @Override
+    @Demand("LSS")
+    public Callable<Boolean> greaterThan(Callable<Eq<Integer>> eq, Callable<Integer> left, Callable<Integer> right) {
+        return box(unboxInt(left) > unboxInt(right));
+    }
+
+    @Override
+    @Demand("LSS")
+    public Callable<Boolean> greaterThanEquals(Callable<Eq<Integer>> eq, Callable<Integer> left, Callable<Integer> right) {
+        return box(unboxInt(left) >= unboxInt(right));
+    }
+
+    @Override
+    @Demand("LSS")
+    public Callable<Boolean> lessThan(Callable<Eq<Integer>> eq, Callable<Integer> left, Callable<Integer> right) {
+        return box(unboxInt(left) < unboxInt(right));
+    }
+
+    @Override
+    @Demand("LSS")
     public Callable<Boolean> lessThanEquals(Callable<Eq<Integer>> eq, Callable<Integer> left, Callable<Integer> right) {
-        return callable(() -> eq.call().eq(left, right).call() || left.call() < right.call());
+        return box(unboxInt(left) <= unboxInt(right));
     }
 }
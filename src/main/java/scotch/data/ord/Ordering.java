@@ -54,8 +54,17 @@ public abstract class Ordering {
         return ImmutableList.of();
     }
 
-    private Ordering() {
-        // intentionally empty
+    private final int tag;
+
+    private Ordering(int tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * Gets the ordinal of the constructor of this value.
+     */
+    public final int tag() {
+        return tag;
     }
 
     @DataConstructor(ordinal = 1, memberName = "EqualTo", dataType = "Ordering")
@@ -64,7 +73,7 @@ public abstract class Ordering {
         public static final Callable<Ordering> INSTANCE = callable(EqualTo::new);
 
         private EqualTo() {
-            // intentionally empty
+            super(1);
         }
 
         @Override
@@ -79,7 +88,7 @@ public abstract class Ordering {
         public static final Callable<Ordering> INSTANCE = callable(GreaterThan::new);
 
         private GreaterThan() {
-            // intentionally empty
+            super(2);
         }
 
         @Override
@@ -94,7 +103,7 @@ public abstract class Ordering {
         public static final Callable<Ordering> INSTANCE = callable(LessThan::new);
 
         private LessThan() {
-            // intentionally empty
+            super(0);
         }
 
         @Override
@@ -0,0 +1,230 @@
+package scotch.data.set;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.joining;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.unboxBool;
+import static scotch.runtime.RuntimeSupport.unboxInt;
+import static scotch.symbol.type.Types.fn;
+import static scotch.symbol.type.Types.sum;
+import static scotch.symbol.type.Types.var;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import scotch.data.bool.Bool;
+import scotch.data.eq.Eq;
+import scotch.data.hash.Hash;
+import scotch.data.int_.Int;
+import scotch.data.list.ConsList;
+import scotch.data.list.ConsList.ConsCell;
+import scotch.data.map.HashTrie;
+import scotch.runtime.Applicable;
+import scotch.runtime.Callable;
+import scotch.symbol.DataType;
+import scotch.symbol.Demand;
+import scotch.symbol.TypeParameter;
+import scotch.symbol.TypeParameters;
+import scotch.symbol.Value;
+import scotch.symbol.ValueType;
+import scotch.symbol.type.Type;
+
+/**
+ * An immutable set, backed by a {@link HashTrie} which shares structure between versions. Elements are compared and
+ * hashed through their {@link Eq} and {@link Hash} instances.
+ */
+@SuppressWarnings("unused")
+@DataType(memberName = "Set", parameters = {
+    @TypeParameter(name = "a"),
+})
+public final class PersistentSet<A> {
+
+    private static final Type a = var("a", asList("scotch.data.eq.Eq", "scotch.data.hash.Hash"));
+
+    private static final Callable<PersistentSet<?>> EMPTY = callable(() -> new PersistentSet<>(HashTrie.empty()));
+
+    public static final Type TYPE = sum("scotch.data.set.Set", var("a"));
+
+    @Value(memberName = "delete")
+    @Demand("SSSS")
+    public static <A> Applicable<Eq<A>, Applicable<Hash<A>, Applicable<A, Applicable<PersistentSet<A>, PersistentSet<A>>>>> delete() {
+        return applicable((eq, hash, element, set) -> callable(() -> set.call().withTrie(set.call().trie.remove(element, equivalence(eq, hash)))));
+    }
+
+    @ValueType(forMember = "delete")
+    public static Type delete$type() {
+        return fn(a, fn(type(), type()));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Value(memberName = "empty")
+    public static <A> Callable<PersistentSet<A>> empty() {
+        return (Callable<PersistentSet<A>>) (Callable<?>) EMPTY;
+    }
+
+    @ValueType(forMember = "empty")
+    public static Type empty$type() {
+        return TYPE;
+    }
+
+    /**
+     * Builds a set from a list through a transient trie.
+     */
+    @Value(memberName = "fromList")
+    @Demand("SSS")
+    public static <A> Applicable<Eq<A>, Applicable<Hash<A>, Applicable<ConsList<A>, PersistentSet<A>>>> fromList() {
+        return applicable((eq, hash, list) -> callable(() -> {
+            HashTrie.Equivalence<Callable<A>> equivalence = equivalence(eq, hash);
+            HashTrie.Transient<Callable<A>, Boolean> result = HashTrie.<Callable<A>, Boolean>empty().asTransient();
+            for (ConsList<A> cell = list.call(); cell instanceof ConsCell; cell = ((ConsCell<A>) cell).getTail().call()) {
+                result.putIfAbsent(((ConsCell<A>) cell).getHead(), true, equivalence);
+            }
+            return new PersistentSet<>(result.persistent());
+        }));
+    }
+
+    @ValueType(forMember = "fromList")
+    public static Type fromList$type() {
+        return fn(sum("scotch.data.list.[]", a), type());
+    }
+
+    @Value(memberName = "insert")
+    @Demand("SSSS")
+    public static <A> Applicable<Eq<A>, Applicable<Hash<A>, Applicable<A, Applicable<PersistentSet<A>, PersistentSet<A>>>>> insert() {
+        return applicable((eq, hash, element, set) -> callable(() -> set.call().withTrie(set.call().trie.put(element, true, equivalence(eq, hash)))));
+    }
+
+    @ValueType(forMember = "insert")
+    public static Type insert$type() {
+        return fn(a, fn(type(), type()));
+    }
+
+    @Value(memberName = "member")
+    @Demand("SSSS")
+    public static <A> Applicable<Eq<A>, Applicable<Hash<A>, Applicable<A, Applicable<PersistentSet<A>, Boolean>>>> member() {
+        return applicable((eq, hash, element, set) -> callable(() -> set.call().trie.containsKey(element, equivalence(eq, hash))));
+    }
+
+    @ValueType(forMember = "member")
+    public static Type member$type() {
+        return fn(a, fn(type(), Bool.TYPE));
+    }
+
+    @TypeParameters
+    public static List<Type> parameters() {
+        return asList(var("a"));
+    }
+
+    @Value(memberName = "singleton")
+    @Demand("SSS")
+    public static <A> Applicable<Eq<A>, Applicable<Hash<A>, Applicable<A, PersistentSet<A>>>> singleton() {
+        return applicable((eq, hash, element) -> callable(() -> new PersistentSet<>(HashTrie.<Callable<A>, Boolean>empty().put(element, true, equivalence(eq, hash)))));
+    }
+
+    @ValueType(forMember = "singleton")
+    public static Type singleton$type() {
+        return fn(a, type());
+    }
+
+    @Value(memberName = "size")
+    @Demand("S")
+    public static <A> Applicable<PersistentSet<A>, Integer> size() {
+        return applicable(set -> box(set.call().trie.size()));
+    }
+
+    @ValueType(forMember = "size")
+    public static Type size$type() {
+        return fn(TYPE, Int.TYPE);
+    }
+
+    @Value(memberName = "toList")
+    @Demand("S")
+    public static <A> Applicable<PersistentSet<A>, ConsList<A>> toList() {
+        return applicable(set -> callable(() -> {
+            List<Callable<A>> elements = set.call().elements();
+            ConsList<A> result = ConsList.<A>empty().call();
+            for (int i = elements.size() - 1; i >= 0; i--) {
+                result = new ConsCell<>(elements.get(i), box(result));
+            }
+            return result;
+        }));
+    }
+
+    @ValueType(forMember = "toList")
+    public static Type toList$type() {
+        return fn(TYPE, sum("scotch.data.list.[]", var("a")));
+    }
+
+    @Value(memberName = "union")
+    @Demand("SSSS")
+    public static <A> Applicable<Eq<A>, Applicable<Hash<A>, Applicable<PersistentSet<A>, Applicable<PersistentSet<A>, PersistentSet<A>>>>> union() {
+        return applicable((eq, hash, left, right) -> callable(() -> left.call().withTrie(left.call().trie.union(right.call().trie, equivalence(eq, hash)))));
+    }
+
+    @ValueType(forMember = "union")
+    public static Type union$type() {
+        return fn(type(), fn(type(), type()));
+    }
+
+    private static <A> HashTrie.Equivalence<Callable<A>> equivalence(Callable<Eq<A>> eq, Callable<Hash<A>> hash) {
+        return new HashTrie.Equivalence<Callable<A>>() {
+            @Override
+            public boolean equal(Callable<A> left, Callable<A> right) {
+                return unboxBool(eq.call().eq(left, right));
+            }
+
+            @Override
+            public int hash(Callable<A> element) {
+                return unboxInt(hash.call().hash(eq, element));
+            }
+        };
+    }
+
+    private static Type type() {
+        return sum("scotch.data.set.Set", a);
+    }
+
+    private final HashTrie<Callable<A>, Boolean> trie;
+
+    private PersistentSet(HashTrie<Callable<A>, Boolean> trie) {
+        this.trie = trie;
+    }
+
+    /**
+     * Compares sets by their evaluated elements, using the elements' Java equality rather than their {@link Eq}
+     * instances.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o == this || o instanceof PersistentSet && toJavaSet().equals(((PersistentSet) o).toJavaSet());
+    }
+
+    @Override
+    public int hashCode() {
+        return toJavaSet().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "fromList [" + elements().stream().map(Callable::call).map(Object::toString).collect(joining(", ")) + "]";
+    }
+
+    private List<Callable<A>> elements() {
+        List<Callable<A>> elements = new ArrayList<>(trie.size());
+        trie.forEach((element, present) -> elements.add(element));
+        return elements;
+    }
+
+    private Set<A> toJavaSet() {
+        Set<A> set = new HashSet<>();
+        trie.forEach((element, present) -> set.add(element.call()));
+        return set;
+    }
+
+    private PersistentSet<A> withTrie(HashTrie<Callable<A>, Boolean> trie) {
+        return trie == this.trie ? this : new PersistentSet<>(trie);
+    }
+}
@@ -23,7 +23,7 @@ import scotch.runtime.Callable;
 public interface Show<A> {
 
     @Value(memberName = "show")
-    static <A> Applicable<Show<A>, Applicable<A, String>> show() {
+    static <A> Applicable<Show<A>, Applicable<A, CharSequence>> show() {
         return applicable(instance -> applicable(operand -> flatCallable(() -> instance.call().show(operand))));
     }
 
@@ -33,5 +33,5 @@ public interface Show<A> {
     }
 
     @Member("show")
-    Callable<String> show(Callable<A> operand);
+    Callable<CharSequence> show(Callable<A> operand);
 }
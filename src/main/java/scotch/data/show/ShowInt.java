@@ -33,10 +33,10 @@ public class ShowInt implements Show<Integer> {
     }
 
     @Override
-    public Callable<String> show(Callable<Integer> operand) {
-        return new Thunk<String>() {
+    public Callable<CharSequence> show(Callable<Integer> operand) {
+        return new Thunk<CharSequence>() {
             @Override
-            protected String evaluate() {
+            protected CharSequence evaluate() {
                 return String.valueOf(operand.call());
             }
         };
@@ -0,0 +1,212 @@
+package scotch.data.string;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A string built by concatenation, held as a height-balanced tree of {@link CharSequence} chunks. Scotch strings are
+ * either plain {@link String} leaves, such as literals, or ropes joining them, so appending costs O(log n) instead of
+ * copying both sides. The characters are flattened into a single string the first time {@link #toString()} is called.
+ */
+public final class Rope implements CharSequence {
+
+    private static final int MERGE_LENGTH = 32;
+
+    /**
+     * Concatenates two strings, merging short leaves together and rebalancing so the resulting tree stays within
+     * O(log n) depth.
+     */
+    public static CharSequence concat(CharSequence left, CharSequence right) {
+        if (left.length() == 0) {
+            return right;
+        } else if (right.length() == 0) {
+            return left;
+        } else if (isShortLeaf(left) && isShortLeaf(right)) {
+            return left.toString() + right.toString();
+        } else if (left instanceof Rope && isShortLeaf(((Rope) left).right) && isShortLeaf(right)) {
+            return new Rope(((Rope) left).left, ((Rope) left).right.toString() + right.toString());
+        } else if (right instanceof Rope && isShortLeaf(left) && isShortLeaf(((Rope) right).left)) {
+            return new Rope(left.toString() + ((Rope) right).left.toString(), ((Rope) right).right);
+        } else {
+            return join(left, right);
+        }
+    }
+
+    public static boolean contentEquals(CharSequence left, CharSequence right) {
+        if (left == right) {
+            return true;
+        } else if (left.length() != right.length()) {
+            return false;
+        } else {
+            return left.toString().equals(right.toString());
+        }
+    }
+
+    /**
+     * Compares two runtime values with Java equality, except that strings compare by content whether they are held
+     * as a {@link String} or a {@link Rope}. Data types, tuples and lists compare their fields through this method.
+     */
+    public static boolean valueEquals(Object left, Object right) {
+        if (left instanceof CharSequence && right instanceof CharSequence && (left instanceof Rope || right instanceof Rope)) {
+            return contentEquals((CharSequence) left, (CharSequence) right);
+        } else {
+            return Objects.equals(left, right);
+        }
+    }
+
+    public static int depth(CharSequence sequence) {
+        return sequence instanceof Rope ? ((Rope) sequence).depth : 0;
+    }
+
+    public static int hash(CharSequence sequence) {
+        return sequence.toString().hashCode();
+    }
+
+    /**
+     * Writes the characters of a string chunk by chunk, without flattening it first.
+     */
+    public static void write(CharSequence sequence, Appendable out) throws IOException {
+        if (sequence instanceof Rope) {
+            ((Rope) sequence).writeTo(out);
+        } else {
+            out.append(sequence);
+        }
+    }
+
+    private static void appendTo(CharSequence sequence, StringBuilder builder) {
+        if (sequence instanceof Rope) {
+            ((Rope) sequence).appendTo(builder);
+        } else {
+            builder.append(sequence);
+        }
+    }
+
+    private static boolean isShortLeaf(CharSequence sequence) {
+        return !(sequence instanceof Rope) && sequence.length() <= MERGE_LENGTH;
+    }
+
+    private static CharSequence join(CharSequence left, CharSequence right) {
+        if (depth(left) > depth(right) + 1) {
+            return joinRight((Rope) left, right);
+        } else if (depth(right) > depth(left) + 1) {
+            return joinLeft(left, (Rope) right);
+        } else {
+            return new Rope(left, right);
+        }
+    }
+
+    private static Rope joinLeft(CharSequence left, Rope right) {
+        CharSequence joined = depth(right.left) > depth(left) + 1 ? joinLeft(left, (Rope) right.left) : new Rope(left, right.left);
+        if (depth(joined) <= depth(right.right) + 1) {
+            return new Rope(joined, right.right);
+        }
+        Rope node = (Rope) joined;
+        if (depth(node.right) > depth(node.left)) {
+            Rope inner = (Rope) node.right;
+            return new Rope(new Rope(node.left, inner.left), new Rope(inner.right, right.right));
+        } else {
+            return new Rope(node.left, new Rope(node.right, right.right));
+        }
+    }
+
+    private static Rope joinRight(Rope left, CharSequence right) {
+        CharSequence joined = depth(left.right) > depth(right) + 1 ? joinRight((Rope) left.right, right) : new Rope(left.right, right);
+        if (depth(joined) <= depth(left.left) + 1) {
+            return new Rope(left.left, joined);
+        }
+        Rope node = (Rope) joined;
+        if (depth(node.left) > depth(node.right)) {
+            Rope inner = (Rope) node.left;
+            return new Rope(new Rope(left.left, inner.left), new Rope(inner.right, node.right));
+        } else {
+            return new Rope(new Rope(left.left, node.left), node.right);
+        }
+    }
+
+    private final CharSequence left;
+    private final CharSequence right;
+    private final int          length;
+    private final int          depth;
+    private volatile String    flattened;
+
+    private Rope(CharSequence left, CharSequence right) {
+        this.left = left;
+        this.right = right;
+        this.length = left.length() + right.length();
+        this.depth = Math.max(depth(left), depth(right)) + 1;
+    }
+
+    @Override
+    public char charAt(int index) {
+        String flat = flattened;
+        if (flat != null) {
+            return flat.charAt(index);
+        } else if (index < 0 || index >= length) {
+            throw new StringIndexOutOfBoundsException(index);
+        }
+        CharSequence node = this;
+        while (node instanceof Rope) {
+            Rope rope = (Rope) node;
+            int leftLength = rope.left.length();
+            if (index < leftLength) {
+                node = rope.left;
+            } else {
+                node = rope.right;
+                index -= leftLength;
+            }
+        }
+        return node.charAt(index);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o == this || o instanceof Rope && contentEquals(this, (Rope) o);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash(this);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        String flat = flattened;
+        if (flat == null) {
+            StringBuilder builder = new StringBuilder(length);
+            appendTo(builder);
+            flat = builder.toString();
+            flattened = flat;
+        }
+        return flat;
+    }
+
+    public void writeTo(Appendable out) throws IOException {
+        String flat = flattened;
+        if (flat == null) {
+            write(left, out);
+            write(right, out);
+        } else {
+            out.append(flat);
+        }
+    }
+
+    private void appendTo(StringBuilder builder) {
+        String flat = flattened;
+        if (flat == null) {
+            appendTo(left, builder);
+            appendTo(right, builder);
+        } else {
+            builder.append(flat);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package scotch.data.string;
+
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.symbol.Value.Fixity.RIGHT_INFIX;
+import static scotch.symbol.type.Types.fn;
+import static scotch.symbol.type.Types.sum;
+
+import scotch.data.list.ConsList;
+import scotch.data.list.ConsList.ConsCell;
+import scotch.runtime.Applicable;
+import scotch.symbol.Demand;
+import scotch.symbol.Value;
+import scotch.symbol.ValueType;
+import scotch.symbol.type.Type;
+
+@SuppressWarnings("unused")
+public class ScotchModule {
+
+    @Value(memberName = "++", fixity = RIGHT_INFIX, precedence = 5)
+    @Demand("SS")
+    public static Applicable<CharSequence, Applicable<CharSequence, CharSequence>> append() {
+        return applicable((left, right) -> callable(() -> Rope.concat(left.call(), right.call())));
+    }
+
+    @ValueType(forMember = "++")
+    public static Type append$type() {
+        return fn(StringSum.TYPE, fn(StringSum.TYPE, StringSum.TYPE));
+    }
+
+    @Value(memberName = "concat")
+    @Demand("S")
+    public static Applicable<ConsList<CharSequence>, CharSequence> concat() {
+        return applicable(list -> callable(() -> {
+            CharSequence result = "";
+            for (ConsList<CharSequence> cell = list.call(); cell instanceof ConsCell; cell = ((ConsCell<CharSequence>) cell).getTail().call()) {
+                result = Rope.concat(result, ((ConsCell<CharSequence>) cell).getHead().call());
+            }
+            return result;
+        }));
+    }
+
+    @ValueType(forMember = "concat")
+    public static Type concat$type() {
+        return fn(sum("scotch.data.list.[]", StringSum.TYPE), StringSum.TYPE);
+    }
+}
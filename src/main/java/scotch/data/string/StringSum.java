@@ -1,5 +1,7 @@
 package scotch.data.string;
 
+import static scotch.symbol.type.Types.sum;
+
 import java.util.List;
 import com.google.common.collect.ImmutableList;
 import scotch.symbol.DataType;
@@ -10,6 +12,8 @@ import scotch.symbol.type.Type;
 @DataType(memberName = "String")
 public class StringSum {
 
+    public static Type TYPE = sum("scotch.data.string.String");
+
     @TypeParameters
     public static List<Type> parameters() {
         return ImmutableList.of();
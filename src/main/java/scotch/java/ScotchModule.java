@@ -10,6 +10,7 @@ import scotch.symbol.Value;
 import scotch.symbol.ValueType;
 import scotch.symbol.type.Type;
 import scotch.runtime.Applicable;
+import scotch.data.string.Rope;
 
 @SuppressWarnings("unused")
 public class ScotchModule {
@@ -24,7 +25,7 @@ public class ScotchModule {
      */
     @Value(memberName = "javaEq?!")
     public static Applicable<Object, Applicable<Object, Object>> javaEq() {
-        return applicable(left -> applicable(right -> callable(() -> left.call().equals(right.call()))));
+        return applicable(left -> applicable(right -> callable(() -> Rope.valueEquals(left.call(), right.call()))));
     }
 
     @ValueType(forMember = "javaEq?!")
@@ -4,16 +4,23 @@ import static java.lang.System.out;
 import static java.util.stream.Collectors.toList;
 import static scotch.compiler.ClassLoaderResolver.resolver;
 import static scotch.compiler.Compiler.compiler;
+import static scotch.compiler.steps.Instrumentation.COST_CENTRES;
+import static scotch.compiler.steps.Instrumentation.HEAP_ORIGINS;
 import static scotch.symbol.Symbol.getPackagePath;
 import static scotch.symbol.Symbol.toJavaName;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 import com.beust.jcommander.JCommander;
 import com.beust.jcommander.Parameter;
@@ -21,36 +28,126 @@ import scotch.compiler.Compiler;
 import scotch.compiler.output.GeneratedClass;
 import scotch.compiler.error.CompileException;
 import scotch.compiler.ClassLoaderResolver;
+import scotch.compiler.intermediate.Inliner;
+import scotch.compiler.steps.Instrumentation;
+import scotch.data.string.Rope;
 import scotch.runtime.Callable;
+import scotch.runtime.Evaluator;
+import scotch.runtime.HeapProfiler;
+import scotch.runtime.Profiler;
+import scotch.runtime.RuntimeStatistics;
 
 @SuppressWarnings("unused")
 public class Runner {
 
     public static void main(String[] args) throws Exception {
         new Runner(args).printHelpOr(runner -> {
+            long start = System.nanoTime();
+            if (runner.isReclaimableCafs()) {
+                System.setProperty("scotch.runtime.reclaimableCafs", "true");
+            }
             ClassLoaderResolver resolver = resolver(runner.getOutputPath());
             Path path = Paths.get(getPackagePath(runner.getModule()) + ".scotch");
             try (Stream<String> stream = Files.lines(path.toAbsolutePath())) {
                 List<String> lines = stream.collect(toList());
                 Compiler compiler = compiler(resolver, path.toUri(), lines.toArray(new String[lines.size()]));
-                List<GeneratedClass> generatedClasses = compiler.generateBytecode();
+                List<GeneratedClass> generatedClasses = compiler.generateBytecode(runner.getInstrumentation());
                 resolver.defineAll(generatedClasses);
-                out.println("main = " + ((Callable) resolver
+                Callable<?> main = (Callable<?>) resolver
                     .loadClass(toJavaName(runner.getModule()) + ".$$Module")
                     .getMethod("main")
-                    .invoke(null)).call());
+                    .invoke(null);
+                long compiled = System.nanoTime();
+                if (runner.isStats()) {
+                    RuntimeStatistics.register();
+                }
+                if (runner.isProfile()) {
+                    Profiler.start();
+                }
+                PrintWriter heapProfile = null;
+                if (runner.isHeapProfile()) {
+                    heapProfile = new PrintWriter(Files.newBufferedWriter(heapProfilePath(runner.getModule())));
+                    HeapProfiler.start(heapProfile, runner.getHeapProfileInterval());
+                }
+                try {
+                    Object result = runner.isSegmented() ? Evaluator.evaluate(main) : main.call();
+                    out.print("main = ");
+                    if (result instanceof Rope) {
+                        ((Rope) result).writeTo(out);
+                        out.println();
+                    } else {
+                        out.println(result);
+                    }
+                } finally {
+                    long finished = System.nanoTime();
+                    if (runner.isProfile()) {
+                        Profiler.stop();
+                        writeProfile(runner.getModule());
+                    }
+                    if (runner.isStats()) {
+                        writeStats(compiler.getInliner(), compiled - start, finished - compiled);
+                    }
+                    if (heapProfile != null) {
+                        HeapProfiler.stop();
+                        heapProfile.close();
+                        out.println("Heap profile written to " + heapProfilePath(runner.getModule()));
+                    }
+                }
             } catch (CompileException exception) {
                 exception.printErrors();
             }
         });
     }
 
+    private static Path heapProfilePath(String module) {
+        return Paths.get(module + ".hp.csv");
+    }
+
+    private static void writeProfile(String module) throws IOException {
+        Path report = Paths.get(module + ".prof");
+        Path collapsedStacks = Paths.get(module + ".folded");
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(report))) {
+            Profiler.writeReport(writer);
+        }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(collapsedStacks))) {
+            Profiler.writeCollapsedStacks(writer);
+        }
+        out.println("Profile written to " + report + " and " + collapsedStacks);
+    }
+
+    private static void writeStats(Optional<Inliner> inliner, long compileTime, long runTime) {
+        PrintWriter writer = new PrintWriter(System.err);
+        RuntimeStatistics.writeSummary(writer);
+        if (inliner.isPresent()) {
+            writer.printf("%n");
+            inliner.get().writeSummary(writer);
+        }
+        writer.printf("%n");
+        writer.printf("  compile time %10.3fs%n", compileTime / 1e9);
+        writer.printf("  run time     %10.3fs%n", runTime / 1e9);
+        writer.printf("  total time   %10.3fs%n", (compileTime + runTime) / 1e9);
+        writer.printf("  wall time    %10.3fs%n", ManagementFactory.getRuntimeMXBean().getUptime() / 1e3);
+        writer.flush();
+    }
+
     private final JCommander commander;
     private final String[]   args;
     @Parameter(names = { "-m", "--module" }, description = "[required] The name of the module to run")
     private       String     module;
     @Parameter(names = { "-o", "--output" }, description = "[optional] The compiled class output path, for debugging purposes")
     private       String     outputPath;
+    @Parameter(names = { "-s", "--segmented" }, description = "[optional] Spreads deeply nested evaluation across a bounded pool of segment thread stacks instead of the main thread stack")
+    private       boolean    segmented;
+    @Parameter(names = { "-r", "--reclaimable-cafs" }, description = "[optional] Allows top-level constants to be reclaimed once unreachable, recomputing them if referenced again")
+    private       boolean    reclaimableCafs;
+    @Parameter(names = { "-p", "--profile" }, description = "[optional] Attributes time and thunk allocations to definitions, writing <module>.prof and <module>.folded on exit")
+    private       boolean    profile;
+    @Parameter(names = { "--heap-profile" }, description = "[optional] Samples live bytes by data constructor and thunk origin, writing <module>.hp.csv on exit")
+    private       boolean    heapProfile;
+    @Parameter(names = { "--heap-profile-interval" }, description = "[optional] The interval between heap profile samples in milliseconds, defaulting to 100")
+    private       long       heapProfileInterval = 100;
+    @Parameter(names = { "--stats" }, description = "[optional] Reports time, inlining, thunk evaluation, garbage collection and allocation statistics on exit")
+    private       boolean    stats;
     @Parameter(names = { "-h", "--help" }, description = "[optional] Displays this help")
     private       boolean    help;
 
@@ -59,6 +156,21 @@ public class Runner {
         this.commander = new JCommander();
     }
 
+    public long getHeapProfileInterval() {
+        return heapProfileInterval;
+    }
+
+    public Set<Instrumentation> getInstrumentation() {
+        Set<Instrumentation> instrumentation = EnumSet.noneOf(Instrumentation.class);
+        if (profile) {
+            instrumentation.add(COST_CENTRES);
+        }
+        if (heapProfile) {
+            instrumentation.add(HEAP_ORIGINS);
+        }
+        return instrumentation;
+    }
+
     public String getModule() {
         return module;
     }
@@ -67,6 +179,26 @@ public class Runner {
         return Optional.ofNullable(outputPath).map(outputPath -> new File(outputPath).getAbsoluteFile());
     }
 
+    public boolean isHeapProfile() {
+        return heapProfile;
+    }
+
+    public boolean isProfile() {
+        return profile;
+    }
+
+    public boolean isReclaimableCafs() {
+        return reclaimableCafs;
+    }
+
+    public boolean isStats() {
+        return stats;
+    }
+
+    public boolean isSegmented() {
+        return segmented;
+    }
+
     public void printHelpOr(ThrowingRunnable runnable) throws Exception {
         parseArgs();
         if (isHelp()) {
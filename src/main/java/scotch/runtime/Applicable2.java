@@ -0,0 +1,28 @@
+package scotch.runtime;
+
+/**
+ * An {@link Applicable} of 2 arguments which may be called with all of them at once, without allocating the
+ * intermediate closures of its curried form. Applying fewer arguments gives a {@link PartialApplication}.
+ *
+ * @param <A> The type of the first argument.
+ * @param <B> The type of the second argument.
+ * @param <C> The type of the result.
+ */
+@FunctionalInterface
+public interface Applicable2<A, B, C> extends Applicable<A, Applicable<B, C>> {
+
+    /**
+     * Applies all arguments to this lambda, returning a {@link Callable} thunk.
+     *
+     * @param first The first argument.
+     * @param second The second argument.
+     * @return A thunk.
+     */
+    Callable<C> apply(Callable<A> first, Callable<B> second);
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default Callable<Applicable<B, C>> apply(Callable<A> argument) {
+        return (Callable) new PartialApplication(this, 2, argument);
+    }
+}
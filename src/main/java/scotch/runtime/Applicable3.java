@@ -0,0 +1,30 @@
+package scotch.runtime;
+
+/**
+ * An {@link Applicable} of 3 arguments which may be called with all of them at once, without allocating the
+ * intermediate closures of its curried form. Applying fewer arguments gives a {@link PartialApplication}.
+ *
+ * @param <A> The type of the first argument.
+ * @param <B> The type of the second argument.
+ * @param <C> The type of the third argument.
+ * @param <D> The type of the result.
+ */
+@FunctionalInterface
+public interface Applicable3<A, B, C, D> extends Applicable<A, Applicable<B, Applicable<C, D>>> {
+
+    /**
+     * Applies all arguments to this lambda, returning a {@link Callable} thunk.
+     *
+     * @param first The first argument.
+     * @param second The second argument.
+     * @param third The third argument.
+     * @return A thunk.
+     */
+    Callable<D> apply(Callable<A> first, Callable<B> second, Callable<C> third);
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default Callable<Applicable<B, Applicable<C, D>>> apply(Callable<A> argument) {
+        return (Callable) new PartialApplication(this, 3, argument);
+    }
+}
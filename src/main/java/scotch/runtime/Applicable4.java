@@ -0,0 +1,32 @@
+package scotch.runtime;
+
+/**
+ * An {@link Applicable} of 4 arguments which may be called with all of them at once, without allocating the
+ * intermediate closures of its curried form. Applying fewer arguments gives a {@link PartialApplication}.
+ *
+ * @param <A> The type of the first argument.
+ * @param <B> The type of the second argument.
+ * @param <C> The type of the third argument.
+ * @param <D> The type of the fourth argument.
+ * @param <E> The type of the result.
+ */
+@FunctionalInterface
+public interface Applicable4<A, B, C, D, E> extends Applicable<A, Applicable<B, Applicable<C, Applicable<D, E>>>> {
+
+    /**
+     * Applies all arguments to this lambda, returning a {@link Callable} thunk.
+     *
+     * @param first The first argument.
+     * @param second The second argument.
+     * @param third The third argument.
+     * @param fourth The fourth argument.
+     * @return A thunk.
+     */
+    Callable<E> apply(Callable<A> first, Callable<B> second, Callable<C> third, Callable<D> fourth);
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default Callable<Applicable<B, Applicable<C, Applicable<D, E>>>> apply(Callable<A> argument) {
+        return (Callable) new PartialApplication(this, 4, argument);
+    }
+}
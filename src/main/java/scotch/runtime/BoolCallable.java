@@ -0,0 +1,20 @@
+package scotch.runtime;
+
+/**
+ * A {@link Callable} over {@code boolean} values which can be evaluated without boxing.
+ */
+@FunctionalInterface
+public interface BoolCallable extends Callable<Boolean> {
+
+    @Override
+    default Boolean call() {
+        return callBool();
+    }
+
+    /**
+     * Evaluates and returns the unboxed value contained within the {@link Callable}.
+     *
+     * @return The evaluated value.
+     */
+    boolean callBool();
+}
@@ -0,0 +1,87 @@
+package scotch.runtime;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Supplier;
+
+/**
+ * Holds a constant applicative form: a top-level value without arguments, which is shared by every reference to it
+ * and so is evaluated at most once per class loader.
+ *
+ * <p>By default the thunk of a CAF is retained for as long as its module is loaded. When the
+ * {@code scotch.runtime.reclaimableCafs} system property is set, the thunk is only weakly held, so a large CAF
+ * may be reclaimed once nothing else refers to it and is recomputed if referenced again.</p>
+ *
+ * @param <A> The type of the {@link Callable} holding the value.
+ */
+public abstract class Caf<A extends Callable<?>> {
+
+    /**
+     * Creates a CAF from a factory giving the thunk that evaluates its value.
+     *
+     * @param factory The factory giving the thunk.
+     * @param <A> The type of the thunk.
+     * @return The CAF.
+     */
+    public static <A extends Callable<?>> Caf<A> caf(Supplier<A> factory) {
+        if (Boolean.getBoolean("scotch.runtime.reclaimableCafs")) {
+            return new ReclaimableCaf<>(factory);
+        } else {
+            return new RetainedCaf<>(factory.get());
+        }
+    }
+
+    private Caf() {
+        // intentionally empty
+    }
+
+    /**
+     * Gets the thunk shared by references to this CAF.
+     *
+     * @return The thunk.
+     */
+    public abstract A get();
+
+    private static final class RetainedCaf<A extends Callable<?>> extends Caf<A> {
+
+        private final A thunk;
+
+        RetainedCaf(A thunk) {
+            this.thunk = thunk;
+        }
+
+        @Override
+        public A get() {
+            return thunk;
+        }
+    }
+
+    private static final class ReclaimableCaf<A extends Callable<?>> extends Caf<A> {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<ReclaimableCaf, WeakReference> referenceUpdater = AtomicReferenceFieldUpdater.newUpdater(ReclaimableCaf.class, WeakReference.class, "reference");
+
+        private final    Supplier<A>      factory;
+        private volatile WeakReference<A> reference;
+
+        ReclaimableCaf(Supplier<A> factory) {
+            this.factory = factory;
+            this.reference = new WeakReference<>(null);
+        }
+
+        @Override
+        public A get() {
+            while (true) {
+                WeakReference<A> current = reference;
+                A thunk = current.get();
+                if (thunk != null) {
+                    return thunk;
+                }
+                thunk = factory.get();
+                if (referenceUpdater.compareAndSet(this, current, new WeakReference<>(thunk))) {
+                    return thunk;
+                }
+            }
+        }
+    }
+}
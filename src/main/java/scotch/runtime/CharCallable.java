@@ -0,0 +1,20 @@
+package scotch.runtime;
+
+/**
+ * A {@link Callable} over {@code char} values which can be evaluated without boxing.
+ */
+@FunctionalInterface
+public interface CharCallable extends Callable<Character> {
+
+    @Override
+    default Character call() {
+        return callChar();
+    }
+
+    /**
+     * Evaluates and returns the unboxed value contained within the {@link Callable}.
+     *
+     * @return The evaluated value.
+     */
+    char callChar();
+}
@@ -0,0 +1,20 @@
+package scotch.runtime;
+
+/**
+ * A {@link Callable} over {@code double} values which can be evaluated without boxing.
+ */
+@FunctionalInterface
+public interface DoubleCallable extends Callable<Double> {
+
+    @Override
+    default Double call() {
+        return callDouble();
+    }
+
+    /**
+     * Evaluates and returns the unboxed value contained within the {@link Callable}.
+     *
+     * @return The evaluated value.
+     */
+    double callDouble();
+}
@@ -0,0 +1,180 @@
+package scotch.runtime;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.Long.getLong;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Evaluates {@link Callable}s with a segmented stack, so that deeply nested evaluation is spread across the stacks of
+ * several threads rather than limited by the size of a single thread stack.
+ *
+ * <p>Evaluation started through {@link #evaluate(Callable)} runs on a stack segment. Each {@link Thunk} forced
+ * within the segment counts towards its depth, and once the depth reaches the segment limit the remaining
+ * evaluation continues on a fresh segment while the current one waits for its result. Outside of a segment,
+ * thunks are forced directly on the calling thread.</p>
+ *
+ * <p>Segments run on a pool of threads which are reused by later segments and retired once idle, so that only the
+ * first evaluation to reach a given depth pays for starting threads. Each segment thread reserves its full stack
+ * size of native memory, committed as the stack grows, so a chain nested {@code n} thunks deep holds about
+ * {@code n / segmentDepth} segment stacks at once: with the defaults, one million nested thunks hold 489 segments
+ * and reserve just under 8GB of address space. Evaluation needing more segments than the limit fails with a
+ * {@link StackOverflowError} rather than exhausting native threads, so with the defaults nesting is still bounded at
+ * about two million thunks, by native threads and address space rather than by the heap.</p>
+ *
+ * <p>Continuations that are not in tail position remain on the Java stack; only their number per thread is bounded.
+ * Handing evaluation between segment threads also costs throughput, up to about twice the time of forcing the same
+ * chain directly on one large stack, so segmented evaluation is a fallback for programs too deep for the main thread
+ * rather than a default.</p>
+ *
+ * <p>The segment depth, stack size and limit may be tuned with the {@code scotch.evaluator.segmentDepth},
+ * {@code scotch.evaluator.segmentStackSize} and {@code scotch.evaluator.maxSegments} system properties.</p>
+ */
+public final class Evaluator {
+
+    private static final int                segmentDepth     = getInteger("scotch.evaluator.segmentDepth", 2048);
+    private static final long               segmentStackSize = getLong("scotch.evaluator.segmentStackSize", 16L * 1024 * 1024);
+    private static final int                maxSegments      = getInteger("scotch.evaluator.maxSegments", 1024);
+    private static final ThreadPoolExecutor segments         = new ThreadPoolExecutor(
+        0, maxSegments, 30, SECONDS,
+        new SynchronousQueue<>(),
+        SegmentThread::new,
+        (segment, executor) -> {
+            throw new StackOverflowError("Evaluation needs more than " + maxSegments + " stack segments");
+        }
+    );
+
+    /**
+     * Evaluates a {@link Callable} to head-normal form on a segmented stack.
+     *
+     * @param callable The callable to evaluate.
+     * @param <A> The type of the value.
+     * @return The evaluated value.
+     */
+    public static <A> A evaluate(Callable<A> callable) {
+        return new Segment<>(callable::call).await();
+    }
+
+    static <A> A force(Thunk<A> thunk, Thunk.Blackhole hole) {
+        RuntimeStatistics.Depth depth = RuntimeStatistics.enter();
+        try {
+            return force_(thunk, hole);
+        } finally {
+            if (depth != null) {
+                depth.exit();
+            }
+        }
+    }
+
+    static boolean isEvaluatingOn(Thread owner) {
+        Thread thread = Thread.currentThread();
+        Segment<?> segment;
+        while (thread != owner && (segment = currentSegment(thread)) != null) {
+            thread = segment.parent;
+        }
+        return thread == owner;
+    }
+
+    private static Segment<?> currentSegment(Thread thread) {
+        return thread instanceof SegmentThread ? ((SegmentThread) thread).segment : null;
+    }
+
+    private static <A> A force_(Thunk<A> thunk, Thunk.Blackhole hole) {
+        Segment<?> segment = currentSegment(Thread.currentThread());
+        if (segment == null) {
+            return thunk.trampoline(hole);
+        } else if (segment.depth >= segmentDepth) {
+            return new Segment<>(() -> thunk.trampoline(hole)).await();
+        } else {
+            segment.depth++;
+            try {
+                return thunk.trampoline(hole);
+            } finally {
+                segment.depth--;
+            }
+        }
+    }
+
+    private Evaluator() {
+        // intentionally empty
+    }
+
+    private static final class Segment<A> implements Runnable {
+
+        private final Thread      parent;
+        private final Callable<A> callable;
+        private       int         depth;
+        private       boolean     done;
+        private       A           result;
+        private       Throwable   failure;
+
+        Segment(Callable<A> callable) {
+            this.parent = Thread.currentThread();
+            this.callable = callable;
+        }
+
+        @Override
+        public void run() {
+            SegmentThread thread = (SegmentThread) Thread.currentThread();
+            thread.segment = this;
+            try {
+                result = callable.call();
+            } catch (Throwable throwable) {
+                failure = throwable;
+            } finally {
+                thread.segment = null;
+                synchronized (this) {
+                    done = true;
+                    notifyAll();
+                }
+            }
+        }
+
+        A await() {
+            segments.execute(this);
+            boolean interrupted = false;
+            synchronized (this) {
+                while (!done) {
+                    try {
+                        wait();
+                    } catch (InterruptedException exception) {
+                        interrupted = true;
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            } else if (failure != null) {
+                throw new RuntimeException(failure);
+            } else {
+                return result;
+            }
+        }
+    }
+
+    private static final class SegmentThread extends Thread {
+
+        private Segment<?> segment;
+
+        SegmentThread(Runnable runnable) {
+            super(null, runnable, "scotch-segment", segmentStackSize);
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            try {
+                super.run();
+            } finally {
+                RuntimeStatistics.retire();
+            }
+        }
+    }
+}
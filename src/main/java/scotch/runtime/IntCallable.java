@@ -0,0 +1,20 @@
+package scotch.runtime;
+
+/**
+ * A {@link Callable} over {@code int} values which can be evaluated without boxing.
+ */
+@FunctionalInterface
+public interface IntCallable extends Callable<Integer> {
+
+    @Override
+    default Integer call() {
+        return callInt();
+    }
+
+    /**
+     * Evaluates and returns the unboxed value contained within the {@link Callable}.
+     *
+     * @return The evaluated value.
+     */
+    int callInt();
+}
@@ -0,0 +1,14 @@
+package scotch.runtime;
+
+/**
+ * Thrown when a {@link Thunk} is forced again by the evaluation that is already computing its value, a
+ * self-referential definition which could never terminate.
+ */
+public class LoopError extends Error {
+
+    private static final long serialVersionUID = 1L;
+
+    public LoopError() {
+        super("<<loop>>");
+    }
+}
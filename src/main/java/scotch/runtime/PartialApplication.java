@@ -0,0 +1,105 @@
+package scotch.runtime;
+
+import static java.lang.System.arraycopy;
+
+/**
+ * A function applied to fewer arguments than it takes. Applying the remaining arguments calls the function's
+ * saturated entry point once, rather than through a closure per argument.
+ *
+ * <p>{@link #applyAll(Object, Callable[])} implements the apply half of the eval/apply calling convention: it
+ * compares the number of arguments at a call site with the arity of the function being called, calling it directly
+ * when they match, building a partial application when there are too few arguments, and applying the result of a
+ * saturated call to any arguments left over.</p>
+ */
+@SuppressWarnings("unchecked")
+public final class PartialApplication implements Applicable<Object, Object> {
+
+    /**
+     * Applies a function to arguments.
+     *
+     * @param function The evaluated function.
+     * @param arguments The arguments to apply.
+     * @return A thunk.
+     */
+    public static Callable<?> applyAll(Object function, Callable<?>[] arguments) {
+        Object current = function;
+        Callable<?>[] remaining = arguments;
+        while (true) {
+            if (current instanceof PartialApplication) {
+                PartialApplication partial = (PartialApplication) current;
+                current = partial.function;
+                remaining = concat(partial.arguments, remaining);
+            }
+            int arity = arityOf(current);
+            if (remaining.length < arity) {
+                return new PartialApplication(current, arity, remaining);
+            }
+            Callable<?> result = saturate(current, arity, remaining);
+            if (remaining.length == arity) {
+                return result;
+            }
+            Callable<?>[] rest = new Callable<?>[remaining.length - arity];
+            arraycopy(remaining, arity, rest, 0, rest.length);
+            current = result.call();
+            remaining = rest;
+        }
+    }
+
+    private static int arityOf(Object function) {
+        if (function instanceof Applicable4) {
+            return 4;
+        } else if (function instanceof Applicable3) {
+            return 3;
+        } else if (function instanceof Applicable2) {
+            return 2;
+        } else {
+            return 1;
+        }
+    }
+
+    private static Callable<?>[] concat(Callable<?>[] left, Callable<?>[] right) {
+        Callable<?>[] result = new Callable<?>[left.length + right.length];
+        arraycopy(left, 0, result, 0, left.length);
+        arraycopy(right, 0, result, left.length, right.length);
+        return result;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Callable<?> saturate(Object function, int arity, Callable[] arguments) {
+        switch (arity) {
+            case 1:
+                return ((Applicable) function).apply(arguments[0]);
+            case 2:
+                return ((Applicable2) function).apply(arguments[0], arguments[1]);
+            case 3:
+                return ((Applicable3) function).apply(arguments[0], arguments[1], arguments[2]);
+            case 4:
+                return ((Applicable4) function).apply(arguments[0], arguments[1], arguments[2], arguments[3]);
+            default:
+                throw new IllegalArgumentException("Unsupported arity " + arity);
+        }
+    }
+
+    private final Object        function;
+    private final int           arity;
+    private final Callable<?>[] arguments;
+
+    PartialApplication(Object function, int arity, Callable<?>... arguments) {
+        this.function = function;
+        this.arity = arity;
+        this.arguments = arguments;
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public Callable<Object> apply(Callable<Object> argument) {
+        Callable<?>[] applied = new Callable<?>[arguments.length + 1];
+        arraycopy(arguments, 0, applied, 0, arguments.length);
+        applied[arguments.length] = argument;
+        if (applied.length == arity) {
+            return (Callable<Object>) saturate(function, arity, applied);
+        } else {
+            return (Callable) new PartialApplication(function, arity, applied);
+        }
+    }
+}
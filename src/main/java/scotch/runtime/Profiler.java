@@ -0,0 +1,302 @@
+package scotch.runtime;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Attributes evaluation time and thunk allocations to the cost centres of a program compiled with profiling.
+ *
+ * <p>Profiled code {@link #enter(CostCentre) enters} the cost centre of a definition when one of its functions is
+ * called and {@link #exit() exits} it when the call returns or throws. Within a call, matching one of the
+ * definition's pattern cases {@link #enterCase(CostCentre) switches} to the cost centre of that case, so cases need
+ * not be exited and self tail calls which loop back to the start of a function do not grow the stack. Each thread
+ * keeps its own stack of cost centres, starting from the stack of the thread which created it, while the counters
+ * collected under each stack are shared across threads. Recursive calls collapse into the cost centre stack of the
+ * outermost call, so the collected tree stays as deep as the program's call graph rather than its recursion.</p>
+ *
+ * <p>Time is measured between profiling events and charged to the cost centre stack current at the time, so the
+ * individual time of a stack includes time spent evaluating thunks forced from it which belong to no profiled
+ * definition.</p>
+ */
+public final class Profiler {
+
+    static volatile boolean recording;
+
+    private static final ConcurrentMap<String, CostCentre> costCentres = new ConcurrentHashMap<>();
+    private static final Node                              root        = new Node(null, new CostCentre("MAIN", ""), false);
+    private static final ThreadLocal<Stack>                stacks      = new InheritableThreadLocal<Stack>() {
+        @Override
+        protected Stack childValue(Stack parent) {
+            return new Stack(parent.top());
+        }
+
+        @Override
+        protected Stack initialValue() {
+            return new Stack(root);
+        }
+    };
+
+    /**
+     * Gets the cost centre with the given name and source location, creating it if it does not yet exist.
+     *
+     * @param name The name of the definition or pattern case.
+     * @param location The source location of the definition or pattern case.
+     * @return The cost centre.
+     */
+    public static CostCentre costCentre(String name, String location) {
+        return costCentres.computeIfAbsent(name + ' ' + location, key -> new CostCentre(name, location));
+    }
+
+    /**
+     * Enters the cost centre of a definition, pushing it onto the current thread's stack.
+     *
+     * @param costCentre The cost centre of the definition.
+     */
+    public static void enter(CostCentre costCentre) {
+        if (recording) {
+            stacks.get().enter(costCentre);
+        }
+    }
+
+    /**
+     * Switches the top of the current thread's stack to the cost centre of a pattern case of the current definition.
+     *
+     * @param costCentre The cost centre of the pattern case.
+     */
+    public static void enterCase(CostCentre costCentre) {
+        if (recording) {
+            stacks.get().enterCase(costCentre);
+        }
+    }
+
+    /**
+     * Exits the cost centre of the current definition, popping it from the current thread's stack.
+     */
+    public static void exit() {
+        if (recording) {
+            stacks.get().exit();
+        }
+    }
+
+    /**
+     * Tells whether profiling data is being recorded.
+     */
+    public static boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Starts recording profiling data.
+     */
+    public static void start() {
+        recording = true;
+        stacks.get().last = System.nanoTime();
+    }
+
+    /**
+     * Stops recording profiling data, charging the time elapsed since the last event on the current thread.
+     */
+    public static void stop() {
+        stacks.get().charge();
+        recording = false;
+    }
+
+    /**
+     * Writes the cost centre stacks collected so far in the collapsed stack format read by flame graph tools, one
+     * line per stack with its individual time in microseconds.
+     *
+     * @param writer The writer to write to.
+     */
+    public static void writeCollapsedStacks(PrintWriter writer) {
+        root.writeCollapsed(writer, root.costCentre.name);
+        writer.flush();
+    }
+
+    /**
+     * Writes a hierarchical report of the cost centre stacks collected so far, giving for each the number of entries
+     * along with the time and thunk allocations charged to the stack alone and to the stack with its callees.
+     *
+     * @param writer The writer to write to.
+     */
+    public static void writeReport(PrintWriter writer) {
+        long totalTime = Math.max(root.inheritedTime(), 1);
+        long totalAllocations = Math.max(root.inheritedAllocations(), 1);
+        writer.printf("Scotch cost centre profile%n%n");
+        writer.printf("\ttotal time  = %.3f ms%n", root.inheritedTime() / 1_000_000.0);
+        writer.printf("\ttotal alloc = %d thunks%n%n", root.inheritedAllocations());
+        writer.printf("%-60s %12s %8s %8s %8s %8s  %s%n", "COST CENTRE", "entries", "%time", "%alloc", "%time", "%alloc", "LOCATION");
+        writer.printf("%-60s %12s %17s %17s%n", "", "", "individual", "inherited");
+        root.writeReport(writer, 0, totalTime, totalAllocations);
+        writer.flush();
+    }
+
+    static void allocate() {
+        if (recording) {
+            stacks.get().top().allocations.increment();
+        }
+    }
+
+    private Profiler() {
+        // intentionally empty
+    }
+
+    /**
+     * A definition or pattern case to which time and allocations may be attributed.
+     */
+    public static final class CostCentre {
+
+        private final String name;
+        private final String location;
+
+        private CostCentre(String name, String location) {
+            this.name = name;
+            this.location = location;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return name + " " + location;
+        }
+    }
+
+    private static final class Node {
+
+        private final Node                            parent;
+        private final CostCentre                      costCentre;
+        private final boolean                         patternCase;
+        private final ConcurrentMap<CostCentre, Node> children    = new ConcurrentHashMap<>();
+        private final LongAdder                       entries     = new LongAdder();
+        private final LongAdder                       time        = new LongAdder();
+        private final LongAdder                       allocations = new LongAdder();
+
+        Node(Node parent, CostCentre costCentre, boolean patternCase) {
+            this.parent = parent;
+            this.costCentre = costCentre;
+            this.patternCase = patternCase;
+        }
+
+        Node call(CostCentre callee) {
+            return children.computeIfAbsent(callee, key -> {
+                for (Node node = this; node != null; node = node.parent) {
+                    if (!node.patternCase && node.costCentre == callee) {
+                        return node;
+                    }
+                }
+                return new Node(this, callee, false);
+            });
+        }
+
+        Node frame() {
+            return patternCase ? parent : this;
+        }
+
+        long inheritedAllocations() {
+            return allocations.sum() + ownChildren().stream().mapToLong(Node::inheritedAllocations).sum();
+        }
+
+        long inheritedTime() {
+            return time.sum() + ownChildren().stream().mapToLong(Node::inheritedTime).sum();
+        }
+
+        Node match(CostCentre patternCase) {
+            return children.computeIfAbsent(patternCase, key -> new Node(this, patternCase, true));
+        }
+
+        void writeCollapsed(PrintWriter writer, String stack) {
+            long micros = time.sum() / 1000;
+            if (micros > 0) {
+                writer.println(stack + " " + micros);
+            }
+            ownChildren().forEach(child -> child.writeCollapsed(writer, stack + ";" + child.costCentre.name));
+        }
+
+        void writeReport(PrintWriter writer, int depth, long totalTime, long totalAllocations) {
+            char[] indent = new char[depth];
+            Arrays.fill(indent, ' ');
+            writer.printf("%-60s %12d %8.1f %8.1f %8.1f %8.1f  %s%n",
+                new String(indent) + costCentre.name,
+                entries.sum(),
+                percent(time.sum(), totalTime),
+                percent(allocations.sum(), totalAllocations),
+                percent(inheritedTime(), totalTime),
+                percent(inheritedAllocations(), totalAllocations),
+                costCentre.location
+            );
+            ownChildren().forEach(child -> child.writeReport(writer, depth + 1, totalTime, totalAllocations));
+        }
+
+        private List<Node> ownChildren() {
+            return children.values().stream()
+                .filter(child -> child.parent == this)
+                .sorted(comparing(Node::inheritedTime).reversed())
+                .collect(toList());
+        }
+
+        private double percent(long value, long total) {
+            return 100.0 * value / total;
+        }
+    }
+
+    private static final class Stack {
+
+        private Node[] nodes;
+        private int    depth;
+        private long   last;
+
+        Stack(Node bottom) {
+            this.nodes = new Node[32];
+            this.nodes[0] = bottom;
+            this.depth = 1;
+            this.last = System.nanoTime();
+        }
+
+        void charge() {
+            long now = System.nanoTime();
+            top().time.add(now - last);
+            last = now;
+        }
+
+        void enter(CostCentre costCentre) {
+            charge();
+            Node node = top().call(costCentre);
+            node.entries.increment();
+            if (depth == nodes.length) {
+                nodes = Arrays.copyOf(nodes, depth * 2);
+            }
+            nodes[depth++] = node;
+        }
+
+        void enterCase(CostCentre costCentre) {
+            charge();
+            Node node = top().frame().match(costCentre);
+            node.entries.increment();
+            nodes[depth - 1] = node;
+        }
+
+        void exit() {
+            charge();
+            if (depth > 1) {
+                nodes[--depth] = null;
+            }
+        }
+
+        Node top() {
+            return nodes[depth - 1];
+        }
+    }
+}
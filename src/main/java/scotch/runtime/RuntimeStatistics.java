@@ -0,0 +1,248 @@
+package scotch.runtime;
+
+import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Counts the work done by the runtime in evaluating thunks.
+ *
+ * <p>Counting is off by default, leaving a single flag check on each thunk allocation and evaluation. Once enabled,
+ * counts are kept in striped {@link LongAdder}s and evaluation depth in a thread-local counter, so concurrent
+ * evaluation does not contend on shared state. Only evaluations which actually compute a value are counted as
+ * forced; calls on thunks which have already been evaluated are not.</p>
+ *
+ * <p>Counting is enabled and the counters are published as an MBean named {@value #OBJECT_NAME} when the
+ * {@code scotch.runtime.statistics} system property is set, or when {@link #register()} is called. The MBean may
+ * also be used to turn counting on and off while a program runs.</p>
+ */
+public final class RuntimeStatistics implements RuntimeStatisticsMBean {
+
+    public static final String OBJECT_NAME = "scotch.runtime:type=RuntimeStatistics";
+
+    static volatile boolean enabled;
+
+    private static final LongAdder          thunksAllocated      = new LongAdder();
+    private static final LongAdder          thunksForced         = new LongAdder();
+    private static final LongAdder          indirectionsFollowed = new LongAdder();
+    private static final LongAccumulator    maxEvaluationDepth   = new LongAccumulator(Math::max, 0);
+    private static final LongAdder          retiredBytes         = new LongAdder();
+    private static final Set<Long>          retiredThreads       = ConcurrentHashMap.newKeySet();
+    private static final ThreadLocal<Depth> depths               = new InheritableThreadLocal<Depth>() {
+        @Override
+        protected Depth childValue(Depth parent) {
+            return new Depth(parent.current);
+        }
+
+        @Override
+        protected Depth initialValue() {
+            return new Depth(0);
+        }
+    };
+
+    static {
+        if (Boolean.getBoolean("scotch.runtime.statistics")) {
+            register();
+        }
+    }
+
+    /**
+     * Enables counting and publishes the counters as an MBean on the platform MBean server, if not already published.
+     */
+    public static synchronized void register() {
+        enabled = true;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new RuntimeStatistics(), name);
+            }
+        } catch (JMException exception) {
+            throw new IllegalStateException("Could not register runtime statistics", exception);
+        }
+    }
+
+    /**
+     * Writes a summary of the counters, along with the collections and heap allocation of the JVM so far. Allocation
+     * is that of the live threads and of the runtime's own threads which have exited while counting was enabled.
+     *
+     * @param writer The writer to write to.
+     */
+    public static void writeSummary(PrintWriter writer) {
+        RuntimeStatistics statistics = new RuntimeStatistics();
+        writer.printf("%,18d thunks allocated%n", statistics.getThunksAllocated());
+        writer.printf("%,18d thunks forced%n", statistics.getThunksForced());
+        writer.printf("%,18d indirections followed%n", statistics.getIndirectionsFollowed());
+        writer.printf("%,18d maximum evaluation depth%n", statistics.getMaxEvaluationDepth());
+        writer.printf("%,18d sparks (%,d converted, %,d fizzled)%n", statistics.getSparksCreated(), statistics.getSparksConverted(), statistics.getSparksFizzled());
+        getAllocatedBytes().ifPresent(bytes -> writer.printf("%,18d bytes allocated in the heap%n", bytes));
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            writer.printf("%,18d collections by %s (%,d ms)%n", collector.getCollectionCount(), collector.getName(), collector.getCollectionTime());
+        }
+        writer.flush();
+    }
+
+    static void allocate() {
+        if (enabled) {
+            thunksAllocated.increment();
+        }
+    }
+
+    static Depth enter() {
+        if (enabled) {
+            Depth depth = depths.get();
+            depth.enter();
+            return depth;
+        } else {
+            return null;
+        }
+    }
+
+    static void followIndirection() {
+        if (enabled) {
+            indirectionsFollowed.increment();
+        }
+    }
+
+    static void force() {
+        if (enabled) {
+            thunksForced.increment();
+        }
+    }
+
+    /**
+     * Records the heap allocation of a thread of the runtime which is about to exit, so that it is still counted once
+     * the thread is gone.
+     */
+    static void retire() {
+        if (enabled) {
+            getAllocations().ifPresent(allocations -> {
+                long id = Thread.currentThread().getId();
+                retiredThreads.add(id);
+                retiredBytes.add(Math.max(allocations.getThreadAllocatedBytes(id), 0));
+            });
+        }
+    }
+
+    static Optional<Long> getAllocatedBytes() {
+        return getAllocations().map(allocations -> {
+            long[] ids = allocations.getAllThreadIds();
+            long[] allocated = allocations.getThreadAllocatedBytes(ids);
+            Set<Long> live = new HashSet<>();
+            long total = retiredBytes.sum();
+            for (int i = 0; i < ids.length; i++) {
+                live.add(ids[i]);
+                if (!retiredThreads.contains(ids[i])) {
+                    total += Math.max(allocated[i], 0);
+                }
+            }
+            retiredThreads.retainAll(live);
+            return total;
+        });
+    }
+
+    @SuppressWarnings("restriction")
+    private static Optional<com.sun.management.ThreadMXBean> getAllocations() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+            if (allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled()) {
+                return Optional.of(allocations);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private RuntimeStatistics() {
+        // intentionally empty
+    }
+
+    @Override
+    public long getIndirectionsFollowed() {
+        return indirectionsFollowed.sum();
+    }
+
+    @Override
+    public long getMaxEvaluationDepth() {
+        return maxEvaluationDepth.get();
+    }
+
+    @Override
+    public long getSparksConverted() {
+        return SparkPool.getConverted();
+    }
+
+    @Override
+    public long getSparksCreated() {
+        return SparkPool.getCreated();
+    }
+
+    @Override
+    public long getSparksFizzled() {
+        return SparkPool.getFizzled();
+    }
+
+    @Override
+    public long getThunksAllocated() {
+        return thunksAllocated.sum();
+    }
+
+    @Override
+    public long getThunksForced() {
+        return thunksForced.sum();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void reset() {
+        thunksAllocated.reset();
+        thunksForced.reset();
+        indirectionsFollowed.reset();
+        maxEvaluationDepth.reset();
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        RuntimeStatistics.enabled = enabled;
+    }
+
+    /**
+     * The depth of nested evaluation on a single thread, starting from the depth of the thread which created it so
+     * that evaluation continued on a fresh stack segment keeps counting.
+     */
+    static final class Depth {
+
+        private int current;
+        private int max;
+
+        Depth(int current) {
+            this.current = current;
+            this.max = current;
+        }
+
+        void enter() {
+            if (++current > max) {
+                max = current;
+                maxEvaluationDepth.accumulate(current);
+            }
+        }
+
+        void exit() {
+            current--;
+        }
+    }
+}
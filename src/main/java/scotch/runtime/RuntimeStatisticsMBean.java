@@ -0,0 +1,27 @@
+package scotch.runtime;
+
+/**
+ * The management interface of {@link RuntimeStatistics}.
+ */
+public interface RuntimeStatisticsMBean {
+
+    long getIndirectionsFollowed();
+
+    long getMaxEvaluationDepth();
+
+    long getSparksConverted();
+
+    long getSparksCreated();
+
+    long getSparksFizzled();
+
+    long getThunksAllocated();
+
+    long getThunksForced();
+
+    boolean isEnabled();
+
+    void reset();
+
+    void setEnabled(boolean enabled);
+}
@@ -8,6 +8,79 @@ import java.util.function.Supplier;
  */
 public final class RuntimeSupport {
 
+    /**
+     * Applies a function to an argument, calling its saturated entry point when its arity matches.
+     *
+     * @param function The function to apply.
+     * @param first The first argument.
+     * @param <A> The type of the result.
+     * @return A thunk.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static <A> Callable<A> apply(Callable<?> function, Callable<?> first) {
+        return ((Applicable) function.call()).apply(first);
+    }
+
+    /**
+     * Applies a function to 2 arguments, calling its saturated entry point when its arity matches.
+     *
+     * @param function The function to apply.
+     * @param first The first argument.
+     * @param second The second argument.
+     * @param <A> The type of the result.
+     * @return A thunk.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static <A> Callable<A> apply(Callable<?> function, Callable<?> first, Callable<?> second) {
+        Object evaluated = function.call();
+        if (evaluated instanceof Applicable2) {
+            return ((Applicable2) evaluated).apply(first, second);
+        } else {
+            return (Callable<A>) PartialApplication.applyAll(evaluated, new Callable<?>[] { first, second });
+        }
+    }
+
+    /**
+     * Applies a function to 3 arguments, calling its saturated entry point when its arity matches.
+     *
+     * @param function The function to apply.
+     * @param first The first argument.
+     * @param second The second argument.
+     * @param third The third argument.
+     * @param <A> The type of the result.
+     * @return A thunk.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static <A> Callable<A> apply(Callable<?> function, Callable<?> first, Callable<?> second, Callable<?> third) {
+        Object evaluated = function.call();
+        if (evaluated instanceof Applicable3) {
+            return ((Applicable3) evaluated).apply(first, second, third);
+        } else {
+            return (Callable<A>) PartialApplication.applyAll(evaluated, new Callable<?>[] { first, second, third });
+        }
+    }
+
+    /**
+     * Applies a function to 4 arguments, calling its saturated entry point when its arity matches.
+     *
+     * @param function The function to apply.
+     * @param first The first argument.
+     * @param second The second argument.
+     * @param third The third argument.
+     * @param fourth The fourth argument.
+     * @param <A> The type of the result.
+     * @return A thunk.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static <A> Callable<A> apply(Callable<?> function, Callable<?> first, Callable<?> second, Callable<?> third, Callable<?> fourth) {
+        Object evaluated = function.call();
+        if (evaluated instanceof Applicable4) {
+            return ((Applicable4) evaluated).apply(first, second, third, fourth);
+        } else {
+            return (Callable<A>) PartialApplication.applyAll(evaluated, new Callable<?>[] { first, second, third, fourth });
+        }
+    }
+
     /**
      * Shorthand for creating an {@link Applicable}.
      *
@@ -20,13 +93,101 @@ public final class RuntimeSupport {
         return function::apply;
     }
 
+    /**
+     * Shorthand for creating an {@link Applicable2}.
+     *
+     * @param function The function to alias into an {@link Applicable2}.
+     * @return The appropriate {@link Applicable2}.
+     */
+    public static <A, B, C> Applicable2<A, B, C> applicable(Applicable2<A, B, C> function) {
+        return function;
+    }
+
+    /**
+     * Shorthand for creating an {@link Applicable3}.
+     *
+     * @param function The function to alias into an {@link Applicable3}.
+     * @return The appropriate {@link Applicable3}.
+     */
+    public static <A, B, C, D> Applicable3<A, B, C, D> applicable(Applicable3<A, B, C, D> function) {
+        return function;
+    }
+
+    /**
+     * Shorthand for creating an {@link Applicable4}.
+     *
+     * @param function The function to alias into an {@link Applicable4}.
+     * @return The appropriate {@link Applicable4}.
+     */
+    public static <A, B, C, D, E> Applicable4<A, B, C, D, E> applicable(Applicable4<A, B, C, D, E> function) {
+        return function;
+    }
+
+    /**
+     * Views a {@link Callable} of booleans as a {@link BoolCallable}, wrapping it only if necessary.
+     *
+     * @param callable The callable to view.
+     * @return The specialized callable.
+     */
+    public static BoolCallable asBool(Callable<Boolean> callable) {
+        if (callable instanceof BoolCallable) {
+            return (BoolCallable) callable;
+        } else {
+            return new BoolThunk(callable::call);
+        }
+    }
+
+    /**
+     * Views a {@link Callable} of chars as a {@link CharCallable}, wrapping it only if necessary.
+     *
+     * @param callable The callable to view.
+     * @return The specialized callable.
+     */
+    public static CharCallable asChar(Callable<Character> callable) {
+        if (callable instanceof CharCallable) {
+            return (CharCallable) callable;
+        } else {
+            return new CharThunk(callable::call);
+        }
+    }
+
+    /**
+     * Views a {@link Callable} of doubles as a {@link DoubleCallable}, wrapping it only if necessary.
+     *
+     * @param callable The callable to view.
+     * @return The specialized callable.
+     */
+    public static DoubleCallable asDouble(Callable<Double> callable) {
+        if (callable instanceof DoubleCallable) {
+            return (DoubleCallable) callable;
+        } else {
+            return new DoubleThunk(callable::call);
+        }
+    }
+
+    /**
+     * Views a {@link Callable} of ints as an {@link IntCallable}, wrapping it only if necessary.
+     *
+     * @param callable The callable to view.
+     * @return The specialized callable.
+     */
+    public static IntCallable asInt(Callable<Integer> callable) {
+        if (callable instanceof IntCallable) {
+            return (IntCallable) callable;
+        } else {
+            return new IntThunk(callable::call);
+        }
+    }
+
     /**
      * Boxes a boolean into a {@link Callable}.
      *
      * @param value The boolean to be boxed.
      * @return The boxed boolean.
      */
-    public static Callable<Boolean> box(boolean value) { return new BoxedCallable<>(value); }
+    public static BoolCallable box(boolean value) {
+        return value ? BoxedBool.TRUE : BoxedBool.FALSE;
+    }
 
     /**
      * Boxes a char into a {@link Callable}.
@@ -34,7 +195,9 @@ public final class RuntimeSupport {
      * @param value The char to be boxed.
      * @return The boxed char.
      */
-    public static Callable<Character> box(char value) { return new BoxedCallable<>(value); }
+    public static CharCallable box(char value) {
+        return new BoxedChar(value);
+    }
 
     /**
      * Boxes a double into a {@link Callable}.
@@ -42,62 +205,89 @@ public final class RuntimeSupport {
      * @param value The double to be boxed.
      * @return The boxed double.
      */
-    public static Callable<Double> box(double value) {
-        return new BoxedCallable<>(value);
+    public static DoubleCallable box(double value) {
+        return new BoxedDouble(value);
     }
 
     /**
-     * Boxes an int into a {@link Callable}.
+     * Boxes an int into a {@link Callable}. Small values are shared.
      *
      * @param value The int to be boxed.
      * @return The boxed int.
      */
-    public static Callable<Integer> box(int value) {
-        return new BoxedCallable<>(value);
+    public static IntCallable box(int value) {
+        if (value >= BoxedInt.CACHE_LOW && value <= BoxedInt.CACHE_HIGH) {
+            return BoxedInt.CACHE[value - BoxedInt.CACHE_LOW];
+        } else {
+            return new BoxedInt(value);
+        }
     }
 
     /**
-     * Boxes any Object value into a {@link Callable}.
+     * Boxes any Object value into a {@link Callable}. Values which are already {@link Callable} are returned as-is
+     * rather than wrapped in a further indirection.
      *
      * @param value The value to be boxed.
      * @param <A> The type of the value.
      * @return The boxed value.
      */
+    @SuppressWarnings("unchecked")
     public static <A> Callable<A> box(A value) {
-        return new BoxedCallable<>(value);
+        if (value instanceof Callable) {
+            return (Callable<A>) value;
+        } else {
+            return new BoxedCallable<>(value);
+        }
     }
 
     /**
      * Creates a {@link Thunk} which will execute the given Supplier and store
-     * the resultant value when called.
+     * the resultant value when called, dropping the Supplier afterwards.
      *
      * @param supplier The supplier giving the value.
      * @param <A> The type returned from the supplier.
      * @return The thunk.
      */
     public static <A> Callable<A> callable(Supplier<A> supplier) {
-        return new Thunk<A>() {
-            @Override
-            protected A evaluate() {
-                return supplier.get();
-            }
-        };
+        return new SuppliedThunk<>(supplier);
     }
 
     /**
-     * Creates a {@link Thunk} that handles a Supplier returning a {@link Callable}.
+     * Evaluates a {@link Thunk} in place, for arguments which the function receiving them is known to evaluate. The
+     * thunk is returned with its value already computed so it may be passed on as-is.
+     *
+     * @param callable The callable to evaluate.
+     * @param <A> The type of the value.
+     * @return The callable.
+     */
+    public static <A> Callable<A> evaluate(Callable<A> callable) {
+        if (callable instanceof Thunk) {
+            callable.call();
+        }
+        return callable;
+    }
+
+    /**
+     * Creates a {@link Thunk} that handles a Supplier returning a {@link Callable}. The returned {@link Callable} is
+     * handed back to the thunk's trampoline rather than being called directly, so it does not consume stack.
      *
      * @param supplier The supplier returning a {@link Callable}
      * @param <A> The type of the value returned from the {@link Callable}
      * @return The thunk.
      */
+    @SuppressWarnings("unchecked")
     public static <A> Callable<A> flatCallable(Supplier<Callable<A>> supplier) {
-        return new Thunk<A>() {
-            @Override
-            protected A evaluate() {
-                return supplier.get().call();
-            }
-        };
+        return new SuppliedThunk<>((Supplier) supplier);
+    }
+
+    /**
+     * Tells whether calling a {@link Callable} would return a value without computing it first.
+     *
+     * @param callable The callable to check.
+     * @return Whether the callable is already evaluated.
+     */
+    public static boolean isEvaluated(Callable<?> callable) {
+        return !(callable instanceof Thunk) || ((Thunk<?>) callable).isEvaluated();
     }
 
     /**
@@ -106,9 +296,54 @@ public final class RuntimeSupport {
      * @param callable The callable to unbox.
      * @return The boolean value.
      */
-    @SuppressWarnings("unused")
     public static boolean unboxBool(Callable<Boolean> callable) {
-        return callable.call();
+        if (callable instanceof BoolCallable) {
+            return ((BoolCallable) callable).callBool();
+        } else {
+            return callable.call();
+        }
+    }
+
+    /**
+     * Unboxes a char from a {@link Callable}.
+     *
+     * @param callable The callable to unbox.
+     * @return The char value.
+     */
+    public static char unboxChar(Callable<Character> callable) {
+        if (callable instanceof CharCallable) {
+            return ((CharCallable) callable).callChar();
+        } else {
+            return callable.call();
+        }
+    }
+
+    /**
+     * Unboxes a double from a {@link Callable}.
+     *
+     * @param callable The callable to unbox.
+     * @return The double value.
+     */
+    public static double unboxDouble(Callable<Double> callable) {
+        if (callable instanceof DoubleCallable) {
+            return ((DoubleCallable) callable).callDouble();
+        } else {
+            return callable.call();
+        }
+    }
+
+    /**
+     * Unboxes an int from a {@link Callable}.
+     *
+     * @param callable The callable to unbox.
+     * @return The int value.
+     */
+    public static int unboxInt(Callable<Integer> callable) {
+        if (callable instanceof IntCallable) {
+            return ((IntCallable) callable).callInt();
+        } else {
+            return callable.call();
+        }
     }
 
     private RuntimeSupport() {
@@ -138,4 +373,145 @@ public final class RuntimeSupport {
             }
         }
     }
+
+    /**
+     * Boxes booleans into {@link BoolCallable}s.
+     */
+    public static final class BoxedBool implements BoolCallable {
+
+        private static final BoxedBool TRUE  = new BoxedBool(true);
+        private static final BoxedBool FALSE = new BoxedBool(false);
+
+        private final boolean value;
+
+        private BoxedBool(boolean value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean callBool() {
+            return value;
+        }
+    }
+
+    /**
+     * Boxes chars into {@link CharCallable}s.
+     */
+    public static final class BoxedChar implements CharCallable {
+
+        private final char value;
+
+        public BoxedChar(char value) {
+            this.value = value;
+        }
+
+        @Override
+        public char callChar() {
+            return value;
+        }
+    }
+
+    /**
+     * Boxes doubles into {@link DoubleCallable}s.
+     */
+    public static final class BoxedDouble implements DoubleCallable {
+
+        private final double value;
+
+        public BoxedDouble(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public double callDouble() {
+            return value;
+        }
+    }
+
+    /**
+     * Boxes ints into {@link IntCallable}s.
+     */
+    public static final class BoxedInt implements IntCallable {
+
+        private static final int        CACHE_LOW  = -128;
+        private static final int        CACHE_HIGH = 1024;
+        private static final BoxedInt[] CACHE      = new BoxedInt[CACHE_HIGH - CACHE_LOW + 1];
+
+        static {
+            for (int i = 0; i < CACHE.length; i++) {
+                CACHE[i] = new BoxedInt(CACHE_LOW + i);
+            }
+        }
+
+        private final int value;
+
+        public BoxedInt(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int callInt() {
+            return value;
+        }
+    }
+
+    /**
+     * A {@link SuppliedThunk} of booleans.
+     */
+    public static final class BoolThunk extends SuppliedThunk<Boolean> implements BoolCallable {
+
+        public BoolThunk(Supplier<Boolean> supplier) {
+            super(supplier);
+        }
+
+        @Override
+        public boolean callBool() {
+            return call();
+        }
+    }
+
+    /**
+     * A {@link SuppliedThunk} of chars.
+     */
+    public static final class CharThunk extends SuppliedThunk<Character> implements CharCallable {
+
+        public CharThunk(Supplier<Character> supplier) {
+            super(supplier);
+        }
+
+        @Override
+        public char callChar() {
+            return call();
+        }
+    }
+
+    /**
+     * A {@link SuppliedThunk} of doubles.
+     */
+    public static final class DoubleThunk extends SuppliedThunk<Double> implements DoubleCallable {
+
+        public DoubleThunk(Supplier<Double> supplier) {
+            super(supplier);
+        }
+
+        @Override
+        public double callDouble() {
+            return call();
+        }
+    }
+
+    /**
+     * A {@link SuppliedThunk} of ints.
+     */
+    public static final class IntThunk extends SuppliedThunk<Integer> implements IntCallable {
+
+        public IntThunk(Supplier<Integer> supplier) {
+            super(supplier);
+        }
+
+        @Override
+        public int callInt() {
+            return call();
+        }
+    }
 }
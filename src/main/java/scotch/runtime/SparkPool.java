@@ -0,0 +1,146 @@
+package scotch.runtime;
+
+import static java.lang.Integer.getInteger;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Evaluates sparked {@link Thunk}s speculatively on a work-stealing {@link ForkJoinPool}.
+ *
+ * <p>A spark is a hint that a thunk will be needed later. Idle workers steal sparks and evaluate them, so that by
+ * the time the thunk is demanded its value may already be available. A spark whose thunk has already been evaluated
+ * or claimed by another thread when it is run fizzles without doing any work, and a spark which fails is dropped,
+ * leaving the thread which demands the thunk to evaluate it and observe the failure itself.</p>
+ *
+ * <p>Sparks are weak: a queued spark refers to its thunks only weakly, so speculative work which nothing else
+ * refers to any longer is collected instead of being kept alive until a worker gets to it. Such a spark fizzles when
+ * it is run.</p>
+ *
+ * <p>The number of workers may be tuned with the {@code scotch.sparks.parallelism} system property.</p>
+ */
+public final class SparkPool {
+
+    private static final ForkJoinPool pool = new ForkJoinPool(
+        getInteger("scotch.sparks.parallelism", Runtime.getRuntime().availableProcessors()),
+        SparkWorker::new,
+        null,
+        true
+    );
+
+    private static final AtomicLong created   = new AtomicLong();
+    private static final AtomicLong converted = new AtomicLong();
+    private static final AtomicLong fizzled   = new AtomicLong();
+
+    /**
+     * Sparks a single {@link Callable}.
+     *
+     * @param callable The callable to evaluate speculatively.
+     */
+    public static void spark(Callable<?> callable) {
+        if (callable instanceof Thunk && ((Thunk<?>) callable).isUnevaluated()) {
+            submit(new Spark(new Thunk<?>[] { (Thunk<?>) callable }));
+        }
+    }
+
+    /**
+     * Sparks a chunk of {@link Callable}s, to be evaluated in order by a single worker.
+     *
+     * @param callables The callables to evaluate speculatively.
+     */
+    public static void sparkAll(List<? extends Callable<?>> callables) {
+        Thunk<?>[] thunks = callables.stream()
+            .filter(callable -> callable instanceof Thunk && ((Thunk<?>) callable).isUnevaluated())
+            .toArray(Thunk<?>[]::new);
+        if (thunks.length > 0) {
+            submit(new Spark(thunks));
+        }
+    }
+
+    /**
+     * Gets the number of sparks created so far.
+     */
+    public static long getCreated() {
+        return created.get();
+    }
+
+    /**
+     * Gets the number of sparks which evaluated at least one thunk.
+     */
+    public static long getConverted() {
+        return converted.get();
+    }
+
+    /**
+     * Gets the number of sparks which found all of their thunks already evaluated or collected, or failed.
+     */
+    public static long getFizzled() {
+        return fizzled.get();
+    }
+
+    private static void submit(Spark spark) {
+        created.incrementAndGet();
+        if (ForkJoinTask.getPool() == pool) {
+            spark.fork();
+        } else {
+            pool.execute(spark);
+        }
+    }
+
+    private SparkPool() {
+        // intentionally empty
+    }
+
+    private static final class Spark extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<WeakReference<Thunk<?>>> thunks;
+
+        Spark(Thunk<?>[] thunks) {
+            this.thunks = new ArrayList<>(thunks.length);
+            for (Thunk<?> thunk : thunks) {
+                this.thunks.add(new WeakReference<>(thunk));
+            }
+        }
+
+        @Override
+        protected void compute() {
+            boolean evaluated = false;
+            try {
+                for (WeakReference<Thunk<?>> reference : thunks) {
+                    Thunk<?> thunk = reference.get();
+                    if (thunk != null) {
+                        evaluated |= thunk.tryForce();
+                    }
+                }
+            } catch (RuntimeException | LoopError | StackOverflowError exception) {
+                evaluated = false;
+            }
+            if (evaluated) {
+                converted.incrementAndGet();
+            } else {
+                fizzled.incrementAndGet();
+            }
+        }
+    }
+
+    private static final class SparkWorker extends ForkJoinWorkerThread {
+
+        SparkWorker(ForkJoinPool pool) {
+            super(pool);
+        }
+
+        @Override
+        protected void onTermination(Throwable exception) {
+            RuntimeStatistics.retire();
+            super.onTermination(exception);
+        }
+    }
+}
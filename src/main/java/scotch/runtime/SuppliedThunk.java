@@ -3,13 +3,14 @@ package scotch.runtime;
 import java.util.function.Supplier;
 
 /**
- * A thunk which uses a supplier to evaluate its value.
+ * A thunk which uses a supplier to evaluate its value. The supplier, along with everything it captures, is dropped
+ * once the value has been evaluated.
  *
  * @param <A> The type contained by this {@link Thunk}.
  */
 public class SuppliedThunk<A> extends Thunk<A> {
 
-    private final Supplier<A> supplier;
+    private Supplier<A> supplier;
 
     public SuppliedThunk(Supplier<A> supplier) {
         this.supplier = supplier;
@@ -19,4 +20,9 @@ public class SuppliedThunk<A> extends Thunk<A> {
     protected A evaluate() {
         return supplier.get();
     }
+
+    @Override
+    protected void release() {
+        supplier = null;
+    }
 }
@@ -1,18 +1,43 @@
 package scotch.runtime;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
 /**
  * A thunk representing a suspended state of computation.
  *
  * <p>Read <a href="http://en.wikipedia.org/wiki/Thunk">here</a> for more.</p>
  *
+ * <p>Evaluation is trampolined: when a thunk evaluates to another unevaluated thunk, the inner thunk is evaluated
+ * in the same loop rather than through a nested {@link #call()}, so chains of suspended applications use constant
+ * stack. Nested evaluation that is not in tail position still uses the Java stack, which may be spread across the
+ * threads of an {@link Evaluator}. Once evaluated, a thunk {@link #release() releases} its means of computation and
+ * every thunk along an indirection chain points directly at the final value.</p>
+ *
+ * <p>A thunk moves through three states without taking a lock: unevaluated, under evaluation by a single thread
+ * (blackholed), and evaluated. The transition into evaluation is claimed with a compare-and-set, other threads
+ * forcing a blackholed thunk park until its value is available, and a thread forcing a thunk it is already
+ * evaluating fails with a {@link LoopError} instead of overflowing its stack.</p>
+ *
  * @param <A> The type of the value to be returned from the Thunk.
  */
 public abstract class Thunk<A> implements Callable<A> {
 
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Thunk, Object> stateUpdater = AtomicReferenceFieldUpdater.newUpdater(Thunk.class, Object.class, "state");
+
     /**
-     * The value after it has been evaluated to head-normal form.
+     * Either {@code null} while unevaluated, a {@link Blackhole} while under evaluation, or the value after it has
+     * been evaluated to head-normal form.
      */
-    private volatile A value;
+    private volatile Object state;
+
+    protected Thunk() {
+        Profiler.allocate();
+        RuntimeStatistics.allocate();
+    }
 
     /**
      * Evaluates the thunk down to head-normal form.
@@ -22,20 +47,44 @@ public abstract class Thunk<A> implements Callable<A> {
     @SuppressWarnings("unchecked")
     @Override
     public A call() {
-        if (value == null) {
-            synchronized (this) {
-                if (value == null) {
-                    value = evaluate();
-                    while (value instanceof Callable) {
-                        if (value instanceof Applicable) {
-                            break;
-                        }
-                        value = ((Callable<A>) value).call();
-                    }
-                }
+        Object current = state;
+        if (current == null || current instanceof Blackhole) {
+            return force();
+        } else {
+            return (A) current;
+        }
+    }
+
+    /**
+     * Tells whether this thunk already holds its value, so calling it will not compute anything.
+     */
+    public boolean isEvaluated() {
+        Object current = state;
+        return current != null && !(current instanceof Blackhole);
+    }
+
+    /**
+     * Tells whether this thunk has neither been evaluated nor claimed for evaluation by any thread.
+     */
+    boolean isUnevaluated() {
+        return state == null;
+    }
+
+    /**
+     * Evaluates this thunk on the current thread only if no other thread has evaluated or claimed it, without
+     * waiting on another thread's evaluation.
+     *
+     * @return Whether this thread evaluated the thunk.
+     */
+    boolean tryForce() {
+        if (state == null) {
+            Blackhole hole = new Blackhole(Thread.currentThread());
+            if (stateUpdater.compareAndSet(this, null, hole)) {
+                Evaluator.force(this, hole);
+                return true;
             }
         }
-        return value;
+        return false;
     }
 
     /**
@@ -44,4 +93,149 @@ public abstract class Thunk<A> implements Callable<A> {
      * @return The evaluated value.
      */
     protected abstract A evaluate();
+
+    /**
+     * Releases whatever this thunk needed to compute its value, called once the value has been stored. Thunks
+     * holding suppliers or captured closures should drop them here so an evaluated thunk does not keep alive the
+     * graph that produced it.
+     */
+    protected void release() {
+        // intentionally empty
+    }
+
+    /**
+     * Runs the trampoline for this thunk, following any chain of unevaluated thunks iteratively and storing the
+     * final value in every thunk along the chain. The caller must have claimed this thunk with the given blackhole.
+     *
+     * @return The normalized value.
+     */
+    @SuppressWarnings("unchecked")
+    A trampoline(Blackhole hole) {
+        List<Thunk<?>> chain = null;
+        RuntimeStatistics.force();
+        try {
+            Object result = evaluate();
+            while (result instanceof Callable && !(result instanceof Applicable)) {
+                RuntimeStatistics.followIndirection();
+                if (result instanceof Thunk) {
+                    Thunk<?> next = (Thunk<?>) result;
+                    if (next.claim(hole)) {
+                        if (chain == null) {
+                            chain = new ArrayList<>();
+                        }
+                        chain.add(next);
+                        result = next.evaluate();
+                    } else {
+                        result = next.call();
+                    }
+                } else {
+                    result = ((Callable<A>) result).call();
+                }
+            }
+            if (chain != null) {
+                for (Thunk<?> thunk : chain) {
+                    thunk.state = result;
+                    thunk.release();
+                }
+            }
+            state = result;
+            release();
+            return (A) result;
+        } catch (RuntimeException | Error exception) {
+            if (chain != null) {
+                for (Thunk<?> thunk : chain) {
+                    thunk.state = null;
+                }
+            }
+            state = null;
+            throw exception;
+        } finally {
+            hole.wake();
+        }
+    }
+
+    private boolean claim(Blackhole hole) {
+        while (true) {
+            Object current = state;
+            if (current == null) {
+                if (stateUpdater.compareAndSet(this, null, hole)) {
+                    return true;
+                }
+            } else if (current instanceof Blackhole && ((Blackhole) current).isOwnedByCurrentThread()) {
+                throw new LoopError();
+            } else {
+                return false;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private A force() {
+        Blackhole hole = null;
+        while (true) {
+            Object current = state;
+            if (current == null) {
+                if (hole == null) {
+                    hole = new Blackhole(Thread.currentThread());
+                }
+                if (stateUpdater.compareAndSet(this, null, hole)) {
+                    return Evaluator.force(this, hole);
+                }
+            } else if (current instanceof Blackhole) {
+                ((Blackhole) current).await(this);
+            } else {
+                return (A) current;
+            }
+        }
+    }
+
+    /**
+     * Marks thunks under evaluation with the thread evaluating them and the threads waiting on their values.
+     */
+    static final class Blackhole {
+
+        private static final AtomicReferenceFieldUpdater<Blackhole, Waiter> waitersUpdater = AtomicReferenceFieldUpdater.newUpdater(Blackhole.class, Waiter.class, "waiters");
+
+        private final    Thread owner;
+        private volatile Waiter waiters;
+
+        Blackhole(Thread owner) {
+            this.owner = owner;
+        }
+
+        void await(Thunk<?> thunk) {
+            if (isOwnedByCurrentThread()) {
+                throw new LoopError();
+            }
+            Waiter waiter = new Waiter(Thread.currentThread());
+            do {
+                waiter.next = waiters;
+            } while (!waitersUpdater.compareAndSet(this, waiter.next, waiter));
+            while (thunk.state == this) {
+                LockSupport.park(this);
+            }
+        }
+
+        boolean isOwnedByCurrentThread() {
+            return Evaluator.isEvaluatingOn(owner);
+        }
+
+        void wake() {
+            if (waiters != null) {
+                for (Waiter waiter = waitersUpdater.getAndSet(this, null); waiter != null; waiter = waiter.next) {
+                    LockSupport.unpark(waiter.thread);
+                }
+            }
+        }
+    }
+
+    private static final class Waiter {
+
+        private final Thread thread;
+        private       Waiter next;
+
+        Waiter(Thread thread) {
+            this.thread = thread;
+        }
+    }
 }
@@ -0,0 +1,21 @@
+package scotch.symbol;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the demand signature of a value method annotated with {@link Value}: one character per argument, in order,
+ * with {@code 'S'} for arguments which are certainly evaluated once the value is fully applied and its result
+ * evaluated, and {@code 'L'} for arguments which may be left unevaluated.
+ */
+@Documented
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface Demand {
+
+    String value();
+}
@@ -0,0 +1,69 @@
+package scotch.symbol;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import com.google.common.collect.ImmutableList;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Describes which arguments of a function are certainly evaluated when the function is saturated and its result is
+ * evaluated. Strict arguments may be computed by the caller rather than suspended in thunks.
+ */
+@EqualsAndHashCode
+public final class DemandSignature {
+
+    public static DemandSignature demandSignature(String signature) {
+        if (!signature.matches("[SL]*")) {
+            throw new IllegalArgumentException("Invalid demand signature '" + signature + "'");
+        }
+        return new DemandSignature(signature.chars()
+            .mapToObj(demand -> demand == 'S')
+            .collect(toList()));
+    }
+
+    public static DemandSignature demandSignature(List<Boolean> strictArguments) {
+        return new DemandSignature(strictArguments);
+    }
+
+    public static DemandSignature strict(int arity) {
+        return new DemandSignature(Collections.nCopies(arity, true));
+    }
+
+    private final List<Boolean> strictArguments;
+
+    private DemandSignature(List<Boolean> strictArguments) {
+        this.strictArguments = ImmutableList.copyOf(strictArguments);
+    }
+
+    public int getArity() {
+        return strictArguments.size();
+    }
+
+    public boolean isStrict(int argument) {
+        return argument < strictArguments.size() && strictArguments.get(argument);
+    }
+
+    /**
+     * Inserts a strict argument at the given position, shifting later arguments along and leaving any missing arguments
+     * before it lazy.
+     */
+    public DemandSignature withStrictArgument(int argument) {
+        List<Boolean> arguments = new ArrayList<>(strictArguments);
+        while (arguments.size() < argument) {
+            arguments.add(false);
+        }
+        arguments.add(argument, true);
+        return new DemandSignature(arguments);
+    }
+
+    @Override
+    public String toString() {
+        return strictArguments.stream()
+            .map(strict -> strict ? "S" : "L")
+            .collect(joining());
+    }
+}
@@ -8,6 +8,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Objects;
 import me.qmx.jitescript.CodeBlock;
+import org.objectweb.asm.Type;
 
 public class MethodSignature {
 
@@ -79,6 +80,18 @@ public class MethodSignature {
         return className;
     }
 
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public int getParameterCount() {
+        return Type.getArgumentTypes(signature).length;
+    }
+
+    public String getSignature() {
+        return signature;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(methodType, className, methodName, signature);
@@ -130,7 +143,7 @@ public class MethodSignature {
         public static MethodType fromAccess(Method method) {
             if (Modifier.isStatic(method.getModifiers())) {
                 return STATIC;
-            } else if (Modifier.isInterface(method.getModifiers())) {
+            } else if (method.getDeclaringClass().isInterface()) {
                 return INTERFACE;
             } else {
                 return VIRTUAL;
@@ -52,7 +52,7 @@ public abstract class Symbol implements Comparable<Symbol> {
     );
     private static final Map<Symbol, String>    javaTypeMap            = ImmutableMap.<Symbol, String>builder()
         .put(qualified("scotch.data.int", "Int"), p(Integer.class))
-        .put(qualified("scotch.data.string", "String"), p(String.class))
+        .put(qualified("scotch.data.string", "String"), p(CharSequence.class))
         .put(qualified("scotch.data.char.Char", "Char"), p(Character.class))
         .put(qualified("scotch.data.bool", "Bool"), p(Boolean.class))
         .put(qualified("scotch.data.double", "Double"), p(Double.class))
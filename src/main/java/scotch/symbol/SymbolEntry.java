@@ -26,6 +26,8 @@ public abstract class SymbolEntry {
 
     public abstract void defineDataType(DataTypeDescriptor dataType);
 
+    public abstract void defineDemandSignature(DemandSignature demandSignature);
+
     public abstract void defineOperator(Operator operator);
 
     public abstract void defineSignature(Type type);
@@ -40,6 +42,14 @@ public abstract class SymbolEntry {
 
     public abstract Optional<DataTypeDescriptor> getDataType();
 
+    public abstract Optional<DemandSignature> getDemandSignature();
+
+    /**
+     * The Java interface method implementing this member of a type class, which instances known at compile time may
+     * have invoked directly.
+     */
+    public abstract Optional<MethodSignature> getMemberMethod();
+
     public abstract Optional<Symbol> getMemberOf();
 
     public abstract Optional<Operator> getOperator();
@@ -66,6 +76,8 @@ public abstract class SymbolEntry {
 
     public abstract void redefineDataType(DataTypeDescriptor descriptor);
 
+    public abstract void redefineDemandSignature(DemandSignature demandSignature);
+
     public abstract void redefineSignature(Type type);
 
     public abstract void redefineValue(Type type, MethodSignature valueMethod);
@@ -78,9 +90,11 @@ public abstract class SymbolEntry {
         private final Optional<Type>                      optionalType;
         private final Optional<MethodSignature>           optionalValueMethod;
         private final Optional<TypeClassDescriptor>       optionalTypeClass;
+        private final Optional<MethodSignature>           optionalMemberMethod;
         private final Optional<Symbol>                    optionalMemberOf;
         private final Optional<DataTypeDescriptor>        optionalDataType;
         private final Optional<DataConstructorDescriptor> optionalDataConstructor;
+        private final Optional<DemandSignature>           optionalDemandSignature;
 
         private ImmutableEntry(ImmutableEntryBuilder builder) {
             this.symbol = builder.symbol;
@@ -89,9 +103,11 @@ public abstract class SymbolEntry {
             optionalType = builder.optionalType;
             optionalValueMethod = builder.optionalValueMethod;
             optionalTypeClass = builder.optionalTypeClass;
+            optionalMemberMethod = builder.optionalMemberMethod;
             optionalMemberOf = builder.optionalMemberOf;
             optionalDataType = builder.dataTypeBuilder.map(DataTypeDescriptor.Builder::build);
             optionalDataConstructor = builder.dataConstructorBuilder.map(DataConstructorDescriptor.Builder::build);
+            optionalDemandSignature = builder.optionalDemandSignature;
         }
 
         @Override
@@ -104,6 +120,11 @@ public abstract class SymbolEntry {
             throw existingSymbol("data type");
         }
 
+        @Override
+        public void defineDemandSignature(DemandSignature demandSignature) {
+            throw existingSymbol("demand signature");
+        }
+
         @Override
         public void defineOperator(Operator operator) {
             throw existingSymbol("operator");
@@ -129,6 +150,16 @@ public abstract class SymbolEntry {
             return optionalDataType;
         }
 
+        @Override
+        public Optional<DemandSignature> getDemandSignature() {
+            return optionalDemandSignature;
+        }
+
+        @Override
+        public Optional<MethodSignature> getMemberMethod() {
+            return optionalMemberMethod;
+        }
+
         @Override
         public Optional<Symbol> getMemberOf() {
             return optionalMemberOf;
@@ -194,6 +225,11 @@ public abstract class SymbolEntry {
             throw existingSymbol("data type");
         }
 
+        @Override
+        public void redefineDemandSignature(DemandSignature demandSignature) {
+            throw existingSymbol("demand signature");
+        }
+
         @Override
         public void redefineSignature(Type type) {
             throw existingSymbol("value");
@@ -216,10 +252,12 @@ public abstract class SymbolEntry {
         private Optional<Operator>                          optionalOperator       = Optional.empty();
         private Optional<Type>                              optionalType           = Optional.empty();
         private Optional<TypeClassDescriptor>               optionalTypeClass      = Optional.empty();
+        private Optional<MethodSignature>                   optionalMemberMethod   = Optional.empty();
         private Optional<Symbol>                            optionalMemberOf       = Optional.empty();
         private Optional<DataTypeDescriptor.Builder>        dataTypeBuilder        = Optional.empty();
         private Optional<MethodSignature>                   optionalValueMethod    = Optional.empty();
         private Optional<DataConstructorDescriptor.Builder> dataConstructorBuilder = Optional.empty();
+        private Optional<DemandSignature>                   optionalDemandSignature = Optional.empty();
 
         private ImmutableEntryBuilder(Symbol symbol) {
             this.symbol = symbol;
@@ -247,6 +285,16 @@ public abstract class SymbolEntry {
             return symbol;
         }
 
+        public ImmutableEntryBuilder withDemandSignature(DemandSignature demandSignature) {
+            optionalDemandSignature = Optional.of(demandSignature);
+            return this;
+        }
+
+        public ImmutableEntryBuilder withMemberMethod(MethodSignature memberMethod) {
+            optionalMemberMethod = Optional.of(memberMethod);
+            return this;
+        }
+
         public ImmutableEntryBuilder withMemberOf(Symbol memberOf) {
             optionalMemberOf = Optional.of(memberOf);
             return this;
@@ -290,6 +338,7 @@ public abstract class SymbolEntry {
         private Optional<DataTypeDescriptor>        optionalDataType        = Optional.empty();
         private Optional<DataConstructorDescriptor> optionalDataConstructor = Optional.empty();
         private Optional<MethodSignature>           optionalValueMethod     = Optional.empty();
+        private Optional<DemandSignature>           optionalDemandSignature = Optional.empty();
 
         private MutableEntry(Symbol symbol) {
             this.symbol = symbol;
@@ -313,6 +362,15 @@ public abstract class SymbolEntry {
             }
         }
 
+        @Override
+        public void defineDemandSignature(DemandSignature demandSignature) {
+            if (optionalDemandSignature.isPresent()) {
+                throw alreadyDefined("demand signature");
+            } else {
+                optionalDemandSignature = Optional.of(demandSignature);
+            }
+        }
+
         @Override
         public void defineOperator(Operator operator) {
             if (optionalOperator.isPresent()) {
@@ -352,6 +410,16 @@ public abstract class SymbolEntry {
             return optionalDataType;
         }
 
+        @Override
+        public Optional<DemandSignature> getDemandSignature() {
+            return optionalDemandSignature;
+        }
+
+        @Override
+        public Optional<MethodSignature> getMemberMethod() {
+            return Optional.empty();
+        }
+
         @Override
         public Optional<Symbol> getMemberOf() {
             return optionalMemberOf;
@@ -425,6 +493,15 @@ public abstract class SymbolEntry {
             }
         }
 
+        @Override
+        public void redefineDemandSignature(DemandSignature demandSignature) {
+            if (optionalDemandSignature.isPresent()) {
+                optionalDemandSignature = Optional.of(demandSignature);
+            } else {
+                throw new IllegalStateException("Can't redefine non-existent demand signature " + symbol.quote());
+            }
+        }
+
         @Override
         public void redefineSignature(Type type) {
             if (optionalSignature.isPresent()) {
@@ -43,6 +43,13 @@ public class DataConstructorDescriptor implements Comparable<DataConstructorDesc
         return fields;
     }
 
+    /**
+     * Gets the position of this constructor within its data type, which is also the tag of each of its values.
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
     public Symbol getSymbol() {
         return symbol;
     }
@@ -3,22 +3,30 @@ package scotch.symbol.descriptor;
 import static java.util.stream.Collectors.toList;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 import me.qmx.jitescript.CodeBlock;
+import scotch.symbol.DemandSignature;
 import scotch.symbol.MethodSignature;
 import scotch.symbol.Symbol;
 import scotch.symbol.TypeParameter;
 import scotch.symbol.type.Type;
 
-@EqualsAndHashCode
+@EqualsAndHashCode(exclude = "memberDemands")
 @ToString
 public class TypeInstanceDescriptor {
 
     public static TypeInstanceDescriptor typeInstance(String moduleName, Symbol typeClass, List arguments, MethodSignature instanceGetter) {
-        return new TypeInstanceDescriptor(moduleName, typeClass, parameterize(arguments), instanceGetter);
+        return typeInstance(moduleName, typeClass, arguments, instanceGetter, ImmutableMap.of());
+    }
+
+    public static TypeInstanceDescriptor typeInstance(String moduleName, Symbol typeClass, List arguments, MethodSignature instanceGetter, Map<String, DemandSignature> memberDemands) {
+        return new TypeInstanceDescriptor(moduleName, typeClass, parameterize(arguments), instanceGetter, memberDemands);
     }
 
     @SuppressWarnings("unchecked")
@@ -40,12 +48,22 @@ public class TypeInstanceDescriptor {
     @Getter private final Symbol                        typeClass;
     @Getter private final List<TypeParameterDescriptor> parameters;
     private final         MethodSignature               instanceGetter;
+    private final         Map<String, DemandSignature>  memberDemands;
 
-    private TypeInstanceDescriptor(String moduleName, Symbol typeClass, List<TypeParameterDescriptor> parameters, MethodSignature instanceGetter) {
+    private TypeInstanceDescriptor(String moduleName, Symbol typeClass, List<TypeParameterDescriptor> parameters, MethodSignature instanceGetter, Map<String, DemandSignature> memberDemands) {
         this.moduleName = moduleName;
         this.typeClass = typeClass;
         this.parameters = ImmutableList.copyOf(parameters);
         this.instanceGetter = instanceGetter;
+        this.memberDemands = ImmutableMap.copyOf(memberDemands);
+    }
+
+    /**
+     * Finds the demand this instance places on the operands of a member of its type class, not counting the instance
+     * itself.
+     */
+    public Optional<DemandSignature> getMemberDemand(Symbol member) {
+        return Optional.ofNullable(memberDemands.get(member.getMemberName()));
     }
 
     public CodeBlock reference() {
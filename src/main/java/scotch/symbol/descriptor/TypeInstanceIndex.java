@@ -0,0 +1,77 @@
+package scotch.symbol.descriptor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import scotch.symbol.Symbol;
+import scotch.symbol.type.SumType;
+import scotch.symbol.type.Type;
+
+/**
+ * Indexes type instances by their type class and the outermost type constructor of each of their parameters, so that
+ * resolving an instance only matches parameters against the instances sharing those constructors instead of every
+ * instance of the type class. Resolutions are remembered until another instance is added.
+ */
+public class TypeInstanceIndex {
+
+    private final Map<Symbol, Map<List<Symbol>, Map<List<TypeParameterDescriptor>, Set<TypeInstanceDescriptor>>>> instances;
+    private final Map<Symbol, Map<List<Type>, Set<TypeInstanceDescriptor>>>                                         resolved;
+
+    public TypeInstanceIndex() {
+        this.instances = new HashMap<>();
+        this.resolved = new HashMap<>();
+    }
+
+    public void add(TypeInstanceDescriptor instance) {
+        List<Symbol> constructors = new ArrayList<>();
+        instance.getParameters().forEach(parameter -> constructors.add(parameter.getSymbol()));
+        instances
+            .computeIfAbsent(instance.getTypeClass(), k -> new HashMap<>())
+            .computeIfAbsent(ImmutableList.copyOf(constructors), k -> new HashMap<>())
+            .computeIfAbsent(instance.getParameters(), k -> new HashSet<>())
+            .add(instance);
+        resolved.clear();
+    }
+
+    public Set<TypeInstanceDescriptor> find(Symbol typeClass, List<Type> types) {
+        return resolved
+            .computeIfAbsent(typeClass, k -> new HashMap<>())
+            .computeIfAbsent(ImmutableList.copyOf(types), k -> lookUp(typeClass, types));
+    }
+
+    /**
+     * Finds the instances of a type class for the given parameters through the index, without remembering them.
+     */
+    Set<TypeInstanceDescriptor> lookUp(Symbol typeClass, List<Type> types) {
+        List<Symbol> constructors = new ArrayList<>();
+        for (Type type : types) {
+            if (type instanceof SumType) {
+                constructors.add(((SumType) type).getSymbol());
+            } else {
+                return ImmutableSet.of();
+            }
+        }
+        return Optional.ofNullable(instances.get(typeClass))
+            .map(byConstructors -> byConstructors.get(constructors))
+            .flatMap(candidates -> candidates.keySet().stream()
+                .filter(parameters -> parametersMatch(parameters, types))
+                .map(candidates::get)
+                .findFirst())
+            .orElse(ImmutableSet.of());
+    }
+
+    private boolean parametersMatch(List<TypeParameterDescriptor> parameters, List<Type> types) {
+        for (int i = 0; i < parameters.size(); i++) {
+            if (!parameters.get(i).matches(types.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -3,6 +3,7 @@ package scotch.symbol.type;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
+import static scotch.symbol.Symbol.qualified;
 import static scotch.symbol.type.Types.unifyVariable;
 import static scotch.symbol.type.Unification.circular;
 import static scotch.symbol.type.Unification.mismatch;
@@ -23,11 +24,23 @@ import scotch.symbol.NameQualifier;
 import scotch.symbol.Symbol;
 import scotch.compiler.text.SourceLocation;
 import scotch.compiler.util.Pair;
+import scotch.runtime.BoolCallable;
 import scotch.runtime.Callable;
+import scotch.runtime.CharCallable;
+import scotch.runtime.DoubleCallable;
+import scotch.runtime.IntCallable;
 
 @EqualsAndHashCode(callSuper = false)
 public class SumType extends Type {
 
+    @SuppressWarnings("rawtypes")
+    private static final Map<Symbol, Class<? extends Callable>> callableTypes = ImmutableMap.<Symbol, Class<? extends Callable>>builder()
+        .put(qualified("scotch.data.int", "Int"), IntCallable.class)
+        .put(qualified("scotch.data.double", "Double"), DoubleCallable.class)
+        .put(qualified("scotch.data.bool", "Bool"), BoolCallable.class)
+        .put(qualified("scotch.data.char", "Char"), CharCallable.class)
+        .build();
+
     private static void shouldBeSumName(Symbol symbol) {
         if (!symbol.isSumName()) {
             throw new IllegalArgumentException("Sum type should have upper-case name, be tuple, or list: got '" + symbol.getMemberName() + "'");
@@ -77,6 +90,12 @@ public class SumType extends Type {
             .collect(toList()));
     }
 
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Class<? extends Callable> getCallableType() {
+        return callableTypes.getOrDefault(symbol, Callable.class);
+    }
+
     @Override
     public Map<String, Type> getContexts(Type type, TypeScope scope) {
         return ImmutableMap.of();
@@ -246,10 +265,19 @@ public class SumType extends Type {
     protected Optional<List<Pair<Type, Type>>> zipWith(SumType target, TypeScope scope) {
         if (equals(target)) {
             return Optional.of(ImmutableList.of(pair(target, this)));
+        } else if (symbol.equals(target.symbol) && parameters.size() == target.parameters.size()) {
+            List<Pair<Type, Type>> result = new ArrayList<>();
+            for (Pair<Type, Type> pair : zip(target.parameters, parameters)) {
+                Optional<List<Pair<Type, Type>>> parameterZip = pair.into((left, right) -> left.zip_(right, scope));
+                if (!parameterZip.isPresent()) {
+                    return Optional.empty();
+                }
+                result.addAll(parameterZip.get());
+            }
+            return Optional.of(result);
         } else {
             return Optional.empty();
         }
-
     }
 
     @Override
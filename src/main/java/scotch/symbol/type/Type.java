@@ -22,6 +22,7 @@ import scotch.symbol.NameQualifier;
 import scotch.symbol.Symbol;
 import scotch.compiler.text.SourceLocation;
 import scotch.compiler.util.Pair;
+import scotch.runtime.Callable;
 
 public abstract class Type {
 
@@ -92,6 +93,11 @@ public abstract class Type {
         return genericCopy(scope, new HashMap<>());
     }
 
+    @SuppressWarnings("rawtypes")
+    public Class<? extends Callable> getCallableType() {
+        return Callable.class;
+    }
+
     public Set<Symbol> getContext() {
         return ImmutableSet.of();
     }
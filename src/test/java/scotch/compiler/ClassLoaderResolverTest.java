@@ -5,6 +5,7 @@ import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
+import static scotch.symbol.DemandSignature.demandSignature;
 import static scotch.symbol.MethodSignature.methodSignature;
 import static scotch.symbol.Operator.operator;
 import static scotch.symbol.Symbol.symbol;
@@ -73,6 +74,13 @@ public class ClassLoaderResolverTest {
         )));
     }
 
+    @Test
+    public void shouldResolveDemandOfJavaTypeInstanceMembers() {
+        TypeInstanceDescriptor instance = resolver.getTypeInstances(symbol("scotch.data.num.Num"), asList(intType())).iterator().next();
+        assertThat(instance.getMemberDemand(symbol("scotch.data.num.+")), is(Optional.of(demandSignature("SS"))));
+        assertThat(instance.getMemberDemand(symbol("scotch.data.num.negate")), is(Optional.empty()));
+    }
+
     @Test
     public void shouldResolveJavaTypeInstanceByModuleName() {
         assertThat(resolver.getTypeInstancesByModule("scotch.data.num"), hasItem(typeInstance(
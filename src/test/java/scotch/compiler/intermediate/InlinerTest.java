@@ -0,0 +1,238 @@
+package scotch.compiler.intermediate;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static scotch.compiler.Compiler.compiler;
+import static scotch.compiler.intermediate.Intermediates.alternative;
+import static scotch.compiler.intermediate.Intermediates.apply;
+import static scotch.compiler.intermediate.Intermediates.caseOf;
+import static scotch.compiler.intermediate.Intermediates.constructor;
+import static scotch.compiler.intermediate.Intermediates.failure;
+import static scotch.compiler.intermediate.Intermediates.function;
+import static scotch.compiler.intermediate.Intermediates.instanceRef;
+import static scotch.compiler.intermediate.Intermediates.literal;
+import static scotch.compiler.intermediate.Intermediates.value;
+import static scotch.compiler.intermediate.Intermediates.valueRef;
+import static scotch.compiler.intermediate.Intermediates.variable;
+import static scotch.compiler.syntax.reference.DefinitionReference.valueRef;
+import static scotch.symbol.Symbol.symbol;
+import static scotch.util.StringUtil.quote;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import org.junit.Test;
+import scotch.compiler.ClassLoaderResolver;
+import scotch.compiler.Compiler;
+import scotch.symbol.Symbol;
+
+public class InlinerTest {
+
+    private Inliner           inliner;
+    private IntermediateGraph graph;
+
+    @Test
+    public void shouldUnfoldSmallFunctionAtSaturatedCallSite() {
+        inline(Inliner.DEFAULT_THRESHOLD,
+            "module scotch.test",
+            "import scotch.data.num",
+            "",
+            "inc x = x + 1",
+            "run = inc 2"
+        );
+        shouldHaveValue("scotch.test.run", plus(literal(2), literal(1)));
+        assertThat(inliner.getInlinedCallSites(), is(1));
+    }
+
+    @Test
+    public void shouldUnfoldFunctionCombinators() {
+        inline(Inliner.DEFAULT_THRESHOLD,
+            "module scotch.test",
+            "import scotch.data.num",
+            "import scotch.data.function",
+            "",
+            "inc x = x + 1",
+            "twice f x = f (f x)",
+            "run = twice inc $ 3"
+        );
+        shouldHaveValue("scotch.test.run", plus(plus(literal(3), literal(1)), literal(1)));
+        assertThat(inliner.getInlinedCallSites(), is(4));
+    }
+
+    @Test
+    public void shouldNotUnfoldDefinitionLargerThanThreshold() {
+        inline(2,
+            "module scotch.test",
+            "import scotch.data.num",
+            "",
+            "inc x = x + 1",
+            "run = inc 2"
+        );
+        shouldHaveValue("scotch.test.run", apply(emptyList(), valueRef("scotch.test.inc"), literal(2)));
+        assertThat(inliner.getInlinedCallSites(), is(0));
+    }
+
+    @Test
+    public void shouldNotUnfoldUnsaturatedCallSite() {
+        inline(Inliner.DEFAULT_THRESHOLD,
+            "module scotch.test",
+            "import scotch.data.num",
+            "",
+            "add x y = x + y",
+            "run = add 2"
+        );
+        shouldHaveValue("scotch.test.run", apply(
+            emptyList(),
+            apply(emptyList(), valueRef("scotch.test.add"), instanceRef("scotch.data.num.Num", "scotch.data.num", "scotch.data.int.Int")),
+            literal(2)
+        ));
+        assertThat(inliner.getInlinedCallSites(), is(0));
+    }
+
+    @Test
+    public void shouldNotDuplicateArgumentUsedMoreThanOnce() {
+        inline(Inliner.DEFAULT_THRESHOLD,
+            "module scotch.test",
+            "import scotch.data.num",
+            "",
+            "inc x = x + 1",
+            "double x = x + x",
+            "run = double (inc 2)"
+        );
+        shouldHaveValue("scotch.test.run", apply(
+            emptyList(),
+            function(emptyList(), "#0", plus(asList("#0"), variable("#0"), variable("#0"))),
+            plus(literal(2), literal(1))
+        ));
+    }
+
+    @Test
+    public void shouldChooseSelfRecursiveDefinitionAsLoopBreaker() {
+        inline(Inliner.DEFAULT_THRESHOLD,
+            "module scotch.test",
+            "import scotch.data.num",
+            "import scotch.data.eq",
+            "",
+            "count n = if n == 0 then 0 else count (n - 1)",
+            "run = count 10"
+        );
+        assertThat(inliner.getLoopBreakers(), contains(valueRef(symbol("scotch.test.count"))));
+        shouldHaveValue("scotch.test.run", apply(emptyList(), valueRef("scotch.test.count"), literal(10)));
+    }
+
+    @Test
+    public void shouldChooseOneLoopBreakerForMutuallyRecursiveDefinitions() {
+        inliner = new Inliner(new IntermediateGraph(asList(
+            value("scotch.test.ping", function(emptyList(), "x", apply(asList("x"), valueRef("scotch.test.pong"), variable("x")))),
+            value("scotch.test.pong", function(emptyList(), "x", apply(asList("x"), valueRef("scotch.test.ping"), variable("x")))),
+            value("scotch.test.run", apply(emptyList(), valueRef("scotch.test.ping"), literal(1)))
+        )), Inliner.DEFAULT_THRESHOLD);
+        graph = inliner.inline();
+        assertThat(inliner.getLoopBreakers(), hasSize(1));
+        assertThat(inliner.getInlinedCallSites(), is(2));
+    }
+
+    @Test
+    public void shouldSelectAlternativeOfKnownConstructor() {
+        inline(Inliner.DEFAULT_THRESHOLD,
+            "module scotch.test",
+            "",
+            "import scotch.data.int",
+            "",
+            "swap (a, b) = (b, a)",
+            "run = swap (1, 2)"
+        );
+        shouldHaveValue("scotch.test.run", constructor(symbol("scotch.data.tuple.(,)"), asList(literal(2), literal(1))));
+        assertThat(inliner.getKnownCases(), is(1));
+    }
+
+    @Test
+    public void shouldSelectBranchOfKnownCondition() {
+        inline(Inliner.DEFAULT_THRESHOLD,
+            "module scotch.test",
+            "",
+            "choose b x y = if b then x else y",
+            "run = choose True 1 2"
+        );
+        shouldHaveValue("scotch.test.run", literal(1));
+        assertThat(inliner.getKnownCases(), is(1));
+    }
+
+    @Test
+    public void shouldPushCaseIntoScrutinizedCase() {
+        Symbol pair = symbol("scotch.data.tuple.(,)");
+        inliner = new Inliner(new IntermediateGraph(asList(
+            value("scotch.test.run", function(emptyList(), "p", caseOf(
+                caseOf(
+                    variable("p"),
+                    asList(alternative(pair, asList("a", "b"), constructor(pair, asList(variable("b"), variable("a"))))),
+                    Optional.of(failure("inner"))
+                ),
+                asList(alternative(pair, asList("c", "d"), variable("c"))),
+                Optional.of(failure("outer"))
+            )))
+        )), Inliner.DEFAULT_THRESHOLD);
+        graph = inliner.inline();
+        shouldHaveValue("scotch.test.run", function(emptyList(), "p", caseOf(
+            variable("p"),
+            asList(alternative(pair, asList("a", "b"), variable("b"))),
+            Optional.of(failure("inner"))
+        )));
+        assertThat(inliner.getCasesOfCases(), is(1));
+        assertThat(inliner.getKnownCases(), is(1));
+    }
+
+    @Test
+    public void shouldInlineWhileGeneratingBytecode() {
+        ClassLoaderResolver symbolResolver = new ClassLoaderResolver(Optional.empty(), InlinerTest.class.getClassLoader());
+        Compiler compiler = compiler(symbolResolver, URI.create("test://unnamed"),
+            "module scotch.test",
+            "import scotch.data.int",
+            "import scotch.data.tuple",
+            "",
+            "first (a, _) = a",
+            "run = first (1, 2)"
+        );
+        compiler.generateBytecode();
+        inliner = compiler.getInliner().get();
+        assertThat(inliner.getInlinedCallSites(), is(2));
+        assertThat(inliner.getKnownCases(), is(1));
+    }
+
+    private void inline(int threshold, String... lines) {
+        ClassLoader classLoader = InlinerTest.class.getClassLoader();
+        ClassLoaderResolver symbolResolver = new ClassLoaderResolver(Optional.empty(), classLoader);
+        inliner = new Inliner(compiler(symbolResolver, URI.create("test://unnamed"), lines).generateIntermediateCode(), threshold);
+        graph = inliner.inline();
+    }
+
+    private IntermediateValue plus(IntermediateValue left, IntermediateValue right) {
+        return plus(emptyList(), left, right);
+    }
+
+    private IntermediateValue plus(List<String> captures, IntermediateValue left, IntermediateValue right) {
+        return apply(
+            captures,
+            apply(
+                captures,
+                apply(
+                    captures,
+                    valueRef("scotch.data.num.(+)"),
+                    instanceRef("scotch.data.num.Num", "scotch.data.num", "scotch.data.int.Int")
+                ),
+                left
+            ),
+            right
+        );
+    }
+
+    private void shouldHaveValue(String name, IntermediateValue value) {
+        IntermediateDefinition definition = graph.getValue(valueRef(symbol(name)))
+            .orElseThrow(() -> new IllegalArgumentException("Value " + quote(name) + " does not exist"));
+        assertThat(definition, is(value(name, value)));
+    }
+}
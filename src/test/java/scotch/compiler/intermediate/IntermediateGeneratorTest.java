@@ -1,14 +1,18 @@
 package scotch.compiler.intermediate;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static scotch.compiler.Compiler.compiler;
 import static scotch.compiler.intermediate.Intermediates.apply;
+import static scotch.compiler.intermediate.Intermediates.function;
 import static scotch.compiler.intermediate.Intermediates.instanceRef;
+import static scotch.compiler.intermediate.Intermediates.let;
 import static scotch.compiler.intermediate.Intermediates.literal;
 import static scotch.compiler.intermediate.Intermediates.value;
 import static scotch.compiler.intermediate.Intermediates.valueRef;
+import static scotch.compiler.intermediate.Intermediates.variable;
 import static scotch.compiler.syntax.reference.DefinitionReference.valueRef;
 import static scotch.symbol.Symbol.symbol;
 import static scotch.util.StringUtil.quote;
@@ -45,6 +49,26 @@ public class IntermediateGeneratorTest {
         ));
     }
 
+    @Test
+    public void shouldCurryFunctionsBindingCapturedArguments() {
+        compile(
+            "module scotch.test",
+            "",
+            "run f x = f x"
+        );
+        shouldHaveValue("scotch.test.run", function(
+            emptyList(),
+            "#0",
+            function(
+                asList("#0"),
+                "#1",
+                let("f", variable("#0"), let("x", variable("#1"),
+                    apply(asList("#0", "#1", "f", "x"), variable("f"), variable("x"))
+                ))
+            )
+        ));
+    }
+
     private void compile(String... lines) {
         ClassLoader classLoader = IntermediateGeneratorTest.class.getClassLoader();
         ClassLoaderResolver symbolResolver = new ClassLoaderResolver(Optional.empty(), classLoader);
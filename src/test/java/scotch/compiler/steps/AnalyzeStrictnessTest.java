@@ -0,0 +1,101 @@
+package scotch.compiler.steps;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static scotch.compiler.syntax.reference.DefinitionReference.rootRef;
+import static scotch.symbol.DemandSignature.demandSignature;
+import static scotch.symbol.Symbol.symbol;
+
+import java.util.Optional;
+import java.util.function.Function;
+import org.junit.Test;
+import scotch.compiler.ClassLoaderResolver;
+import scotch.compiler.Compiler;
+import scotch.compiler.CompilerTest;
+import scotch.compiler.syntax.definition.DefinitionGraph;
+
+public class AnalyzeStrictnessTest extends CompilerTest<ClassLoaderResolver> {
+
+    @Test
+    public void shouldReadDemandSignatureOfJavaValue() {
+        compile(
+            "module scotch.test",
+            "import scotch.data.num",
+            "run = 1 + 2"
+        );
+        shouldHaveDemand("scotch.data.num.+", "SLL");
+    }
+
+    @Test
+    public void shouldBeLazyInOperandsGivenToUnknownInstance() {
+        compile(
+            "module scotch.test",
+            "import scotch.data.num",
+            "fn x y = x + y"
+        );
+        shouldNotHaveErrors();
+        shouldHaveDemand("scotch.test.fn", "SLL");
+    }
+
+    @Test
+    public void shouldBeStrictInOperandsGivenToKnownInstance() {
+        compile(
+            "module scotch.test",
+            "import scotch.data.int",
+            "import scotch.data.num",
+            "fn x y = x + y + 0"
+        );
+        shouldNotHaveErrors();
+        shouldHaveDemand("scotch.test.fn", "SS");
+    }
+
+    @Test
+    public void shouldBeLazyInArgumentUsedByOnlyOneBranch() {
+        compile(
+            "module scotch.test",
+            "import scotch.data.int",
+            "pick b x = if b then x else 0"
+        );
+        shouldNotHaveErrors();
+        shouldHaveDemand("scotch.test.pick", "SL");
+    }
+
+    @Test
+    public void shouldBeStrictInArgumentsOfRecursiveFunction() {
+        compile(
+            "module scotch.test",
+            "import scotch.data.eq",
+            "import scotch.data.num",
+            "sumTo n acc = if n == 0 then acc else sumTo (n - 1) (acc + n)"
+        );
+        shouldNotHaveErrors();
+        shouldHaveDemand("scotch.test.sumTo", "SS");
+    }
+
+    @Test
+    public void shouldBeStrictInPatternMatchedArgument() {
+        compile(
+            "module scotch.test",
+            "import scotch.data.eq",
+            "import scotch.data.int",
+            "isZero 0 y = y",
+            "isZero x y = x"
+        );
+        shouldNotHaveErrors();
+        shouldHaveDemand("scotch.test.isZero", "SL");
+    }
+
+    @Override
+    protected Function<Compiler, DefinitionGraph> compile() {
+        return Compiler::analyzeStrictness;
+    }
+
+    @Override
+    protected ClassLoaderResolver initResolver() {
+        return new ClassLoaderResolver(Optional.empty(), getClass().getClassLoader());
+    }
+
+    private void shouldHaveDemand(String name, String demand) {
+        assertThat(getScope(rootRef()).getDemandSignature(symbol(name)), is(Optional.of(demandSignature(demand))));
+    }
+}
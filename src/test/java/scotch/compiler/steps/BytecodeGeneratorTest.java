@@ -1,28 +1,55 @@
 package scotch.compiler.steps;
 
+import static java.util.Arrays.asList;
+import static java.util.Arrays.stream;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertThat;
 import static scotch.data.either.Either.left;
 import static scotch.data.maybe.Maybe.just;
 import static scotch.data.tuple.TupleValues.tuple2;
 import static scotch.data.tuple.TupleValues.tuple3;
+import static scotch.runtime.RuntimeSupport.box;
 
-import java.io.File;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.Optional;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestName;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
 import scotch.compiler.ClassLoaderResolver;
 import scotch.compiler.Compiler;
 import scotch.compiler.error.CompileException;
+import scotch.compiler.output.GeneratedClass;
 import scotch.compiler.util.TestUtil;
 import scotch.data.either.Either.Left;
 import scotch.data.maybe.Maybe;
 import scotch.data.tuple.Tuple2;
 import scotch.data.tuple.Tuple3;
+import scotch.runtime.Applicable4;
+import scotch.runtime.BoolCallable;
 import scotch.runtime.Callable;
+import scotch.runtime.IntCallable;
+import scotch.symbol.Demand;
 
 public class BytecodeGeneratorTest {
 
@@ -71,6 +98,16 @@ public class BytecodeGeneratorTest {
         assertThat(result, is(4.4));
     }
 
+    @Test
+    public void shouldGiveSignumOfNegativeZeroAsPositiveZero() {
+        double result = exec(
+            "module scotch.test",
+            "import scotch.data.num",
+            "run = signum (negate 0.0)"
+        );
+        assertThat(result, is(0.0));
+    }
+
     @Test(expected = CompileException.class)
     public void shouldFailCompilation_whenThereAreErrors() {
         exec(
@@ -156,6 +193,97 @@ public class BytecodeGeneratorTest {
         assertThat(result, is(6765));
     }
 
+    @Test
+    public void shouldChooseCasesTestingSeveralArguments() {
+        int result = exec(
+            "module scotch.test",
+            "import scotch.data.eq",
+            "import scotch.data.num",
+            "",
+            "run = f 0 0 + f 0 5 * 10 + f 1 1 * 100 + f 2 1 * 1000 + f 2 2 * 10000",
+            "f 0 0 = 1",
+            "f 0 n = 2",
+            "f 1 1 = 3",
+            "f m 1 = 4",
+            "f m n = 5"
+        );
+        assertThat(result, is(54321));
+    }
+
+    @Test
+    public void shouldChooseCasesDestructuringTuples() {
+        int result = exec(
+            "module scotch.test",
+            "import scotch.data.eq",
+            "import scotch.data.int",
+            "import scotch.data.num",
+            "",
+            "run = f 1 (4, 5) + f 0 (4, 5) * 10 + f 7 (4, 5) * 100",
+            "f 0 (x, y) = x",
+            "f 1 (x, y) = y",
+            "f n p = n"
+        );
+        assertThat(result, is(745));
+    }
+
+    @Test
+    public void shouldChooseCasesTestingSeveralUnboxedArguments() throws ReflectiveOperationException {
+        Method worker = compile(
+            "module scotch.test",
+            "import scotch.data.eq",
+            "import scotch.data.int",
+            "import scotch.data.num",
+            "f :: Int -> Int -> Int",
+            "f 0 0 = 1",
+            "f 0 n = n",
+            "f m 0 = m",
+            "f m n = m * n"
+        ).getMethod("f$unboxed", int.class, int.class);
+        assertThat(worker.invoke(null, 0, 0), is(1));
+        assertThat(worker.invoke(null, 0, 7), is(7));
+        assertThat(worker.invoke(null, 6, 0), is(6));
+        assertThat(worker.invoke(null, 6, 7), is(42));
+    }
+
+    @Test
+    public void shouldSwitchOverSparseIntLiterals() throws ReflectiveOperationException {
+        Method worker = compile(
+            "module scotch.test",
+            "import scotch.data.eq",
+            "import scotch.data.int",
+            "f :: Int -> Int",
+            "f 1 = 10",
+            "f 3 = 30",
+            "f 1000 = 7",
+            "f 0 = 40",
+            "f n = n"
+        ).getMethod("f$unboxed", int.class);
+        assertThat(worker.invoke(null, 1), is(10));
+        assertThat(worker.invoke(null, 3), is(30));
+        assertThat(worker.invoke(null, 1000), is(7));
+        assertThat(worker.invoke(null, 0), is(40));
+        assertThat(worker.invoke(null, 2), is(2));
+    }
+
+    @Test
+    public void shouldSwitchOverStringLiteralsSharingHashes() {
+        int result = exec(
+            "module scotch.test",
+            "import scotch.data.eq",
+            "import scotch.data.int",
+            "import scotch.data.num",
+            "import scotch.data.string",
+            "",
+            "run = op \"add\" * 1000 + op \"sub\" * 100 + op \"Aa\" * 10 + op \"BB\" + op \"x\" * 10000",
+            "op \"add\" = 1",
+            "op \"sub\" = 2",
+            "op \"Aa\" = 3",
+            "op \"BB\" = 4",
+            "op s = 5"
+        );
+        assertThat(result, is(51234));
+    }
+
     @Test
     public void shouldCompileDataDeclaration() throws ReflectiveOperationException {
         Object result = exec(
@@ -167,6 +295,22 @@ public class BytecodeGeneratorTest {
         assertThat(((Callable) getter.invoke(result)).call(), is("Waffles"));
     }
 
+    @Test
+    public void shouldTagConstructorsWithTheirOrdinals() throws ReflectiveOperationException {
+        Tuple3<?, ?, ?> result = exec(
+            "module scotch.test",
+            "import scotch.data.int",
+            "",
+            "data Shape = Point | Circle Int | Square Int",
+            "run = (Point, Circle 1, Square 2)"
+        );
+        Method tag = result.get_0().call().getClass().getSuperclass().getMethod("tag");
+        assertThat(Modifier.isFinal(tag.getModifiers()), is(true));
+        assertThat(tag.invoke(result.get_0().call()), is(0));
+        assertThat(tag.invoke(result.get_1().call()), is(1));
+        assertThat(tag.invoke(result.get_2().call()), is(2));
+    }
+
     @Test
     public void equivalentDataShouldBeEqual() {
         boolean result = exec(
@@ -178,6 +322,19 @@ public class BytecodeGeneratorTest {
         assertThat(result, is(true));
     }
 
+    @Test
+    public void dataHoldingEquivalentLongStringsShouldBeEqual() {
+        boolean result = exec(
+            "module scotch.test",
+            "import scotch.data.string",
+            "import scotch.java",
+            "data Thing { value :: String }",
+            "run = Thing (\"a string long enough \" ++ \"to be held as a rope\") `javaEq?!`",
+            "          Thing \"a string long enough to be held as a rope\""
+        );
+        assertThat(result, is(true));
+    }
+
     @Test
     public void equivalentDataShouldHaveSameHashCode() {
         boolean result = exec(
@@ -325,6 +482,37 @@ public class BytecodeGeneratorTest {
         assertThat(result, is(true));
     }
 
+    @Test
+    public void shouldEvaluateSparkedListElements() {
+        boolean result = exec(
+            "module scotch.test",
+            "import scotch.control.parallel",
+            "import scotch.data.eq",
+            "import scotch.data.int",
+            "import scotch.data.list",
+            "import scotch.data.num",
+            "",
+            "square x = x * x",
+            "run = parMapChunk 2 square [1, 2, 3, 4, 5] == parList [1, 4, 9, 16, 25]"
+        );
+        assertThat(result, is(true));
+    }
+
+    @Test
+    public void shouldReturnSecondArgumentOfPar() {
+        int result = exec(
+            "module scotch.test",
+            "import scotch.control.parallel",
+            "import scotch.data.int",
+            "import scotch.data.num",
+            "",
+            "run = let x = 2 + 3",
+            "          y = 4 * 5",
+            "      in x `par` y `pseq` x + y"
+        );
+        assertThat(result, is(25));
+    }
+
     @Test
     public void shouldParseIgnoredPattern() {
         int result = exec(
@@ -423,17 +611,363 @@ public class BytecodeGeneratorTest {
         assertThat(value, is(-4));
     }
 
+    @Test
+    public void shouldSpecializeIntValues() throws ReflectiveOperationException {
+        Method run = compile(
+            "module scotch.test",
+            "import scotch.data.num",
+            "run = 2 + 2"
+        ).getMethod("run");
+        assertThat(run.getReturnType() == IntCallable.class, is(true));
+        assertThat(((IntCallable) run.invoke(null)).callInt(), is(4));
+    }
+
+    @Test
+    public void shouldSpecializeBoolValues() throws ReflectiveOperationException {
+        Method run = compile(
+            "module scotch.test",
+            "import scotch.data.eq",
+            "run = 2 == 3"
+        ).getMethod("run");
+        assertThat(run.getReturnType() == BoolCallable.class, is(true));
+        assertThat(((BoolCallable) run.invoke(null)).callBool(), is(false));
+    }
+
+    @Test
+    public void shouldShareConstantApplicativeForms() throws ReflectiveOperationException {
+        Method run = compile(
+            "module scotch.test",
+            "import scotch.data.num",
+            "run = 2 + 2"
+        ).getMethod("run");
+        assertThat(run.invoke(null) == run.invoke(null), is(true));
+    }
+
+    @Test
+    public void shouldCompileMultiArgumentFunctionToSingleApplicable() throws ReflectiveOperationException {
+        Method fn = compile(
+            "module scotch.test",
+            "import scotch.data.num",
+            "fn x y z = x + y * z"
+        ).getMethod("fn");
+        assertThat(fn.invoke(null) instanceof Applicable4, is(true));
+    }
+
+    @Test
+    public void shouldApplyPartiallyAppliedFunction() {
+        int result = exec(
+            "module scotch.test",
+            "import scotch.data.num",
+            "fn x y z = x + y * z",
+            "partial = fn 1",
+            "run = partial 2 3"
+        );
+        assertThat(result, is(7));
+    }
+
+    @Test
+    public void shouldApplyLambdaCapturingArgument() {
+        int result = exec(
+            "module scotch.test",
+            "import scotch.data.int",
+            "import scotch.data.num",
+            "f a = (\\y -> a * 10 + y) 2",
+            "run = f 1"
+        );
+        assertThat(result, is(12));
+    }
+
+    @Test
+    public void shouldCaptureOnlyFreeVariablesInNestedLets() {
+        Class<?> module = compile(
+            "module scotch.test",
+            "import scotch.data.int",
+            "import scotch.data.num",
+            "run = let",
+            "    f = let",
+            "        g a b c d = (\\x -> \\y -> a + y * 10) b c",
+            "      g 1 2 3 4",
+            "  f"
+        );
+        assertThat(exec(module), is(31));
+        assertThat(getParameterCounts(module, "lambda$"), is(asList(0, 0, 2, 2, 2, 2, 4)));
+        assertThat(getParameterCounts(module, "apply$"), is(asList(0, 0, 0, 2, 2, 3, 3)));
+    }
+
+    @Test
+    public void shouldApplyFunctionToMoreArgumentsThanItsArity() {
+        int result = exec(
+            "module scotch.test",
+            "import scotch.data.function",
+            "import scotch.data.num",
+            "fn x y z = x + y * z",
+            "run = (fn $ 1) 2 3"
+        );
+        assertThat(result, is(7));
+    }
+
+    @Test
+    public void shouldGenerateWorkerTakingAllArguments() throws ReflectiveOperationException {
+        Method worker = compile(
+            "module scotch.test",
+            "second x y = y"
+        ).getMethod("second$worker", Callable.class, Callable.class);
+        assertThat(((Callable<?>) worker.invoke(null, box(1), box(2))).call(), is(2));
+    }
+
+    @Test
+    public void shouldCallSaturatedKnownFunctionDirectly() {
+        int result = exec(
+            "module scotch.test",
+            "import scotch.data.eq",
+            "import scotch.data.num",
+            "import scotch.data.ord",
+            "fib n = if n < 2 then n else fib (n - 1) + fib (n - 2)",
+            "run = fib 15"
+        );
+        assertThat(result, is(610));
+    }
+
+    @Test
+    public void shouldApplyResultOfKnownFunctionToRemainingArguments() {
+        int result = exec(
+            "module scotch.test",
+            "import scotch.data.num",
+            "ident x = x",
+            "double x = x * 2",
+            "run = ident double 3"
+        );
+        assertThat(result, is(6));
+    }
+
+    @Test
+    public void shouldEvaluateStrictArgumentsInPlace() {
+        int result = exec(
+            "module scotch.test",
+            "import scotch.data.eq",
+            "import scotch.data.num",
+            "sumTo n acc = if n == 0 then acc else sumTo (n - 1) (acc + n)",
+            "run = sumTo 100 0"
+        );
+        assertThat(result, is(5050));
+    }
+
+    @Test
+    public void shouldAnnotateValueMethodWithDemandSignature() throws ReflectiveOperationException {
+        Method method = compile(
+            "module scotch.test",
+            "import scotch.data.int",
+            "pick b x = if b then x else 0"
+        ).getMethod("pick");
+        assertThat(method.getAnnotation(Demand.class).value(), is("SL"));
+    }
+
+    @Test
+    public void shouldGenerateUnboxedWorkerForStrictPrimitiveFunction() throws ReflectiveOperationException {
+        Method worker = compile(
+            "module scotch.test",
+            "import scotch.data.eq",
+            "import scotch.data.int",
+            "import scotch.data.num",
+            "fib :: Int -> Int",
+            "fib 0 = 0",
+            "fib 1 = 1",
+            "fib n = fib (n - 1) + fib (n - 2)"
+        ).getMethod("fib$unboxed", int.class);
+        assertThat(worker.getReturnType().getName(), is("int"));
+        assertThat(worker.invoke(null, 20), is(6765));
+    }
+
+    @Test(expected = NoSuchMethodException.class)
+    public void shouldNotGenerateUnboxedWorkerForLazyArguments() throws ReflectiveOperationException {
+        compile(
+            "module scotch.test",
+            "import scotch.data.int",
+            "pick b x = if b then x else 0"
+        ).getMethod("pick$unboxed", boolean.class, int.class);
+    }
+
+    @Test
+    public void shouldCallUnboxedWorkerThroughBoxedWorker() {
+        int result = exec(
+            "module scotch.test",
+            "import scotch.data.bool",
+            "import scotch.data.eq",
+            "import scotch.data.int",
+            "import scotch.data.num",
+            "import scotch.data.ord",
+            "sumTo n acc = if n > 0 && acc >= 0 then sumTo (n - 1) (acc + n) else acc",
+            "run = sumTo 10000 0"
+        );
+        assertThat(result, is(50005000));
+    }
+
+    @Test
+    public void shouldLoopSelfTailCallsInUnboxedWorker() {
+        int result = exec(
+            "module scotch.test",
+            "import scotch.data.eq",
+            "import scotch.data.int",
+            "import scotch.data.num",
+            "count n acc = if n == 0 then acc else count (n - 1) (acc + 1)",
+            "run = count 1000000 0"
+        );
+        assertThat(result, is(1000000));
+    }
+
+    @Test
+    public void shouldLoopSelfTailCallsInPatternCases() {
+        String result = exec(
+            "module scotch.test",
+            "import scotch.data.eq",
+            "import scotch.data.int",
+            "import scotch.data.num",
+            "count 0 xs = xs",
+            "count n xs = count (n - 1) xs",
+            "run = count 1000000 \"done\""
+        );
+        assertThat(result, is("done"));
+    }
+
+    @Test
+    public void shouldLookUpValuesInMap() {
+        Maybe<String> result = exec(
+            "module scotch.test",
+            "import scotch.data.int",
+            "import scotch.data.list",
+            "import scotch.data.map",
+            "import scotch.data.string",
+            "run = lookup 2 (insert 3 \"three\" (fromList [(1, \"one\"), (2, \"two\")]))"
+        );
+        assertThat(result, is(Maybe.just("two")));
+    }
+
+    @Test
+    public void shouldRemoveDuplicateElementsFromSet() {
+        int result = exec(
+            "module scotch.test",
+            "import scotch.data.list",
+            "import scotch.data.set",
+            "import scotch.data.string",
+            "run = size (union (fromList [\"a\", \"b\", \"a\"]) (singleton \"c\"))"
+        );
+        assertThat(result, is(3));
+    }
+
+    @Test
+    public void shouldConcatenateStrings() {
+        CharSequence result = exec(
+            "module scotch.test",
+            "import scotch.data.eq",
+            "import scotch.data.int",
+            "import scotch.data.list",
+            "import scotch.data.show",
+            "import scotch.data.string",
+            "run = concat [\"total: \", show 42, if \"ab\" ++ \"c\" == \"abc\" then \"!\" else \"?\"]"
+        );
+        assertThat(result.toString(), is("total: 42!"));
+    }
+
+    @Test
+    public void shouldSpecializePolymorphicFunctionsToKnownInstances() {
+        Class<?> module = compile(
+            "module scotch.test",
+            "import scotch.data.eq",
+            "import scotch.data.int",
+            "import scotch.data.num",
+            "same x y = x == y",
+            "square x = x * x",
+            "run = if same (square 3) 9 then square 4 else 0"
+        );
+        assertThat(stream(module.getMethods()).anyMatch(method -> method.getName().startsWith("same$specialized")), is(true));
+        assertThat(stream(module.getMethods()).anyMatch(method -> method.getName().startsWith("square$specialized")), is(true));
+        assertThat(exec(module), is(16));
+    }
+
+    @Test
+    public void shouldInvokeMembersOfKnownInstancesDirectly() {
+        boolean result = exec(
+            "module scotch.test",
+            "import scotch.data.eq",
+            "import scotch.data.string",
+            "same x y = x == y",
+            "run = same \"ab\" (\"a\" ++ \"b\")"
+        );
+        assertThat(result, is(true));
+    }
+
+    @Test
+    public void shouldGenerateSimplifiedValuesWithoutBuildingKnownTuples() {
+        String[] lines = {
+            "module scotch.test",
+            "import scotch.data.int",
+            "import scotch.data.num",
+            "import scotch.data.tuple",
+            "swap (a, b) = (b, a)",
+            "fst' (a, _) = a",
+            "g x = fst' (swap (x, x + 1))",
+            "run = g 41",
+        };
+        assertThat(exec(lines), is(42));
+        List<String> calls = getCalls("g$worker", lines);
+        assertThat(calls, hasItem("scotch/data/num/Num.add"));
+        assertThat(calls, not(hasItem("scotch/test/$$Module.swap$worker")));
+        assertThat(calls, everyItem(not(startsWith("scotch/data/tuple/"))));
+    }
+
+    private Class<?> compile(String... lines) {
+        return TestUtil.compileModule(testName.getMethodName(), EnumSet.noneOf(Instrumentation.class), lines);
+    }
+
+    /**
+     * Lists the methods called by a method of the module and by the lambdas and thunks it creates.
+     */
     @SuppressWarnings("unchecked")
-    private <A> A exec(String... lines) {
-        try {
-            ClassLoaderResolver resolver = new ClassLoaderResolver(
-                Optional.of(new File("build/generated-test-classes/" + testName.getMethodName())),
-                Compiler.class.getClassLoader()
-            );
-            resolver.defineAll(TestUtil.generateBytecode(testName.getMethodName(), resolver, lines));
-            return ((Callable<A>) resolver.loadClass("scotch.test.$$Module").getMethod("run").invoke(null)).call();
-        } catch (ReflectiveOperationException exception) {
-            throw new RuntimeException(exception);
+    private List<String> getCalls(String methodName, String... lines) {
+        ClassLoaderResolver resolver = new ClassLoaderResolver(Optional.empty(), Compiler.class.getClassLoader());
+        GeneratedClass module = TestUtil.generateBytecode(testName.getMethodName(), resolver, lines).stream()
+            .filter(generatedClass -> generatedClass.getClassName().equals("scotch.test.$$Module"))
+            .findFirst()
+            .get();
+        ClassNode classNode = new ClassNode();
+        new ClassReader(module.getBytes()).accept(classNode, 0);
+        List<String> calls = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+        Deque<String> pending = new ArrayDeque<>(asList(methodName));
+        while (!pending.isEmpty()) {
+            String name = pending.pop();
+            if (visited.add(name)) {
+                ((List<MethodNode>) classNode.methods).stream()
+                    .filter(method -> method.name.equals(name))
+                    .forEach(method -> {
+                        for (AbstractInsnNode instruction : method.instructions.toArray()) {
+                            if (instruction instanceof MethodInsnNode) {
+                                calls.add(((MethodInsnNode) instruction).owner + "." + ((MethodInsnNode) instruction).name);
+                            } else if (instruction instanceof InvokeDynamicInsnNode) {
+                                stream(((InvokeDynamicInsnNode) instruction).bsmArgs)
+                                    .filter(argument -> argument instanceof Handle && ((Handle) argument).getOwner().equals(classNode.name))
+                                    .forEach(argument -> pending.push(((Handle) argument).getName()));
+                            }
+                        }
+                    });
+            }
         }
+        return calls;
+    }
+
+    private List<Integer> getParameterCounts(Class<?> module, String prefix) {
+        return stream(module.getDeclaredMethods())
+            .filter(method -> method.getName().startsWith(prefix))
+            .map(Method::getParameterCount)
+            .sorted()
+            .collect(toList());
+    }
+
+    private <A> A exec(Class<?> module) {
+        return TestUtil.evaluate(module, "run");
+    }
+
+    private <A> A exec(String... lines) {
+        return exec(compile(lines));
     }
 }
@@ -9,14 +9,19 @@ import static scotch.compiler.text.SourceLocation.NULL_SOURCE;
 import static scotch.symbol.Symbol.symbol;
 import static scotch.symbol.type.Types.sum;
 
+import java.io.File;
 import java.net.URI;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import scotch.compiler.ClassLoaderResolver;
+import scotch.compiler.Compiler;
 import scotch.compiler.output.GeneratedClass;
 import scotch.compiler.scanner.Scanner;
 import scotch.compiler.scanner.Token;
 import scotch.compiler.scanner.Token.TokenKind;
+import scotch.compiler.steps.Instrumentation;
 import scotch.compiler.syntax.definition.ClassDefinition;
 import scotch.compiler.syntax.definition.DataConstructorDefinition;
 import scotch.compiler.syntax.definition.DataFieldDefinition;
@@ -63,6 +68,7 @@ import scotch.compiler.syntax.value.StringLiteral;
 import scotch.compiler.syntax.value.UnshuffledValue;
 import scotch.compiler.syntax.value.Value;
 import scotch.compiler.syntax.value.Values;
+import scotch.runtime.Callable;
 import scotch.symbol.FieldSignature;
 import scotch.symbol.MethodSignature;
 import scotch.symbol.Symbol;
@@ -101,6 +107,23 @@ public class TestUtil {
         return DefinitionReference.classRef(symbol(className));
     }
 
+    /**
+     * Compiles a module named {@code scotch.test} woven with the given instrumentation, writing its classes under
+     * {@code build/generated-test-classes}, and loads its module class.
+     */
+    public static Class<?> compileModule(String methodName, Set<Instrumentation> instrumentation, String... lines) {
+        try {
+            ClassLoaderResolver resolver = new ClassLoaderResolver(
+                Optional.of(new File("build/generated-test-classes/" + methodName)),
+                Compiler.class.getClassLoader()
+            );
+            resolver.defineAll(generateBytecode(methodName, resolver, instrumentation, lines));
+            return resolver.loadClass("scotch.test.$$Module");
+        } catch (ReflectiveOperationException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
     public static Conditional conditional(Value condition, Value whenTrue, Value whenFalse, Type type) {
         return Values.conditional(NULL_SOURCE, condition, whenTrue, whenFalse, type);
     }
@@ -169,6 +192,18 @@ public class TestUtil {
         return Patterns.equal(NULL_SOURCE, Optional.of(argument), value);
     }
 
+    /**
+     * Evaluates a value of a module class loaded by {@link #compileModule(String, Set, String...)}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <A> A evaluate(Class<?> module, String name) {
+        try {
+            return ((Callable<A>) module.getMethod(name).invoke(null)).call();
+        } catch (ReflectiveOperationException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
     public static InitializerField field(String name, Value value) {
         return InitializerField.field(NULL_SOURCE, name, value);
     }
@@ -191,7 +226,11 @@ public class TestUtil {
     }
 
     public static List<GeneratedClass> generateBytecode(String methodName, ClassLoaderResolver resolver, String... lines) {
-        return compiler(resolver, URI.create("test://" + methodName), lines).generateBytecode();
+        return generateBytecode(methodName, resolver, EnumSet.noneOf(Instrumentation.class), lines);
+    }
+
+    public static List<GeneratedClass> generateBytecode(String methodName, ClassLoaderResolver resolver, Set<Instrumentation> instrumentation, String... lines) {
+        return compiler(resolver, URI.create("test://" + methodName), lines).generateBytecode(instrumentation);
     }
 
     public static Identifier id(String name, Type type) {
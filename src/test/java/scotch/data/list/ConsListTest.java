@@ -0,0 +1,102 @@
+package scotch.data.list;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.Test;
+
+public class ConsListTest {
+
+    @Test
+    public void shouldReadRandomAccessListOnlyWhenCellsAreDemanded() {
+        AtomicInteger reads = new AtomicInteger();
+        List<Integer> source = new CountingList(100_000, reads);
+        ConsList<Integer> list = ConsList.fromIterable(source).call();
+        assertThat(reads.get(), is(0));
+        Iterator<Integer> iterator = list.iterator();
+        assertThat(iterator.next(), is(0));
+        assertThat(iterator.next(), is(1));
+        assertThat(reads.get(), is(2));
+    }
+
+    @Test
+    public void shouldConsumeStreamOnlyAsFarAsListIsTraversed() {
+        AtomicInteger pulled = new AtomicInteger();
+        ConsList<Integer> list = ConsList.fromStream(Stream.iterate(0, i -> i + 1).peek(i -> pulled.incrementAndGet())).call();
+        assertThat(list.stream().limit(3).collect(toList()), is(asList(0, 1, 2)));
+        assertThat(pulled.get(), is(3));
+    }
+
+    @Test
+    public void shouldIterateOverArray() {
+        List<String> result = new ArrayList<>();
+        ConsList.fromArray("a", "b", "c").call().forEach(result::add);
+        assertThat(result, is(asList("a", "b", "c")));
+    }
+
+    @Test
+    public void shouldEqualListBuiltFromCells() {
+        assertThat(ConsList.fromIterable(asList(1, 2)).call(), is(ConsList.fromStream(Stream.of(1, 2)).call()));
+    }
+
+    @Test
+    public void shouldTagCellsWithTheirOrdinals() {
+        assertThat(ConsList.empty().call().tag(), is(0));
+        assertThat(ConsList.fromArray(1).call().tag(), is(1));
+    }
+
+    @Test
+    public void shouldSplitEvaluatedList() {
+        ConsList<Integer> list = ConsList.fromIterable(IntStream.range(0, 10_000).boxed().collect(toList())).call();
+        list.forEach(element -> { });
+        Spliterator<Integer> spliterator = list.spliterator();
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertThat(prefix.hasCharacteristics(Spliterator.SIZED), is(true));
+        assertThat(prefix.estimateSize(), is(1024L));
+        assertThat(list.stream().parallel().mapToLong(Integer::longValue).sum(), is(49_995_000L));
+    }
+
+    @Test
+    public void shouldSplitOnlyEvaluatedCells() {
+        AtomicInteger pulled = new AtomicInteger();
+        ConsList<Integer> list = ConsList.fromStream(Stream.iterate(0, i -> i + 1).peek(i -> pulled.incrementAndGet())).call();
+        Spliterator<Integer> spliterator = list.spliterator();
+        assertThat(spliterator.trySplit().estimateSize(), is(1L));
+        assertThat(spliterator.trySplit(), nullValue());
+        assertThat(pulled.get(), is(1));
+    }
+
+    private static final class CountingList extends AbstractList<Integer> implements RandomAccess {
+
+        private final int           size;
+        private final AtomicInteger reads;
+
+        CountingList(int size, AtomicInteger reads) {
+            this.size = size;
+            this.reads = reads;
+        }
+
+        @Override
+        public Integer get(int index) {
+            reads.incrementAndGet();
+            return index;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package scotch.data.map;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+import org.junit.Test;
+import scotch.data.map.HashTrie.Equivalence;
+import scotch.data.map.HashTrie.Transient;
+
+public class HashTrieTest {
+
+    private static final Equivalence<Integer> natural   = equivalence(key -> key);
+    private static final Equivalence<Integer> colliding = equivalence(key -> key % 3);
+
+    private static Equivalence<Integer> equivalence(ToIntFunction<Integer> hash) {
+        return new Equivalence<Integer>() {
+            @Override
+            public boolean equal(Integer left, Integer right) {
+                return Objects.equals(left, right);
+            }
+
+            @Override
+            public int hash(Integer key) {
+                return hash.applyAsInt(key);
+            }
+        };
+    }
+
+    @Test
+    public void shouldGetPutValues() {
+        HashTrie<Integer, String> trie = HashTrie.<Integer, String>empty()
+            .put(1, "one", natural)
+            .put(33, "thirty-three", natural)
+            .put(1025, "one thousand twenty-five", natural);
+        assertThat(trie.get(1, natural), is(Optional.of("one")));
+        assertThat(trie.get(33, natural), is(Optional.of("thirty-three")));
+        assertThat(trie.get(1025, natural), is(Optional.of("one thousand twenty-five")));
+        assertThat(trie.get(2, natural), is(Optional.empty()));
+        assertThat(trie.size(), is(3));
+    }
+
+    @Test
+    public void shouldLeaveOriginalUnchangedWhenPutting() {
+        HashTrie<Integer, String> original = HashTrie.<Integer, String>empty().put(1, "one", natural);
+        HashTrie<Integer, String> updated = original.put(1, "uno", natural).put(2, "two", natural);
+        assertThat(original.get(1, natural), is(Optional.of("one")));
+        assertThat(original.containsKey(2, natural), is(false));
+        assertThat(original.size(), is(1));
+        assertThat(updated.get(1, natural), is(Optional.of("uno")));
+        assertThat(updated.size(), is(2));
+    }
+
+    @Test
+    public void shouldReturnSameTrieWhenNothingChanges() {
+        String value = "one";
+        HashTrie<Integer, String> trie = HashTrie.<Integer, String>empty().put(1, value, natural);
+        assertThat(trie.put(1, value, natural), sameInstance(trie));
+        assertThat(trie.remove(2, natural), sameInstance(trie));
+    }
+
+    @Test
+    public void shouldKeepCollidingKeysApart() {
+        HashTrie<Integer, Integer> trie = HashTrie.empty();
+        for (int i = 0; i < 30; i++) {
+            trie = trie.put(i, i * 10, colliding);
+        }
+        for (int i = 0; i < 30; i++) {
+            assertThat(trie.get(i, colliding), is(Optional.of(i * 10)));
+        }
+        for (int i = 0; i < 30; i += 2) {
+            trie = trie.remove(i, colliding);
+        }
+        for (int i = 0; i < 30; i++) {
+            assertThat(trie.containsKey(i, colliding), is(i % 2 == 1));
+        }
+        assertThat(trie.size(), is(15));
+    }
+
+    @Test
+    public void shouldAgreeWithHashMapAfterManyUpdates() {
+        Map<Integer, Integer> expected = new HashMap<>();
+        HashTrie<Integer, Integer> trie = HashTrie.empty();
+        for (int i = 0; i < 20_000; i++) {
+            int key = (i * 7919) % 5003;
+            if (i % 3 == 0) {
+                expected.remove(key);
+                trie = trie.remove(key, natural);
+            } else {
+                expected.put(key, i);
+                trie = trie.put(key, i, natural);
+            }
+        }
+        assertThat(toMap(trie), is(expected));
+        assertThat(trie.size(), is(expected.size()));
+    }
+
+    @Test
+    public void shouldNotShareTransientUpdatesWithPersistentTries() {
+        HashTrie<Integer, Integer> original = HashTrie.empty();
+        for (int i = 0; i < 100; i++) {
+            original = original.put(i, i, natural);
+        }
+        Transient<Integer, Integer> first = original.asTransient();
+        for (int i = 0; i < 200; i++) {
+            first.put(i, -i, natural);
+        }
+        HashTrie<Integer, Integer> built = first.persistent();
+        Transient<Integer, Integer> second = built.asTransient();
+        for (int i = 0; i < 200; i += 2) {
+            second.remove(i, natural);
+        }
+        HashTrie<Integer, Integer> pruned = second.persistent();
+        assertThat(original.size(), is(100));
+        assertThat(original.get(5, natural), is(Optional.of(5)));
+        assertThat(built.size(), is(200));
+        assertThat(built.get(150, natural), is(Optional.of(-150)));
+        assertThat(pruned.size(), is(100));
+        assertThat(pruned.containsKey(150, natural), is(false));
+        assertThat(pruned.get(151, natural), is(Optional.of(-151)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotUpdateTransientAfterMadePersistent() {
+        Transient<Integer, Integer> trie = HashTrie.<Integer, Integer>empty().asTransient();
+        trie.persistent();
+        trie.put(1, 1, natural);
+    }
+
+    @Test
+    public void shouldPreferLeftValuesInUnion() {
+        HashTrie<Integer, String> left = HashTrie.<Integer, String>empty().put(1, "left", natural);
+        HashTrie<Integer, String> right = HashTrie.<Integer, String>empty();
+        for (int i = 0; i < 10; i++) {
+            right = right.put(i, "right", natural);
+        }
+        HashTrie<Integer, String> union = left.union(right, natural);
+        assertThat(union.size(), is(10));
+        assertThat(union.get(1, natural), is(Optional.of("left")));
+        assertThat(union.get(2, natural), is(Optional.of("right")));
+        assertThat(right.union(left, natural).get(1, natural), is(Optional.of("right")));
+    }
+
+    private <K, V> Map<K, V> toMap(HashTrie<K, V> trie) {
+        Map<K, V> map = new HashMap<>();
+        trie.forEach(map::put);
+        return map;
+    }
+}
@@ -0,0 +1,90 @@
+package scotch.data.string;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import org.junit.Test;
+
+public class RopeTest {
+
+    @Test
+    public void shouldMergeShortLeaves() {
+        assertThat(Rope.concat("ab", "cd"), is((CharSequence) "abcd"));
+    }
+
+    @Test
+    public void shouldReturnOtherSideWhenConcatenatingEmptyString() {
+        String value = "value";
+        assertThat(Rope.concat("", value), sameInstance(value));
+        assertThat(Rope.concat(value, ""), sameInstance(value));
+    }
+
+    @Test
+    public void shouldStayBalancedWhenAppendingRepeatedly() {
+        CharSequence appended = "";
+        CharSequence prepended = "";
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            String chunk = chunk(i);
+            appended = Rope.concat(appended, chunk);
+            prepended = Rope.concat(chunk, prepended);
+            expected.append(chunk);
+        }
+        assertThat(appended, instanceOf(Rope.class));
+        assertThat(Rope.depth(appended), lessThanOrEqualTo(22));
+        assertThat(Rope.depth(prepended), lessThanOrEqualTo(22));
+        assertThat(appended.toString(), is(expected.toString()));
+        assertThat(appended.length(), is(expected.length()));
+    }
+
+    @Test
+    public void shouldStayBalancedWhenJoiningRopesOfDifferentDepths() {
+        CharSequence rope = "";
+        for (int i = 0; i < 1000; i++) {
+            CharSequence piece = "";
+            for (int j = 0; j < i % 50; j++) {
+                piece = Rope.concat(piece, chunk(j));
+            }
+            rope = i % 2 == 0 ? Rope.concat(rope, piece) : Rope.concat(piece, rope);
+        }
+        assertThat(Rope.depth(rope), lessThanOrEqualTo((int) (1.45 * (Math.log(rope.length()) / Math.log(2))) + 2));
+    }
+
+    @Test
+    public void shouldIndexCharactersWithoutFlattening() {
+        CharSequence rope = "";
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            rope = Rope.concat(rope, chunk(i));
+            expected.append(chunk(i));
+        }
+        for (int i = 0; i < expected.length(); i += 7) {
+            assertThat(rope.charAt(i), is(expected.charAt(i)));
+        }
+    }
+
+    @Test
+    public void shouldWriteChunksToAppendable() throws IOException {
+        CharSequence rope = Rope.concat(Rope.concat(chunk(1), chunk(2)), Rope.concat(chunk(3), chunk(4)));
+        StringWriter writer = new StringWriter();
+        Rope.write(rope, writer);
+        assertThat(writer.toString(), is(chunk(1) + chunk(2) + chunk(3) + chunk(4)));
+    }
+
+    @Test
+    public void shouldCompareContentsAcrossRepresentations() {
+        CharSequence rope = Rope.concat(chunk(1), chunk(2));
+        assertThat(Rope.contentEquals(rope, chunk(1) + chunk(2)), is(true));
+        assertThat(Rope.contentEquals(rope, chunk(2) + chunk(1)), is(false));
+        assertThat(Rope.hash(rope), is((chunk(1) + chunk(2)).hashCode()));
+    }
+
+    private String chunk(int i) {
+        return "chunk " + i + " of a string which is longer than a merged leaf;";
+    }
+}
@@ -0,0 +1,59 @@
+package scotch.runtime;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static scotch.runtime.Caf.caf;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+
+public class CafTest {
+
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    @After
+    public void tearDown() {
+        System.clearProperty("scotch.runtime.reclaimableCafs");
+    }
+
+    @Test
+    public void shouldShareThunkAcrossReferences() {
+        Caf<Callable<Integer>> caf = caf(this::counted);
+        assertThat(caf.get(), sameInstance(caf.get()));
+        assertThat(caf.get().call() + caf.get().call(), is(84));
+        assertThat(evaluations.get(), is(1));
+    }
+
+    @Test
+    public void shouldShareReclaimableThunkWhileReachable() {
+        System.setProperty("scotch.runtime.reclaimableCafs", "true");
+        Caf<Callable<Integer>> caf = caf(this::counted);
+        Callable<Integer> thunk = caf.get();
+        assertThat(thunk.call(), is(42));
+        assertThat(caf.get(), sameInstance(thunk));
+        assertThat(caf.get().call(), is(42));
+        assertThat(evaluations.get(), is(1));
+    }
+
+    @Test
+    public void shouldReclaimUnreachableThunk() {
+        System.setProperty("scotch.runtime.reclaimableCafs", "true");
+        Caf<Callable<Integer>> caf = caf(this::counted);
+        WeakReference<Callable<Integer>> reference = new WeakReference<>(caf.get());
+        for (int i = 0; i < 10 && reference.get() != null; i++) {
+            System.gc();
+        }
+        assertThat(reference.get() == null, is(true));
+        assertThat(caf.get().call(), is(42));
+    }
+
+    private Callable<Integer> counted() {
+        return new SuppliedThunk<>(() -> {
+            evaluations.incrementAndGet();
+            return 42;
+        });
+    }
+}
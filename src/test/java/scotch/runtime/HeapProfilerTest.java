@@ -0,0 +1,93 @@
+package scotch.runtime;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static scotch.compiler.steps.Instrumentation.HEAP_ORIGINS;
+import static scotch.compiler.util.TestUtil.compileModule;
+import static scotch.compiler.util.TestUtil.evaluate;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.EnumSet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+
+public class HeapProfilerTest {
+
+    @Rule
+    public final TestName testName = new TestName();
+    private StringWriter writer;
+
+    @Before
+    public void setUp() {
+        writer = new StringWriter();
+        HeapProfiler.start(new PrintWriter(writer), 60_000);
+    }
+
+    @After
+    public void tearDown() {
+        HeapProfiler.stop();
+    }
+
+    @Test
+    public void shouldWriteHeader() {
+        HeapProfiler.stop();
+        assertThat(writer.toString(), startsWith("time,kind,origin,location,objects,bytes\n"));
+    }
+
+    @Test
+    public void shouldSampleLiveDataConstructorsByOrigin() {
+        Class<?> module = compile(
+            "module scotch.test",
+            "import scotch.data.int",
+            "data Pair a b { first :: a, second :: b }",
+            "run = Pair 1 (Pair 2 3)"
+        );
+        Object pair = evaluate(module, "run");
+        assertThat(sample(), containsString(",constructor,\"scotch.test.Pair\",\"[test://" + testName.getMethodName()));
+        assertThat(pair.toString(), containsString("Pair"));
+    }
+
+    @Test
+    public void shouldSampleSuspendedThunksByAppliedFunction() {
+        Class<?> module = compile(
+            "module scotch.test",
+            "import scotch.data.int",
+            "data Box a { value :: a }",
+            "wrap x = Box x",
+            "run = Box (wrap 1)"
+        );
+        Object box = evaluate(module, "run");
+        assertThat(sample(), containsString(",thunk,\"scotch.test.wrap\",\"[test://" + testName.getMethodName()));
+        assertThat(box.toString(), containsString("Box"));
+    }
+
+    @Test
+    public void shouldNotTrackAllocationsWhenStopped() {
+        Class<?> module = compile(
+            "module scotch.test",
+            "import scotch.data.int",
+            "data Box a { value :: a }",
+            "run = Box 1"
+        );
+        HeapProfiler.stop();
+        Object box = evaluate(module, "run");
+        assertThat(sample(), not(containsString("scotch.test.Box")));
+        assertThat(box.toString(), containsString("Box"));
+    }
+
+    private Class<?> compile(String... lines) {
+        return compileModule(testName.getMethodName(), EnumSet.of(HEAP_ORIGINS), lines);
+    }
+
+    private String sample() {
+        StringWriter sample = new StringWriter();
+        HeapProfiler.sample(new PrintWriter(sample), 0);
+        return sample.toString();
+    }
+}
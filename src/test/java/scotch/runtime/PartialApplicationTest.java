@@ -0,0 +1,64 @@
+package scotch.runtime;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.apply;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class PartialApplicationTest {
+
+    private final AtomicInteger saturatedCalls = new AtomicInteger();
+
+    @Test
+    public void shouldCallSaturatedEntryPointWhenArityMatches() {
+        assertThat(apply(box(subtract3()), box(10), box(3), box(2)).call(), is(5));
+        assertThat(saturatedCalls.get(), is(1));
+    }
+
+    @Test
+    public void shouldBuildPartialApplicationWhenUnderSaturated() {
+        Callable<?> partial = apply(box(subtract3()), box(10));
+        assertThat(partial, instanceOf(PartialApplication.class));
+        assertThat(apply(partial, box(3), box(2)).call(), is(5));
+        assertThat(saturatedCalls.get(), is(1));
+    }
+
+    @Test
+    public void shouldApplyPartialApplicationOneArgumentAtATime() {
+        Callable<?> partial = apply(apply(box(subtract3()), box(10)), box(3));
+        assertThat(apply(partial, box(2)).call(), is(5));
+        assertThat(saturatedCalls.get(), is(1));
+    }
+
+    @Test
+    public void shouldApplyCurriedFormOfMultiArityFunction() {
+        Applicable<Integer, Applicable<Integer, Applicable<Integer, Integer>>> function = subtract3();
+        Callable<Integer> result = function.apply(box(10)).call().apply(box(3)).call().apply(box(2));
+        assertThat(result.call(), is(5));
+    }
+
+    @Test
+    public void shouldApplyResultOfSaturatedCallToLeftoverArguments() {
+        Applicable2<Integer, Integer, Applicable<Integer, Integer>> adder = applicable((x, y) -> box(applicable(z -> callable(() -> x.call() + y.call() + z.call()))));
+        assertThat(apply(box(adder), box(1), box(2), box(3)).call(), is(6));
+    }
+
+    @Test
+    public void shouldApplyOneArgumentFunctionsRepeatedly() {
+        Applicable<Integer, Applicable<Integer, Integer>> curried = applicable(x -> box(applicable(y -> callable(() -> x.call() * y.call()))));
+        assertThat(apply(box(curried), box(6), box(7)).call(), is(42));
+    }
+
+    private Applicable3<Integer, Integer, Integer, Integer> subtract3() {
+        return applicable((x, y, z) -> callable(() -> {
+            saturatedCalls.incrementAndGet();
+            return x.call() - y.call() - z.call();
+        }));
+    }
+}
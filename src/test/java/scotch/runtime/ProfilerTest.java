@@ -0,0 +1,113 @@
+package scotch.runtime;
+
+import static java.util.regex.Pattern.MULTILINE;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static scotch.compiler.steps.Instrumentation.COST_CENTRES;
+import static scotch.compiler.util.TestUtil.compileModule;
+import static scotch.compiler.util.TestUtil.evaluate;
+import static scotch.runtime.RuntimeSupport.applicable;
+import static scotch.runtime.RuntimeSupport.box;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.EnumSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+
+public class ProfilerTest {
+
+    @Rule
+    public final TestName testName = new TestName();
+
+    @Before
+    public void setUp() {
+        Profiler.start();
+    }
+
+    @After
+    public void tearDown() {
+        Profiler.stop();
+    }
+
+    @Test
+    public void shouldCountEntriesOfRecursiveDefinitionInSingleCostCentre() {
+        Class<?> module = compile(
+            "module scotch.test",
+            "import scotch.data.int",
+            "import scotch.data.num",
+            "fib 0 = 0",
+            "fib 1 = 1",
+            "fib n = fib (n - 1) + fib (n - 2)",
+            "run = fib 10"
+        );
+        assertThat(evaluate(module, "run"), is(55));
+        String report = report();
+        assertThat(entries(report, "scotch.test.fib"), is(177L));
+        assertThat(entries(report, "scotch.test.(fib#0#2)"), is(88L));
+    }
+
+    @Test
+    public void shouldExitCostCentresWhenExceptionEscapes() {
+        Class<?> module = compile(
+            "module scotch.test",
+            "import scotch.data.int",
+            "choose f = if f 1 then 1 else 2",
+            "ok x = x",
+            "passing = ok 3"
+        );
+        Applicable<Applicable<Integer, Boolean>, Integer> choose = evaluate(module, "choose");
+        try {
+            choose.apply(box(applicable(x -> {
+                throw new IllegalStateException();
+            }))).call();
+        } catch (IllegalStateException exception) {
+            // expected
+        }
+        assertThat(evaluate(module, "passing"), is(3));
+        String report = report();
+        assertThat(report, containsString("\n scotch.test.passing "));
+        assertThat(report, containsString("\n scotch.test.ok "));
+    }
+
+    @Test
+    public void shouldWriteCollapsedStacks() {
+        Class<?> module = compile(
+            "module scotch.test",
+            "import scotch.data.int",
+            "import scotch.data.num",
+            "count 0 = 0",
+            "count n = count (n - 1)",
+            "run = count 100000"
+        );
+        assertThat(evaluate(module, "run"), is(0));
+        StringWriter writer = new StringWriter();
+        Profiler.writeCollapsedStacks(new PrintWriter(writer));
+        assertThat(writer.toString(), containsString("MAIN;scotch.test.count;scotch.test.(count#0#1) "));
+    }
+
+    private Class<?> compile(String... lines) {
+        return compileModule(testName.getMethodName(), EnumSet.of(COST_CENTRES), lines);
+    }
+
+    private long entries(String report, String costCentre) {
+        Matcher matcher = Pattern.compile("^\\s*" + Pattern.quote(costCentre) + "\\s+(\\d+).*test://" + testName.getMethodName(), MULTILINE).matcher(report);
+        long entries = 0;
+        while (matcher.find()) {
+            entries += Long.parseLong(matcher.group(1));
+        }
+        return entries;
+    }
+
+    private String report() {
+        StringWriter writer = new StringWriter();
+        Profiler.writeReport(new PrintWriter(writer));
+        return writer.toString();
+    }
+}
@@ -0,0 +1,96 @@
+package scotch.runtime;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.flatCallable;
+
+import java.lang.management.ManagementFactory;
+import javax.management.Attribute;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RuntimeStatisticsTest {
+
+    private static volatile Object sink;
+
+    private MBeanServer server;
+    private ObjectName  name;
+
+    @Before
+    public void setUp() throws JMException {
+        RuntimeStatistics.register();
+        server = ManagementFactory.getPlatformMBeanServer();
+        name = new ObjectName(RuntimeStatistics.OBJECT_NAME);
+        server.invoke(name, "reset", new Object[0], new String[0]);
+    }
+
+    @After
+    public void tearDown() throws JMException {
+        server.setAttribute(name, new Attribute("Enabled", false));
+    }
+
+    @Test
+    public void shouldCountAllocatedAndForcedThunks() throws JMException {
+        Callable<Integer> first = callable(() -> 1);
+        Callable<Integer> second = callable(() -> 2);
+        first.call();
+        first.call();
+        second.call();
+        assertThat(server.getAttribute(name, "ThunksAllocated"), is(2L));
+        assertThat(server.getAttribute(name, "ThunksForced"), is(2L));
+    }
+
+    @Test
+    public void shouldCountIndirectionsFollowed() throws JMException {
+        Callable<Integer> inner = callable(() -> 3);
+        Callable<Integer> outer = flatCallable(() -> flatCallable(() -> inner));
+        assertThat(outer.call(), is(3));
+        assertThat(server.getAttribute(name, "ThunksForced"), is(1L));
+        assertThat(server.getAttribute(name, "IndirectionsFollowed"), is(2L));
+    }
+
+    @Test
+    public void shouldTrackMaximumEvaluationDepth() throws JMException {
+        assertThat(nested(100).call(), is(100));
+        assertThat((Long) server.getAttribute(name, "MaxEvaluationDepth"), greaterThanOrEqualTo(100L));
+    }
+
+    @Test
+    public void shouldNotCountWhenDisabled() throws JMException {
+        server.setAttribute(name, new Attribute("Enabled", false));
+        callable(() -> 1).call();
+        assertThat(server.getAttribute(name, "ThunksAllocated"), is(0L));
+        assertThat(server.getAttribute(name, "ThunksForced"), is(0L));
+    }
+
+    @Test
+    public void shouldCountAllocationOfRetiredThreads() throws InterruptedException {
+        assumeTrue(RuntimeStatistics.getAllocatedBytes().isPresent());
+        long before = RuntimeStatistics.getAllocatedBytes().get();
+        Thread thread = new Thread(() -> {
+            for (int i = 0; i < 64; i++) {
+                sink = new byte[1024 * 1024];
+            }
+            RuntimeStatistics.retire();
+        });
+        thread.start();
+        thread.join();
+        assertThat(RuntimeStatistics.getAllocatedBytes().get(), greaterThanOrEqualTo(before + 64L * 1024 * 1024));
+    }
+
+    private Callable<Integer> nested(int depth) {
+        if (depth == 0) {
+            return callable(() -> 0);
+        } else {
+            Callable<Integer> inner = nested(depth - 1);
+            return callable(() -> inner.call() + 1);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package scotch.runtime;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class SparkPoolTest {
+
+    @Test
+    public void shouldEvaluateSparkedThunkOnAnotherThread() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Thread caller = Thread.currentThread();
+        Thread[] evaluator = new Thread[1];
+        Callable<Integer> thunk = callable(() -> {
+            evaluator[0] = Thread.currentThread();
+            latch.countDown();
+            return 42;
+        });
+        SparkPool.spark(thunk);
+        assertThat(latch.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(thunk.call(), is(42));
+        assertThat(evaluator[0], not(caller));
+    }
+
+    @Test
+    public void shouldFizzleSparkOfEvaluatedThunk() {
+        AtomicInteger evaluations = new AtomicInteger();
+        Callable<Integer> thunk = callable(evaluations::incrementAndGet);
+        thunk.call();
+        long created = SparkPool.getCreated();
+        SparkPool.spark(thunk);
+        SparkPool.spark(box(3));
+        assertThat(SparkPool.getCreated(), is(created));
+        assertThat(evaluations.get(), is(1));
+    }
+
+    @Test
+    public void shouldEvaluateEachThunkOnceWhenRacingSpark() {
+        List<AtomicInteger> counters = new ArrayList<>();
+        List<Callable<Integer>> thunks = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            AtomicInteger counter = new AtomicInteger();
+            counters.add(counter);
+            thunks.add(callable(counter::incrementAndGet));
+        }
+        SparkPool.sparkAll(thunks.subList(0, 500));
+        SparkPool.sparkAll(thunks.subList(500, 1000));
+        thunks.forEach(Callable::call);
+        counters.forEach(counter -> assertThat(counter.get(), is(1)));
+    }
+
+    @Test
+    public void shouldNotRetainQueuedSparkedThunks() throws InterruptedException {
+        int workers = Runtime.getRuntime().availableProcessors();
+        CountDownLatch started = new CountDownLatch(workers);
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < workers; i++) {
+            SparkPool.spark(callable(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException exception) {
+                    throw new RuntimeException(exception);
+                }
+                return 0;
+            }));
+        }
+        try {
+            assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+            WeakReference<Callable<Integer>> sparked = sparkUnreferenced();
+            for (int i = 0; i < 5 && sparked.get() != null; i++) {
+                System.gc();
+            }
+            assertThat(sparked.get(), nullValue());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void shouldLeaveFailedSparkToDemandingThread() {
+        AtomicInteger attempts = new AtomicInteger();
+        Callable<Integer> thunk = callable(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return 7;
+        });
+        SparkPool.sparkAll(asList(thunk));
+        while (attempts.get() == 0) {
+            Thread.yield();
+        }
+        assertThat(thunk.call(), is(7));
+    }
+
+    private WeakReference<Callable<Integer>> sparkUnreferenced() {
+        Callable<Integer> thunk = callable(() -> 42);
+        SparkPool.spark(thunk);
+        return new WeakReference<>(thunk);
+    }
+}
@@ -0,0 +1,174 @@
+package scotch.runtime;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static scotch.runtime.RuntimeSupport.box;
+import static scotch.runtime.RuntimeSupport.callable;
+import static scotch.runtime.RuntimeSupport.flatCallable;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import scotch.data.list.ConsList;
+import scotch.data.list.ConsList.ConsCell;
+import scotch.data.list.ConsList.EmptyCell;
+
+public class ThunkTest {
+
+    @Test
+    public void shouldEvaluateLongIndirectionChainInConstantStack() {
+        assertThat(countdown(1_000_000).call(), is(0));
+    }
+
+    @Test
+    public void shouldEvaluateDeeplyNestedThunksOnSegmentedStack() {
+        assertThat(Evaluator.evaluate(nested(500_000)), is(500_000));
+    }
+
+    @Test
+    public void shouldReuseSegmentThreads() {
+        assertThat(Evaluator.evaluate(nested(100_000)), is(100_000));
+        long threads = countSegmentThreads();
+        assertThat(Evaluator.evaluate(nested(100_000)), is(100_000));
+        assertThat(countSegmentThreads(), lessThanOrEqualTo(threads + 1));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldPropagateFailureFromSegment() {
+        Evaluator.evaluate(callable(() -> {
+            throw new IllegalStateException();
+        }));
+    }
+
+    @Test
+    public void shouldNotRetainEvaluatedPrefixWhenStreamingList() {
+        ConsList<Integer> cell = running(box(0), 3_000_000).call();
+        WeakReference<Callable<Integer>> first = new WeakReference<>(((ConsCell<Integer>) cell).getHead());
+        int last = 0;
+        while (cell instanceof ConsCell) {
+            ConsCell<Integer> cons = (ConsCell<Integer>) cell;
+            last = cons.getHead().call();
+            cell = cons.getTail().call();
+            if (last == 2_000_000) {
+                for (int i = 0; i < 5 && first.get() != null; i++) {
+                    System.gc();
+                }
+                assertThat(first.get(), nullValue());
+            }
+        }
+        assertThat(last, is(3_000_000));
+    }
+
+    @Test(expected = LoopError.class)
+    public void shouldDetectSelfReferentialEvaluation() {
+        AtomicReference<Callable<Integer>> self = new AtomicReference<>();
+        self.set(callable(() -> self.get().call() + 1));
+        self.get().call();
+    }
+
+    @Test(expected = LoopError.class)
+    public void shouldDetectSelfReferentialIndirection() {
+        AtomicReference<Callable<Integer>> self = new AtomicReference<>();
+        self.set(flatCallable(() -> flatCallable(self::get)));
+        self.get().call();
+    }
+
+    @Test(expected = LoopError.class)
+    public void shouldDetectLoopAcrossStackSegments() {
+        AtomicReference<Callable<Integer>> self = new AtomicReference<>();
+        self.set(callable(() -> nested(10_000, self.get()).call()));
+        Evaluator.evaluate(self.get());
+    }
+
+    @Test
+    public void shouldEvaluateOnceWhenForcedConcurrently() throws Exception {
+        AtomicInteger evaluations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        Callable<Integer> shared = callable(() -> {
+            evaluations.incrementAndGet();
+            try {
+                started.await();
+            } catch (InterruptedException exception) {
+                throw new RuntimeException(exception);
+            }
+            return 42;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(shared::call));
+            }
+            started.countDown();
+            for (Future<Integer> result : results) {
+                assertThat(result.get(), is(42));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(evaluations.get(), is(1));
+    }
+
+    @Test
+    public void shouldRetryEvaluationAfterFailure() {
+        AtomicInteger attempts = new AtomicInteger();
+        Callable<Integer> thunk = callable(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return 3;
+        });
+        try {
+            thunk.call();
+        } catch (IllegalStateException exception) {
+            // expected
+        }
+        assertThat(thunk.call(), is(3));
+    }
+
+    private long countSegmentThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().equals("scotch-segment"))
+            .count();
+    }
+
+    private Callable<Integer> countdown(int n) {
+        if (n == 0) {
+            return box(0);
+        } else {
+            return flatCallable(() -> countdown(n - 1));
+        }
+    }
+
+    private Callable<ConsList<Integer>> running(Callable<Integer> previous, int remaining) {
+        return callable(() -> {
+            if (remaining == 0) {
+                return new EmptyCell<>();
+            } else {
+                Callable<Integer> head = callable(() -> previous.call() + 1);
+                return new ConsCell<>(head, running(head, remaining - 1));
+            }
+        });
+    }
+
+    private Callable<Integer> nested(int n) {
+        return nested(n, box(0));
+    }
+
+    private Callable<Integer> nested(int n, Callable<Integer> bottom) {
+        if (n == 0) {
+            return bottom;
+        } else {
+            return callable(() -> nested(n - 1, bottom).call() + 1);
+        }
+    }
+}
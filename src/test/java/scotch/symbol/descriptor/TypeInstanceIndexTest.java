@@ -0,0 +1,58 @@
+package scotch.symbol.descriptor;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static scotch.compiler.util.TestUtil.intType;
+import static scotch.compiler.util.TestUtil.typeInstance;
+import static scotch.symbol.MethodSignature.methodSignature;
+import static scotch.symbol.Symbol.symbol;
+import static scotch.symbol.type.Types.sum;
+import static scotch.symbol.type.Types.var;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class TypeInstanceIndexTest {
+
+    private TypeInstanceIndex      index;
+    private TypeInstanceDescriptor eqInt;
+    private TypeInstanceDescriptor eqList;
+
+    @Before
+    public void setUp() {
+        index = new TypeInstanceIndex();
+        eqInt = typeInstance("scotch.data.eq", "scotch.data.eq.Eq", asList(intType()), methodSignature("scotch/data/eq/EqInt:instance:()Lscotch/runtime/Callable;"));
+        eqList = typeInstance("scotch.data.eq", "scotch.data.eq.Eq", asList(sum("scotch.data.list.[]", asList(var("a")))), methodSignature("scotch/data/eq/EqList:instance:()Lscotch/runtime/Callable;"));
+        for (int i = 0; i < 500; i++) {
+            index.add(typeInstance("scotch.test", "scotch.data.eq.Eq", asList(sum("scotch.test.T" + i)), methodSignature("scotch/test/EqT" + i + ":instance:()Lscotch/runtime/Callable;")));
+        }
+        index.add(eqInt);
+        index.add(eqList);
+    }
+
+    @Test
+    public void shouldFindInstanceByOutermostConstructor() {
+        assertThat(index.find(symbol("scotch.data.eq.Eq"), asList(intType())), contains(eqInt));
+    }
+
+    @Test
+    public void shouldFindInstanceOfParameterizedConstructor() {
+        assertThat(index.find(symbol("scotch.data.eq.Eq"), asList(sum("scotch.data.list.[]", asList(intType())))), contains(eqList));
+    }
+
+    @Test
+    public void shouldNotFindInstanceForVariable() {
+        assertThat(index.find(symbol("scotch.data.eq.Eq"), asList(var("a"))), is(empty()));
+    }
+
+    @Test
+    public void shouldFindInstanceAddedAfterResolvingWithoutIt() {
+        assertThat(index.find(symbol("scotch.data.show.Show"), asList(intType())), is(empty()));
+        TypeInstanceDescriptor showInt = typeInstance("scotch.data.show", "scotch.data.show.Show", asList(intType()), methodSignature("scotch/data/show/ShowInt:instance:()Lscotch/runtime/Callable;"));
+        index.add(showInt);
+        assertThat(index.find(symbol("scotch.data.show.Show"), asList(intType())), contains(showInt));
+    }
+}
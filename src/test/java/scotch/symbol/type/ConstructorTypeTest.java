@@ -88,6 +88,20 @@ public class ConstructorTypeTest {
             }})));
     }
 
+    @Test
+    public void shouldZipParametersOfSameSum() {
+        assertThat(fn(var("k", asList("Eq")), sum("Map", var("k", asList("Eq")), var("v"))).zip(fn(sum("Int"), sum("Map", sum("Int"), var("x"))), scope),
+            is(Optional.of(new HashMap<Type, Type>() {{
+                put(var("k"), sum("Int"));
+                put(var("v"), var("x"));
+            }})));
+    }
+
+    @Test
+    public void shouldNotZipDifferentSums() {
+        assertThat(sum("Map", var("k"), var("v")).zip(sum("Either", sum("Int"), var("x")), scope), is(Optional.empty()));
+    }
+
     @Test
     public void shouldReplaceConstructorsWithSumsAsTheyAreInferenced() {
         scope.implement(symbol("Monad"), sum("Either", var("a")));